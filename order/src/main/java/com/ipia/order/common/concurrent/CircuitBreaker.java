@@ -0,0 +1,209 @@
+package com.ipia.order.common.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 수 기반 서킷 브레이커
+ *
+ * 최근 windowSize건의 결과 중 실패율 또는 느린 호출 비율이 기준 이상이면 OPEN으로 바꿔 호출을 바로 거절한다.
+ * - CLOSED: 모든 호출 허용, 최소 minimumCalls건이 쌓인 뒤부터 비율을 판단
+ * - OPEN: openDuration 동안 모든 호출 거절, 지나면 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls건만 시험 호출로 허용하고, 그 결과가 기준 미만이면 CLOSED, 아니면 다시 OPEN
+ * 호출 빈도가 외부 API 호출 수준이라 상태 전이는 단순 잠금으로 보호한다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final byte OUTCOME_FAILURE = 1;
+    private static final byte OUTCOME_SLOW = 2;
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int halfOpenCalls;
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final LongSupplier clock;
+
+    // this로 보호
+    private State state = State.CLOSED;
+    private final byte[] outcomes;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+    private long openedAt;
+    private int halfOpenPermitted;
+
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder slowCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder openedCount = new LongAdder();
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, float failureRateThreshold,
+                          float slowCallRateThreshold, Duration slowCallDuration, Duration openDuration,
+                          int halfOpenCalls) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold, slowCallDuration,
+                openDuration, halfOpenCalls, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int windowSize, int minimumCalls, float failureRateThreshold,
+                   float slowCallRateThreshold, Duration slowCallDuration, Duration openDuration,
+                   int halfOpenCalls, LongSupplier clock) {
+        if (windowSize < 1 || halfOpenCalls < 1) {
+            throw new IllegalArgumentException("windowSize and halfOpenCalls must be positive");
+        }
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.clock = clock;
+        this.outcomes = new byte[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부 (허용되면 결과를 onSuccess/onFailure/releasePermission 중 하나로 반드시 알려야 함)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openNanos) {
+                rejectedCount.increment();
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitted >= halfOpenCalls) {
+                rejectedCount.increment();
+                return false;
+            }
+            halfOpenPermitted++;
+        }
+        return true;
+    }
+
+    /**
+     * 결과 없이 끝난 호출(취소 등)의 허용 반납
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermitted > 0) {
+            halfOpenPermitted--;
+        }
+    }
+
+    public void onSuccess(long durationNanos) {
+        record(false, durationNanos);
+    }
+
+    public void onFailure(long durationNanos) {
+        record(true, durationNanos);
+    }
+
+    private synchronized void record(boolean failure, long durationNanos) {
+        boolean slow = durationNanos >= slowCallNanos;
+        if (failure) {
+            failureCount.increment();
+        } else {
+            successCount.increment();
+        }
+        if (slow) {
+            slowCount.increment();
+        }
+        if (state == State.OPEN) {
+            // OPEN 이전에 시작된 호출의 결과는 판단에 쓰지 않는다
+            return;
+        }
+
+        byte outcome = (byte) ((failure ? OUTCOME_FAILURE : 0) | (slow ? OUTCOME_SLOW : 0));
+        if (recorded == windowSize) {
+            byte evicted = outcomes[next];
+            failures -= evicted & OUTCOME_FAILURE;
+            slowCalls -= (evicted & OUTCOME_SLOW) >> 1;
+        } else {
+            recorded++;
+        }
+        outcomes[next] = outcome;
+        next = (next + 1) % windowSize;
+        failures += outcome & OUTCOME_FAILURE;
+        slowCalls += (outcome & OUTCOME_SLOW) >> 1;
+
+        if (state == State.HALF_OPEN) {
+            if (recorded >= halfOpenCalls) {
+                transitionTo(exceedsThresholds() ? State.OPEN : State.CLOSED);
+            }
+        } else if (recorded >= minimumCalls && exceedsThresholds()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private boolean exceedsThresholds() {
+        float failureRate = failures * 100f / recorded;
+        float slowCallRate = slowCalls * 100f / recorded;
+        return failureRate >= failureRateThreshold || slowCallRate >= slowCallRateThreshold;
+    }
+
+    private void transitionTo(State target) {
+        state = target;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+        halfOpenPermitted = 0;
+        if (target == State.OPEN) {
+            openedAt = clock.getAsLong();
+            openedCount.increment();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 현재 창의 상태 요약 (조회용)
+     */
+    public synchronized Snapshot snapshot() {
+        float failureRate = recorded == 0 ? 0f : failures * 100f / recorded;
+        float slowCallRate = recorded == 0 ? 0f : slowCalls * 100f / recorded;
+        return new Snapshot(state, recorded, failureRate, slowCallRate);
+    }
+
+    public record Snapshot(State state, int bufferedCalls, float failureRate, float slowCallRate) {
+    }
+
+    public long successCount() {
+        return successCount.sum();
+    }
+
+    public long failureCount() {
+        return failureCount.sum();
+    }
+
+    public long slowCount() {
+        return slowCount.sum();
+    }
+
+    public long rejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long openedCount() {
+        return openedCount.sum();
+    }
+}
@@ -0,0 +1,105 @@
+package com.ipia.order.common.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 동시 호출 합치기 (single-flight)
+ *
+ * 같은 키로 진행 중인 호출이 있으면 새로 실행하지 않고 그 결과를 함께 받는다.
+ * - 먼저 들어온 호출(리더)이 호출 스레드에서 직접 실행하고, 끝나면 키를 비운다. (결과를 캐시하지 않음)
+ * - 뒤따른 호출은 최대 maxWait까지 기다리고, 넘기면 직접 실행한다. (리더 지연이 전파되지 않도록)
+ * - 리더가 예외로 끝나면 기다리던 호출도 같은 예외를 받는다.
+ *
+ * @param <K> 키 (equals/hashCode로 같은 호출을 판단)
+ * @param <V> 결과 (여러 스레드가 공유하므로 변경하지 않는 값이어야 함)
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public SingleFlight(Duration maxWait) {
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * 키별로 합쳐서 실행
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running == null) {
+            return lead(key, mine, loader);
+        }
+        return follow(running, loader);
+    }
+
+    private V lead(K key, CompletableFuture<V> future, Supplier<V> loader) {
+        executed.increment();
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V follow(CompletableFuture<V> running, Supplier<V> loader) {
+        try {
+            V value = running.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            coalesced.increment();
+            return value;
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            executed.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            coalesced.increment();
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("single-flight 대기 중 인터럽트", e);
+        }
+    }
+
+    /** 실제로 실행한 호출 수 (리더 + 대기 시간 초과로 직접 실행) */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    /** 진행 중인 호출 결과를 함께 받은 호출 수 */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /** 대기 시간을 넘겨 직접 실행한 호출 수 */
+    public long timedOutCount() {
+        return timedOut.sum();
+    }
+
+    /** 현재 진행 중인 키 수 */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
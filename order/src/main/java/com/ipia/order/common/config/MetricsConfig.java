@@ -0,0 +1,23 @@
+package com.ipia.order.common.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.ipia.order.common.statemachine.StateMachineMetrics;
+import com.ipia.order.order.domain.OrderStateMachine;
+import com.ipia.order.payment.domain.PaymentStateMachine;
+
+/**
+ * 애플리케이션 지표 설정
+ * MeterBinder 빈은 Actuator가 MeterRegistry에 자동으로 바인딩한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public StateMachineMetrics stateMachineMetrics() {
+        return new StateMachineMetrics(List.of(OrderStateMachine.RULES, PaymentStateMachine.RULES));
+    }
+}
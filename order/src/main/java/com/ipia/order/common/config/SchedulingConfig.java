@@ -0,0 +1,13 @@
+package com.ipia.order.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 주기 작업(@Scheduled)은 각 도메인 컴포넌트에 둔다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,6 +3,7 @@ package com.ipia.order.common.config;
 import com.ipia.order.common.filter.JwtAuthenticationFilter;
 import com.ipia.order.common.filter.JwtExceptionHandlerFilter;
 import com.ipia.order.common.exception.SecurityExceptionHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -41,10 +42,15 @@ public class SecurityConfig {
             
             // 요청 권한 설정
             .authorizeHttpRequests(auth -> auth
+                // 비동기 응답(SSE 등) 재디스패치는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                
                 // 공개 엔드포인트
                 .requestMatchers(
                     "/api/auth/login",
                     "/api/auth/register",
+                    // 결제사 웹훅 (서명으로 검증)
+                    "/api/payments/webhook",
                     // Swagger UI & OpenAPI 문서 경로 허용
                     "/v3/api-docs/**",
                     "/swagger-ui.html",
@@ -0,0 +1,10 @@
+package com.ipia.order.common.exception.inventory;
+
+import com.ipia.order.common.exception.general.GeneralException;
+import com.ipia.order.common.exception.inventory.status.InventoryErrorStatus;
+
+public class InventoryHandler extends GeneralException {
+    public InventoryHandler(InventoryErrorStatus status) {
+        super(status);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ipia.order.common.exception.inventory.status;
+
+import org.springframework.http.HttpStatus;
+
+import com.ipia.order.common.exception.ExplainError;
+import com.ipia.order.common.exception.general.status.ErrorResponse;
+
+public enum InventoryErrorStatus implements ErrorResponse {
+
+    // 재고 기본
+    @ExplainError("재고가 등록되지 않은 SKU")
+    INVENTORY_NOT_FOUND(HttpStatus.NOT_FOUND, "INVENTORY4001", "재고 정보를 찾을 수 없습니다."),
+    @ExplainError("잘못된 재고 수량 (음수 등)")
+    INVALID_STOCK_QUANTITY(HttpStatus.BAD_REQUEST, "INVENTORY4002", "잘못된 재고 수량입니다."),
+
+    // 재고 예약 관련
+    @ExplainError("주문 수량만큼의 가용 재고가 없음")
+    OUT_OF_STOCK(HttpStatus.CONFLICT, "INVENTORY4003", "재고가 부족합니다."),
+    @ExplainError("재고 저장소(Redis) 장애로 예약 불가")
+    INVENTORY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "INVENTORY5001", "재고 예약을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+
+    private final HttpStatus httpStatus;
+    private final String code;
+    private final String message;
+
+    InventoryErrorStatus(HttpStatus httpStatus, String code, String message) {
+        this.httpStatus = httpStatus;
+        this.code = code;
+        this.message = message;
+    }
+
+    @Override
+    public HttpStatus getErrorStatus() { return httpStatus; }
+
+    @Override
+    public String getCode() { return code; }
+
+    @Override
+    public String getMessage() { return message; }
+}
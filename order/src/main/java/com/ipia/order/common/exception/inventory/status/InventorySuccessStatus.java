@@ -0,0 +1,33 @@
+package com.ipia.order.common.exception.inventory.status;
+
+import org.springframework.http.HttpStatus;
+
+import com.ipia.order.common.exception.general.status.SuccessResponse;
+
+public enum InventorySuccessStatus implements SuccessResponse {
+
+    // 재고 조회
+    INVENTORY_FOUND(HttpStatus.OK, "INVENTORY2001", "재고 정보를 성공적으로 조회했습니다."),
+
+    // 재고 설정
+    INVENTORY_UPDATED(HttpStatus.OK, "INVENTORY2002", "재고가 성공적으로 설정되었습니다.");
+
+    private final HttpStatus httpStatus;
+    private final String code;
+    private final String message;
+
+    InventorySuccessStatus(HttpStatus httpStatus, String code, String message) {
+        this.httpStatus = httpStatus;
+        this.code = code;
+        this.message = message;
+    }
+
+    @Override
+    public HttpStatus getSuccessStatus() { return httpStatus; }
+
+    @Override
+    public String getCode() { return code; }
+
+    @Override
+    public String getMessage() { return message; }
+}
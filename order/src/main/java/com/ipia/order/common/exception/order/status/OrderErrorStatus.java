@@ -65,7 +65,41 @@ public enum OrderErrorStatus implements ErrorResponse {
     @ExplainError("이미 취소된 주문")
     ALREADY_CANCELED(HttpStatus.BAD_REQUEST, "ORDER4023", "이미 취소된 주문입니다."),
     @ExplainError("중복 승인 시도")
-    DUPLICATE_APPROVAL(HttpStatus.CONFLICT, "ORDER4024", "이미 승인된 주문입니다.");
+    DUPLICATE_APPROVAL(HttpStatus.CONFLICT, "ORDER4024", "이미 승인된 주문입니다."),
+
+    // 일괄 처리 관련
+    @ExplainError("잘못된 일괄 처리 요청")
+    INVALID_BULK_REQUEST(HttpStatus.BAD_REQUEST, "ORDER4025", "잘못된 일괄 처리 요청입니다."),
+    @ExplainError("일괄 전이를 지원하지 않는 대상 상태")
+    UNSUPPORTED_BULK_TRANSITION(HttpStatus.BAD_REQUEST, "ORDER4026", "일괄 전이를 지원하지 않는 대상 상태입니다."),
+
+    // 목록 조회 필터 관련
+    @ExplainError("잘못된 조회 범위 (시작값이 종료값보다 큼 등)")
+    INVALID_FILTER_RANGE(HttpStatus.BAD_REQUEST, "ORDER4027", "잘못된 조회 범위입니다."),
+    @ExplainError("지원하지 않는 정렬 기준")
+    INVALID_SORT(HttpStatus.BAD_REQUEST, "ORDER4028", "지원하지 않는 정렬 기준입니다."),
+    @ExplainError("다건 조회 요청 ID가 비어 있거나 최대 개수를 초과")
+    INVALID_MULTI_GET_REQUEST(HttpStatus.BAD_REQUEST, "ORDER4029", "잘못된 다건 조회 요청입니다."),
+
+    // 주문 라인 관련
+    @ExplainError("잘못된 주문 라인 (SKU 누락, 단가/수량 0 이하, 라인 수 초과 등)")
+    INVALID_ORDER_LINE(HttpStatus.BAD_REQUEST, "ORDER4030", "잘못된 주문 라인입니다."),
+    @ExplainError("요청 총액이 주문 라인 합계와 다름")
+    ORDER_TOTAL_MISMATCH(HttpStatus.BAD_REQUEST, "ORDER4031", "주문 총액이 주문 라인 합계와 일치하지 않습니다."),
+
+    // 비동기 접수 관련
+    @ExplainError("존재하지 않거나 보관 기간이 지난 접수 추적 ID")
+    ACCEPTANCE_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER4032", "주문 접수 내역을 찾을 수 없습니다."),
+
+    // 주문 이력 읽기 모델 관련
+    @ExplainError("이 인스턴스에서 주문 이력 읽기 모델 재구성이 이미 진행 중")
+    HISTORY_REBUILD_IN_PROGRESS(HttpStatus.CONFLICT, "ORDER4033", "주문 이력 재구성이 이미 진행 중입니다."),
+
+    // 비동기 접수 관련 (서버)
+    @ExplainError("비동기 접수 모드가 꺼져 있음 (order.accept.enabled=false)")
+    ASYNC_ACCEPT_DISABLED(HttpStatus.SERVICE_UNAVAILABLE, "ORDER5001", "비동기 주문 접수를 사용할 수 없습니다."),
+    @ExplainError("접수 대기열(Redis) 장애")
+    ACCEPT_QUEUE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "ORDER5002", "주문 접수 대기열을 사용할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
 
 
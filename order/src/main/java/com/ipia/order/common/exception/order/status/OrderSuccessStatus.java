@@ -21,7 +21,20 @@ public enum OrderSuccessStatus implements SuccessResponse {
     ORDER_COMPLETED(HttpStatus.OK, "ORDER2006", "주문이 성공적으로 완료되었습니다."),
     
     // 주문 수정
-    ORDER_UPDATED(HttpStatus.OK, "ORDER2007", "주문 정보가 성공적으로 수정되었습니다.");
+    ORDER_UPDATED(HttpStatus.OK, "ORDER2007", "주문 정보가 성공적으로 수정되었습니다."),
+
+    // 주문 일괄 상태 변경
+    ORDERS_TRANSITIONED(HttpStatus.OK, "ORDER2008", "주문 상태 일괄 변경을 처리했습니다."),
+
+    // 비동기 주문 접수
+    ORDER_ACCEPTED(HttpStatus.ACCEPTED, "ORDER2009", "주문이 접수되었습니다."),
+    ORDER_ACCEPTANCE_FOUND(HttpStatus.OK, "ORDER2010", "주문 접수 상태를 성공적으로 조회했습니다."),
+
+    // 주문 이력 읽기 모델
+    ORDER_HISTORY_REBUILT(HttpStatus.OK, "ORDER2011", "주문 이력 읽기 모델을 재구성했습니다."),
+
+    // 주문 상태 전이 이력
+    ORDER_STATUS_HISTORY_FOUND(HttpStatus.OK, "ORDER2012", "주문 상태 이력을 성공적으로 조회했습니다.");
 
 
 
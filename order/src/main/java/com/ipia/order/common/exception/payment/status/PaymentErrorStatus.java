@@ -83,7 +83,39 @@ public enum PaymentErrorStatus implements ErrorResponse {
     @ExplainError("실패 URL이 필수")
     FAIL_URL_REQUIRED(HttpStatus.BAD_REQUEST, "PAYMENT4029", "실패 URL은 필수입니다."),
     @ExplainError("만료 일시가 현재 이전")
-    INVALID_EXPIRES_AT(HttpStatus.BAD_REQUEST, "PAYMENT4030", "만료 일시는 현재 시간 이후여야 합니다.");
+    INVALID_EXPIRES_AT(HttpStatus.BAD_REQUEST, "PAYMENT4030", "만료 일시는 현재 시간 이후여야 합니다."),
+
+    // 비동기 승인
+    @ExplainError("승인 응답 대기 시간 초과 (같은 멱등 키로 재요청하면 처리 결과를 받는다)")
+    PAYMENT_CONFIRM_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "PAYMENT4031", "결제 승인 응답 대기 시간이 초과되었습니다. 같은 멱등 키로 다시 요청해 주세요."),
+    @ExplainError("같은 주문의 승인이 진행 중 (예약된 PENDING 결제 존재)")
+    PAYMENT_APPROVAL_IN_PROGRESS(HttpStatus.CONFLICT, "PAYMENT4032", "해당 주문의 결제 승인이 진행 중입니다."),
+    @ExplainError("Toss 승인 여부를 확인할 수 없는 승인 예약이 남아 정산 대사 전까지 승인 불가")
+    PAYMENT_RECONCILIATION_REQUIRED(HttpStatus.CONFLICT, "PAYMENT4041", "결제 결과 확인이 필요한 주문입니다. 고객센터에 문의해 주세요."),
+    @ExplainError("결제 확정 작업이 밀려 자리가 없음 (Toss를 호출하지 않고 즉시 거절)")
+    PAYMENT_FINALIZE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "PAYMENT4042", "결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+
+    // Toss 호출 보호
+    @ExplainError("Toss 실패율/지연이 기준을 넘어 서킷이 열림 (Toss를 호출하지 않고 즉시 거절)")
+    TOSS_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "PAYMENT4033", "결제 대행사 장애로 잠시 결제를 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    @ExplainError("Toss 동시 호출 수 상한 초과 (대기하지 않고 즉시 거절)")
+    TOSS_BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, "PAYMENT4034", "결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+
+    // 정산 대사
+    @ExplainError("정산 파일이 payment.settlement.inbox-dir 안에 없음 (디렉터리 밖 경로 포함)")
+    SETTLEMENT_FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "PAYMENT4035", "정산 파일을 찾을 수 없습니다."),
+    @ExplainError("확장자가 csv/jsonl/ndjson이 아니거나, CSV 헤더에 거래 ID/금액 열이 없거나, 매핑 구간보다 긴 행")
+    INVALID_SETTLEMENT_FILE(HttpStatus.BAD_REQUEST, "PAYMENT4036", "정산 파일 형식이 올바르지 않습니다."),
+    @ExplainError("이 인스턴스에서 정산 대사가 이미 진행 중")
+    SETTLEMENT_RECONCILE_IN_PROGRESS(HttpStatus.CONFLICT, "PAYMENT4037", "정산 대사가 이미 진행 중입니다."),
+
+    // 웹훅 수신
+    @ExplainError("JSON이 아니거나 data.paymentKey/data.status가 없는 웹훅")
+    INVALID_WEBHOOK_PAYLOAD(HttpStatus.BAD_REQUEST, "PAYMENT4038", "웹훅 본문이 올바르지 않습니다."),
+    @ExplainError("웹훅 수신이 꺼져 있음 (payment.webhook.enabled=false)")
+    WEBHOOK_DISABLED(HttpStatus.SERVICE_UNAVAILABLE, "PAYMENT4039", "웹훅을 수신할 수 없습니다."),
+    @ExplainError("웹훅 대기열(Redis) 장애, 결제사가 나중에 다시 보낸다")
+    WEBHOOK_QUEUE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "PAYMENT4040", "웹훅 대기열을 사용할 수 없습니다. 잠시 후 다시 시도해 주세요.");
 
     private final HttpStatus httpStatus;
     private final String code;
@@ -32,7 +32,10 @@ public enum PaymentSuccessStatus implements SuccessResponse {
     PAYMENT_STATUS_SYNCED(HttpStatus.OK, "PAYMENT2008", "결제 상태가 성공적으로 동기화되었습니다."),
 
     // 결제 검증 완료
-    PAYMENT_VERIFIED(HttpStatus.OK, "PAYMENT2009", "결제가 성공적으로 검증되었습니다.");
+    PAYMENT_VERIFIED(HttpStatus.OK, "PAYMENT2009", "결제가 성공적으로 검증되었습니다."),
+
+    // 정산 대사
+    SETTLEMENT_RECONCILED(HttpStatus.OK, "PAYMENT2010", "정산 대사를 완료했습니다.");
 
     private final HttpStatus httpStatus;
     private final String code;
@@ -0,0 +1,10 @@
+package com.ipia.order.common.exception.report;
+
+import com.ipia.order.common.exception.general.GeneralException;
+import com.ipia.order.common.exception.report.status.ReportErrorStatus;
+
+public class ReportHandler extends GeneralException {
+    public ReportHandler(ReportErrorStatus status) {
+        super(status);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ipia.order.common.exception.report.status;
+
+import org.springframework.http.HttpStatus;
+
+import com.ipia.order.common.exception.ExplainError;
+import com.ipia.order.common.exception.general.status.ErrorResponse;
+
+public enum ReportErrorStatus implements ErrorResponse {
+
+    // 조회 기간
+    @ExplainError("시작일/종료일 누락 또는 시작일이 종료일보다 늦음")
+    INVALID_REPORT_RANGE(HttpStatus.BAD_REQUEST, "REPORT4001", "잘못된 조회 기간입니다."),
+    @ExplainError("조회/재집계 기간이 최대 일수(report.rollup.max-range-days)를 초과")
+    REPORT_RANGE_TOO_LONG(HttpStatus.BAD_REQUEST, "REPORT4002", "조회 기간이 너무 깁니다."),
+
+    // 재집계
+    @ExplainError("재집계 종료일이 오늘 이후 (오늘 집계는 이벤트로 계속 갱신 중)")
+    BACKFILL_RANGE_NOT_CLOSED(HttpStatus.BAD_REQUEST, "REPORT4003", "오늘 이전 날짜만 재집계할 수 있습니다."),
+    @ExplainError("이 인스턴스에서 재집계가 이미 진행 중")
+    BACKFILL_IN_PROGRESS(HttpStatus.CONFLICT, "REPORT4004", "재집계가 이미 진행 중입니다."),
+
+    // 인메모리 주문 분석
+    @ExplainError("알 수 없는 그룹 기준/상태, 잘못된 범위, 회원 그룹의 백분위 요청 등")
+    INVALID_ANALYTICS_QUERY(HttpStatus.BAD_REQUEST, "REPORT4005", "잘못된 분석 조건입니다."),
+    @ExplainError("이 인스턴스에서 분석 스냅샷 적재가 이미 진행 중")
+    ANALYTICS_REFRESH_IN_PROGRESS(HttpStatus.CONFLICT, "REPORT4006", "분석 스냅샷 적재가 이미 진행 중입니다."),
+    @ExplainError("인메모리 분석이 꺼져 있음 (report.analytics.enabled=false)")
+    ANALYTICS_DISABLED(HttpStatus.SERVICE_UNAVAILABLE, "REPORT5001", "주문 분석을 사용할 수 없습니다."),
+    @ExplainError("기동 후 첫 스냅샷 적재가 끝나지 않음")
+    ANALYTICS_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "REPORT5002", "주문 분석 스냅샷을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+
+    private final HttpStatus httpStatus;
+    private final String code;
+    private final String message;
+
+    ReportErrorStatus(HttpStatus httpStatus, String code, String message) {
+        this.httpStatus = httpStatus;
+        this.code = code;
+        this.message = message;
+    }
+
+    @Override
+    public HttpStatus getErrorStatus() { return httpStatus; }
+
+    @Override
+    public String getCode() { return code; }
+
+    @Override
+    public String getMessage() { return message; }
+}
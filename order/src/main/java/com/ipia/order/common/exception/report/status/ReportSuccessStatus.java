@@ -0,0 +1,37 @@
+package com.ipia.order.common.exception.report.status;
+
+import org.springframework.http.HttpStatus;
+
+import com.ipia.order.common.exception.general.status.SuccessResponse;
+
+public enum ReportSuccessStatus implements SuccessResponse {
+
+    // 일별 매출 조회
+    DAILY_REVENUE_FOUND(HttpStatus.OK, "REPORT2001", "일별 매출 집계를 성공적으로 조회했습니다."),
+
+    // 재집계
+    REVENUE_BACKFILLED(HttpStatus.OK, "REPORT2002", "일별 매출 집계를 재집계했습니다."),
+
+    // 인메모리 주문 분석
+    ANALYTICS_QUERIED(HttpStatus.OK, "REPORT2003", "주문 분석 결과를 성공적으로 조회했습니다."),
+    ANALYTICS_REFRESH_STARTED(HttpStatus.ACCEPTED, "REPORT2004", "주문 분석 스냅샷 적재를 시작했습니다.");
+
+    private final HttpStatus httpStatus;
+    private final String code;
+    private final String message;
+
+    ReportSuccessStatus(HttpStatus httpStatus, String code, String message) {
+        this.httpStatus = httpStatus;
+        this.code = code;
+        this.message = message;
+    }
+
+    @Override
+    public HttpStatus getSuccessStatus() { return httpStatus; }
+
+    @Override
+    public String getCode() { return code; }
+
+    @Override
+    public String getMessage() { return message; }
+}
@@ -0,0 +1,33 @@
+package com.ipia.order.common.scheduling;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주기 작업 실행 임대 (작업 이름당 한 행)
+ *
+ * 쓰기는 SchedulerLeaseLock이 조건부 JDBC UPDATE/INSERT로 하고, 엔티티는 스키마 정의에만 쓴다.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_by", nullable = false, length = 128)
+    private String lockedBy;
+}
@@ -0,0 +1,81 @@
+package com.ipia.order.common.scheduling;
+
+import java.net.InetAddress;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 기반 주기 작업 단일 실행 잠금 (노드가 여러 대여도 작업 하나는 한 노드만 실행)
+ *
+ * 임대 시각이 지난 행만 조건부 UPDATE로 가져가고, 행이 없으면 INSERT한다. (기본키 충돌이면 다른 노드가 먼저 가져감)
+ * 실행 노드가 죽어도 임대 시간이 지나면 다른 노드가 가져가므로, 임대 시간은 한 번 실행 시간보다 넉넉하게 잡는다.
+ * 시각은 각 노드 시계를 쓰므로 노드 간 시계 차이보다 임대 시간이 충분히 길어야 한다.
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseLock {
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE scheduler_leases SET locked_until = ?, locked_by = ? WHERE name = ? AND locked_until <= ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO scheduler_leases (name, locked_until, locked_by) VALUES (?, ?, ?)";
+    private static final String RELEASE_SQL =
+            "UPDATE scheduler_leases SET locked_until = ? WHERE name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner;
+
+    public SchedulerLeaseLock(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.owner = hostName() + ":" + UUID.randomUUID();
+    }
+
+    /**
+     * 임대 획득 (이미 다른 노드가 임대 중이면 false)
+     */
+    public boolean tryAcquire(String name, Duration leaseTime) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp lockedUntil = Timestamp.valueOf(now.plus(leaseTime));
+        if (jdbcTemplate.update(ACQUIRE_SQL, lockedUntil, owner, name, Timestamp.valueOf(now)) == 1) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, lockedUntil, owner) == 1;
+        } catch (DataIntegrityViolationException e) {
+            // 행이 있고 임대 중 (다른 노드가 실행 중)
+            return false;
+        }
+    }
+
+    /**
+     * 임대 반납 (내가 가진 임대만, 다음 주기에 어느 노드든 바로 가져갈 수 있게)
+     */
+    public void release(String name) {
+        try {
+            jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(LocalDateTime.now()), name, owner);
+        } catch (RuntimeException e) {
+            // 반납하지 못해도 임대 시간이 지나면 풀린다
+            log.warn("[Scheduler] 임대 반납 실패: name={}", name, e);
+        }
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.ipia.order.common.statemachine;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 테이블 기반 상태 전이 엔진
+ *
+ * 상태 enum의 ordinal을 인덱스로 하는 비트셋(from → to 집합)으로 전이 규칙을 보관한다.
+ * - canTransition: 배열 접근 + 비트 연산 1회 (상수 시간, 할당 없음)
+ * - transition: 규칙 검사와 함께 전이별 카운터를 갱신 (카운터는 생성 시 미리 할당)
+ *
+ * 애그리거트별로 하나의 인스턴스를 상수로 선언해 공유한다. (예: OrderStateMachine, PaymentStateMachine)
+ * 카운터는 StateMachineMetrics를 통해 Micrometer 지표로 노출된다.
+ */
+public final class StateMachine<S extends Enum<S>> {
+
+    private static final int MAX_STATES = Long.SIZE;
+
+    private final String name;
+    private final Class<S> type;
+    private final S[] states;
+    private final long[] allowed;
+    private final LongAdder[] accepted;
+    private final LongAdder[] rejected;
+
+    private StateMachine(String name, Class<S> type, long[] allowed) {
+        this.name = name;
+        this.type = type;
+        this.states = type.getEnumConstants();
+        this.allowed = allowed.clone();
+        this.accepted = newCounters(states.length * states.length);
+        this.rejected = newCounters(states.length);
+    }
+
+    public static <S extends Enum<S>> Builder<S> builder(Class<S> type, String name) {
+        return new Builder<>(type, name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<S> getType() {
+        return type;
+    }
+
+    /**
+     * 상태 목록 (ordinal 순)
+     */
+    public List<S> states() {
+        return List.of(states);
+    }
+
+    /**
+     * from → to 전이가 허용되는지 확인 (지표 갱신 없음)
+     */
+    public boolean canTransition(S from, S to) {
+        if (from == null || to == null) {
+            return false;
+        }
+        return (allowed[from.ordinal()] & (1L << to.ordinal())) != 0;
+    }
+
+    /**
+     * 전이 규칙을 검사하고 결과를 전이별 카운터에 기록
+     *
+     * @return 전이 허용 여부 (상태 변경 자체는 호출한 애그리거트가 수행)
+     */
+    public boolean transition(S from, S to) {
+        boolean permitted = canTransition(from, to);
+        if (permitted) {
+            accepted[index(from, to)].increment();
+        } else if (to != null) {
+            rejected[to.ordinal()].increment();
+        }
+        return permitted;
+    }
+
+    /**
+     * 벌크 UPDATE 등 엔티티를 거치지 않은 전이 결과를 기록
+     */
+    public void recordTransitions(S from, S to, long count) {
+        if (count > 0 && canTransition(from, to)) {
+            accepted[index(from, to)].add(count);
+        }
+    }
+
+    /**
+     * 벌크 처리에서 거부된 전이 시도를 기록
+     */
+    public void recordRejected(S to, long count) {
+        if (count > 0 && to != null) {
+            rejected[to.ordinal()].add(count);
+        }
+    }
+
+    public long acceptedCount(S from, S to) {
+        return accepted[index(from, to)].sum();
+    }
+
+    public long rejectedCount(S to) {
+        return rejected[to.ordinal()].sum();
+    }
+
+    /**
+     * from 상태에서 전이 가능한 상태 집합
+     */
+    public Set<S> targetsOf(S from) {
+        EnumSet<S> targets = EnumSet.noneOf(type);
+        long bits = allowed[from.ordinal()];
+        for (S state : states) {
+            if ((bits & (1L << state.ordinal())) != 0) {
+                targets.add(state);
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * to 상태로 전이할 수 있는 이전 상태 집합
+     */
+    public Set<S> sourcesOf(S to) {
+        EnumSet<S> sources = EnumSet.noneOf(type);
+        for (S state : states) {
+            if (canTransition(state, to)) {
+                sources.add(state);
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * 전체 전이 행렬 (from → 허용되는 to 집합). 테스트에서 기대 행렬과 비교하는 용도
+     */
+    public Map<S, Set<S>> matrix() {
+        Map<S, Set<S>> matrix = new EnumMap<>(type);
+        for (S from : states) {
+            matrix.put(from, Collections.unmodifiableSet(targetsOf(from)));
+        }
+        return Collections.unmodifiableMap(matrix);
+    }
+
+    private int index(S from, S to) {
+        return from.ordinal() * states.length + to.ordinal();
+    }
+
+    private static LongAdder[] newCounters(int size) {
+        LongAdder[] counters = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    /**
+     * 전이 규칙 선언용 빌더
+     */
+    public static final class Builder<S extends Enum<S>> {
+
+        private final Class<S> type;
+        private final String name;
+        private final long[] allowed;
+
+        private Builder(Class<S> type, String name) {
+            int size = type.getEnumConstants().length;
+            if (size > MAX_STATES) {
+                throw new IllegalArgumentException("상태 수는 " + MAX_STATES + "개를 넘을 수 없습니다: " + type.getSimpleName());
+            }
+            this.type = type;
+            this.name = name;
+            this.allowed = new long[size];
+        }
+
+        /**
+         * from 상태에서 targets 상태들로의 전이를 허용
+         */
+        @SafeVarargs
+        public final Builder<S> allow(S from, S... targets) {
+            for (S to : targets) {
+                allowed[from.ordinal()] |= 1L << to.ordinal();
+            }
+            return this;
+        }
+
+        /**
+         * 여러 이전 상태에서 하나의 상태로의 전이를 허용
+         */
+        public Builder<S> allowFrom(Set<S> sources, S to) {
+            for (S from : sources) {
+                allow(from, to);
+            }
+            return this;
+        }
+
+        public StateMachine<S> build() {
+            return new StateMachine<>(name, type, allowed);
+        }
+    }
+}
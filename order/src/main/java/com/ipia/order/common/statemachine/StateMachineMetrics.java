@@ -0,0 +1,52 @@
+package com.ipia.order.common.statemachine;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 상태 전이 엔진의 카운터를 Micrometer 지표로 노출
+ *
+ * - state.transitions{machine, from, to}: 허용된 전이 횟수
+ * - state.transitions.rejected{machine, to}: 거부된 전이 시도 횟수
+ */
+public class StateMachineMetrics implements MeterBinder {
+
+    private final List<StateMachine<?>> machines;
+
+    public StateMachineMetrics(List<StateMachine<?>> machines) {
+        this.machines = List.copyOf(machines);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (StateMachine<?> machine : machines) {
+            bind(machine, registry);
+        }
+    }
+
+    private <S extends Enum<S>> void bind(StateMachine<S> machine, MeterRegistry registry) {
+        for (S from : machine.states()) {
+            for (S to : machine.targetsOf(from)) {
+                FunctionCounter.builder("state.transitions", machine, m -> m.acceptedCount(from, to))
+                        .description("허용된 상태 전이 횟수")
+                        .tag("machine", machine.getName())
+                        .tag("from", from.name())
+                        .tag("to", to.name())
+                        .register(registry);
+            }
+        }
+        for (S to : machine.states()) {
+            if (machine.sourcesOf(to).isEmpty()) {
+                continue;
+            }
+            FunctionCounter.builder("state.transitions.rejected", machine, m -> m.rejectedCount(to))
+                    .description("거부된 상태 전이 시도 횟수")
+                    .tag("machine", machine.getName())
+                    .tag("to", to.name())
+                    .register(registry);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -50,8 +51,12 @@ public class IdempotencyKeyServiceImpl implements IdempotencyKeyService {
     private final StringRedisTemplate redisTemplate;
 
 
+    /**
+     * 호출자 트랜잭션이 있으면 참여하고, 없으면 트랜잭션 없이 실행한다.
+     * (외부 호출을 포함한 연산이 커넥션을 잡지 않고 스스로 짧은 트랜잭션을 나눌 수 있도록)
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public <T> T executeWithIdempotency(String endpoint, String key, Class<T> responseType, Supplier<T> operation) {
         validateKey(key);
         log.info("[Idemp] 멱등 처리 요청: endpoint={}, key={}", endpoint, key);
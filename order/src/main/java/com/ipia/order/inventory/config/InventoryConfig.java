@@ -0,0 +1,34 @@
+package com.ipia.order.inventory.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.ipia.order.inventory.store.InMemoryInventoryStockStore;
+import com.ipia.order.inventory.store.InventoryStockStore;
+import com.ipia.order.inventory.store.RedisInventoryStockStore;
+
+/**
+ * 재고 예약 설정
+ * 
+ * inventory.store=redis(기본)이면 노드 간 공유되는 Redis 카운터를,
+ * memory면 단일 노드용 인메모리 저장소를 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties(InventoryProperties.class)
+public class InventoryConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "inventory", name = "store", havingValue = "redis", matchIfMissing = true)
+    public InventoryStockStore redisInventoryStockStore(StringRedisTemplate stringRedisTemplate, InventoryProperties properties) {
+        return new RedisInventoryStockStore(stringRedisTemplate, properties.getKeyPrefix());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "inventory", name = "store", havingValue = "memory")
+    public InventoryStockStore inMemoryInventoryStockStore() {
+        return new InMemoryInventoryStockStore();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ipia.order.inventory.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "inventory")
+public class InventoryProperties {
+
+    /** 가용 재고 저장소 (redis: 노드 공유, memory: 단일 노드) */
+    private String store = "redis";
+
+    /** Redis 재고 키 접두사 (키 = 접두사 + SKU) */
+    private String keyPrefix = "inventory:stock:";
+
+    /** 한 번의 DB 반영 트랜잭션에 묶을 최대 SKU 수 */
+    private int flushBatchSize = 500;
+
+    public String getStore() {
+        return store;
+    }
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public int getFlushBatchSize() {
+        return flushBatchSize;
+    }
+
+    public void setFlushBatchSize(int flushBatchSize) {
+        this.flushBatchSize = flushBatchSize;
+    }
+}
@@ -0,0 +1,77 @@
+package com.ipia.order.inventory.domain;
+
+import com.ipia.order.common.entity.BaseEntity;
+import com.ipia.order.common.exception.inventory.InventoryHandler;
+import com.ipia.order.common.exception.inventory.status.InventoryErrorStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * SKU별 재고 (DB 사본)
+ * 
+ * 주문 시점의 가용 재고 판단은 재고 저장소(Redis)가 담당하고,
+ * 이 테이블은 InventoryWriteBehind가 SKU별 변화량을 모아 주기적으로 반영하는 최종 일관 사본이다.
+ * (주문마다 행 잠금을 잡지 않으므로 인기 SKU에 주문이 몰려도 DB에서 직렬화되지 않는다)
+ */
+@Entity
+@Table(name = "inventories")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Inventory extends BaseEntity {
+
+    @Id
+    @Column(name = "sku", length = 64)
+    private String sku;
+
+    /** 주문 가능한 수량 */
+    @Column(name = "available", nullable = false)
+    private long available;
+
+    /** 주문은 됐지만 결제 전인 수량 */
+    @Column(name = "reserved", nullable = false)
+    private long reserved;
+
+    /** 결제까지 끝난 수량 */
+    @Column(name = "sold", nullable = false)
+    private long sold;
+
+    private Inventory(String sku, long available) {
+        this.sku = sku;
+        this.available = available;
+    }
+
+    /**
+     * 재고 등록
+     *
+     * @param sku 상품 SKU
+     * @param available 가용 수량 (0 이상)
+     * @return 재고
+     */
+    public static Inventory create(String sku, long available) {
+        if (sku == null || sku.isBlank()) {
+            throw new InventoryHandler(InventoryErrorStatus.INVENTORY_NOT_FOUND);
+        }
+        validateQuantity(available);
+        return new Inventory(sku.trim(), available);
+    }
+
+    /**
+     * 가용 수량 재설정 (관리자 입고/실사 반영)
+     */
+    public void resetAvailable(long available) {
+        validateQuantity(available);
+        this.available = available;
+    }
+
+    private static void validateQuantity(long available) {
+        if (available < 0) {
+            throw new InventoryHandler(InventoryErrorStatus.INVALID_STOCK_QUANTITY);
+        }
+    }
+}
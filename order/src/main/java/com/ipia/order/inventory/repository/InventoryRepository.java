@@ -0,0 +1,29 @@
+package com.ipia.order.inventory.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ipia.order.inventory.domain.Inventory;
+
+@Repository
+public interface InventoryRepository extends JpaRepository<Inventory, String> {
+
+    /**
+     * 누적된 재고 변화량을 한 번의 UPDATE로 반영 (엔티티 로딩/행 잠금 대기 없이 증감)
+     *
+     * @return 갱신된 행 수 (재고 미등록 SKU면 0)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.available = i.available + :available, i.reserved = i.reserved + :reserved, "
+            + "i.sold = i.sold + :sold, i.updatedAt = :now WHERE i.sku = :sku")
+    int applyDelta(@Param("sku") String sku,
+                   @Param("available") long available,
+                   @Param("reserved") long reserved,
+                   @Param("sold") long sold,
+                   @Param("now") LocalDateTime now);
+}
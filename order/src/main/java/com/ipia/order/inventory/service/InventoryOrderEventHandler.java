@@ -0,0 +1,83 @@
+package com.ipia.order.inventory.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.event.OrderCanceledEvent;
+import com.ipia.order.order.event.OrderPaidEvent;
+import com.ipia.order.order.repository.OrderLineRepository;
+import com.ipia.order.order.repository.OrderLineQuantityView;
+import com.ipia.order.order.repository.OrderStatusHistoryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 결제/취소 시 재고 예약 확정/해제
+ * 
+ * 커밋된 상태 전이만 반영하며, 재고 처리 실패가 주문 처리 결과에 영향을 주지 않도록 예외를 삼킨다.
+ * (취소/만료는 상태 전이 가드로 주문당 한 번만 발행되므로 중복 해제되지 않는다)
+ * 주문 생성 시 재고를 예약한 라인만 대상으로 하므로, 그 뒤에 재고가 등록된 SKU를 잘못 늘리거나 줄이지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryOrderEventHandler {
+
+    private final InventoryService inventoryService;
+    private final OrderLineRepository orderLineRepository;
+    private final OrderStatusHistoryRepository orderStatusHistoryRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderPaid(OrderPaidEvent event) {
+        try {
+            Map<String, Integer> quantities = loadQuantities(event.getOrderId());
+            if (!quantities.isEmpty()) {
+                inventoryService.confirm(quantities);
+            }
+        } catch (Exception e) {
+            log.warn("[Inventory] 재고 판매 확정 실패: orderId={}", event.getOrderId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        try {
+            Map<String, Integer> quantities = loadQuantities(event.getOrderId());
+            if (!quantities.isEmpty()) {
+                // 결제된 주문은 판매 확정분을 되돌리고, 결제 전 주문은 예약분을 해제한다
+                inventoryService.release(quantities, wasPaid(event));
+            }
+        } catch (Exception e) {
+            log.warn("[Inventory] 재고 예약 해제 실패: orderId={}", event.getOrderId(), e);
+        }
+    }
+
+    /**
+     * 취소된 주문이 결제(확정)됐었는지 확인
+     * 취소 요청(CANCEL_REQUESTED)을 거친 취소는 직전 상태로 알 수 없으므로 상태 전이 이력에서 확정 여부를 찾는다.
+     */
+    private boolean wasPaid(OrderCanceledEvent event) {
+        OrderStatus previousStatus = event.getPreviousStatus();
+        if (previousStatus == OrderStatus.CONFIRMED) {
+            return true;
+        }
+        if (previousStatus == OrderStatus.CREATED) {
+            return false;
+        }
+        return orderStatusHistoryRepository.existsByOrderIdAndToStatus(event.getOrderId(), OrderStatus.CONFIRMED);
+    }
+
+    private Map<String, Integer> loadQuantities(Long orderId) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (OrderLineQuantityView line : orderLineRepository.findReservedQuantitiesByOrderId(orderId)) {
+            quantities.merge(line.getSku(), line.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+}
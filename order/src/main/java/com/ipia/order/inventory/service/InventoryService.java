@@ -0,0 +1,57 @@
+package com.ipia.order.inventory.service;
+
+import java.util.Map;
+
+import com.ipia.order.web.dto.response.inventory.InventoryResponse;
+
+/**
+ * 재고 예약 서비스 인터페이스
+ * 
+ * 주요 기능:
+ * - 주문 생성 시 SKU별 가용 재고 원자적 차감 (예약)
+ * - 주문 취소/만료 시 예약 해제, 결제 승인 시 판매 확정
+ * - 관리자 재고 설정/조회
+ * 
+ * 재고가 등록되지 않은 SKU는 재고 관리 대상이 아니므로 예약 없이 통과한다.
+ */
+public interface InventoryService {
+
+    /**
+     * 재고 예약 (모든 SKU가 충분할 때만 한꺼번에 차감)
+     *
+     * @param quantities SKU별 수량
+     * @return 실제로 예약된 SKU별 수량 (재고 미등록 SKU 제외)
+     * @throws InventoryHandler 재고 부족 (InventoryErrorStatus.OUT_OF_STOCK)
+     * @throws InventoryHandler 재고 저장소 장애 (InventoryErrorStatus.INVENTORY_UNAVAILABLE)
+     */
+    Map<String, Integer> reserve(Map<String, Integer> quantities);
+
+    /**
+     * 예약 해제 (가용 재고 복원)
+     *
+     * @param quantities SKU별 수량
+     * @param confirmed 결제까지 확정된 수량이면 true (판매 수량에서 차감)
+     */
+    void release(Map<String, Integer> quantities, boolean confirmed);
+
+    /**
+     * 판매 확정 (예약 수량 → 판매 수량)
+     *
+     * @param quantities SKU별 수량
+     */
+    void confirm(Map<String, Integer> quantities);
+
+    /**
+     * 재고 조회
+     *
+     * @throws InventoryHandler 재고 미등록 SKU (InventoryErrorStatus.INVENTORY_NOT_FOUND)
+     */
+    InventoryResponse getInventory(String sku);
+
+    /**
+     * 가용 수량 설정 (미등록 SKU면 등록)
+     *
+     * @throws InventoryHandler 음수 수량 (InventoryErrorStatus.INVALID_STOCK_QUANTITY)
+     */
+    InventoryResponse setAvailable(String sku, long available);
+}
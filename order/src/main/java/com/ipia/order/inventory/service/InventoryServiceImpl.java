@@ -0,0 +1,155 @@
+package com.ipia.order.inventory.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipia.order.common.exception.inventory.InventoryHandler;
+import com.ipia.order.common.exception.inventory.status.InventoryErrorStatus;
+import com.ipia.order.inventory.domain.Inventory;
+import com.ipia.order.inventory.repository.InventoryRepository;
+import com.ipia.order.inventory.store.InventoryStockStore;
+import com.ipia.order.inventory.store.ReserveOutcome;
+import com.ipia.order.web.dto.response.inventory.InventoryResponse;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 예약 서비스 구현체
+ * 
+ * 가용 재고의 판단/차감은 InventoryStockStore(기본 Redis)에서 원자적으로 끝내고,
+ * DB 사본(inventories)은 InventoryWriteBehind가 SKU별 변화량을 모아 주기적으로 반영한다.
+ * 저장소에 키가 없으면(최초 주문, Redis 재시작 등) DB 값 + 미반영 변화량으로 적재한 뒤 다시 시도한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryServiceImpl implements InventoryService, MeterBinder {
+
+    // 적재 경합(다른 노드가 먼저 적재 등)을 감안한 예약 시도 횟수
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final InventoryStockStore stockStore;
+    private final InventoryRepository inventoryRepository;
+    private final InventoryWriteBehind writeBehind;
+
+    private final LongAdder reserved = new LongAdder();
+    private final LongAdder outOfStock = new LongAdder();
+
+    @Override
+    public Map<String, Integer> reserve(Map<String, Integer> quantities) {
+        Map<String, Integer> tracked = new LinkedHashMap<>(quantities);
+        try {
+            for (int attempt = 0; attempt < MAX_RESERVE_ATTEMPTS && !tracked.isEmpty(); attempt++) {
+                ReserveOutcome outcome = stockStore.tryReserve(tracked);
+                switch (outcome.status()) {
+                    case RESERVED -> {
+                        tracked.forEach((sku, quantity) -> writeBehind.record(sku, -quantity, quantity, 0));
+                        reserved.increment();
+                        return tracked;
+                    }
+                    case INSUFFICIENT -> {
+                        outOfStock.increment();
+                        log.info("[Inventory] 재고 부족: sku={}", outcome.skus().get(0));
+                        throw new InventoryHandler(InventoryErrorStatus.OUT_OF_STOCK);
+                    }
+                    case MISSING -> seedMissing(outcome.skus(), tracked);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("[Inventory] 재고 저장소 장애로 예약 실패: skus={}", tracked.keySet(), e);
+            throw new InventoryHandler(InventoryErrorStatus.INVENTORY_UNAVAILABLE);
+        }
+        if (tracked.isEmpty()) {
+            return Map.of();
+        }
+        throw new InventoryHandler(InventoryErrorStatus.INVENTORY_UNAVAILABLE);
+    }
+
+    /**
+     * 저장소에 없는 SKU를 DB 값으로 적재하고, DB에도 없는 SKU는 재고 관리 대상에서 제외한다.
+     */
+    private void seedMissing(List<String> missingSkus, Map<String, Integer> tracked) {
+        Map<String, Inventory> inventories = inventoryRepository.findAllById(missingSkus).stream()
+                .collect(Collectors.toMap(Inventory::getSku, inventory -> inventory));
+        for (String sku : missingSkus) {
+            Inventory inventory = inventories.get(sku);
+            if (inventory == null) {
+                tracked.remove(sku);
+                continue;
+            }
+            // DB 사본에는 아직 반영되지 않은 이 노드의 변화량을 더해 적재
+            long available = Math.max(0, inventory.getAvailable() + writeBehind.pendingAvailable(sku));
+            if (stockStore.seedIfAbsent(sku, available)) {
+                log.info("[Inventory] 재고 저장소 적재: sku={}, available={}", sku, available);
+            }
+        }
+    }
+
+    @Override
+    public void release(Map<String, Integer> quantities, boolean confirmed) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        stockStore.release(quantities);
+        quantities.forEach((sku, quantity) -> writeBehind.record(sku, quantity,
+                confirmed ? 0 : -quantity,
+                confirmed ? -quantity : 0));
+    }
+
+    @Override
+    public void confirm(Map<String, Integer> quantities) {
+        // 가용 재고는 예약 시 이미 차감됐으므로 DB 사본의 예약 → 판매 이동만 남는다
+        quantities.forEach((sku, quantity) -> writeBehind.record(sku, 0, -quantity, quantity));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InventoryResponse getInventory(String sku) {
+        Inventory inventory = findInventory(sku);
+        return InventoryResponse.of(inventory, stockStore.get(sku));
+    }
+
+    @Override
+    @Transactional
+    public InventoryResponse setAvailable(String sku, long available) {
+        log.info("[Inventory] 가용 수량 설정 요청: sku={}, available={}", sku, available);
+        Inventory inventory = inventoryRepository.findById(sku)
+                .map(existing -> {
+                    existing.resetAvailable(available);
+                    return existing;
+                })
+                .orElseGet(() -> inventoryRepository.save(Inventory.create(sku, available)));
+        // 덮어쓴 값 이전의 가용 수량 변화량은 더 이상 의미가 없다
+        writeBehind.discardAvailable(inventory.getSku());
+        stockStore.set(inventory.getSku(), available);
+        return InventoryResponse.of(inventory, available);
+    }
+
+    private Inventory findInventory(String sku) {
+        return inventoryRepository.findById(sku)
+                .orElseThrow(() -> new InventoryHandler(InventoryErrorStatus.INVENTORY_NOT_FOUND));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("inventory.reservations", reserved, LongAdder::sum)
+                .tag("outcome", "reserved")
+                .description("재고 예약 성공 수")
+                .register(registry);
+        FunctionCounter.builder("inventory.reservations", outOfStock, LongAdder::sum)
+                .tag("outcome", "out_of_stock")
+                .description("재고 부족으로 거절된 예약 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,148 @@
+package com.ipia.order.inventory.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.inventory.config.InventoryProperties;
+import com.ipia.order.inventory.repository.InventoryRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 변화량 지연 반영기 (write-behind)
+ * 
+ * 예약/해제/확정마다 DB 행을 갱신하면 인기 SKU의 한 행에 잠금이 몰려 주문이 직렬화되므로,
+ * SKU별 변화량을 메모리에서 합산해 두고 주기마다 SKU당 UPDATE 한 번으로 반영한다.
+ * 반영에 실패한 변화량은 다시 합산해 다음 주기에 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryWriteBehind implements MeterBinder {
+
+    /**
+     * SKU 하나의 누적 변화량
+     */
+    record StockDelta(long available, long reserved, long sold) {
+
+        StockDelta plus(StockDelta other) {
+            return new StockDelta(available + other.available, reserved + other.reserved, sold + other.sold);
+        }
+
+        boolean isZero() {
+            return available == 0 && reserved == 0 && sold == 0;
+        }
+    }
+
+    private final InventoryRepository inventoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final InventoryProperties properties;
+
+    private final ConcurrentHashMap<String, StockDelta> pending = new ConcurrentHashMap<>();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * 변화량 누적 (SKU 단위 원자적 병합)
+     */
+    public void record(String sku, long available, long reserved, long sold) {
+        pending.merge(sku, new StockDelta(available, reserved, sold), StockDelta::plus);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 가용 수량 변화량
+     */
+    public long pendingAvailable(String sku) {
+        StockDelta delta = pending.get(sku);
+        return delta == null ? 0 : delta.available();
+    }
+
+    /**
+     * 가용 수량 변화량 폐기 (관리자가 가용 수량을 덮어쓴 경우)
+     */
+    public void discardAvailable(String sku) {
+        pending.computeIfPresent(sku, (key, delta) -> {
+            StockDelta remaining = new StockDelta(0, delta.reserved(), delta.sold());
+            return remaining.isZero() ? null : remaining;
+        });
+    }
+
+    /**
+     * 누적된 변화량을 DB에 반영합니다.
+     *
+     * @return 반영된 SKU 수
+     */
+    @Scheduled(fixedDelayString = "${inventory.flush-interval:PT1S}")
+    public int flush() {
+        int total = 0;
+        List<String> skus = new ArrayList<>(pending.keySet());
+        for (int from = 0; from < skus.size(); from += properties.getFlushBatchSize()) {
+            // remove로 꺼낸 시점 이후의 변화량은 새 항목으로 누적되므로 유실되지 않는다
+            Map<String, StockDelta> batch = new LinkedHashMap<>();
+            for (String sku : skus.subList(from, Math.min(from + properties.getFlushBatchSize(), skus.size()))) {
+                StockDelta delta = pending.remove(sku);
+                if (delta != null && !delta.isZero()) {
+                    batch.put(sku, delta);
+                }
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                transactionTemplate.execute(status -> applyBatch(batch));
+                flushed.add(batch.size());
+                total += batch.size();
+            } catch (Exception e) {
+                failed.add(batch.size());
+                log.warn("[Inventory] 재고 변화량 DB 반영 실패 - 다음 주기에 재시도: skus={}", batch.size(), e);
+                batch.forEach((sku, delta) -> pending.merge(sku, delta, StockDelta::plus));
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int applyBatch(Map<String, StockDelta> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (Map.Entry<String, StockDelta> entry : batch.entrySet()) {
+            StockDelta delta = entry.getValue();
+            // 재고 미등록 SKU(관리 대상 아님)는 0건 갱신으로 끝난다
+            updated += inventoryRepository.applyDelta(entry.getKey(), delta.available(), delta.reserved(), delta.sold(), now);
+        }
+        return updated;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("inventory.writebehind.pending", pending, Map::size)
+                .description("DB 반영 대기 중인 SKU 수")
+                .register(registry);
+        FunctionCounter.builder("inventory.writebehind.flushed", flushed, LongAdder::sum)
+                .description("DB에 반영된 SKU 변화량 수")
+                .register(registry);
+        FunctionCounter.builder("inventory.writebehind.failed", failed, LongAdder::sum)
+                .description("DB 반영에 실패해 재시도 대기 중인 SKU 변화량 수")
+                .register(registry);
+    }
+}
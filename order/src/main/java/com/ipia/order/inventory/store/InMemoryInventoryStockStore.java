@@ -0,0 +1,55 @@
+package com.ipia.order.inventory.store;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 단일 노드용 인메모리 가용 재고 저장소 (로컬/테스트)
+ * 
+ * 여러 SKU를 한꺼번에 확인·차감해야 하므로 저장소 전체를 하나의 모니터로 보호한다.
+ */
+public class InMemoryInventoryStockStore implements InventoryStockStore {
+
+    private final Map<String, Long> stocks = new HashMap<>();
+
+    @Override
+    public synchronized ReserveOutcome tryReserve(Map<String, Integer> quantities) {
+        List<String> missing = quantities.keySet().stream()
+                .filter(sku -> !stocks.containsKey(sku))
+                .toList();
+        if (!missing.isEmpty()) {
+            return ReserveOutcome.missing(missing);
+        }
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            if (stocks.get(entry.getKey()) < entry.getValue()) {
+                return ReserveOutcome.insufficient(entry.getKey());
+            }
+        }
+        quantities.forEach((sku, quantity) -> stocks.merge(sku, -quantity.longValue(), Long::sum));
+        return ReserveOutcome.reserved();
+    }
+
+    @Override
+    public synchronized void release(Map<String, Integer> quantities) {
+        quantities.forEach((sku, quantity) -> stocks.computeIfPresent(sku, (key, stock) -> stock + quantity));
+    }
+
+    @Override
+    public synchronized boolean seedIfAbsent(String sku, long available) {
+        return stocks.putIfAbsent(sku, available) == null;
+    }
+
+    @Override
+    public synchronized void set(String sku, long available) {
+        stocks.put(sku, available);
+    }
+
+    @Override
+    @Nullable
+    public synchronized Long get(String sku) {
+        return stocks.get(sku);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ipia.order.inventory.store;
+
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * SKU별 가용 재고 저장소 (주문 시점 재고 판단의 기준)
+ */
+public interface InventoryStockStore {
+
+    /**
+     * 모든 SKU의 가용 재고가 충분할 때만 한꺼번에 차감 (전부 아니면 전무)
+     *
+     * @param quantities SKU별 수량
+     * @return 예약 결과
+     */
+    ReserveOutcome tryReserve(Map<String, Integer> quantities);
+
+    /**
+     * 가용 재고 복원 (저장소에 키가 없는 SKU는 건너뛴다 - 다음 적재 시 DB 값으로 채워짐)
+     */
+    void release(Map<String, Integer> quantities);
+
+    /**
+     * 키가 없을 때만 가용 재고를 적재
+     *
+     * @return 적재했으면 true
+     */
+    boolean seedIfAbsent(String sku, long available);
+
+    /**
+     * 가용 재고 덮어쓰기
+     */
+    void set(String sku, long available);
+
+    /**
+     * 현재 가용 재고 (키가 없으면 null)
+     */
+    @Nullable
+    Long get(String sku);
+}
@@ -0,0 +1,102 @@
+package com.ipia.order.inventory.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 문자열 키(inventory:stock:{sku}) 기반 가용 재고 저장소
+ * 
+ * 여러 SKU의 "확인 후 차감"을 Lua 스크립트 하나로 실행하므로 노드가 여러 대여도 초과 판매가 없고,
+ * 인기 SKU도 Redis 단일 연산으로 끝나 DB 행 잠금을 기다리지 않는다.
+ * (Redis Cluster에서는 한 주문의 SKU 키가 같은 슬롯에 있어야 하므로 keyPrefix에 해시 태그를 써야 한다)
+ */
+@RequiredArgsConstructor
+public class RedisInventoryStockStore implements InventoryStockStore {
+
+    /**
+     * KEYS: 재고 키, ARGV: 수량 목록 + SKU 목록
+     * 반환: {'OK'} | {'MISSING', sku...} | {'SHORT', sku}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local n = #KEYS "
+                    + "local missing = {} "
+                    + "for i = 1, n do "
+                    + "  if redis.call('EXISTS', KEYS[i]) == 0 then missing[#missing + 1] = ARGV[n + i] end "
+                    + "end "
+                    + "if #missing > 0 then table.insert(missing, 1, 'MISSING') return missing end "
+                    + "for i = 1, n do "
+                    + "  if tonumber(redis.call('GET', KEYS[i])) < tonumber(ARGV[i]) then return {'SHORT', ARGV[n + i]} end "
+                    + "end "
+                    + "for i = 1, n do redis.call('DECRBY', KEYS[i], ARGV[i]) end "
+                    + "return {'OK'}",
+            List.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS do "
+                    + "  if redis.call('EXISTS', KEYS[i]) == 1 then redis.call('INCRBY', KEYS[i], ARGV[i]) end "
+                    + "end "
+                    + "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String keyPrefix;
+
+    @Override
+    public ReserveOutcome tryReserve(Map<String, Integer> quantities) {
+        List<String> keys = new ArrayList<>(quantities.size());
+        List<String> args = new ArrayList<>(quantities.size() * 2);
+        quantities.forEach((sku, quantity) -> {
+            keys.add(keyPrefix + sku);
+            args.add(String.valueOf(quantity));
+        });
+        args.addAll(quantities.keySet());
+
+        List<?> result = stringRedisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("재고 예약 스크립트 결과가 비어 있습니다.");
+        }
+        List<String> skus = result.subList(1, result.size()).stream().map(Object::toString).toList();
+        return switch (result.get(0).toString()) {
+            case "OK" -> ReserveOutcome.reserved();
+            case "MISSING" -> ReserveOutcome.missing(skus);
+            default -> ReserveOutcome.insufficient(skus.get(0));
+        };
+    }
+
+    @Override
+    public void release(Map<String, Integer> quantities) {
+        List<String> keys = new ArrayList<>(quantities.size());
+        List<String> args = new ArrayList<>(quantities.size());
+        quantities.forEach((sku, quantity) -> {
+            keys.add(keyPrefix + sku);
+            args.add(String.valueOf(quantity));
+        });
+        stringRedisTemplate.execute(RELEASE_SCRIPT, keys, args.toArray());
+    }
+
+    @Override
+    public boolean seedIfAbsent(String sku, long available) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(keyPrefix + sku, String.valueOf(available)));
+    }
+
+    @Override
+    public void set(String sku, long available) {
+        stringRedisTemplate.opsForValue().set(keyPrefix + sku, String.valueOf(available));
+    }
+
+    @Override
+    @Nullable
+    public Long get(String sku) {
+        String value = stringRedisTemplate.opsForValue().get(keyPrefix + sku);
+        return value == null ? null : Long.valueOf(value);
+    }
+}
@@ -0,0 +1,33 @@
+package com.ipia.order.inventory.store;
+
+import java.util.List;
+
+/**
+ * 재고 예약 시도 결과
+ *
+ * @param status 결과
+ * @param skus MISSING이면 저장소에 없는 SKU 목록, INSUFFICIENT면 부족한 SKU
+ */
+public record ReserveOutcome(Status status, List<String> skus) {
+
+    public enum Status {
+        /** 모든 SKU 차감 완료 */
+        RESERVED,
+        /** 저장소에 재고 키가 없는 SKU가 있어 아무것도 차감하지 않음 */
+        MISSING,
+        /** 가용 재고가 부족한 SKU가 있어 아무것도 차감하지 않음 */
+        INSUFFICIENT
+    }
+
+    public static ReserveOutcome reserved() {
+        return new ReserveOutcome(Status.RESERVED, List.of());
+    }
+
+    public static ReserveOutcome missing(List<String> skus) {
+        return new ReserveOutcome(Status.MISSING, List.copyOf(skus));
+    }
+
+    public static ReserveOutcome insufficient(String sku) {
+        return new ReserveOutcome(Status.INSUFFICIENT, List.of(sku));
+    }
+}
@@ -0,0 +1,39 @@
+package com.ipia.order.order.accept;
+
+import org.springframework.lang.Nullable;
+
+import com.ipia.order.order.enums.OrderAcceptanceState;
+
+/**
+ * 접수 추적 ID별 처리 상태 표식
+ *
+ * 저장 형식: "PENDING:{memberId}" | "CREATED:{memberId}:{orderId}" | "REJECTED:{memberId}:{code}"
+ *
+ * @param state 처리 상태
+ * @param memberId 접수한 회원 ID (조회 시 소유자 확인용)
+ * @param detail CREATED면 주문 ID, REJECTED면 오류 코드
+ */
+public record AcceptanceMarker(OrderAcceptanceState state, long memberId, @Nullable String detail) {
+
+    public static AcceptanceMarker pending(long memberId) {
+        return new AcceptanceMarker(OrderAcceptanceState.PENDING, memberId, null);
+    }
+
+    public static AcceptanceMarker created(long memberId, long orderId) {
+        return new AcceptanceMarker(OrderAcceptanceState.CREATED, memberId, String.valueOf(orderId));
+    }
+
+    public static AcceptanceMarker rejected(long memberId, String code) {
+        return new AcceptanceMarker(OrderAcceptanceState.REJECTED, memberId, code);
+    }
+
+    public String encode() {
+        return detail == null ? state + ":" + memberId : state + ":" + memberId + ":" + detail;
+    }
+
+    public static AcceptanceMarker decode(String value) {
+        String[] parts = value.split(":", 3);
+        return new AcceptanceMarker(OrderAcceptanceState.valueOf(parts[0]), Long.parseLong(parts[1]),
+                parts.length > 2 ? parts[2] : null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ipia.order.order.accept;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 단일 노드용 인메모리 접수 대기열 (로컬/테스트)
+ *
+ * 프로세스가 종료되면 대기 중인 명령이 사라지므로 운영에서는 Redis 대기열을 사용한다.
+ */
+public class InMemoryOrderAcceptQueue implements OrderAcceptQueue {
+
+    private record Inflight(OrderAcceptCommand command, Instant claimedAt) {
+    }
+
+    private final ConcurrentLinkedDeque<OrderAcceptCommand> pending = new ConcurrentLinkedDeque<>();
+    private final Map<String, Inflight> inflight = new ConcurrentHashMap<>();
+    private final Map<String, AcceptanceMarker> markers = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean enqueue(OrderAcceptCommand command) {
+        if (markers.putIfAbsent(command.trackingId(), AcceptanceMarker.pending(command.memberId())) != null) {
+            return false;
+        }
+        pending.addLast(command);
+        return true;
+    }
+
+    @Override
+    public List<OrderAcceptCommand> claim(int max) {
+        List<OrderAcceptCommand> claimed = new ArrayList<>();
+        Instant now = Instant.now();
+        OrderAcceptCommand command;
+        while (claimed.size() < max && (command = pending.pollFirst()) != null) {
+            inflight.put(command.trackingId(), new Inflight(command, now));
+            claimed.add(command);
+        }
+        return claimed;
+    }
+
+    @Override
+    public void ack(List<OrderAcceptCommand> commands) {
+        commands.forEach(command -> inflight.remove(command.trackingId()));
+    }
+
+    @Override
+    public int recoverStale(Duration visibilityTimeout) {
+        Instant cutoff = Instant.now().minus(visibilityTimeout);
+        int recovered = 0;
+        for (Inflight entry : List.copyOf(inflight.values())) {
+            if (!entry.claimedAt().isAfter(cutoff) && inflight.remove(entry.command().trackingId(), entry)) {
+                pending.addFirst(entry.command());
+                recovered++;
+            }
+        }
+        return recovered;
+    }
+
+    @Override
+    public void mark(String trackingId, AcceptanceMarker marker) {
+        markers.put(trackingId, marker);
+    }
+
+    @Override
+    @Nullable
+    public AcceptanceMarker findMarker(String trackingId) {
+        return markers.get(trackingId);
+    }
+
+    @Override
+    public long pendingCount() {
+        return pending.size();
+    }
+}
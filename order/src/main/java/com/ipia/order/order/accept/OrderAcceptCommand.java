@@ -0,0 +1,44 @@
+package com.ipia.order.order.accept;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.ipia.order.order.domain.OrderLine;
+
+/**
+ * 비동기 접수된 주문 생성 명령 (대기열에 JSON으로 저장)
+ *
+ * @param trackingId 접수 추적 ID (주문의 acceptance_id로 저장되어 재처리 시 중복 생성을 막는다)
+ * @param memberId 회원 ID
+ * @param totalAmount 주문 총액 (라인 주문이면 검증용, 선택사항)
+ * @param lines 주문 라인 (없으면 총액 주문)
+ * @param acceptedAt 접수 시각
+ */
+public record OrderAcceptCommand(String trackingId, Long memberId, @Nullable Long totalAmount,
+                                 @Nullable List<Line> lines, LocalDateTime acceptedAt) {
+
+    /**
+     * 주문 라인 명령
+     */
+    public record Line(String sku, String productName, Long unitPrice, Integer quantity) {
+
+        OrderLine toOrderLine() {
+            return OrderLine.of(sku, productName, unitPrice, quantity);
+        }
+    }
+
+    @JsonIgnore
+    public boolean hasLines() {
+        return lines != null && !lines.isEmpty();
+    }
+
+    /**
+     * 주문 라인 엔티티로 변환 (호출할 때마다 새 인스턴스)
+     */
+    public List<OrderLine> toOrderLines() {
+        return lines == null ? List.of() : lines.stream().map(Line::toOrderLine).toList();
+    }
+}
@@ -0,0 +1,55 @@
+package com.ipia.order.order.accept;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 비동기 주문 접수 대기열
+ *
+ * 꺼낸(claim) 명령은 ack 전까지 처리 중 목록에 남고, 노드가 죽어 ack되지 않은 명령은
+ * 가시성 제한 시간이 지나면 recoverStale로 대기열에 되돌려 유실 없이 다시 처리한다.
+ */
+public interface OrderAcceptQueue {
+
+    /**
+     * 명령 적재 (같은 추적 ID가 이미 접수됐으면 적재하지 않는다)
+     *
+     * @return 새로 적재했으면 true
+     */
+    boolean enqueue(OrderAcceptCommand command);
+
+    /**
+     * 대기 중인 명령을 최대 max개 꺼내 처리 중 목록으로 옮긴다.
+     */
+    List<OrderAcceptCommand> claim(int max);
+
+    /**
+     * 처리 완료된 명령을 처리 중 목록에서 제거
+     */
+    void ack(List<OrderAcceptCommand> commands);
+
+    /**
+     * 가시성 제한 시간이 지난 처리 중 명령을 대기열 앞으로 되돌린다.
+     *
+     * @return 되돌린 명령 수
+     */
+    int recoverStale(Duration visibilityTimeout);
+
+    /**
+     * 처리 상태 표식 갱신
+     */
+    void mark(String trackingId, AcceptanceMarker marker);
+
+    /**
+     * 처리 상태 표식 조회 (없거나 만료됐으면 null)
+     */
+    @Nullable
+    AcceptanceMarker findMarker(String trackingId);
+
+    /**
+     * 대기 중인 명령 수
+     */
+    long pendingCount();
+}
@@ -0,0 +1,25 @@
+package com.ipia.order.order.accept;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 접수 명령 저장 결과
+ *
+ * @param trackingId 접수 추적 ID
+ * @param orderId 저장된 주문 ID (거절이면 null)
+ * @param errorCode 거절 사유 코드 (저장됐으면 null)
+ */
+public record OrderAcceptResult(String trackingId, @Nullable Long orderId, @Nullable String errorCode) {
+
+    public static OrderAcceptResult created(String trackingId, Long orderId) {
+        return new OrderAcceptResult(trackingId, orderId, null);
+    }
+
+    public static OrderAcceptResult rejected(String trackingId, String errorCode) {
+        return new OrderAcceptResult(trackingId, null, errorCode);
+    }
+
+    public boolean isCreated() {
+        return orderId != null;
+    }
+}
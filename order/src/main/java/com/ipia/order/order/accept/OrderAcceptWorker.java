@@ -0,0 +1,128 @@
+package com.ipia.order.order.accept;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ipia.order.order.config.OrderAcceptProperties;
+import com.ipia.order.order.service.OrderService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 접수 주문 저장 워커
+ * 
+ * 대기열에서 명령을 배치로 꺼내 한 트랜잭션으로 저장(그룹 커밋)하고, 명령별 결과를 상태 표식에 남긴 뒤 ack한다.
+ * 배치가 통째로 실패하면 명령을 하나씩 다시 시도해 문제 명령만 남기고,
+ * 그래도 실패한 명령은 ack하지 않아 가시성 제한 시간 뒤 대기열로 돌아간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.accept", name = "enabled", havingValue = "true")
+public class OrderAcceptWorker implements MeterBinder {
+
+    private final OrderAcceptQueue orderAcceptQueue;
+    private final OrderService orderService;
+    private final OrderAcceptProperties properties;
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * 대기 중인 접수 명령을 저장합니다.
+     *
+     * @return 이번 실행에서 처리(저장 또는 거절)된 명령 수
+     */
+    @Scheduled(fixedDelayString = "${order.accept.poll-interval:PT0.2S}")
+    public int drain() {
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<OrderAcceptCommand> claimed = orderAcceptQueue.claim(properties.getBatchSize());
+            if (claimed.isEmpty()) {
+                break;
+            }
+            total += process(claimed);
+            if (claimed.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 노드 장애 등으로 ack되지 않은 명령을 대기열로 되돌립니다.
+     */
+    @Scheduled(fixedDelayString = "${order.accept.recover-interval:PT30S}")
+    public int recover() {
+        int recovered = orderAcceptQueue.recoverStale(properties.getVisibilityTimeout());
+        if (recovered > 0) {
+            log.warn("[OrderAccept] 미완료 접수 명령 재적재: count={}", recovered);
+        }
+        return recovered;
+    }
+
+    private int process(List<OrderAcceptCommand> claimed) {
+        try {
+            return complete(claimed, orderService.persistAccepted(claimed));
+        } catch (Exception e) {
+            log.warn("[OrderAccept] 배치 저장 실패 - 명령별 재시도: size={}", claimed.size(), e);
+        }
+
+        int processed = 0;
+        for (OrderAcceptCommand command : claimed) {
+            try {
+                processed += complete(List.of(command), orderService.persistAccepted(List.of(command)));
+            } catch (Exception e) {
+                failed.increment();
+                log.warn("[OrderAccept] 접수 명령 저장 실패 - 복구 대기: trackingId={}", command.trackingId(), e);
+            }
+        }
+        return processed;
+    }
+
+    private int complete(List<OrderAcceptCommand> commands, List<OrderAcceptResult> results) {
+        Map<String, OrderAcceptCommand> byTrackingId = commands.stream()
+                .collect(Collectors.toMap(OrderAcceptCommand::trackingId, Function.identity(), (a, b) -> a));
+        for (OrderAcceptResult result : results) {
+            long memberId = byTrackingId.get(result.trackingId()).memberId();
+            if (result.isCreated()) {
+                created.increment();
+                orderAcceptQueue.mark(result.trackingId(), AcceptanceMarker.created(memberId, result.orderId()));
+            } else {
+                rejected.increment();
+                orderAcceptQueue.mark(result.trackingId(), AcceptanceMarker.rejected(memberId, result.errorCode()));
+            }
+        }
+        orderAcceptQueue.ack(commands);
+        return results.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("order.accept.pending", orderAcceptQueue, OrderAcceptQueue::pendingCount)
+                .description("저장을 기다리는 접수 명령 수")
+                .register(registry);
+        FunctionCounter.builder("order.accept.created", created, LongAdder::sum)
+                .description("저장된 접수 명령 수")
+                .register(registry);
+        FunctionCounter.builder("order.accept.rejected", rejected, LongAdder::sum)
+                .description("검증 실패로 거절된 접수 명령 수")
+                .register(registry);
+        FunctionCounter.builder("order.accept.failed", failed, LongAdder::sum)
+                .description("저장 실패로 복구를 기다리는 접수 명령 수")
+                .register(registry);
+    }
+}
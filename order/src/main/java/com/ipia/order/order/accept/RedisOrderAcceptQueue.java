@@ -0,0 +1,153 @@
+package com.ipia.order.order.accept;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Redis 기반 접수 대기열 (노드 간 공유, Redis 영속화 설정을 따른다)
+ *
+ * - {key}:pending   LIST  대기 중인 명령(JSON)
+ * - {key}:inflight  ZSET  처리 중인 추적 ID (score = 꺼낸 시각 epoch millis)
+ * - {key}:payload   HASH  처리 중인 추적 ID → 명령(JSON)
+ * - {key}:status:{trackingId}  처리 상태 표식 (statusTtl 후 만료)
+ *
+ * 적재/꺼내기/복구는 Lua 스크립트로 원자적으로 수행하므로 여러 노드의 워커가 동시에 꺼내도 중복되지 않는다.
+ */
+public class RedisOrderAcceptQueue implements OrderAcceptQueue {
+
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then "
+                    + "  redis.call('RPUSH', KEYS[2], ARGV[3]) return 1 "
+                    + "end "
+                    + "return 0",
+            Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local items = {} "
+                    + "for i = 1, tonumber(ARGV[1]) do "
+                    + "  local payload = redis.call('LPOP', KEYS[1]) "
+                    + "  if not payload then break end "
+                    + "  local id = cjson.decode(payload)['trackingId'] "
+                    + "  redis.call('ZADD', KEYS[2], ARGV[2], id) "
+                    + "  redis.call('HSET', KEYS[3], id, payload) "
+                    + "  items[#items + 1] = payload "
+                    + "end "
+                    + "return items",
+            List.class);
+
+    private static final RedisScript<Long> RECOVER_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1]) "
+                    + "for _, id in ipairs(ids) do "
+                    + "  local payload = redis.call('HGET', KEYS[3], id) "
+                    + "  if payload then redis.call('LPUSH', KEYS[1], payload) end "
+                    + "  redis.call('HDEL', KEYS[3], id) "
+                    + "  redis.call('ZREM', KEYS[2], id) "
+                    + "end "
+                    + "return #ids",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String pendingKey;
+    private final String inflightKey;
+    private final String payloadKey;
+    private final String statusKeyPrefix;
+    private final Duration statusTtl;
+
+    public RedisOrderAcceptQueue(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                                 String key, Duration statusTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.pendingKey = key + ":pending";
+        this.inflightKey = key + ":inflight";
+        this.payloadKey = key + ":payload";
+        this.statusKeyPrefix = key + ":status:";
+        this.statusTtl = statusTtl;
+    }
+
+    @Override
+    public boolean enqueue(OrderAcceptCommand command) {
+        Long added = stringRedisTemplate.execute(ENQUEUE_SCRIPT,
+                List.of(statusKeyPrefix + command.trackingId(), pendingKey),
+                AcceptanceMarker.pending(command.memberId()).encode(),
+                String.valueOf(statusTtl.toSeconds()),
+                serialize(command));
+        return added != null && added == 1L;
+    }
+
+    @Override
+    public List<OrderAcceptCommand> claim(int max) {
+        List<?> payloads = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(pendingKey, inflightKey, payloadKey),
+                String.valueOf(max), String.valueOf(Instant.now().toEpochMilli()));
+        if (payloads == null || payloads.isEmpty()) {
+            return List.of();
+        }
+        List<OrderAcceptCommand> commands = new ArrayList<>(payloads.size());
+        for (Object payload : payloads) {
+            commands.add(deserialize(payload.toString()));
+        }
+        return commands;
+    }
+
+    @Override
+    public void ack(List<OrderAcceptCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        Object[] ids = commands.stream().map(OrderAcceptCommand::trackingId).toArray();
+        stringRedisTemplate.opsForZSet().remove(inflightKey, ids);
+        stringRedisTemplate.opsForHash().delete(payloadKey, ids);
+    }
+
+    @Override
+    public int recoverStale(Duration visibilityTimeout) {
+        Long recovered = stringRedisTemplate.execute(RECOVER_SCRIPT, List.of(pendingKey, inflightKey, payloadKey),
+                String.valueOf(Instant.now().minus(visibilityTimeout).toEpochMilli()));
+        return recovered == null ? 0 : recovered.intValue();
+    }
+
+    @Override
+    public void mark(String trackingId, AcceptanceMarker marker) {
+        stringRedisTemplate.opsForValue().set(statusKeyPrefix + trackingId, marker.encode(), statusTtl);
+    }
+
+    @Override
+    @Nullable
+    public AcceptanceMarker findMarker(String trackingId) {
+        String value = stringRedisTemplate.opsForValue().get(statusKeyPrefix + trackingId);
+        return value == null ? null : AcceptanceMarker.decode(value);
+    }
+
+    @Override
+    public long pendingCount() {
+        Long size = stringRedisTemplate.opsForList().size(pendingKey);
+        return size == null ? 0 : size;
+    }
+
+    private String serialize(OrderAcceptCommand command) {
+        try {
+            return objectMapper.writeValueAsString(command);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 접수 명령 직렬화 실패: trackingId=" + command.trackingId(), e);
+        }
+    }
+
+    private OrderAcceptCommand deserialize(String payload) {
+        try {
+            return objectMapper.readValue(payload, OrderAcceptCommand.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 접수 명령 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ipia.order.order.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipia.order.order.accept.InMemoryOrderAcceptQueue;
+import com.ipia.order.order.accept.OrderAcceptQueue;
+import com.ipia.order.order.accept.RedisOrderAcceptQueue;
+
+/**
+ * 비동기 주문 접수 설정
+ * 
+ * order.accept.store=redis(기본)이면 노드 간 공유되는 Redis 대기열을,
+ * memory면 단일 노드용 인메모리 대기열을 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties(OrderAcceptProperties.class)
+public class OrderAcceptConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order.accept", name = "store", havingValue = "redis", matchIfMissing = true)
+    public OrderAcceptQueue redisOrderAcceptQueue(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                                                  OrderAcceptProperties properties) {
+        return new RedisOrderAcceptQueue(stringRedisTemplate, objectMapper, properties.getKey(), properties.getStatusTtl());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order.accept", name = "store", havingValue = "memory")
+    public OrderAcceptQueue inMemoryOrderAcceptQueue() {
+        return new InMemoryOrderAcceptQueue();
+    }
+}
@@ -0,0 +1,86 @@
+package com.ipia.order.order.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "order.accept")
+public class OrderAcceptProperties {
+
+    /** 비동기 접수(POST /api/orders/async) 및 저장 워커 사용 여부 */
+    private boolean enabled = false;
+
+    /** 접수 대기열 저장소 (redis: 노드 공유, memory: 단일 노드) */
+    private String store = "redis";
+
+    /** Redis 키 접두사 */
+    private String key = "order:accept";
+
+    /** 한 트랜잭션(그룹 커밋)으로 저장할 최대 명령 수 */
+    private int batchSize = 200;
+
+    /** 워커 1회 실행당 최대 배치 수 */
+    private int maxBatchesPerRun = 20;
+
+    /** 꺼낸 뒤 ack 없이 이 시간이 지나면 대기열로 되돌림 (노드 장애 복구) */
+    private Duration visibilityTimeout = Duration.ofMinutes(1);
+
+    /** 접수 상태 표식 보관 기간 */
+    private Duration statusTtl = Duration.ofHours(24);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getStore() {
+        return store;
+    }
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    public Duration getVisibilityTimeout() {
+        return visibilityTimeout;
+    }
+
+    public void setVisibilityTimeout(Duration visibilityTimeout) {
+        this.visibilityTimeout = visibilityTimeout;
+    }
+
+    public Duration getStatusTtl() {
+        return statusTtl;
+    }
+
+    public void setStatusTtl(Duration statusTtl) {
+        this.statusTtl = statusTtl;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ipia.order.order.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.ipia.order.order.expiry.InMemoryOrderExpiryQueue;
+import com.ipia.order.order.expiry.OrderExpiryQueue;
+import com.ipia.order.order.expiry.RedisOrderExpiryQueue;
+
+/**
+ * 미결제 주문 자동 만료 설정
+ * 
+ * order.expiry.store=redis(기본)이면 노드 간 공유되는 Redis ZSET을,
+ * memory면 단일 노드용 인메모리 대기열을 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties(OrderExpiryProperties.class)
+public class OrderExpiryConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order.expiry", name = "store", havingValue = "redis", matchIfMissing = true)
+    public OrderExpiryQueue redisOrderExpiryQueue(StringRedisTemplate stringRedisTemplate, OrderExpiryProperties properties) {
+        return new RedisOrderExpiryQueue(stringRedisTemplate, properties.getKey());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order.expiry", name = "store", havingValue = "memory")
+    public OrderExpiryQueue inMemoryOrderExpiryQueue() {
+        return new InMemoryOrderExpiryQueue();
+    }
+}
@@ -0,0 +1,86 @@
+package com.ipia.order.order.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "order.expiry")
+public class OrderExpiryProperties {
+
+    /** 만료 워커 실행 여부 (만료 예약은 항상 수행) */
+    private boolean enabled = true;
+
+    /** 만료 대기열 저장소 (redis: 노드 공유 ZSET, memory: 단일 노드) */
+    private String store = "redis";
+
+    /** Redis ZSET 키 */
+    private String key = "order:expiry";
+
+    /** 결제 대기(CREATED) 허용 시간 */
+    private Duration ttl = Duration.ofMinutes(30);
+
+    /** 한 번에 꺼내 처리할 만료 건수 */
+    private int batchSize = 200;
+
+    /** 워커 1회 실행당 최대 배치 수 (밀린 만료가 많아도 실행 시간을 제한) */
+    private int maxBatchesPerRun = 50;
+
+    /** DB 처리 실패 시 재예약 지연 */
+    private Duration retryDelay = Duration.ofMinutes(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getStore() {
+        return store;
+    }
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    public void setRetryDelay(Duration retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ipia.order.order.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 회원 주문 이력 읽기 모델 설정
+ */
+@Configuration
+@EnableConfigurationProperties(OrderHistoryProperties.class)
+public class OrderHistoryConfig {
+}
@@ -0,0 +1,40 @@
+package com.ipia.order.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "order.history")
+public class OrderHistoryProperties {
+
+    /** 회원 주문 이력 조회를 읽기 모델에서 제공할지 여부 (끄면 항상 orders 조회) */
+    private boolean readEnabled = true;
+
+    /** 읽기 모델에서 제공할 최대 페이지 수 (이후 페이지는 orders 조회) */
+    private int maxServedPages = 10;
+
+    /** 재구성 시 한 트랜잭션에서 옮길 주문 ID 구간 크기 */
+    private int rebuildChunkSize = 5_000;
+
+    public boolean isReadEnabled() {
+        return readEnabled;
+    }
+
+    public void setReadEnabled(boolean readEnabled) {
+        this.readEnabled = readEnabled;
+    }
+
+    public int getMaxServedPages() {
+        return maxServedPages;
+    }
+
+    public void setMaxServedPages(int maxServedPages) {
+        this.maxServedPages = maxServedPages;
+    }
+
+    public int getRebuildChunkSize() {
+        return rebuildChunkSize;
+    }
+
+    public void setRebuildChunkSize(int rebuildChunkSize) {
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ipia.order.order.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 주문 조회 경로 설정 (동시 조회 합치기, 회원 첫 페이지 캐시)
+ */
+@Configuration
+@EnableConfigurationProperties(OrderReadProperties.class)
+public class OrderReadConfig {
+}
@@ -0,0 +1,75 @@
+package com.ipia.order.order.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "order.read")
+public class OrderReadProperties {
+
+    /** 같은 주문 단건/목록 동시 조회를 한 번의 DB 조회로 합칠지 여부 */
+    private boolean coalesceEnabled = true;
+
+    /** 진행 중인 조회를 기다리는 최대 시간 (넘기면 직접 조회) */
+    private Duration coalesceMaxWait = Duration.ofMillis(500);
+
+    /** 회원 주문 목록 첫 페이지 캐시 사용 여부 */
+    private boolean pageCacheEnabled = true;
+
+    /** 캐시할 최대 페이지 크기 (이보다 큰 페이지는 캐시하지 않음) */
+    private int pageCacheMaxPageSize = 20;
+
+    /** 캐시 전체 크기 상한 (직렬화된 응답 바이트 합계, 넘으면 오래 안 쓴 회원부터 제거) */
+    private long pageCacheMaxBytes = 32L * 1024 * 1024;
+
+    /** 캐시 항목 수명 (다른 노드의 변경은 이벤트가 오지 않으므로 이 시간 안에 반영됨) */
+    private Duration pageCacheTtl = Duration.ofSeconds(30);
+
+    public boolean isCoalesceEnabled() {
+        return coalesceEnabled;
+    }
+
+    public void setCoalesceEnabled(boolean coalesceEnabled) {
+        this.coalesceEnabled = coalesceEnabled;
+    }
+
+    public Duration getCoalesceMaxWait() {
+        return coalesceMaxWait;
+    }
+
+    public void setCoalesceMaxWait(Duration coalesceMaxWait) {
+        this.coalesceMaxWait = coalesceMaxWait;
+    }
+
+    public boolean isPageCacheEnabled() {
+        return pageCacheEnabled;
+    }
+
+    public void setPageCacheEnabled(boolean pageCacheEnabled) {
+        this.pageCacheEnabled = pageCacheEnabled;
+    }
+
+    public int getPageCacheMaxPageSize() {
+        return pageCacheMaxPageSize;
+    }
+
+    public void setPageCacheMaxPageSize(int pageCacheMaxPageSize) {
+        this.pageCacheMaxPageSize = pageCacheMaxPageSize;
+    }
+
+    public long getPageCacheMaxBytes() {
+        return pageCacheMaxBytes;
+    }
+
+    public void setPageCacheMaxBytes(long pageCacheMaxBytes) {
+        this.pageCacheMaxBytes = pageCacheMaxBytes;
+    }
+
+    public Duration getPageCacheTtl() {
+        return pageCacheTtl;
+    }
+
+    public void setPageCacheTtl(Duration pageCacheTtl) {
+        this.pageCacheTtl = pageCacheTtl;
+    }
+}
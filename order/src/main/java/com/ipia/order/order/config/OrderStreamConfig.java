@@ -0,0 +1,59 @@
+package com.ipia.order.order.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipia.order.order.service.OrderListPageCache;
+import com.ipia.order.order.stream.LocalOrderStatusBroadcaster;
+import com.ipia.order.order.stream.OrderStatusBroadcaster;
+import com.ipia.order.order.stream.OrderStreamRegistry;
+import com.ipia.order.order.stream.RedisOrderStatusBroadcaster;
+
+/**
+ * 주문 상태 SSE 스트림 설정
+ * 
+ * order.stream.redis-fanout=true(기본)이면 Redis pub/sub으로 모든 노드에 전파하고,
+ * false면 같은 노드의 구독자에게만 직접 전달한다. 회원 주문 목록 캐시 무효화도 같은 방식으로 전파한다.
+ */
+@Configuration
+@EnableConfigurationProperties(OrderStreamProperties.class)
+public class OrderStreamConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order.stream", name = "redis-fanout", havingValue = "true", matchIfMissing = true)
+    public RedisOrderStatusBroadcaster redisOrderStatusBroadcaster(StringRedisTemplate stringRedisTemplate,
+                                                                   ObjectMapper objectMapper,
+                                                                   OrderStreamRegistry registry,
+                                                                   OrderListPageCache pageCache,
+                                                                   OrderStreamProperties properties) {
+        return new RedisOrderStatusBroadcaster(stringRedisTemplate, objectMapper, registry, pageCache,
+                properties.getChannel(), properties.getListInvalidationChannel());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order.stream", name = "redis-fanout", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer orderStreamListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      RedisOrderStatusBroadcaster broadcaster,
+                                                                      OrderStreamProperties properties) {
+        // 노드당 구독 연결 1개로 모든 회원의 메시지를 받아 로컬 구독자에게 분배
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(broadcaster, new ChannelTopic(properties.getChannel()));
+        container.addMessageListener(broadcaster, new ChannelTopic(properties.getListInvalidationChannel()));
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order.stream", name = "redis-fanout", havingValue = "false")
+    public OrderStatusBroadcaster localOrderStatusBroadcaster(OrderStreamRegistry registry,
+                                                              OrderListPageCache pageCache) {
+        return new LocalOrderStatusBroadcaster(registry, pageCache);
+    }
+}
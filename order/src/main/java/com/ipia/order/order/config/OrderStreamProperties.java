@@ -0,0 +1,86 @@
+package com.ipia.order.order.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "order.stream")
+public class OrderStreamProperties {
+
+    /** Redis pub/sub으로 노드 간 전파할지 여부 (false면 같은 노드 구독자에게만 전달) */
+    private boolean redisFanout = true;
+
+    /** 주문 상태 변경 메시지 채널 */
+    private String channel = "order:status";
+
+    /** 회원 주문 목록 캐시 무효화 채널 (메시지는 회원 ID) */
+    private String listInvalidationChannel = "order:list-invalidate";
+
+    /** SSE 연결 유지 시간 (만료 시 클라이언트가 재연결) */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /** 회원당 최대 동시 구독 수 (초과 시 가장 오래된 연결 종료) */
+    private int maxEmittersPerMember = 5;
+
+    /** 끊어진 연결 정리/프록시 유휴 타임아웃 방지용 heartbeat 주기 */
+    private Duration heartbeatInterval = Duration.ofSeconds(25);
+
+    /** heartbeat를 보내는 스레드 수 (느린 연결이 스케줄러 스레드를 붙잡지 않도록 분리) */
+    private int heartbeatThreads = 2;
+
+    public boolean isRedisFanout() {
+        return redisFanout;
+    }
+
+    public void setRedisFanout(boolean redisFanout) {
+        this.redisFanout = redisFanout;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public String getListInvalidationChannel() {
+        return listInvalidationChannel;
+    }
+
+    public void setListInvalidationChannel(String listInvalidationChannel) {
+        this.listInvalidationChannel = listInvalidationChannel;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public int getMaxEmittersPerMember() {
+        return maxEmittersPerMember;
+    }
+
+    public void setMaxEmittersPerMember(int maxEmittersPerMember) {
+        this.maxEmittersPerMember = maxEmittersPerMember;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public int getHeartbeatThreads() {
+        return heartbeatThreads;
+    }
+
+    public void setHeartbeatThreads(int heartbeatThreads) {
+        this.heartbeatThreads = heartbeatThreads;
+    }
+}
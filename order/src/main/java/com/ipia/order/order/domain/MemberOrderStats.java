@@ -0,0 +1,26 @@
+package com.ipia.order.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 주문 수 (주문 이력 페이지의 전체 건수를 COUNT 없이 제공)
+ */
+@Entity
+@Table(name = "member_order_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberOrderStats {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+}
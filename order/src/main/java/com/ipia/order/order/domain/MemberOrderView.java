@@ -0,0 +1,92 @@
+package com.ipia.order.order.domain;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import com.ipia.order.order.enums.OrderStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 주문 이력 읽기 모델 (CQRS 조회 전용)
+ * 
+ * 주문 이벤트로 갱신되며 (member_id, created_at, order_id) 인덱스 순서 그대로 페이지를 읽는다.
+ * 원본은 orders이며, 어긋나면 MemberOrderHistoryRebuilder로 다시 만든다.
+ */
+@Entity
+@Table(name = "member_order_view", indexes = {
+        @Index(name = "idx_member_order_view_member_created", columnList = "member_id, created_at, order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberOrderView implements Persistable<Long> {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OrderStatus status;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * ID를 직접 지정하므로 save가 merge(선조회)하지 않고 바로 INSERT하도록 신규 여부를 직접 관리
+     */
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * 저장된 주문으로부터 읽기 모델 행 생성
+     */
+    public static MemberOrderView of(Order order) {
+        MemberOrderView view = new MemberOrderView();
+        view.orderId = order.getId();
+        view.memberId = order.getMemberId();
+        view.totalAmount = order.getTotalAmount();
+        view.status = order.getStatus();
+        view.createdAt = order.getCreatedAt();
+        view.updatedAt = order.getUpdatedAt();
+        return view;
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -1,10 +1,19 @@
 package com.ipia.order.order.domain;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.annotations.BatchSize;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.ipia.order.common.entity.BaseEntity;
 import com.ipia.order.common.exception.order.OrderHandler;
 import com.ipia.order.common.exception.order.status.OrderErrorStatus;
 import com.ipia.order.order.enums.OrderStatus;
 
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -12,6 +21,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,7 +31,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 목록 검색 필터 조합별 인덱스 (OrderSpecifications 참고)
+        @Index(name = "idx_orders_member_status_created", columnList = "member_id, status, created_at"),
+        @Index(name = "idx_orders_member_created", columnList = "member_id, created_at"),
+        @Index(name = "idx_orders_member_amount", columnList = "member_id, total_amount"),
+        @Index(name = "idx_orders_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_orders_created", columnList = "created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseEntity {
@@ -38,6 +57,24 @@ public class Order extends BaseEntity {
     @Column(name = "status", nullable = false)
     private OrderStatus status = OrderStatus.CREATED;
 
+    /**
+     * 비동기 접수 추적 ID (비동기 접수로 생성된 주문만 값이 있음)
+     * 유니크 제약으로 같은 접수 명령이 재처리돼도 주문이 두 번 생성되지 않는다.
+     */
+    @JsonIgnore
+    @Column(name = "acceptance_id", length = 36, unique = true)
+    private String acceptanceId;
+
+    /**
+     * 주문 라인 (지연 로딩, 여러 주문의 라인을 IN 조회로 한 번에 초기화)
+     * 목록 조회 응답은 라인에 접근하지 않으므로 라인을 로딩하지 않는다.
+     */
+    @JsonIgnore
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("lineNo ASC")
+    @BatchSize(size = 100)
+    private List<OrderLine> lines = new ArrayList<>();
+
     @Builder(access = AccessLevel.PROTECTED)
     private Order(Long memberId, Long totalAmount) {
         validateMemberId(memberId);
@@ -66,48 +103,84 @@ public class Order extends BaseEntity {
                 .build();
     }
 
+    /**
+     * 주문 라인으로 주문 생성 (총액은 라인 금액 합계로 계산)
+     */
+    public static Order createWithLines(Long memberId, List<OrderLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new OrderHandler(OrderErrorStatus.INVALID_ORDER_LINE);
+        }
+        long totalAmount = 0L;
+        try {
+            for (OrderLine line : lines) {
+                totalAmount = Math.addExact(totalAmount, line.getLineAmount());
+            }
+        } catch (ArithmeticException e) {
+            throw new OrderHandler(OrderErrorStatus.INVALID_ORDER_AMOUNT);
+        }
+
+        Order order = Order.builder()
+                .memberId(memberId)
+                .totalAmount(totalAmount)
+                .build();
+        int lineNo = 1;
+        for (OrderLine line : lines) {
+            line.attachTo(order, lineNo++);
+            order.lines.add(line);
+        }
+        return order;
+    }
+
+    /**
+     * 비동기 접수 추적 ID 연결 (저장 전에만 호출)
+     */
+    public void assignAcceptanceId(String acceptanceId) {
+        this.acceptanceId = acceptanceId;
+    }
+
+    /**
+     * 재고가 실제로 예약된 SKU의 라인 표시 (저장 전에만 호출)
+     */
+    public void markStockReserved(Collection<String> reservedSkus) {
+        for (OrderLine line : lines) {
+            if (reservedSkus.contains(line.getSku())) {
+                line.markStockReserved();
+            }
+        }
+    }
+
+    public List<OrderLine> getLines() {
+        return Collections.unmodifiableList(lines);
+    }
+
     // ==================== 내부 상태 변환 메서드 ====================
 
     public void confirm() {
-        validateTransition(OrderStatus.CREATED, OrderErrorStatus.INVALID_ORDER_STATE);
-        this.status = OrderStatus.CONFIRMED;
+        transitionTo(OrderStatus.CONFIRMED, OrderErrorStatus.INVALID_ORDER_STATE);
     }
 
     public void startFulfillment() {
-        validateTransition(OrderStatus.CONFIRMED, OrderErrorStatus.INVALID_ORDER_STATE);
-        this.status = OrderStatus.FULFILLMENT_STARTED;
+        transitionTo(OrderStatus.FULFILLMENT_STARTED, OrderErrorStatus.INVALID_ORDER_STATE);
     }
 
     public void ship() {
-        validateTransition(OrderStatus.FULFILLMENT_STARTED, OrderErrorStatus.INVALID_ORDER_STATE);
-        this.status = OrderStatus.SHIPPED;
+        transitionTo(OrderStatus.SHIPPED, OrderErrorStatus.INVALID_ORDER_STATE);
     }
 
     public void deliver() {
-        validateTransition(OrderStatus.SHIPPED, OrderErrorStatus.INVALID_ORDER_STATE);
-        this.status = OrderStatus.DELIVERED;
+        transitionTo(OrderStatus.DELIVERED, OrderErrorStatus.INVALID_ORDER_STATE);
     }
 
     public void complete() {
-        // 완료는 DELIVERED 이후만 허용 (결제 미도입 단계 기준)
-        validateTransition(OrderStatus.DELIVERED, OrderErrorStatus.INVALID_TRANSITION_TO_COMPLETED);
-        this.status = OrderStatus.COMPLETED;
+        transitionTo(OrderStatus.COMPLETED, OrderErrorStatus.INVALID_TRANSITION_TO_COMPLETED);
     }
 
     public void requestCancel() {
-        // 생성/확정 단계에서만 취소 요청 허용
-        if (!(this.status == OrderStatus.CREATED || this.status == OrderStatus.CONFIRMED)) {
-            throw new OrderHandler(OrderErrorStatus.INVALID_TRANSITION_TO_CANCELED);
-        }
-        this.status = OrderStatus.CANCEL_REQUESTED;
+        transitionTo(OrderStatus.CANCEL_REQUESTED, OrderErrorStatus.INVALID_TRANSITION_TO_CANCELED);
     }
 
     public void cancel() {
-        // CANCEL_REQUESTED 또는 CREATED/CONFIRMED 에서만 최종 취소 허용
-        if (!(this.status == OrderStatus.CANCEL_REQUESTED || this.status == OrderStatus.CREATED || this.status == OrderStatus.CONFIRMED)) {
-            throw new OrderHandler(OrderErrorStatus.INVALID_TRANSITION_TO_CANCELED);
-        }
-        this.status = OrderStatus.CANCELED;
+        transitionTo(OrderStatus.CANCELED, OrderErrorStatus.INVALID_TRANSITION_TO_CANCELED);
     }
 
 
@@ -123,10 +196,14 @@ public class Order extends BaseEntity {
         }
     }
 
-    private void validateTransition(OrderStatus expectedStatus, OrderErrorStatus errorStatus) {
-        if (this.status != expectedStatus) {
+    /**
+     * 전이 규칙은 OrderStateMachine에 선언되어 있다.
+     */
+    private void transitionTo(OrderStatus targetStatus, OrderErrorStatus errorStatus) {
+        if (!OrderStateMachine.RULES.transition(this.status, targetStatus)) {
             throw new OrderHandler(errorStatus);
         }
+        this.status = targetStatus;
     }
 
     // 레거시 취소 검증 제거됨
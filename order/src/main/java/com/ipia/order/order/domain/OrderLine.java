@@ -0,0 +1,114 @@
+package com.ipia.order.order.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.ipia.order.common.exception.order.OrderHandler;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 상품 라인
+ * 
+ * IDENTITY 전략은 INSERT마다 키를 돌려받아야 해 JDBC 배치가 꺼지므로,
+ * 시퀀스(pooled, 50개 단위 할당)로 키를 미리 받아 라인 INSERT를 배치로 묶는다.
+ */
+@Entity
+@Table(name = "order_lines", indexes = {
+        @Index(name = "idx_order_lines_order", columnList = "order_id, line_no")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderLine {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_line_seq")
+    @SequenceGenerator(name = "order_line_seq", sequenceName = "order_line_seq", allocationSize = 50)
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "order_id", nullable = false)
+    private Order order;
+
+    @Column(name = "line_no", nullable = false)
+    private int lineNo;
+
+    @Column(name = "sku", nullable = false, length = 64)
+    private String sku;
+
+    @Column(name = "product_name", length = 200)
+    private String productName;
+
+    @Column(name = "unit_price", nullable = false)
+    private Long unitPrice;
+
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+
+    @Column(name = "line_amount", nullable = false)
+    private Long lineAmount;
+
+    /**
+     * 주문 생성 시 재고를 예약했는지 (재고 미등록 SKU는 예약 없이 통과하므로 false)
+     * 결제/취소 시 예약한 라인만 확정/해제한다. 컬럼 추가 전 라인은 null이며 예약된 것으로 본다.
+     */
+    @Column(name = "stock_reserved")
+    private Boolean stockReserved;
+
+    private OrderLine(String sku, String productName, long unitPrice, int quantity) {
+        this.sku = sku.trim();
+        this.productName = productName;
+        this.unitPrice = unitPrice;
+        this.quantity = quantity;
+        this.lineAmount = Math.multiplyExact(unitPrice, (long) quantity);
+        this.stockReserved = false;
+    }
+
+    /**
+     * 주문 라인 생성 (주문에 추가되기 전 상태)
+     *
+     * @param sku 상품 SKU
+     * @param productName 상품명 (선택사항)
+     * @param unitPrice 단가 (0보다 커야 함)
+     * @param quantity 수량 (0보다 커야 함)
+     * @return 주문 라인
+     */
+    public static OrderLine of(String sku, String productName, Long unitPrice, Integer quantity) {
+        if (sku == null || sku.isBlank() || unitPrice == null || unitPrice <= 0 || quantity == null || quantity <= 0) {
+            throw new OrderHandler(OrderErrorStatus.INVALID_ORDER_LINE);
+        }
+        try {
+            return new OrderLine(sku, productName, unitPrice, quantity);
+        } catch (ArithmeticException e) {
+            throw new OrderHandler(OrderErrorStatus.INVALID_ORDER_LINE);
+        }
+    }
+
+    /**
+     * 주문에 연결 (Order.createWithLines에서만 호출)
+     */
+    void attachTo(Order order, int lineNo) {
+        this.order = order;
+        this.lineNo = lineNo;
+    }
+
+    /**
+     * 재고 예약 표시 (Order.markStockReserved에서만 호출)
+     */
+    void markStockReserved() {
+        this.stockReserved = true;
+    }
+}
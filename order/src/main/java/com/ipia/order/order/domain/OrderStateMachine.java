@@ -0,0 +1,36 @@
+package com.ipia.order.order.domain;
+
+import static com.ipia.order.order.enums.OrderStatus.*;
+
+import java.util.EnumSet;
+
+import com.ipia.order.common.statemachine.StateMachine;
+import com.ipia.order.order.enums.OrderStatus;
+
+/**
+ * 주문 상태 전이 규칙
+ *
+ * CREATED → CONFIRMED → FULFILLMENT_STARTED → SHIPPED → DELIVERED → COMPLETED
+ * CREATED/CONFIRMED → CANCEL_REQUESTED → CANCELED
+ * CREATED/CONFIRMED → CANCELED
+ */
+public final class OrderStateMachine {
+
+    public static final StateMachine<OrderStatus> RULES = StateMachine.builder(OrderStatus.class, "order")
+            // 결제 승인 시 확정
+            .allow(CREATED, CONFIRMED)
+            // 이행 단계
+            .allow(CONFIRMED, FULFILLMENT_STARTED)
+            .allow(FULFILLMENT_STARTED, SHIPPED)
+            .allow(SHIPPED, DELIVERED)
+            // 완료는 DELIVERED 이후만 허용 (결제 미도입 단계 기준)
+            .allow(DELIVERED, COMPLETED)
+            // 생성/확정 단계에서만 취소 요청 허용
+            .allowFrom(EnumSet.of(CREATED, CONFIRMED), CANCEL_REQUESTED)
+            // CANCEL_REQUESTED 또는 CREATED/CONFIRMED 에서만 최종 취소 허용
+            .allowFrom(EnumSet.of(CANCEL_REQUESTED, CREATED, CONFIRMED), CANCELED)
+            .build();
+
+    private OrderStateMachine() {
+    }
+}
@@ -0,0 +1,56 @@
+package com.ipia.order.order.domain;
+
+import java.time.LocalDateTime;
+
+import com.ipia.order.order.enums.OrderStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 상태 전이 이력 (추가 전용)
+ * 
+ * 전이마다 한 행씩 쌓이며 수정/삭제하지 않는다.
+ * 쓰기는 OrderStatusHistoryRecorder가 트랜잭션 단위 JDBC 배치로 하고, 엔티티는 조회와 스키마 정의에만 쓴다.
+ */
+@Entity
+@Table(name = "order_status_history", indexes = {
+        @Index(name = "idx_order_status_history_order", columnList = "order_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderStatusHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    /** 이전 상태 (주문 생성 시 null) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 32)
+    private OrderStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, length = 32)
+    private OrderStatus toStatus;
+
+    /** 전이 사유 (취소 사유 등, 선택) */
+    @Column(name = "reason")
+    private String reason;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
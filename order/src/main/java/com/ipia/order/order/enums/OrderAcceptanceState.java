@@ -0,0 +1,13 @@
+package com.ipia.order.order.enums;
+
+/**
+ * 비동기 주문 접수 처리 상태
+ */
+public enum OrderAcceptanceState {
+    /** 대기열에서 저장을 기다리는 중 */
+    PENDING,
+    /** 주문으로 저장됨 (orderId로 조회 가능) */
+    CREATED,
+    /** 검증 실패로 거절됨 (사유 코드 포함) */
+    REJECTED
+}
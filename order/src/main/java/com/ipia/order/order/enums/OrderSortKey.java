@@ -0,0 +1,48 @@
+package com.ipia.order.order.enums;
+
+import com.ipia.order.common.exception.order.OrderHandler;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+
+/**
+ * 주문 목록 정렬 기준 열거형
+ *
+ * 각 정렬 기준은 orders 테이블의 복합 인덱스 마지막 컬럼과 대응한다.
+ * (created_at → idx_orders_*_created, total_amount → idx_orders_member_amount)
+ */
+public enum OrderSortKey {
+    CREATED_AT("createdAt"),
+    TOTAL_AMOUNT("totalAmount"),
+    ID("id");
+
+    private final String property;
+
+    OrderSortKey(String property) {
+        this.property = property;
+    }
+
+    /**
+     * 정렬 대상 엔티티 속성명
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * 요청 파라미터로 정렬 기준 찾기 (enum 이름 또는 속성명, 대소문자 무시)
+     * @param raw 요청 파라미터 값 (null/공백이면 CREATED_AT)
+     * @return OrderSortKey
+     * @throws OrderHandler 지원하지 않는 정렬 기준인 경우 (OrderErrorStatus.INVALID_SORT)
+     */
+    public static OrderSortKey from(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return CREATED_AT;
+        }
+        String value = raw.trim();
+        for (OrderSortKey key : values()) {
+            if (key.name().equalsIgnoreCase(value) || key.property.equalsIgnoreCase(value)) {
+                return key;
+            }
+        }
+        throw new OrderHandler(OrderErrorStatus.INVALID_SORT);
+    }
+}
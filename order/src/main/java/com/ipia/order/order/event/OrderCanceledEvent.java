@@ -5,6 +5,8 @@ import lombok.Getter;
 
 import java.time.LocalDateTime;
 
+import com.ipia.order.order.enums.OrderStatus;
+
 /**
  * 주문 취소 이벤트
  * 
@@ -19,6 +21,11 @@ public class OrderCanceledEvent {
      */
     private final Long orderId;
     
+    /**
+     * 주문 회원 ID
+     */
+    private final Long memberId;
+    
     /**
      * 취소 사유
      */
@@ -30,13 +37,20 @@ public class OrderCanceledEvent {
     private final LocalDateTime canceledAt;
     
     /**
-     * 주문 취소 이벤트 생성
+     * 취소 직전 상태 (알 수 없으면 null)
+     */
+    private final OrderStatus previousStatus;
+    
+    /**
+     * 취소 직전 상태를 포함한 주문 취소 이벤트 생성
      * 
      * @param orderId 주문 ID
+     * @param memberId 주문 회원 ID
      * @param reason 취소 사유
+     * @param previousStatus 취소 직전 상태
      * @return 주문 취소 이벤트
      */
-    public static OrderCanceledEvent of(Long orderId, String reason) {
-        return new OrderCanceledEvent(orderId, reason, LocalDateTime.now());
+    public static OrderCanceledEvent of(Long orderId, Long memberId, String reason, OrderStatus previousStatus) {
+        return new OrderCanceledEvent(orderId, memberId, reason, LocalDateTime.now(), previousStatus);
     }
 }
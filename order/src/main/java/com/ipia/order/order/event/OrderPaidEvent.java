@@ -19,6 +19,11 @@ public class OrderPaidEvent {
      */
     private final Long orderId;
     
+    /**
+     * 주문 회원 ID
+     */
+    private final Long memberId;
+    
     /**
      * 결제 완료 금액
      */
@@ -33,10 +38,11 @@ public class OrderPaidEvent {
      * 주문 결제 완료 이벤트 생성
      * 
      * @param orderId 주문 ID
+     * @param memberId 주문 회원 ID
      * @param paidAmount 결제 완료 금액
      * @return 주문 결제 완료 이벤트
      */
-    public static OrderPaidEvent of(Long orderId, Long paidAmount) {
-        return new OrderPaidEvent(orderId, paidAmount, LocalDateTime.now());
+    public static OrderPaidEvent of(Long orderId, Long memberId, Long paidAmount) {
+        return new OrderPaidEvent(orderId, memberId, paidAmount, LocalDateTime.now());
     }
 }
@@ -0,0 +1,52 @@
+package com.ipia.order.order.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.ipia.order.order.enums.OrderStatus;
+
+/**
+ * 주문 상태 일괄 변경 이벤트
+ * 
+ * 이행(출고/배송) 단계의 대량 상태 전이 시 청크 단위로 한 번 발행하는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class OrderStatusBulkChangedEvent {
+
+    /**
+     * 상태가 변경된 주문 ID 목록
+     */
+    private final List<Long> orderIds;
+
+    /**
+     * 이전 상태
+     */
+    private final OrderStatus fromStatus;
+
+    /**
+     * 변경된 상태
+     */
+    private final OrderStatus toStatus;
+
+    /**
+     * 변경 일시
+     */
+    private final LocalDateTime changedAt;
+
+    /**
+     * 주문 상태 일괄 변경 이벤트 생성
+     * 
+     * @param orderIds 상태가 변경된 주문 ID 목록
+     * @param fromStatus 이전 상태
+     * @param toStatus 변경된 상태
+     * @param changedAt 변경 일시
+     * @return 주문 상태 일괄 변경 이벤트
+     */
+    public static OrderStatusBulkChangedEvent of(List<Long> orderIds, OrderStatus fromStatus, OrderStatus toStatus, LocalDateTime changedAt) {
+        return new OrderStatusBulkChangedEvent(List.copyOf(orderIds), fromStatus, toStatus, changedAt);
+    }
+}
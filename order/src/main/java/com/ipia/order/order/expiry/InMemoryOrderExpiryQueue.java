@@ -0,0 +1,57 @@
+package com.ipia.order.order.expiry;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 인메모리 만료 대기열 (단일 노드, 테스트용)
+ * 
+ * 만료 시각 순 정렬 집합으로 관리하며, 노드 재시작 시 예약이 유실된다.
+ */
+public class InMemoryOrderExpiryQueue implements OrderExpiryQueue {
+
+    private final NavigableSet<Entry> entries = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(Entry::deadlineMillis).thenComparingLong(Entry::orderId));
+    private final Map<Long, Long> deadlines = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void schedule(long orderId, Instant deadline) {
+        Long previous = deadlines.put(orderId, deadline.toEpochMilli());
+        if (previous != null) {
+            entries.remove(new Entry(previous, orderId));
+        }
+        entries.add(new Entry(deadline.toEpochMilli(), orderId));
+    }
+
+    @Override
+    public synchronized void remove(long orderId) {
+        Long previous = deadlines.remove(orderId);
+        if (previous != null) {
+            entries.remove(new Entry(previous, orderId));
+        }
+    }
+
+    @Override
+    public synchronized List<Long> popDue(Instant now, int limit) {
+        long nowMillis = now.toEpochMilli();
+        List<Long> due = new ArrayList<>(Math.min(limit, entries.size()));
+        while (due.size() < limit) {
+            Entry first = entries.isEmpty() ? null : entries.first();
+            if (first == null || first.deadlineMillis() > nowMillis) {
+                break;
+            }
+            entries.pollFirst();
+            deadlines.remove(first.orderId());
+            due.add(first.orderId());
+        }
+        return due;
+    }
+
+    private record Entry(long deadlineMillis, long orderId) {}
+}
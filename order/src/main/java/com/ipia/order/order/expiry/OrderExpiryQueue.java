@@ -0,0 +1,38 @@
+package com.ipia.order.order.expiry;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 주문 만료 지연 대기열
+ * 
+ * 만료 시각 순으로 정렬된 주문 ID를 보관하며, 만료된 항목만 꺼내므로
+ * 처리 비용은 전체 주문 수가 아니라 만료된 건수에 비례한다.
+ */
+public interface OrderExpiryQueue {
+
+    /**
+     * 만료 예약 (이미 예약된 주문이면 만료 시각 갱신)
+     *
+     * @param orderId 주문 ID
+     * @param deadline 만료 시각
+     */
+    void schedule(long orderId, Instant deadline);
+
+    /**
+     * 만료 예약 취소 (결제/취소 등으로 더 이상 만료 대상이 아닌 경우)
+     *
+     * @param orderId 주문 ID
+     */
+    void remove(long orderId);
+
+    /**
+     * 만료 시각이 지난 주문을 최대 limit건 꺼낸다 (꺼낸 항목은 대기열에서 제거)
+     * 여러 노드가 동시에 호출해도 같은 항목을 중복으로 꺼내지 않는다.
+     *
+     * @param now 기준 시각
+     * @param limit 최대 건수
+     * @return 만료된 주문 ID 목록 (만료 시각 순)
+     */
+    List<Long> popDue(Instant now, int limit);
+}
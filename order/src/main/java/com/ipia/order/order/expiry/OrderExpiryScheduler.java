@@ -0,0 +1,58 @@
+package com.ipia.order.order.expiry;
+
+import java.time.ZoneId;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ipia.order.order.config.OrderExpiryProperties;
+import com.ipia.order.order.event.OrderCanceledEvent;
+import com.ipia.order.order.event.OrderCreatedEvent;
+import com.ipia.order.order.event.OrderPaidEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 생성 시 만료 예약, 결제/취소 시 예약 해제
+ * 
+ * 커밋된 주문만 예약하며, 대기열 장애가 주문 처리 결과에 영향을 주지 않도록 예외를 삼킨다.
+ * (예약 해제에 실패해도 워커의 조건부 UPDATE가 CREATED 상태만 취소하므로 안전하다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderExpiryScheduler {
+
+    private final OrderExpiryQueue orderExpiryQueue;
+    private final OrderExpiryProperties properties;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        try {
+            orderExpiryQueue.schedule(event.getOrderId(),
+                    event.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().plus(properties.getTtl()));
+        } catch (Exception e) {
+            log.warn("[OrderExpiry] 만료 예약 실패: orderId={}", event.getOrderId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderPaid(OrderPaidEvent event) {
+        unschedule(event.getOrderId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        unschedule(event.getOrderId());
+    }
+
+    private void unschedule(Long orderId) {
+        try {
+            orderExpiryQueue.remove(orderId);
+        } catch (Exception e) {
+            log.warn("[OrderExpiry] 만료 예약 해제 실패: orderId={}", orderId, e);
+        }
+    }
+}
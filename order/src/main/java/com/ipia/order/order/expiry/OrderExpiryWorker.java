@@ -0,0 +1,141 @@
+package com.ipia.order.order.expiry;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.order.config.OrderExpiryProperties;
+import com.ipia.order.order.domain.OrderStateMachine;
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.event.OrderCanceledEvent;
+import com.ipia.order.order.repository.OrderRepository;
+import com.ipia.order.order.repository.OrderStatusView;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 미결제 주문 만료 워커
+ * 
+ * 대기열에서 만료된 주문만 배치로 꺼내 (상태 조회 1회 + 조건부 UPDATE 1회)로 취소한다.
+ * 결제가 먼저 끝난 주문은 CREATED 가드 조건에 걸려 갱신되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.expiry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrderExpiryWorker implements MeterBinder {
+
+    static final String EXPIRY_REASON = "결제 기한 만료";
+
+    private final OrderExpiryQueue orderExpiryQueue;
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderExpiryProperties properties;
+
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * 만료 시각이 지난 주문을 취소합니다.
+     *
+     * @return 이번 실행에서 취소된 주문 수
+     */
+    @Scheduled(fixedDelayString = "${order.expiry.poll-interval:PT5S}")
+    public int expireDueOrders() {
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<Long> dueIds = orderExpiryQueue.popDue(Instant.now(), properties.getBatchSize());
+            if (dueIds.isEmpty()) {
+                break;
+            }
+            try {
+                Integer canceled = transactionTemplate.execute(status -> expireBatch(dueIds));
+                total += canceled == null ? 0 : canceled;
+            } catch (Exception e) {
+                // 꺼낸 항목은 대기열에서 빠졌으므로 재예약해 유실을 막는다
+                failed.add(dueIds.size());
+                log.warn("[OrderExpiry] 만료 배치 처리 실패 - 재예약: size={}", dueIds.size(), e);
+                Instant retryAt = Instant.now().plus(properties.getRetryDelay());
+                dueIds.forEach(orderId -> orderExpiryQueue.schedule(orderId, retryAt));
+                break;
+            }
+            if (dueIds.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("[OrderExpiry] 미결제 주문 만료 처리: canceled={}", total);
+        }
+        return total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("order.expiry.expired", expired, LongAdder::sum)
+                .description("Unpaid orders canceled by the expiry worker")
+                .register(registry);
+        FunctionCounter.builder("order.expiry.skipped", skipped, LongAdder::sum)
+                .description("Due entries skipped because the order had already left CREATED")
+                .register(registry);
+        FunctionCounter.builder("order.expiry.failed", failed, LongAdder::sum)
+                .description("Due entries rescheduled after a failed batch")
+                .register(registry);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private int expireBatch(List<Long> dueIds) {
+        List<OrderStatusView> created = findInStatus(dueIds, OrderStatus.CREATED);
+        skipped.add(dueIds.size() - created.size());
+        if (created.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> createdIds = created.stream().map(OrderStatusView::getId).toList();
+        int updated = orderRepository.transitionStatus(createdIds, OrderStatus.CREATED, OrderStatus.CANCELED, now);
+
+        List<OrderStatusView> canceled = created;
+        if (updated != createdIds.size()) {
+            // 조회 이후 결제 승인된 주문은 가드 조건에 걸려 갱신되지 않음 → 재조회로 식별
+            canceled = findInStatus(createdIds, OrderStatus.CANCELED);
+            skipped.add(createdIds.size() - canceled.size());
+        }
+
+        OrderStateMachine.RULES.recordTransitions(OrderStatus.CREATED, OrderStatus.CANCELED, canceled.size());
+        canceled.forEach(view -> eventPublisher.publishEvent(
+                OrderCanceledEvent.of(view.getId(), view.getMemberId(), EXPIRY_REASON, OrderStatus.CREATED)));
+        expired.add(canceled.size());
+        return canceled.size();
+    }
+
+    private List<OrderStatusView> findInStatus(List<Long> orderIds, OrderStatus status) {
+        Map<Long, OrderStatusView> views = orderRepository.findStatusViewsByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(OrderStatusView::getId, Function.identity()));
+        List<OrderStatusView> matched = new ArrayList<>(orderIds.size());
+        for (Long orderId : orderIds) {
+            OrderStatusView view = views.get(orderId);
+            if (view != null && view.getStatus() == status) {
+                matched.add(view);
+            }
+        }
+        return matched;
+    }
+}
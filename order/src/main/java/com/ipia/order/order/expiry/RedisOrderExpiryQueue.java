@@ -0,0 +1,51 @@
+package com.ipia.order.order.expiry;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis ZSET 기반 만료 대기열 (score = 만료 시각 epoch millis)
+ * 
+ * 조회와 삭제를 Lua 스크립트 하나로 원자적으로 수행하므로 여러 노드의 워커가 동시에 꺼내도 안전하다.
+ */
+@RequiredArgsConstructor
+public class RedisOrderExpiryQueue implements OrderExpiryQueue {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_DUE_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) "
+                    + "if #ids > 0 then redis.call('ZREM', KEYS[1], unpack(ids)) end "
+                    + "return ids",
+            List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String key;
+
+    @Override
+    public void schedule(long orderId, Instant deadline) {
+        stringRedisTemplate.opsForZSet().add(key, String.valueOf(orderId), deadline.toEpochMilli());
+    }
+
+    @Override
+    public void remove(long orderId) {
+        stringRedisTemplate.opsForZSet().remove(key, String.valueOf(orderId));
+    }
+
+    @Override
+    public List<Long> popDue(Instant now, int limit) {
+        List<?> ids = stringRedisTemplate.execute(POP_DUE_SCRIPT, List.of(key),
+                String.valueOf(now.toEpochMilli()), String.valueOf(limit));
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return ids.stream()
+                .map(id -> Long.valueOf(id.toString()))
+                .toList();
+    }
+}
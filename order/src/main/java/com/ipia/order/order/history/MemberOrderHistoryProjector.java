@@ -0,0 +1,62 @@
+package com.ipia.order.order.history;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ipia.order.order.domain.MemberOrderView;
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.event.OrderCanceledEvent;
+import com.ipia.order.order.event.OrderCreatedEvent;
+import com.ipia.order.order.event.OrderPaidEvent;
+import com.ipia.order.order.event.OrderStatusBulkChangedEvent;
+import com.ipia.order.order.repository.MemberOrderStatsRepository;
+import com.ipia.order.order.repository.MemberOrderViewRepository;
+import com.ipia.order.order.repository.OrderRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 이벤트 → 회원 주문 이력 읽기 모델 반영
+ * 
+ * 커밋 직전(BEFORE_COMMIT)에 같은 트랜잭션으로 반영하므로 주문과 읽기 모델이 함께 커밋되거나 함께 롤백된다.
+ * (커밋 후 반영 방식은 장애 시 갱신이 유실될 수 있어 재구성 없이는 복구되지 않는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberOrderHistoryProjector {
+
+    private final OrderRepository orderRepository;
+    private final MemberOrderViewRepository memberOrderViewRepository;
+    private final MemberOrderStatsRepository memberOrderStatsRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        // 같은 트랜잭션의 영속성 컨텍스트에 있는 주문이므로 DB 재조회 없이 생성 시각/상태를 그대로 쓴다
+        orderRepository.findById(event.getOrderId()).ifPresentOrElse(order -> {
+            memberOrderViewRepository.save(MemberOrderView.of(order));
+            memberOrderStatsRepository.increment(order.getMemberId());
+        }, () -> log.warn("[OrderHistory] 생성 이벤트의 주문을 찾을 수 없음: orderId={}", event.getOrderId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrderPaid(OrderPaidEvent event) {
+        memberOrderViewRepository.updateStatus(List.of(event.getOrderId()), OrderStatus.CONFIRMED, event.getPaidAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        memberOrderViewRepository.updateStatus(List.of(event.getOrderId()), OrderStatus.CANCELED, event.getCanceledAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrderStatusBulkChanged(OrderStatusBulkChangedEvent event) {
+        if (!event.getOrderIds().isEmpty()) {
+            memberOrderViewRepository.updateStatus(event.getOrderIds(), event.getToStatus(), event.getChangedAt());
+        }
+    }
+}
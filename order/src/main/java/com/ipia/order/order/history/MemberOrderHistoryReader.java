@@ -0,0 +1,151 @@
+package com.ipia.order.order.history;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipia.order.order.config.OrderHistoryProperties;
+import com.ipia.order.order.domain.MemberOrderStats;
+import com.ipia.order.order.domain.MemberOrderView;
+import com.ipia.order.order.repository.MemberOrderStatsRepository;
+import com.ipia.order.order.repository.MemberOrderViewRepository;
+import com.ipia.order.order.repository.OrderRepository;
+import com.ipia.order.web.dto.response.order.OrderListResponse;
+import com.ipia.order.web.dto.response.order.OrderResponse;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 주문 이력 읽기 모델 조회
+ * 
+ * 회원 필터만 있는 최신순 목록의 앞쪽 페이지를 member_order_view(인덱스 범위 읽기)와
+ * member_order_stats(전체 건수)로 제공해 orders의 COUNT/정렬을 피한다.
+ * 읽기 모델이 orders를 따라잡지 못한 상태(최초 배포, 재구성 중)에서는 제공하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberOrderHistoryReader implements MeterBinder {
+
+    private static final Sort VIEW_SORT = Sort.by(Sort.Direction.DESC, "createdAt")
+            .and(Sort.by(Sort.Direction.DESC, "orderId"));
+
+    private final MemberOrderViewRepository memberOrderViewRepository;
+    private final MemberOrderStatsRepository memberOrderStatsRepository;
+    private final OrderRepository orderRepository;
+    private final OrderHistoryProperties properties;
+
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final LongAdder served = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+
+    /**
+     * 회원 주문 이력 페이지 조회 (최신순)
+     *
+     * @return 읽기 모델에서 제공할 수 없으면 empty (호출자가 orders를 조회)
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderListResponse> findPage(long memberId, int page, int size) {
+        if (!properties.isReadEnabled() || !ready.get() || page >= properties.getMaxServedPages()) {
+            bypassed.increment();
+            return Optional.empty();
+        }
+        long totalCount = memberOrderStatsRepository.findById(memberId)
+                .map(MemberOrderStats::getOrderCount)
+                .orElse(0L);
+        List<MemberOrderView> rows = totalCount == 0
+                ? List.of()
+                : memberOrderViewRepository.findByMemberId(memberId, PageRequest.of(page, size, VIEW_SORT));
+        served.increment();
+
+        return Optional.of(OrderListResponse.builder()
+                .orders(rows.stream().map(OrderResponse::from).toList())
+                .totalCount(totalCount)
+                .page(page)
+                .size(size)
+                .totalPages((int) ((totalCount + size - 1) / size))
+                .build());
+    }
+
+    public boolean isReady() {
+        return ready.get();
+    }
+
+    /**
+     * 재구성 시작 (완료 전까지 읽기 모델을 제공하지 않음)
+     */
+    void beginRebuild() {
+        rebuilding.set(true);
+        ready.set(false);
+    }
+
+    /**
+     * 재구성 종료
+     */
+    void endRebuild(boolean succeeded) {
+        rebuilding.set(false);
+        ready.set(succeeded);
+    }
+
+    /**
+     * 기동 시 및 주기적으로 읽기 모델이 orders 전 구간을 덮는지 확인 (최소/최대 주문 ID 비교, PK 인덱스 끝만 읽음)
+     * 
+     * 배포 직후에는 새 주문만 반영돼 최대 ID는 같아도 최소 ID가 다르므로 제공하지 않는다.
+     * 재구성은 최신 구간부터 역순으로 채우므로 다른 노드도 재구성이 끝나야 최소 ID가 맞아 제공을 재개한다.
+     * 제공 중에도 계속 확인해 읽기 모델이 orders를 덮지 못하게 되면(다른 노드의 재구성 시작 등) 제공을 멈춘다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${order.history.readiness-check-interval:PT1M}")
+    public void checkReadiness() {
+        if (rebuilding.get()) {
+            return;
+        }
+        long minOrderId = orderRepository.findMinId();
+        long maxOrderId = orderRepository.findMaxId();
+        long minViewId = memberOrderViewRepository.findMinOrderId();
+        long maxViewId = memberOrderViewRepository.findMaxOrderId();
+        boolean covered = minViewId == minOrderId && maxViewId >= maxOrderId;
+        if (covered) {
+            // 확인하는 사이 재구성이 시작됐으면 제공을 켜지 않는다
+            if (!rebuilding.get() && ready.compareAndSet(false, true)) {
+                log.info("[OrderHistory] 주문 이력 읽기 모델 제공 시작: orderIds=[{}, {}]", minOrderId, maxOrderId);
+            }
+        } else if (ready.compareAndSet(true, false)) {
+            log.warn("[OrderHistory] 주문 이력 읽기 모델이 orders를 덮지 못함 - 제공 중단: orderIds=[{}, {}], viewIds=[{}, {}]",
+                    minOrderId, maxOrderId, minViewId, maxViewId);
+        } else {
+            log.warn("[OrderHistory] 주문 이력 읽기 모델이 orders를 덮지 못함 - 재구성 필요: orderIds=[{}, {}], viewIds=[{}, {}]",
+                    minOrderId, maxOrderId, minViewId, maxViewId);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("order.history.ready", ready, flag -> flag.get() ? 1 : 0)
+                .description("주문 이력 읽기 모델 제공 여부")
+                .register(registry);
+        FunctionCounter.builder("order.history.reads", served, LongAdder::sum)
+                .tag("source", "view")
+                .description("읽기 모델에서 제공한 주문 이력 조회 수")
+                .register(registry);
+        FunctionCounter.builder("order.history.reads", bypassed, LongAdder::sum)
+                .tag("source", "orders")
+                .description("orders로 넘긴 주문 이력 조회 수")
+                .register(registry);
+    }
+}
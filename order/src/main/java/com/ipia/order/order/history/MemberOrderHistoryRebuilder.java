@@ -0,0 +1,114 @@
+package com.ipia.order.order.history;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.common.exception.order.OrderHandler;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.order.config.OrderHistoryProperties;
+import com.ipia.order.order.repository.MemberOrderStatsRepository;
+import com.ipia.order.order.repository.MemberOrderViewRepository;
+import com.ipia.order.order.repository.OrderRepository;
+import com.ipia.order.web.dto.response.order.OrderHistoryRebuildResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 주문 이력 읽기 모델 재구성
+ * 
+ * orders를 주문 ID 구간 단위로 나눠 최신 구간부터 역순으로 (구간 삭제 → INSERT … SELECT)를 한 트랜잭션씩 실행한다.
+ * 구간마다 삭제 후 다시 복사하므로 재실행해도 결과가 같고, 재구성 중 들어온 주문/상태 변경은
+ * 이벤트로 계속 반영된다. 마지막으로 회원별 주문 수를 회원 ID 구간 단위로 잠가 읽기 모델 기준으로 다시 센다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberOrderHistoryRebuilder {
+
+    private final OrderRepository orderRepository;
+    private final MemberOrderViewRepository memberOrderViewRepository;
+    private final MemberOrderStatsRepository memberOrderStatsRepository;
+    private final MemberOrderHistoryReader memberOrderHistoryReader;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderHistoryProperties properties;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 읽기 모델 전체 재구성 (동기 실행)
+     *
+     * @throws OrderHandler 이 인스턴스에서 이미 재구성 중 (OrderErrorStatus.HISTORY_REBUILD_IN_PROGRESS)
+     */
+    public OrderHistoryRebuildResponse rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            throw new OrderHandler(OrderErrorStatus.HISTORY_REBUILD_IN_PROGRESS);
+        }
+        boolean succeeded = false;
+        memberOrderHistoryReader.beginRebuild();
+        try {
+            long started = System.currentTimeMillis();
+            long chunkSize = Math.max(1, properties.getRebuildChunkSize());
+            long maxOrderId = orderRepository.findMaxId();
+            log.info("[OrderHistory] 주문 이력 재구성 시작: maxOrderId={}, chunkSize={}", maxOrderId, chunkSize);
+
+            long copied = 0;
+            int chunks = 0;
+            for (long upper = maxOrderId; upper > 0; upper -= chunkSize) {
+                long toId = upper;
+                long fromId = Math.max(0, toId - chunkSize);
+                Integer inserted = transactionTemplate.execute(status -> {
+                    memberOrderViewRepository.deleteRange(fromId, toId);
+                    return memberOrderViewRepository.copyRange(fromId, toId);
+                });
+                copied += inserted == null ? 0 : inserted;
+                chunks++;
+            }
+            // maxOrderId 이후 주문은 이벤트로 이미 반영됐으므로 건수만 읽기 모델 기준으로 다시 센다
+            recountStats(chunkSize);
+
+            long elapsed = System.currentTimeMillis() - started;
+            succeeded = true;
+            log.info("[OrderHistory] 주문 이력 재구성 완료: copied={}, chunks={}, elapsedMs={}", copied, chunks, elapsed);
+            return OrderHistoryRebuildResponse.builder()
+                    .maxOrderId(maxOrderId)
+                    .copiedOrders(copied)
+                    .chunks(chunks)
+                    .elapsedMillis(elapsed)
+                    .build();
+        } finally {
+            memberOrderHistoryReader.endRebuild(succeeded);
+            running.set(false);
+        }
+    }
+
+    /**
+     * 회원 ID 구간마다 한 트랜잭션으로 건수 행을 잠근 뒤 읽기 모델 기준으로 다시 센다.
+     * 행을 지우지 않고 제자리에서 고치므로 진행 중인 주문의 증가를 덮어쓰거나 잃지 않는다.
+     * 같은 회원의 첫 주문과 행 생성이 겹쳐 충돌하면 그 구간을 한 번 더 센다.
+     */
+    private void recountStats(long chunkSize) {
+        long maxMemberId = Math.max(memberOrderViewRepository.findMaxMemberId(), memberOrderStatsRepository.findMaxMemberId());
+        for (long lower = 0; lower < maxMemberId; lower += chunkSize) {
+            long fromId = lower;
+            long toId = Math.min(lower + chunkSize, maxMemberId);
+            try {
+                recountRange(fromId, toId);
+            } catch (DataIntegrityViolationException e) {
+                log.info("[OrderHistory] 회원 주문 수 재계산 충돌 - 구간 재시도: memberIds=({}, {}]", fromId, toId);
+                recountRange(fromId, toId);
+            }
+        }
+    }
+
+    private void recountRange(long fromId, long toId) {
+        transactionTemplate.execute(status -> {
+            memberOrderStatsRepository.lockRange(fromId, toId);
+            memberOrderStatsRepository.recountRange(fromId, toId);
+            return memberOrderStatsRepository.insertMissingRange(fromId, toId);
+        });
+    }
+}
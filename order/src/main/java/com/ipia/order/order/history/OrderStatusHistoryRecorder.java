@@ -0,0 +1,155 @@
+package com.ipia.order.order.history;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.event.OrderCanceledEvent;
+import com.ipia.order.order.event.OrderCreatedEvent;
+import com.ipia.order.order.event.OrderPaidEvent;
+import com.ipia.order.order.event.OrderStatusBulkChangedEvent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 이벤트 → 주문 상태 전이 이력(order_status_history) 기록
+ *
+ * 전이 이벤트가 발행되면 바로 쓰지 않고 현재 트랜잭션에 묶인 버퍼에 모았다가,
+ * 커밋 직전에 한 번의 JDBC 배치 INSERT로 쓴다. (일괄 전이/만료 취소처럼 한 트랜잭션에 수백 건이어도 왕복 한 번)
+ * 전이와 같은 트랜잭션으로 커밋되므로 커밋된 전이의 이력은 유실되지 않고, 롤백되면 이력도 남지 않는다.
+ * 트랜잭션 밖에서 발행된 이벤트는 즉시 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusHistoryRecorder implements MeterBinder {
+
+    static final int BATCH_SIZE = 500;
+    private static final int MAX_REASON_LENGTH = 255;
+    private static final String INSERT_SQL = "INSERT INTO order_status_history "
+            + "(order_id, from_status, to_status, reason, changed_at) VALUES (?, ?, ?, ?, ?)";
+
+    /**
+     * 기록할 전이 한 건
+     */
+    record Transition(long orderId, @Nullable OrderStatus fromStatus, OrderStatus toStatus,
+                      @Nullable String reason, LocalDateTime changedAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+
+    @EventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        append(List.of(new Transition(event.getOrderId(), null, OrderStatus.CREATED, null, event.getCreatedAt())));
+    }
+
+    @EventListener
+    public void onOrderPaid(OrderPaidEvent event) {
+        // 결제 승인은 CREATED에서만 허용된다 (OrderServiceImpl.handlePaymentApproved)
+        append(List.of(new Transition(event.getOrderId(), OrderStatus.CREATED, OrderStatus.CONFIRMED, null, event.getPaidAt())));
+    }
+
+    @EventListener
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        append(List.of(new Transition(event.getOrderId(), event.getPreviousStatus(), OrderStatus.CANCELED,
+                event.getReason(), event.getCanceledAt())));
+    }
+
+    @EventListener
+    public void onOrderStatusBulkChanged(OrderStatusBulkChangedEvent event) {
+        List<Transition> transitions = new ArrayList<>(event.getOrderIds().size());
+        for (Long orderId : event.getOrderIds()) {
+            transitions.add(new Transition(orderId, event.getFromStatus(), event.getToStatus(), null, event.getChangedAt()));
+        }
+        append(transitions);
+    }
+
+    private void append(List<Transition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(transitions);
+            return;
+        }
+        TransactionBuffer buffer = (TransactionBuffer) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new TransactionBuffer();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        buffer.transitions.addAll(transitions);
+    }
+
+    void write(List<Transition> transitions) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, transitions, BATCH_SIZE, (ps, transition) -> {
+            ps.setLong(1, transition.orderId());
+            if (transition.fromStatus() == null) {
+                ps.setNull(2, Types.VARCHAR);
+            } else {
+                ps.setString(2, transition.fromStatus().name());
+            }
+            ps.setString(3, transition.toStatus().name());
+            String reason = transition.reason();
+            if (reason == null) {
+                ps.setNull(4, Types.VARCHAR);
+            } else {
+                ps.setString(4, reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason);
+            }
+            ps.setTimestamp(5, Timestamp.valueOf(transition.changedAt()));
+        });
+        appended.add(transitions.size());
+        flushes.increment();
+        log.debug("[Order] 주문 상태 이력 기록: count={}", transitions.size());
+    }
+
+    /**
+     * 트랜잭션 하나의 전이 버퍼 (커밋 직전에 쓰고, 완료되면 해제)
+     */
+    private final class TransactionBuffer implements TransactionSynchronization {
+
+        private final List<Transition> transitions = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!transitions.isEmpty()) {
+                List<Transition> pending = List.copyOf(transitions);
+                transitions.clear();
+                write(pending);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OrderStatusHistoryRecorder.this);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("order.status-history.appended", appended, LongAdder::sum)
+                .description("기록한 주문 상태 전이 이력 수")
+                .register(registry);
+        FunctionCounter.builder("order.status-history.flushes", flushes, LongAdder::sum)
+                .description("상태 전이 이력 배치 INSERT 횟수 (트랜잭션당 최대 한 번)")
+                .register(registry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ipia.order.order.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipia.order.order.domain.MemberOrderStats;
+
+@Repository
+public interface MemberOrderStatsRepository extends JpaRepository<MemberOrderStats, Long> {
+
+    /**
+     * 회원 주문 수 1 증가 (행이 없으면 생성)
+     *
+     * ON DUPLICATE KEY UPDATE는 H2 MySQL 모드에서만 동작하므로, 갱신한 행이 없을 때만 삽입한다.
+     * 그 사이 다른 트랜잭션(같은 회원의 주문, 재구성)이 행을 만들고 커밋했으면 삽입을 건너뛰고 다시 갱신한다.
+     */
+    @Transactional
+    default int increment(Long memberId) {
+        int updated = incrementExisting(memberId);
+        if (updated > 0) {
+            return updated;
+        }
+        int inserted = insertFirst(memberId);
+        return inserted > 0 ? inserted : incrementExisting(memberId);
+    }
+
+    @Modifying
+    @Query(value = "UPDATE member_order_stats SET order_count = order_count + 1 WHERE member_id = :memberId",
+            nativeQuery = true)
+    int incrementExisting(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "INSERT INTO member_order_stats (member_id, order_count) SELECT :memberId, 1 "
+            + "WHERE NOT EXISTS (SELECT 1 FROM member_order_stats WHERE member_id = :memberId)", nativeQuery = true)
+    int insertFirst(@Param("memberId") Long memberId);
+
+    // ==================== 재구성 ====================
+
+    @Query("SELECT COALESCE(MAX(s.memberId), 0) FROM MemberOrderStats s")
+    long findMaxMemberId();
+
+    /**
+     * 회원 구간의 기존 행 잠금 (진행 중인 증가가 커밋될 때까지 기다려, 이어서 세는 건수에 그 주문이 포함되게 한다)
+     */
+    @Query(value = "SELECT member_id FROM member_order_stats WHERE member_id > :fromId AND member_id <= :toId FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 회원 구간의 기존 행을 읽기 모델 건수로 다시 센다. (lockRange 이후 같은 트랜잭션에서)
+     */
+    @Modifying
+    @Query(value = "UPDATE member_order_stats SET order_count = "
+            + "(SELECT COUNT(*) FROM member_order_view v WHERE v.member_id = member_order_stats.member_id) "
+            + "WHERE member_id > :fromId AND member_id <= :toId", nativeQuery = true)
+    int recountRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 회원 구간에서 읽기 모델에만 있고 건수 행이 없는 회원의 행 생성
+     */
+    @Modifying
+    @Query(value = "INSERT INTO member_order_stats (member_id, order_count) "
+            + "SELECT v.member_id, COUNT(*) FROM member_order_view v "
+            + "WHERE v.member_id > :fromId AND v.member_id <= :toId "
+            + "AND NOT EXISTS (SELECT 1 FROM member_order_stats s WHERE s.member_id = v.member_id) "
+            + "GROUP BY v.member_id", nativeQuery = true)
+    int insertMissingRange(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -0,0 +1,54 @@
+package com.ipia.order.order.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ipia.order.order.domain.MemberOrderView;
+import com.ipia.order.order.enums.OrderStatus;
+
+@Repository
+public interface MemberOrderViewRepository extends JpaRepository<MemberOrderView, Long> {
+
+    /**
+     * 회원 주문 이력 페이지 조회 (COUNT 쿼리 없음, 인덱스 순서 그대로 읽음)
+     */
+    List<MemberOrderView> findByMemberId(Long memberId, Pageable pageable);
+
+    /**
+     * 상태 갱신 (주문 트랜잭션 안에서 실행되므로 영속성 컨텍스트는 비우지 않는다)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MemberOrderView v SET v.status = :status, v.updatedAt = :now WHERE v.orderId IN :orderIds")
+    int updateStatus(@Param("orderIds") Collection<Long> orderIds,
+                     @Param("status") OrderStatus status,
+                     @Param("now") LocalDateTime now);
+
+    @Query("SELECT COALESCE(MIN(v.orderId), 0) FROM MemberOrderView v")
+    long findMinOrderId();
+
+    @Query("SELECT COALESCE(MAX(v.orderId), 0) FROM MemberOrderView v")
+    long findMaxOrderId();
+
+    @Query("SELECT COALESCE(MAX(v.memberId), 0) FROM MemberOrderView v")
+    long findMaxMemberId();
+
+    // ==================== 재구성 ====================
+
+    @Modifying
+    @Query(value = "DELETE FROM member_order_view WHERE order_id > :fromId AND order_id <= :toId", nativeQuery = true)
+    int deleteRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Modifying
+    @Query(value = "INSERT INTO member_order_view (order_id, member_id, total_amount, status, created_at, updated_at) "
+            + "SELECT id, member_id, total_amount, status, created_at, updated_at FROM orders "
+            + "WHERE id > :fromId AND id <= :toId", nativeQuery = true)
+    int copyRange(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -0,0 +1,13 @@
+package com.ipia.order.order.repository;
+
+/**
+ * 주문 라인 SKU/수량 프로젝션
+ *
+ * 재고 예약 해제/확정 시 라인 엔티티 전체를 로딩하지 않고 필요한 컬럼만 조회할 때 사용
+ */
+public interface OrderLineQuantityView {
+
+    String getSku();
+
+    int getQuantity();
+}
@@ -0,0 +1,22 @@
+package com.ipia.order.order.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ipia.order.order.domain.OrderLine;
+
+@Repository
+public interface OrderLineRepository extends JpaRepository<OrderLine, Long> {
+
+    /**
+     * 주문에서 재고를 예약한 라인의 SKU/수량 조회 (idx_order_lines_order 사용)
+     * 예약 여부가 기록되기 전 라인(null)은 예약된 것으로 본다.
+     */
+    @Query("SELECT l.sku AS sku, l.quantity AS quantity FROM OrderLine l "
+            + "WHERE l.order.id = :orderId AND (l.stockReserved IS NULL OR l.stockReserved = true)")
+    List<OrderLineQuantityView> findReservedQuantitiesByOrderId(@Param("orderId") Long orderId);
+}
@@ -5,58 +5,112 @@ import com.ipia.order.order.enums.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 주문 리포지토리
+ * 
+ * 목록 검색의 동적 조건은 {@link OrderSpecifications}로 조합하고, 목록 조회는 {@link OrderSearchRepository}의 프로젝션으로 한다.
  */
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order>,
+        OrderSearchRepository {
     
     /**
-     * 회원 ID와 상태로 주문 조회 (페이지네이션)
+     * 회원 ID로 주문 조회 (페이지네이션)
      * 
      * @param memberId 회원 ID
-     * @param status 주문 상태
      * @param pageable 페이지네이션 정보
      * @return 주문 목록
      */
-    Page<Order> findByMemberIdAndStatus(Long memberId, OrderStatus status, Pageable pageable);
+    Page<Order> findByMemberId(Long memberId, Pageable pageable);
     
     /**
-     * 회원 ID로 주문 조회 (페이지네이션)
+     * 회원 ID로 주문 목록 조회
      * 
      * @param memberId 회원 ID
-     * @param pageable 페이지네이션 정보
      * @return 주문 목록
      */
-    Page<Order> findByMemberId(Long memberId, Pageable pageable);
+    List<Order> findByMemberId(Long memberId);
     
     /**
-     * 상태로 주문 조회 (페이지네이션)
+     * 상태로 주문 목록 조회
      * 
      * @param status 주문 상태
-     * @param pageable 페이지네이션 정보
      * @return 주문 목록
      */
-    Page<Order> findByStatus(OrderStatus status, Pageable pageable);
+    List<Order> findByStatus(OrderStatus status);
     
     /**
-     * 회원 ID로 주문 목록 조회
+     * ID 목록과 소유 회원으로 주문 조회 (단일 IN 쿼리, 소유자 검증 포함)
      * 
-     * @param memberId 회원 ID
-     * @return 주문 목록
+     * 다른 회원의 주문은 결과에 포함되지 않으므로 존재하지 않는 주문과 구분되지 않는다.
+     * 
+     * @param ids 주문 ID 목록
+     * @param memberId 소유 회원 ID
+     * @return 주문 목록 (순서 보장 없음)
      */
-    List<Order> findByMemberId(Long memberId);
+    List<Order> findByIdInAndMemberId(Collection<Long> ids, Long memberId);
     
     /**
-     * 상태로 주문 목록 조회
+     * ID 목록으로 주문 상태만 조회 (엔티티 로딩 없음)
      * 
-     * @param status 주문 상태
-     * @return 주문 목록
+     * @param ids 주문 ID 목록
+     * @return 주문 ID/상태 프로젝션 목록
      */
-    List<Order> findByStatus(OrderStatus status);
+    List<OrderStatusView> findStatusViewsByIdIn(Collection<Long> ids);
+    
+    /**
+     * ID 목록에 해당하는 주문의 회원 ID 조회 (중복 제거)
+     * 
+     * @param ids 주문 ID 목록
+     * @return 회원 ID 목록
+     */
+    @Query("SELECT DISTINCT o.memberId FROM Order o WHERE o.id IN :ids")
+    List<Long> findMemberIdsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 조건부 일괄 상태 전이 (단일 UPDATE)
+     * 
+     * 현재 상태가 fromStatus인 주문만 toStatus로 변경하므로,
+     * 조회 이후 다른 트랜잭션이 상태를 바꾼 주문은 갱신되지 않는다.
+     * 
+     * @param ids 주문 ID 목록
+     * @param fromStatus 전이 전 상태 (가드 조건)
+     * @param toStatus 전이 후 상태
+     * @param now 수정 일시 (벌크 연산은 Auditing이 적용되지 않음)
+     * @return 갱신된 행 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :toStatus, o.updatedAt = :now WHERE o.id IN :ids AND o.status = :fromStatus")
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+                         @Param("fromStatus") OrderStatus fromStatus,
+                         @Param("toStatus") OrderStatus toStatus,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 이미 저장된 비동기 접수 추적 ID 조회 (접수 명령 재처리 시 중복 생성 방지)
+     */
+    @Query("SELECT o.acceptanceId FROM Order o WHERE o.acceptanceId IN :acceptanceIds")
+    List<String> findAcceptanceIdsIn(@Param("acceptanceIds") Collection<String> acceptanceIds);
+
+    /**
+     * 비동기 접수 추적 ID로 주문 조회
+     */
+    Optional<Order> findByAcceptanceId(String acceptanceId);
+
+    @Query("SELECT COALESCE(MIN(o.id), 0) FROM Order o")
+    long findMinId();
+
+    @Query("SELECT COALESCE(MAX(o.id), 0) FROM Order o")
+    long findMaxId();
 }
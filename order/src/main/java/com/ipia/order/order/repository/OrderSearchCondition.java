@@ -0,0 +1,127 @@
+package com.ipia.order.order.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+import com.ipia.order.common.exception.order.OrderHandler;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.order.enums.OrderSortKey;
+import com.ipia.order.order.enums.OrderStatus;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 주문 목록 검색 조건
+ *
+ * 모든 필터는 선택사항이며, 지정된 조건끼리는 AND로 결합된다.
+ * 생성일 범위는 [createdFrom, createdTo) 반열린 구간, 금액 범위는 양끝 포함이다.
+ */
+@Getter
+@Builder
+@EqualsAndHashCode
+public class OrderSearchCondition {
+
+    @Nullable
+    private final Long memberId;
+
+    /** 비어 있으면 상태 조건 없음, 여러 개면 IN 조건 */
+    @Builder.Default
+    private final Set<OrderStatus> statuses = Collections.emptySet();
+
+    @Nullable
+    private final LocalDateTime createdFrom;
+
+    @Nullable
+    private final LocalDateTime createdTo;
+
+    @Nullable
+    private final Long minAmount;
+
+    @Nullable
+    private final Long maxAmount;
+
+    @Builder.Default
+    private final OrderSortKey sortKey = OrderSortKey.CREATED_AT;
+
+    @Builder.Default
+    private final Sort.Direction direction = Sort.Direction.DESC;
+
+    /**
+     * 정렬 조건 생성
+     * 동일 값이 많은 정렬 키는 페이지 경계가 흔들리지 않도록 id를 보조 정렬로 붙인다.
+     */
+    public Sort toSort() {
+        Sort sort = Sort.by(direction, sortKey.getProperty());
+        if (sortKey != OrderSortKey.ID) {
+            sort = sort.and(Sort.by(direction, OrderSortKey.ID.getProperty()));
+        }
+        return sort;
+    }
+
+    /**
+     * 회원(+상태) 필터만 있는 최신순 조회인지 여부 (회원 첫 페이지 캐시로 제공 가능한 형태)
+     */
+    public boolean isMemberStatusOnly() {
+        return memberId != null
+                && createdFrom == null && createdTo == null
+                && minAmount == null && maxAmount == null
+                && sortKey == OrderSortKey.CREATED_AT
+                && direction == Sort.Direction.DESC;
+    }
+
+    /**
+     * 회원 필터만 있는 최신순 조회인지 여부 (회원 주문 이력 읽기 모델로 제공 가능한 형태)
+     */
+    public boolean isMemberHistoryOnly() {
+        return memberId != null
+                && statuses.isEmpty()
+                && createdFrom == null && createdTo == null
+                && minAmount == null && maxAmount == null
+                && sortKey == OrderSortKey.CREATED_AT
+                && direction == Sort.Direction.DESC;
+    }
+
+    /**
+     * 쉼표로 구분된 상태 문자열을 상태 집합으로 변환 (예: "CREATED,CONFIRMED")
+     * @throws OrderHandler 알 수 없는 상태값 (OrderErrorStatus.INVALID_FILTER)
+     */
+    public static Set<OrderStatus> parseStatuses(@Nullable String raw) {
+        if (raw == null || raw.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<OrderStatus> statuses = EnumSet.noneOf(OrderStatus.class);
+        for (String token : raw.split(",")) {
+            if (token.isBlank()) {
+                continue;
+            }
+            try {
+                statuses.add(OrderStatus.valueOf(token.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new OrderHandler(OrderErrorStatus.INVALID_FILTER);
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * 정렬 방향 문자열 변환 (null/공백이면 DESC)
+     * @throws OrderHandler 알 수 없는 정렬 방향 (OrderErrorStatus.INVALID_SORT)
+     */
+    public static Sort.Direction parseDirection(@Nullable String raw) {
+        if (raw == null || raw.isBlank()) {
+            return Sort.Direction.DESC;
+        }
+        try {
+            return Sort.Direction.fromString(raw.trim());
+        } catch (IllegalArgumentException e) {
+            throw new OrderHandler(OrderErrorStatus.INVALID_SORT);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ipia.order.order.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ipia.order.order.domain.Order;
+
+/**
+ * 주문 목록 검색 리포지토리 (OrderRepository 프래그먼트)
+ */
+public interface OrderSearchRepository {
+
+    /**
+     * 검색 조건에 해당하는 주문 목록을 프로젝션으로 조회 (페이지네이션)
+     *
+     * @param spec 검색 조건 ({@link OrderSpecifications})
+     * @param pageable 페이지네이션/정렬 정보
+     * @return 주문 요약 목록
+     */
+    Page<OrderSummary> searchSummaries(Specification<Order> spec, Pageable pageable);
+}
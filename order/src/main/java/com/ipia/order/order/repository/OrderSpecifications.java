@@ -0,0 +1,63 @@
+package com.ipia.order.order.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ipia.order.order.domain.Order;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * 주문 목록 검색 Specification
+ *
+ * 조건이 지정된 필터만 술어로 추가하므로 필터 조합마다 Repository 메서드를 늘릴 필요가 없다.
+ * 술어 순서(member_id → status → created_at / total_amount)는 orders 복합 인덱스의 컬럼 순서를 따른다.
+ */
+public final class OrderSpecifications {
+
+    private static final String MEMBER_ID = "memberId";
+    private static final String STATUS = "status";
+    private static final String CREATED_AT = "createdAt";
+    private static final String TOTAL_AMOUNT = "totalAmount";
+
+    private OrderSpecifications() {
+    }
+
+    /**
+     * 검색 조건에 해당하는 주문 Specification 생성
+     *
+     * @param condition 검색 조건
+     * @return 지정된 필터를 AND로 결합한 Specification (필터가 없으면 전체 조회)
+     */
+    public static Specification<Order> matching(OrderSearchCondition condition) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (condition.getMemberId() != null) {
+                predicates.add(cb.equal(root.get(MEMBER_ID), condition.getMemberId()));
+            }
+            if (!condition.getStatuses().isEmpty()) {
+                predicates.add(condition.getStatuses().size() == 1
+                        ? cb.equal(root.get(STATUS), condition.getStatuses().iterator().next())
+                        : root.get(STATUS).in(condition.getStatuses()));
+            }
+            if (condition.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get(CREATED_AT), condition.getCreatedFrom()));
+            }
+            if (condition.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(root.<LocalDateTime>get(CREATED_AT), condition.getCreatedTo()));
+            }
+            if (condition.getMinAmount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<Long>get(TOTAL_AMOUNT), condition.getMinAmount()));
+            }
+            if (condition.getMaxAmount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<Long>get(TOTAL_AMOUNT), condition.getMaxAmount()));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.ipia.order.order.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.ipia.order.order.domain.OrderStatusHistory;
+import com.ipia.order.order.enums.OrderStatus;
+
+/**
+ * 주문 상태 전이 이력 조회 Repository (쓰기는 OrderStatusHistoryRecorder의 JDBC 배치)
+ */
+@Repository
+public interface OrderStatusHistoryRepository extends JpaRepository<OrderStatusHistory, Long> {
+
+    /**
+     * 주문의 상태 전이 이력 조회 ((order_id, id) 인덱스 순서)
+     */
+    Page<OrderStatusHistory> findByOrderId(Long orderId, Pageable pageable);
+
+    /**
+     * 주문이 해당 상태로 전이된 적이 있는지 확인 (예: 취소 요청을 거친 주문의 결제 여부)
+     */
+    boolean existsByOrderIdAndToStatus(Long orderId, OrderStatus toStatus);
+}
@@ -0,0 +1,17 @@
+package com.ipia.order.order.repository;
+
+import com.ipia.order.order.enums.OrderStatus;
+
+/**
+ * 주문 상태 조회용 프로젝션
+ *
+ * 대량 상태 전이 시 엔티티 전체를 로딩하지 않고 ID/회원/상태만 조회할 때 사용
+ */
+public interface OrderStatusView {
+
+    Long getId();
+
+    Long getMemberId();
+
+    OrderStatus getStatus();
+}
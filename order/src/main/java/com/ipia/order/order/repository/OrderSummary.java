@@ -0,0 +1,20 @@
+package com.ipia.order.order.repository;
+
+import java.time.LocalDateTime;
+
+import com.ipia.order.order.enums.OrderStatus;
+
+/**
+ * 주문 목록 조회용 프로젝션
+ *
+ * 목록 화면에 필요한 컬럼만 생성자 표현식으로 조회하므로 Order 엔티티가 영속성 컨텍스트에 올라가지 않고,
+ * 주문 라인 컬렉션이 지연 로딩될 여지도 없다.
+ */
+public record OrderSummary(
+        Long id,
+        Long memberId,
+        Long totalAmount,
+        OrderStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
@@ -0,0 +1,47 @@
+package com.ipia.order.order.service;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import com.ipia.order.order.accept.OrderAcceptCommand;
+import com.ipia.order.web.dto.response.order.OrderAcceptanceResponse;
+
+/**
+ * 비동기 주문 접수 서비스 인터페이스
+ * 
+ * 요청 스레드에서는 메모리 안에서 끝나는 검증만 하고 명령을 대기열에 적재한 뒤 바로 응답한다.
+ * 회원 검증, 재고 예약, 저장은 OrderAcceptWorker가 배치로 처리한다.
+ */
+public interface OrderAcceptanceService {
+
+    /**
+     * 비동기 접수 사용 여부
+     */
+    boolean isEnabled();
+
+    /**
+     * 주문 접수
+     * 
+     * 멱등키를 보내면 (회원, 멱등키)로 추적 ID가 정해지므로 재요청은 같은 접수로 취급된다.
+     * 
+     * @param memberId 회원 ID
+     * @param totalAmount 주문 총액 (라인이 없으면 필수)
+     * @param lines 주문 라인 (선택사항)
+     * @param idempotencyKey 멱등성 키 (선택사항)
+     * @return 접수 결과 (PENDING)
+     * @throws OrderHandler 비동기 접수 비활성 (OrderErrorStatus.ASYNC_ACCEPT_DISABLED)
+     * @throws OrderHandler 잘못된 금액/라인 (OrderErrorStatus.INVALID_AMOUNT, INVALID_ORDER_LINE, ORDER_TOTAL_MISMATCH)
+     * @throws OrderHandler 대기열 장애 (OrderErrorStatus.ACCEPT_QUEUE_UNAVAILABLE)
+     */
+    OrderAcceptanceResponse accept(long memberId, @Nullable Long totalAmount, @Nullable List<OrderAcceptCommand.Line> lines,
+                                   @Nullable String idempotencyKey);
+
+    /**
+     * 접수 상태 조회
+     * 
+     * @throws OrderHandler 알 수 없는 추적 ID (OrderErrorStatus.ACCEPTANCE_NOT_FOUND)
+     * @throws OrderHandler 다른 회원의 접수 (OrderErrorStatus.ACCESS_DENIED)
+     */
+    OrderAcceptanceResponse getAcceptance(String trackingId, long requesterMemberId);
+}
@@ -0,0 +1,140 @@
+package com.ipia.order.order.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import com.ipia.order.common.exception.order.OrderHandler;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.order.accept.AcceptanceMarker;
+import com.ipia.order.order.accept.OrderAcceptCommand;
+import com.ipia.order.order.accept.OrderAcceptQueue;
+import com.ipia.order.order.config.OrderAcceptProperties;
+import com.ipia.order.order.domain.Order;
+import com.ipia.order.order.domain.OrderLine;
+import com.ipia.order.order.enums.OrderAcceptanceState;
+import com.ipia.order.order.repository.OrderRepository;
+import com.ipia.order.web.dto.response.order.OrderAcceptanceResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 주문 접수 서비스 구현체
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderAcceptanceServiceImpl implements OrderAcceptanceService {
+
+    static final String STATUS_URL_PREFIX = "/api/orders/async/";
+
+    private final OrderAcceptQueue orderAcceptQueue;
+    private final OrderRepository orderRepository;
+    private final OrderAcceptProperties properties;
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public OrderAcceptanceResponse accept(long memberId, @Nullable Long totalAmount,
+                                          @Nullable List<OrderAcceptCommand.Line> lines, @Nullable String idempotencyKey) {
+        if (!properties.isEnabled()) {
+            throw new OrderHandler(OrderErrorStatus.ASYNC_ACCEPT_DISABLED);
+        }
+        validateCommand(memberId, totalAmount, lines);
+
+        String trackingId = trackingIdFor(memberId, idempotencyKey);
+        OrderAcceptCommand command = new OrderAcceptCommand(trackingId, memberId, totalAmount,
+                lines == null || lines.isEmpty() ? null : List.copyOf(lines), LocalDateTime.now());
+        try {
+            boolean added = orderAcceptQueue.enqueue(command);
+            log.info("[Order] 주문 비동기 접수: trackingId={}, memberId={}, duplicate={}", trackingId, memberId, !added);
+        } catch (DataAccessException e) {
+            log.warn("[Order] 접수 대기열 장애: memberId={}", memberId, e);
+            throw new OrderHandler(OrderErrorStatus.ACCEPT_QUEUE_UNAVAILABLE);
+        }
+        return OrderAcceptanceResponse.builder()
+                .trackingId(trackingId)
+                .state(OrderAcceptanceState.PENDING)
+                .statusUrl(STATUS_URL_PREFIX + trackingId)
+                .build();
+    }
+
+    @Override
+    public OrderAcceptanceResponse getAcceptance(String trackingId, long requesterMemberId) {
+        AcceptanceMarker marker = orderAcceptQueue.findMarker(trackingId);
+        if (marker != null && marker.memberId() != requesterMemberId) {
+            throw new OrderHandler(OrderErrorStatus.ACCESS_DENIED);
+        }
+        if (marker != null && marker.state() != OrderAcceptanceState.PENDING) {
+            return toResponse(trackingId, marker);
+        }
+
+        // 표식이 PENDING이거나 만료됐으면 저장 여부를 DB에서 확인 (커밋 직후 표식 갱신 전 장애 대비)
+        Optional<Order> order = orderRepository.findByAcceptanceId(trackingId);
+        if (order.isPresent()) {
+            if (!order.get().getMemberId().equals(requesterMemberId)) {
+                throw new OrderHandler(OrderErrorStatus.ACCESS_DENIED);
+            }
+            return toResponse(trackingId, AcceptanceMarker.created(requesterMemberId, order.get().getId()));
+        }
+        if (marker == null) {
+            throw new OrderHandler(OrderErrorStatus.ACCEPTANCE_NOT_FOUND);
+        }
+        return toResponse(trackingId, marker);
+    }
+
+    /**
+     * 메모리 안에서 끝나는 검증만 수행 (회원/재고 검증은 워커에서)
+     */
+    private void validateCommand(long memberId, @Nullable Long totalAmount, @Nullable List<OrderAcceptCommand.Line> lines) {
+        if (lines == null || lines.isEmpty()) {
+            if (totalAmount == null || totalAmount <= 0) {
+                throw new OrderHandler(OrderErrorStatus.INVALID_AMOUNT);
+            }
+            return;
+        }
+        if (lines.size() > OrderServiceImpl.MAX_ORDER_LINES) {
+            throw new OrderHandler(OrderErrorStatus.INVALID_ORDER_LINE);
+        }
+        List<OrderLine> orderLines = lines.stream()
+                .map(line -> OrderLine.of(line.sku(), line.productName(), line.unitPrice(), line.quantity()))
+                .toList();
+        Order draft = Order.createWithLines(memberId, orderLines);
+        if (totalAmount != null && !totalAmount.equals(draft.getTotalAmount())) {
+            throw new OrderHandler(OrderErrorStatus.ORDER_TOTAL_MISMATCH);
+        }
+    }
+
+    /**
+     * 멱등키가 있으면 (회원, 멱등키)에서 결정적으로, 없으면 무작위로 추적 ID 생성
+     */
+    static String trackingIdFor(long memberId, @Nullable String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return UUID.randomUUID().toString();
+        }
+        return UUID.nameUUIDFromBytes((memberId + ":" + idempotencyKey.trim()).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private OrderAcceptanceResponse toResponse(String trackingId, AcceptanceMarker marker) {
+        OrderAcceptanceResponse.OrderAcceptanceResponseBuilder builder = OrderAcceptanceResponse.builder()
+                .trackingId(trackingId)
+                .state(marker.state())
+                .statusUrl(STATUS_URL_PREFIX + trackingId);
+        if (marker.state() == OrderAcceptanceState.CREATED) {
+            builder.orderId(Long.valueOf(marker.detail()));
+        } else if (marker.state() == OrderAcceptanceState.REJECTED) {
+            builder.code(marker.detail());
+        }
+        return builder.build();
+    }
+}
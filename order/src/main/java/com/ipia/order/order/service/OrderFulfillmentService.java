@@ -0,0 +1,29 @@
+package com.ipia.order.order.service;
+
+import java.util.List;
+
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.web.dto.response.order.BulkTransitionResponse;
+
+/**
+ * 주문 이행(출고/배송) 서비스 인터페이스
+ * 
+ * 주요 기능:
+ * - 창고 웨이브 단위의 대량 상태 전이 (CONFIRMED → FULFILLMENT_STARTED → SHIPPED → DELIVERED → COMPLETED)
+ */
+public interface OrderFulfillmentService {
+
+    /**
+     * 주문 일괄 상태 전이
+     * 
+     * 주문 ID 목록을 청크 단위로 나누어, 청크마다 하나의 조건부 UPDATE로 상태를 전이한다.
+     * 전이할 수 없는 주문은 전체 요청을 실패시키지 않고 주문별 실패 사유로 응답에 포함된다.
+     * 
+     * @param orderIds 주문 ID 목록 (중복은 제거됨)
+     * @param targetStatus 전이 대상 상태
+     * @return 성공/실패 주문 목록
+     * @throws OrderHandler 빈 목록 또는 최대 개수 초과 (OrderErrorStatus.INVALID_BULK_REQUEST)
+     * @throws OrderHandler 지원하지 않는 대상 상태 (OrderErrorStatus.UNSUPPORTED_BULK_TRANSITION)
+     */
+    BulkTransitionResponse transition(List<Long> orderIds, OrderStatus targetStatus);
+}
@@ -0,0 +1,185 @@
+package com.ipia.order.order.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.common.exception.order.OrderHandler;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.order.domain.OrderStateMachine;
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.event.OrderStatusBulkChangedEvent;
+import com.ipia.order.order.repository.OrderRepository;
+import com.ipia.order.order.repository.OrderStatusView;
+import com.ipia.order.web.dto.response.order.BulkTransitionResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 이행 서비스 구현체
+ * 
+ * 엔티티를 한 건씩 로딩/저장하지 않고, 청크마다 (상태 조회 1회 + 조건부 UPDATE 1회)로 처리한다.
+ * 청크는 각각 별도 트랜잭션으로 커밋되므로 긴 웨이브에서도 락 보유 시간이 청크 단위로 제한된다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderFulfillmentServiceImpl implements OrderFulfillmentService {
+
+    // ==================== Constants ====================
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_ORDER_IDS = 10_000;
+
+    /**
+     * 일괄 전이를 허용하는 대상 상태 (이전 상태는 OrderStateMachine 규칙에서 결정)
+     */
+    private static final Set<OrderStatus> FULFILLMENT_TARGETS = EnumSet.of(
+            OrderStatus.FULFILLMENT_STARTED, OrderStatus.SHIPPED, OrderStatus.DELIVERED, OrderStatus.COMPLETED);
+
+    // ==================== Dependencies ====================
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public BulkTransitionResponse transition(List<Long> orderIds, OrderStatus targetStatus) {
+        OrderStatus fromStatus = resolveSourceStatus(targetStatus);
+        List<Long> distinctIds = normalizeOrderIds(orderIds);
+        log.info("[Order] 일괄 상태 전이 요청: count={}, from={}, to={}", distinctIds.size(), fromStatus, targetStatus);
+
+        List<Long> succeededIds = new ArrayList<>(distinctIds.size());
+        List<BulkTransitionResponse.Failure> failures = new ArrayList<>();
+
+        for (int start = 0; start < distinctIds.size(); start += CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(start, Math.min(start + CHUNK_SIZE, distinctIds.size()));
+            // 커밋된 청크의 결과만 응답에 반영
+            ChunkResult result = transactionTemplate.execute(status -> transitionChunk(chunk, fromStatus, targetStatus));
+            if (result != null) {
+                succeededIds.addAll(result.movedIds());
+                failures.addAll(result.failures());
+            }
+        }
+
+        log.info("[Order] 일괄 상태 전이 완료: to={}, succeeded={}, failed={}", targetStatus, succeededIds.size(), failures.size());
+        return BulkTransitionResponse.builder()
+                .targetStatus(targetStatus)
+                .requestedCount(distinctIds.size())
+                .succeededIds(succeededIds)
+                .failures(failures)
+                .build();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 하나의 청크를 (상태 조회 → 조건부 UPDATE → 이벤트 발행) 순서로 처리합니다.
+     */
+    private ChunkResult transitionChunk(List<Long> chunk, OrderStatus fromStatus, OrderStatus toStatus) {
+        Map<Long, OrderStatus> currentStatuses = loadStatuses(chunk);
+
+        List<Long> eligibleIds = new ArrayList<>(chunk.size());
+        List<BulkTransitionResponse.Failure> failures = new ArrayList<>();
+        // 상태 머신의 거절 지표에는 존재하지만 상태가 맞지 않는 주문만 센다 (없는 ID는 입력 오류)
+        int rejected = 0;
+        for (Long orderId : chunk) {
+            OrderStatus current = currentStatuses.get(orderId);
+            if (current == null) {
+                failures.add(failure(orderId, OrderErrorStatus.ORDER_NOT_FOUND));
+            } else if (!OrderStateMachine.RULES.canTransition(current, toStatus)) {
+                failures.add(failure(orderId, OrderErrorStatus.INVALID_ORDER_STATE));
+                rejected++;
+            } else {
+                eligibleIds.add(orderId);
+            }
+        }
+        if (eligibleIds.isEmpty()) {
+            OrderStateMachine.RULES.recordRejected(toStatus, rejected);
+            return new ChunkResult(List.of(), failures);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = orderRepository.transitionStatus(eligibleIds, fromStatus, toStatus, now);
+
+        List<Long> movedIds = eligibleIds;
+        if (updated != eligibleIds.size()) {
+            // 조회 이후 다른 트랜잭션이 상태를 바꾼 주문은 가드 조건에 걸려 갱신되지 않음 → 재조회로 식별
+            Map<Long, OrderStatus> afterStatuses = loadStatuses(eligibleIds);
+            movedIds = new ArrayList<>(updated);
+            for (Long orderId : eligibleIds) {
+                OrderStatus after = afterStatuses.get(orderId);
+                if (after == toStatus) {
+                    movedIds.add(orderId);
+                } else if (after == null) {
+                    failures.add(failure(orderId, OrderErrorStatus.ORDER_NOT_FOUND));
+                } else {
+                    failures.add(failure(orderId, OrderErrorStatus.INVALID_ORDER_STATE));
+                    rejected++;
+                }
+            }
+        }
+
+        OrderStateMachine.RULES.recordTransitions(fromStatus, toStatus, movedIds.size());
+        OrderStateMachine.RULES.recordRejected(toStatus, rejected);
+        if (!movedIds.isEmpty()) {
+            eventPublisher.publishEvent(OrderStatusBulkChangedEvent.of(movedIds, fromStatus, toStatus, now));
+        }
+        log.debug("[Order] 청크 상태 전이: size={}, moved={}, failed={}", chunk.size(), movedIds.size(), failures.size());
+        return new ChunkResult(movedIds, failures);
+    }
+
+    private Map<Long, OrderStatus> loadStatuses(List<Long> orderIds) {
+        Map<Long, OrderStatus> statuses = new HashMap<>(orderIds.size() * 2);
+        for (OrderStatusView view : orderRepository.findStatusViewsByIdIn(orderIds)) {
+            statuses.put(view.getId(), view.getStatus());
+        }
+        return statuses;
+    }
+
+    /**
+     * 대상 상태에 대해 허용되는 이전 상태를 반환합니다.
+     */
+    private OrderStatus resolveSourceStatus(OrderStatus targetStatus) {
+        if (targetStatus == null || !FULFILLMENT_TARGETS.contains(targetStatus)) {
+            throw new OrderHandler(OrderErrorStatus.UNSUPPORTED_BULK_TRANSITION);
+        }
+        // 이행 단계는 이전 상태가 하나로 정해진 선형 전이
+        return OrderStateMachine.RULES.sourcesOf(targetStatus).iterator().next();
+    }
+
+    /**
+     * 주문 ID 목록을 검증하고 요청 순서를 유지한 채 중복을 제거합니다.
+     */
+    private List<Long> normalizeOrderIds(List<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty() || orderIds.size() > MAX_ORDER_IDS) {
+            throw new OrderHandler(OrderErrorStatus.INVALID_BULK_REQUEST);
+        }
+        Set<Long> distinct = new LinkedHashSet<>(orderIds.size() * 2);
+        for (Long orderId : orderIds) {
+            if (orderId == null) {
+                throw new OrderHandler(OrderErrorStatus.INVALID_BULK_REQUEST);
+            }
+            distinct.add(orderId);
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    private BulkTransitionResponse.Failure failure(Long orderId, OrderErrorStatus status) {
+        return BulkTransitionResponse.Failure.builder()
+                .orderId(orderId)
+                .code(status.getCode())
+                .message(status.getMessage())
+                .build();
+    }
+
+    private record ChunkResult(List<Long> movedIds, List<BulkTransitionResponse.Failure> failures) {}
+}
@@ -0,0 +1,219 @@
+package com.ipia.order.order.service;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipia.order.order.config.OrderReadProperties;
+import com.ipia.order.order.repository.OrderSearchCondition;
+import com.ipia.order.web.dto.response.order.OrderListResponse;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 주문 목록 첫 페이지 캐시
+ *
+ * 목록 조회 대부분이 회원 한 명의 첫 페이지(page=0, size 10~20)라 (회원, 상태 조건, 크기)별로
+ * 직렬화된 OrderListResponse를 보관한다.
+ * - 해당 회원의 주문이 생성/결제/취소/일괄 상태 변경되면 커밋 후 그 회원 항목만 비운다.
+ *   (OrderListCacheInvalidationListener가 OrderStatusBroadcaster로 모든 노드에 전파)
+ * - 조회 시작 후 무효화가 끼어들면 저장하지 않는다. (회원 ID 스트라이프별 버전 비교)
+ * - 직렬화 바이트 합계가 상한을 넘으면 오래 안 쓴 회원부터 제거하고,
+ *   무효화 메시지를 놓친 경우에 대비해 항목 수명(TTL)이 지나면 다시 조회한다.
+ */
+@Slf4j
+@Component
+public class OrderListPageCache implements MeterBinder {
+
+    private static final int STRIPES = 1024;
+
+    private record Entry(byte[] payload, long expiresAtNanos) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final OrderReadProperties properties;
+
+    /** 회원 ID → (상태 조건:크기 → 항목), 접근 순서 (this로 보호) */
+    private final LinkedHashMap<Long, Map<String, Entry>> members = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    private int entryCount;
+
+    /** 회원 ID 스트라이프별 무효화 버전 */
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public OrderListPageCache(ObjectMapper objectMapper, OrderReadProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * 캐시 대상 조회인지 여부 (회원+상태 조건만 있는 최신순 첫 페이지)
+     */
+    public boolean isCacheable(OrderSearchCondition condition, int page, int size) {
+        return properties.isPageCacheEnabled()
+                && page == 0
+                && size >= 1 && size <= properties.getPageCacheMaxPageSize()
+                && condition.isMemberStatusOnly();
+    }
+
+    /**
+     * 조회 전 무효화 버전 (put에 그대로 넘김)
+     */
+    public long version(long memberId) {
+        return versions.get(stripeOf(memberId));
+    }
+
+    public Optional<OrderListResponse> get(OrderSearchCondition condition, int size) {
+        long memberId = condition.getMemberId();
+        Entry entry;
+        synchronized (this) {
+            Map<String, Entry> pages = members.get(memberId);
+            entry = pages == null ? null : pages.get(pageKey(condition, size));
+        }
+        if (entry == null || entry.expiresAtNanos() - System.nanoTime() <= 0) {
+            misses.increment();
+            return Optional.empty();
+        }
+        try {
+            OrderListResponse response = objectMapper.readValue(entry.payload(), OrderListResponse.class);
+            hits.increment();
+            return Optional.of(response);
+        } catch (IOException e) {
+            log.warn("[Order] 주문 목록 캐시 역직렬화 실패 - DB 조회로 대체: memberId={}", memberId, e);
+            invalidate(memberId);
+            misses.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 조회 결과 저장 (조회 시작 후 해당 회원 무효화가 있었으면 버림)
+     */
+    public void put(OrderSearchCondition condition, int size, OrderListResponse response, long version) {
+        long memberId = condition.getMemberId();
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            log.warn("[Order] 주문 목록 캐시 직렬화 실패: memberId={}", memberId, e);
+            return;
+        }
+        if (payload.length > properties.getPageCacheMaxBytes()) {
+            return;
+        }
+        Entry entry = new Entry(payload, System.nanoTime() + properties.getPageCacheTtl().toNanos());
+        synchronized (this) {
+            // 무효화는 버전을 먼저 올리고 잠금 안에서 지우므로, 여기서 버전이 같으면 이후 무효화가 이 항목을 지운다
+            if (versions.get(stripeOf(memberId)) != version) {
+                return;
+            }
+            Entry previous = members.computeIfAbsent(memberId, id -> new HashMap<>(4))
+                    .put(pageKey(condition, size), entry);
+            if (previous != null) {
+                totalBytes -= previous.payload().length;
+            } else {
+                entryCount++;
+            }
+            totalBytes += payload.length;
+            evictOverBudget(memberId);
+        }
+    }
+
+    /**
+     * 이 노드에 있는 회원의 캐시 항목 전부 무효화 (주문 변경 시에는 OrderStatusBroadcaster로 전파)
+     */
+    public void invalidate(long memberId) {
+        versions.incrementAndGet(stripeOf(memberId));
+        synchronized (this) {
+            Map<String, Entry> removed = members.remove(memberId);
+            if (removed != null) {
+                release(removed);
+            }
+        }
+        invalidations.increment();
+    }
+
+    // ==================== 내부 ====================
+
+    private void evictOverBudget(long keepMemberId) {
+        Iterator<Map.Entry<Long, Map<String, Entry>>> eldest = members.entrySet().iterator();
+        while (totalBytes > properties.getPageCacheMaxBytes() && eldest.hasNext()) {
+            Map.Entry<Long, Map<String, Entry>> candidate = eldest.next();
+            if (candidate.getKey() == keepMemberId) {
+                continue;
+            }
+            release(candidate.getValue());
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private void release(Map<String, Entry> pages) {
+        for (Entry entry : pages.values()) {
+            totalBytes -= entry.payload().length;
+        }
+        entryCount -= pages.size();
+    }
+
+    private static String pageKey(OrderSearchCondition condition, int size) {
+        String statuses = condition.getStatuses().stream()
+                .map(Enum::name)
+                .sorted()
+                .collect(Collectors.joining(","));
+        return statuses + ":" + size;
+    }
+
+    private static int stripeOf(long memberId) {
+        return (int) ((memberId ^ (memberId >>> 32)) & (STRIPES - 1));
+    }
+
+    synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    synchronized int entryCount() {
+        return entryCount;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("order.read.page-cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("캐시에서 제공한 회원 첫 페이지 조회 수")
+                .register(registry);
+        FunctionCounter.builder("order.read.page-cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("DB로 넘긴 회원 첫 페이지 조회 수")
+                .register(registry);
+        FunctionCounter.builder("order.read.page-cache.invalidations", invalidations, LongAdder::sum)
+                .description("주문 변경으로 비운 회원 수")
+                .register(registry);
+        FunctionCounter.builder("order.read.page-cache.evictions", evictions, LongAdder::sum)
+                .description("크기 상한으로 제거한 회원 수")
+                .register(registry);
+        Gauge.builder("order.read.page-cache.bytes", this, OrderListPageCache::totalBytes)
+                .description("캐시된 직렬화 응답 바이트 합계")
+                .register(registry);
+        Gauge.builder("order.read.page-cache.entries", this, OrderListPageCache::entryCount)
+                .description("캐시된 페이지 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ipia.order.order.service;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.ipia.order.common.concurrent.SingleFlight;
+import com.ipia.order.common.exception.order.OrderHandler;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.order.config.OrderReadProperties;
+import com.ipia.order.order.repository.OrderSearchCondition;
+import com.ipia.order.web.dto.response.order.OrderListResponse;
+import com.ipia.order.web.dto.response.order.OrderResponse;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 주문 단건/목록 동시 조회 합치기
+ *
+ * 같은 요청자가 같은 주문(또는 같은 목록 조건)을 동시에 조회하면 DB 조회는 한 번만 하고 응답 DTO를 나눠 받는다.
+ * (클라이언트 재시도가 겹치는 인기 주문/회원 첫 페이지 대상)
+ * - 키에 요청자를 넣어 소유자 검증 결과가 다른 요청자에게 섞이지 않게 한다.
+ * - 엔티티는 조회한 영속성 컨텍스트에 묶여 있으므로 리더가 DTO로 바꾼 뒤 공유한다.
+ * - 회원 첫 페이지는 캐시에 없을 때만 합쳐서 조회하고, 리더가 결과를 캐시에 넣는다.
+ */
+@Component
+public class OrderReadCoalescer implements MeterBinder {
+
+    private record GetKey(long orderId, long requesterMemberId) {
+    }
+
+    private record ListKey(OrderSearchCondition condition, int page, int size) {
+    }
+
+    private final OrderService orderService;
+    private final OrderListPageCache pageCache;
+    private final OrderReadProperties properties;
+    private final SingleFlight<GetKey, OrderResponse> getFlight;
+    private final SingleFlight<ListKey, OrderListResponse> listFlight;
+
+    public OrderReadCoalescer(OrderService orderService, OrderListPageCache pageCache,
+                              OrderReadProperties properties) {
+        this.orderService = orderService;
+        this.pageCache = pageCache;
+        this.properties = properties;
+        this.getFlight = new SingleFlight<>(properties.getCoalesceMaxWait());
+        this.listFlight = new SingleFlight<>(properties.getCoalesceMaxWait());
+    }
+
+    /**
+     * 소유자 검증을 포함한 주문 단건 조회 (주문 라인 포함)
+     *
+     * @throws OrderHandler 존재하지 않는 주문 (OrderErrorStatus.ORDER_NOT_FOUND)
+     * @throws OrderHandler 다른 회원의 주문 (OrderErrorStatus.ACCESS_DENIED)
+     */
+    public OrderResponse getOrder(long orderId, long requesterMemberId) {
+        if (!properties.isCoalesceEnabled()) {
+            return loadOrder(orderId, requesterMemberId);
+        }
+        return getFlight.execute(new GetKey(orderId, requesterMemberId), () -> loadOrder(orderId, requesterMemberId));
+    }
+
+    /**
+     * 복합 조건 주문 목록 조회 (회원 첫 페이지는 OrderListPageCache 먼저 확인)
+     *
+     * @see OrderService#searchOrders(OrderSearchCondition, int, int)
+     */
+    public OrderListResponse searchOrders(OrderSearchCondition condition, int page, int size) {
+        if (!pageCache.isCacheable(condition, page, size)) {
+            return coalesce(condition, page, size, () -> orderService.searchOrders(condition, page, size));
+        }
+        Optional<OrderListResponse> cached = pageCache.get(condition, size);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        return coalesce(condition, page, size, () -> {
+            long version = pageCache.version(condition.getMemberId());
+            OrderListResponse loaded = orderService.searchOrders(condition, page, size);
+            pageCache.put(condition, size, loaded, version);
+            return loaded;
+        });
+    }
+
+    private OrderListResponse coalesce(OrderSearchCondition condition, int page, int size,
+                                       Supplier<OrderListResponse> loader) {
+        if (!properties.isCoalesceEnabled()) {
+            return loader.get();
+        }
+        return listFlight.execute(new ListKey(condition, page, size), loader);
+    }
+
+    private OrderResponse loadOrder(long orderId, long requesterMemberId) {
+        return orderService.getOrder(orderId, requesterMemberId)
+                .map(OrderResponse::withLines)
+                .orElseThrow(() -> new OrderHandler(OrderErrorStatus.ORDER_NOT_FOUND));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "get", getFlight);
+        bind(registry, "list", listFlight);
+    }
+
+    private static void bind(MeterRegistry registry, String operation, SingleFlight<?, ?> flight) {
+        FunctionCounter.builder("order.read.coalesce.calls", flight, SingleFlight::executedCount)
+                .tags("operation", operation, "outcome", "executed")
+                .description("DB까지 간 주문 조회 수")
+                .register(registry);
+        FunctionCounter.builder("order.read.coalesce.calls", flight, SingleFlight::coalescedCount)
+                .tags("operation", operation, "outcome", "coalesced")
+                .description("진행 중인 조회 결과를 함께 받은 주문 조회 수")
+                .register(registry);
+        FunctionCounter.builder("order.read.coalesce.calls", flight, SingleFlight::timedOutCount)
+                .tags("operation", operation, "outcome", "timeout")
+                .description("대기 시간을 넘겨 직접 실행한 주문 조회 수")
+                .register(registry);
+        Gauge.builder("order.read.coalesce.inflight", flight, SingleFlight::inFlightCount)
+                .tag("operation", operation)
+                .description("진행 중인 주문 조회 키 수")
+                .register(registry);
+    }
+}
@@ -1,9 +1,15 @@
 package com.ipia.order.order.service;
 
+import com.ipia.order.order.accept.OrderAcceptCommand;
+import com.ipia.order.order.accept.OrderAcceptResult;
 import com.ipia.order.order.domain.Order;
+import com.ipia.order.order.domain.OrderLine;
+import com.ipia.order.order.repository.OrderSearchCondition;
 import com.ipia.order.web.dto.response.order.OrderListResponse;
+import com.ipia.order.web.dto.response.order.OrderMultiGetResponse;
 import org.springframework.lang.Nullable;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,17 +37,56 @@ public interface OrderService {
      */
     Order createOrder(long memberId, long totalAmount, @Nullable String idempotencyKey);
     
+    /**
+     * 주문 라인으로 주문 생성 (총액은 라인 합계로 계산)
+     * 
+     * @param memberId 회원 ID
+     * @param lines 주문 라인 (1~500개)
+     * @param expectedTotalAmount 클라이언트가 계산한 총액 (선택사항, 보내면 라인 합계와 같아야 함)
+     * @param idempotencyKey 멱등성 키 (선택사항)
+     * @return 생성된 주문
+     * @throws OrderHandler 존재하지 않는 회원 (OrderErrorStatus.MEMBER_NOT_FOUND)
+     * @throws OrderHandler 잘못된 주문 라인 (OrderErrorStatus.INVALID_ORDER_LINE)
+     * @throws OrderHandler 총액 불일치 (OrderErrorStatus.ORDER_TOTAL_MISMATCH)
+     * @throws InventoryHandler 재고 부족 (InventoryErrorStatus.OUT_OF_STOCK)
+     */
+    Order createOrderWithLines(long memberId, List<OrderLine> lines, @Nullable Long expectedTotalAmount,
+                               @Nullable String idempotencyKey);
+    
+    /**
+     * 비동기 접수된 주문 명령 일괄 저장 (한 트랜잭션으로 그룹 커밋)
+     * 
+     * 명령별 검증(회원, 금액, 라인, 재고)에 실패한 명령은 거절 결과로 돌려주고 나머지는 저장한다.
+     * 이미 저장된 추적 ID(재처리된 명령)는 결과에서 제외된다.
+     * 
+     * @param commands 접수 명령 목록
+     * @return 명령별 저장/거절 결과
+     */
+    List<OrderAcceptResult> persistAccepted(List<OrderAcceptCommand> commands);
+    
 
     /**
      * 소유자 검증을 포함한 주문 조회
      */
     Optional<Order> getOrder(long orderId, long requesterMemberId);
     
+    /**
+     * 주문 다건 조회 (요청 순서 유지)
+     * 
+     * 소유자 검증은 조회 쿼리 조건에 포함되며, 다른 회원의 주문은 존재하지 않는 주문과 동일하게 표시한다.
+     * 
+     * @param orderIds 주문 ID 목록 (중복 허용, 최대 100개)
+     * @param requesterMemberId 요청 회원 ID (null이면 소유자 제한 없이 조회 - 관리자용)
+     * @return 요청 순서대로 정렬된 주문별 조회 결과
+     * @throws OrderHandler 비어 있거나 최대 개수를 초과한 요청 (OrderErrorStatus.INVALID_MULTI_GET_REQUEST)
+     */
+    OrderMultiGetResponse getOrders(List<Long> orderIds, @Nullable Long requesterMemberId);
+    
     /**
      * 주문 목록 조회 (페이지네이션)
      * 
      * @param memberId 회원 ID (선택사항)
-     * @param status 주문 상태 문자열 (선택사항)
+     * @param status 주문 상태 문자열 (선택사항, 쉼표로 여러 상태 지정 가능)
      * @param page 페이지 번호 (0부터 시작)
      * @param size 페이지 크기
      * @return 주문 목록 응답 DTO
@@ -50,6 +95,19 @@ public interface OrderService {
      */
     OrderListResponse listOrders(@Nullable Long memberId, @Nullable String status, int page, int size);
     
+    /**
+     * 복합 조건 주문 목록 조회 (페이지네이션)
+     * 
+     * @param condition 검색 조건 (회원, 상태 집합, 생성일 범위, 금액 범위, 정렬)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 주문 목록 응답 DTO
+     * @throws OrderHandler 잘못된 필터 조건 (OrderErrorStatus.INVALID_FILTER)
+     * @throws OrderHandler 잘못된 범위 조건 (OrderErrorStatus.INVALID_FILTER_RANGE)
+     * @throws OrderHandler 잘못된 페이지네이션 파라미터 (OrderErrorStatus.INVALID_PAGINATION)
+     */
+    OrderListResponse searchOrders(OrderSearchCondition condition, int page, int size);
+    
     /**
      * 주문 취소 (비즈니스 취소)
      * 
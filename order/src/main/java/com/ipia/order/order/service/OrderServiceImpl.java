@@ -1,8 +1,15 @@
 package com.ipia.order.order.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.springframework.context.ApplicationEventPublisher;
@@ -13,19 +20,32 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
  
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.ipia.order.common.exception.general.GeneralException;
 import com.ipia.order.common.exception.order.OrderHandler;
 import com.ipia.order.common.exception.order.status.OrderErrorStatus;
 import com.ipia.order.idempotency.service.IdempotencyKeyService;
+import com.ipia.order.inventory.service.InventoryService;
 import com.ipia.order.member.domain.Member;
 import com.ipia.order.member.service.MemberService;
+import com.ipia.order.order.accept.OrderAcceptCommand;
+import com.ipia.order.order.accept.OrderAcceptResult;
 import com.ipia.order.order.domain.Order;
+import com.ipia.order.order.domain.OrderLine;
+import com.ipia.order.order.domain.OrderStateMachine;
 import com.ipia.order.order.enums.OrderStatus;
 import com.ipia.order.order.event.OrderCanceledEvent;
 import com.ipia.order.order.event.OrderCreatedEvent;
 import com.ipia.order.order.event.OrderPaidEvent;
+import com.ipia.order.order.history.MemberOrderHistoryReader;
 import com.ipia.order.order.repository.OrderRepository;
+import com.ipia.order.order.repository.OrderSearchCondition;
+import com.ipia.order.order.repository.OrderSpecifications;
+import com.ipia.order.order.repository.OrderSummary;
 import com.ipia.order.web.dto.response.order.OrderListResponse;
+import com.ipia.order.web.dto.response.order.OrderMultiGetResponse;
 import com.ipia.order.web.dto.response.order.OrderResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -44,12 +64,16 @@ public class OrderServiceImpl implements OrderService {
     private static final int MIN_PAGE = 0;
     private static final int MIN_SIZE = 1;
     private static final String CREATE_ORDER_ENDPOINT = "POST /api/orders";
+    static final int MAX_MULTI_GET_IDS = 100;
+    static final int MAX_ORDER_LINES = 500;
 
     // ==================== Dependencies ====================
     private final OrderRepository orderRepository;
     private final MemberService memberService; // createOrder 등 다른 메서드에서 사용 예정
     private final ApplicationEventPublisher eventPublisher;
     private final IdempotencyKeyService idempotencyKeyService;
+    private final InventoryService inventoryService;
+    private final MemberOrderHistoryReader memberOrderHistoryReader;
 
     @Override
     @Transactional
@@ -57,12 +81,123 @@ public class OrderServiceImpl implements OrderService {
         log.info("[Order] 주문 생성 요청: memberId={}, amount={}, idemKey={}", memberId, totalAmount, idempotencyKey);
         validateMemberForOrder(memberId);
         validateOrderAmount(totalAmount);
+        return persistNewOrder(() -> Order.create(memberId, totalAmount), idempotencyKey);
+    }
+
+    @Override
+    @Transactional
+    public Order createOrderWithLines(long memberId, List<OrderLine> lines, @Nullable Long expectedTotalAmount,
+                                      @Nullable String idempotencyKey) {
+        log.info("[Order] 라인 주문 생성 요청: memberId={}, lines={}, idemKey={}", memberId, lines == null ? 0 : lines.size(), idempotencyKey);
+        validateMemberForOrder(memberId);
+        if (lines == null || lines.isEmpty() || lines.size() > MAX_ORDER_LINES) {
+            throw new OrderHandler(OrderErrorStatus.INVALID_ORDER_LINE);
+        }
+        // 총액은 서버에서 라인 합계로 계산하고, 클라이언트가 보낸 총액은 검증용으로만 사용
+        Order order = Order.createWithLines(memberId, lines);
+        if (expectedTotalAmount != null && !expectedTotalAmount.equals(order.getTotalAmount())) {
+            throw new OrderHandler(OrderErrorStatus.ORDER_TOTAL_MISMATCH);
+        }
+        return persistNewOrder(() -> {
+            // 멱등 재요청(캐시된 응답 반환)에서는 실행되지 않도록 생성 연산 안에서 예약
+            reserveStock(order);
+            return order;
+        }, idempotencyKey);
+    }
+
+    @Override
+    @Transactional
+    public List<OrderAcceptResult> persistAccepted(List<OrderAcceptCommand> commands) {
+        Set<String> persisted = new HashSet<>(orderRepository.findAcceptanceIdsIn(
+                commands.stream().map(OrderAcceptCommand::trackingId).toList()));
+
+        List<OrderAcceptResult> results = new ArrayList<>(commands.size());
+        List<Order> orders = new ArrayList<>(commands.size());
+        for (OrderAcceptCommand command : commands) {
+            // 노드 장애로 재처리된 명령은 이미 저장돼 있으므로 건너뛴다
+            if (!persisted.add(command.trackingId())) {
+                continue;
+            }
+            try {
+                orders.add(buildAcceptedOrder(command));
+            } catch (GeneralException e) {
+                // 일시 장애(5xx)는 거절하지 않고 던져 명령을 ack되지 않은 채 남긴다 (워커가 명령별로 다시 시도)
+                if (e.getStatus().getErrorStatus().is5xxServerError()) {
+                    throw e;
+                }
+                log.info("[Order] 접수 주문 거절: trackingId={}, code={}", command.trackingId(), e.getStatus().getCode());
+                results.add(OrderAcceptResult.rejected(command.trackingId(), e.getStatus().getCode()));
+            }
+        }
+
+        // 라인은 시퀀스 기반이라 JDBC 배치로 묶이고, 전체가 한 번의 커밋으로 끝난다
+        for (Order saved : orderRepository.saveAll(orders)) {
+            eventPublisher.publishEvent(OrderCreatedEvent.of(saved.getId(), saved.getMemberId(), saved.getTotalAmount()));
+            results.add(OrderAcceptResult.created(saved.getAcceptanceId(), saved.getId()));
+        }
+        log.info("[Order] 접수 주문 일괄 저장: commands={}, created={}, rejected={}",
+                commands.size(), orders.size(), results.size() - orders.size());
+        return results;
+    }
+
+    /**
+     * 접수 명령을 검증해 저장할 주문으로 만든다. (라인 주문이면 재고 예약 포함)
+     */
+    private Order buildAcceptedOrder(OrderAcceptCommand command) {
+        validateMemberForOrder(command.memberId());
+        Order order;
+        if (command.hasLines()) {
+            order = Order.createWithLines(command.memberId(), command.toOrderLines());
+            if (command.totalAmount() != null && !command.totalAmount().equals(order.getTotalAmount())) {
+                throw new OrderHandler(OrderErrorStatus.ORDER_TOTAL_MISMATCH);
+            }
+        } else {
+            if (command.totalAmount() == null) {
+                throw new OrderHandler(OrderErrorStatus.INVALID_AMOUNT);
+            }
+            validateOrderAmount(command.totalAmount());
+            order = Order.create(command.memberId(), command.totalAmount());
+        }
+        order.assignAcceptanceId(command.trackingId());
+        if (command.hasLines()) {
+            reserveStock(order);
+        }
+        return order;
+    }
+
+    /**
+     * 주문 라인의 재고를 예약하고, 주문 트랜잭션이 롤백되면 예약을 되돌린다.
+     * 예약된 SKU의 라인만 표시해 결제/취소 시 그 라인만 확정/해제되게 한다.
+     */
+    private void reserveStock(Order order) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        order.getLines().forEach(line -> quantities.merge(line.getSku(), line.getQuantity(), Integer::sum));
+        Map<String, Integer> reserved = inventoryService.reserve(quantities);
+        order.markStockReserved(reserved.keySet());
+        if (reserved.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    log.info("[Order] 주문 생성 롤백 - 재고 예약 해제: skus={}", reserved.keySet());
+                    inventoryService.release(reserved, false);
+                }
+            }
+        });
+    }
+
+    /**
+     * 신규 주문을 저장하고 생성 이벤트를 발행합니다. (멱등키가 있으면 멱등 처리)
+     * 라인은 cascade로 함께 저장되며, flush 시점에 JDBC 배치로 묶인다.
+     */
+    private Order persistNewOrder(Supplier<Order> factory, @Nullable String idempotencyKey) {
         Supplier<Order> operation = () -> {
-            Order order = Order.create(memberId, totalAmount);
             // 신규 흐름: 생성 직후는 CREATED → confirm을 별도 단계로 유지
-            Order saved = orderRepository.save(order);
-            eventPublisher.publishEvent(OrderCreatedEvent.of(saved.getId(), memberId, totalAmount));
-            log.info("[Order] 주문 생성 이벤트 발행: orderId={}, memberId={}, amount={}", saved.getId(), memberId, totalAmount);
+            Order saved = orderRepository.save(factory.get());
+            eventPublisher.publishEvent(OrderCreatedEvent.of(saved.getId(), saved.getMemberId(), saved.getTotalAmount()));
+            log.info("[Order] 주문 생성 이벤트 발행: orderId={}, memberId={}, amount={}", saved.getId(), saved.getMemberId(), saved.getTotalAmount());
             return saved;
         };
 
@@ -88,40 +223,84 @@ public class OrderServiceImpl implements OrderService {
         return Optional.of(order);
     }
 
+    @Override
+    public OrderMultiGetResponse getOrders(List<Long> orderIds, @Nullable Long requesterMemberId) {
+        log.info("[Order] 주문 다건 조회 요청: count={}, requesterId={}", orderIds == null ? 0 : orderIds.size(), requesterMemberId);
+        if (orderIds == null || orderIds.isEmpty() || orderIds.size() > MAX_MULTI_GET_IDS || orderIds.contains(null)) {
+            throw new OrderHandler(OrderErrorStatus.INVALID_MULTI_GET_REQUEST);
+        }
+
+        // 단일 IN 쿼리 (소유자 조건 포함), 중복 ID는 한 번만 조회
+        Set<Long> distinctIds = new LinkedHashSet<>(orderIds);
+        List<Order> orders = requesterMemberId == null
+                ? orderRepository.findAllById(distinctIds)
+                : orderRepository.findByIdInAndMemberId(distinctIds, requesterMemberId);
+        Map<Long, Order> byId = new HashMap<>(orders.size() * 2);
+        for (Order order : orders) {
+            byId.put(order.getId(), order);
+        }
+
+        // 요청 순서대로 결과 구성
+        List<OrderMultiGetResponse.Item> items = new ArrayList<>(orderIds.size());
+        int foundCount = 0;
+        for (Long orderId : orderIds) {
+            Order order = byId.get(orderId);
+            if (order != null) {
+                foundCount++;
+                items.add(OrderMultiGetResponse.Item.builder()
+                        .orderId(orderId)
+                        .found(true)
+                        .order(OrderResponse.from(order))
+                        .build());
+            } else {
+                items.add(OrderMultiGetResponse.Item.builder()
+                        .orderId(orderId)
+                        .found(false)
+                        .code(OrderErrorStatus.ORDER_NOT_FOUND.getCode())
+                        .build());
+            }
+        }
+
+        log.info("[Order] 주문 다건 조회 성공: requested={}, found={}", orderIds.size(), foundCount);
+        return OrderMultiGetResponse.builder()
+                .items(items)
+                .requestedCount(orderIds.size())
+                .foundCount(foundCount)
+                .build();
+    }
+
     @Override
     public OrderListResponse listOrders(@Nullable Long memberId, @Nullable String status, int page, int size) {
-        log.info("[Order] 주문 목록 조회 요청: memberId={}, status={}, page={}, size={}", memberId, status, page, size);
+        OrderSearchCondition condition = OrderSearchCondition.builder()
+                .memberId(memberId)
+                .statuses(OrderSearchCondition.parseStatuses(status))
+                .build();
+        return searchOrders(condition, page, size);
+    }
+
+    @Override
+    public OrderListResponse searchOrders(OrderSearchCondition condition, int page, int size) {
+        log.info("[Order] 주문 목록 조회 요청: memberId={}, statuses={}, created=[{}, {}), amount=[{}, {}], sort={} {}, page={}, size={}",
+                condition.getMemberId(), condition.getStatuses(), condition.getCreatedFrom(), condition.getCreatedTo(),
+                condition.getMinAmount(), condition.getMaxAmount(), condition.getSortKey(), condition.getDirection(), page, size);
         validatePagination(page, size);
-        validateMemberFilter(memberId);
+        validateMemberFilter(condition.getMemberId());
+        validateRanges(condition);
 
-        // String status를 OrderStatus enum으로 변환
-        OrderStatus orderStatus = null;
-        if (status != null && !status.trim().isEmpty()) {
-            try {
-                orderStatus = OrderStatus.valueOf(status.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                log.warn("[Order] 잘못된 상태값 필터: status={}", status);
-                throw new OrderHandler(OrderErrorStatus.INVALID_FILTER);
+        // 회원 이력 최신순 앞쪽 페이지는 읽기 모델에서 제공 (준비 전이거나 범위 밖이면 orders 조회)
+        if (condition.isMemberHistoryOnly()) {
+            Optional<OrderListResponse> fromView = memberOrderHistoryReader.findPage(condition.getMemberId(), page, size);
+            if (fromView.isPresent()) {
+                log.info("[Order] 주문 목록 조회 성공(읽기 모델): count={}, totalPages={}",
+                        fromView.get().getOrders().size(), fromView.get().getTotalPages());
+                return fromView.get();
             }
         }
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Order> orderPage;
-        
-        // 동적 쿼리 로직: 필터 조건에 따라 다른 Repository 메서드 호출
-        if (memberId != null && orderStatus != null) {
-            // 회원 ID와 상태 모두 지정
-            orderPage = orderRepository.findByMemberIdAndStatus(memberId, orderStatus, pageable);
-        } else if (memberId != null) {
-            // 회원 ID만 지정
-            orderPage = orderRepository.findByMemberId(memberId, pageable);
-        } else if (orderStatus != null) {
-            // 상태만 지정
-            orderPage = orderRepository.findByStatus(orderStatus, pageable);
-        } else {
-            // 필터 없음 - 전체 조회
-            orderPage = orderRepository.findAll(pageable);
-        }
+        // 동적 쿼리: 지정된 필터만 술어로 결합 (단일 쿼리)
+        Pageable pageable = PageRequest.of(page, size, condition.toSort());
+        // 목록 컬럼만 프로젝션으로 조회해 엔티티/주문 라인을 로딩하지 않는다
+        Page<OrderSummary> orderPage = orderRepository.searchSummaries(OrderSpecifications.matching(condition), pageable);
 
         // DTO 매핑
         List<OrderResponse> orderResponses = orderPage.getContent().stream()
@@ -150,25 +329,17 @@ public class OrderServiceImpl implements OrderService {
             throw new OrderHandler(OrderErrorStatus.ALREADY_CANCELED);
         }
 
-        // 배송 이후에는 취소 불가
-        if (order.getStatus() == OrderStatus.SHIPPED
-                || order.getStatus() == OrderStatus.DELIVERED
-                || order.getStatus() == OrderStatus.COMPLETED) {
+        // 배송 이후 등 취소 규칙(OrderStateMachine)에 없는 상태에서는 취소 불가
+        if (!OrderStateMachine.RULES.canTransition(order.getStatus(), OrderStatus.CANCELED)) {
             throw new OrderHandler(OrderErrorStatus.INVALID_ORDER_STATE);
         }
 
-        // CANCEL_REQUESTED 또는 CREATED/CONFIRMED 에서는 취소 허용
-        if (order.getStatus() == OrderStatus.CANCEL_REQUESTED
-                || order.getStatus() == OrderStatus.CREATED
-                || order.getStatus() == OrderStatus.CONFIRMED) {
-            order.cancel();
-            Order saved = orderRepository.save(order);
-            eventPublisher.publishEvent(OrderCanceledEvent.of(saved.getId(), reason));
-            log.info("[Order] 주문 취소 성공: orderId={}", saved.getId());
-            return saved;
-        }
-
-        throw new OrderHandler(OrderErrorStatus.INVALID_ORDER_STATE);
+        OrderStatus previousStatus = order.getStatus();
+        order.cancel();
+        Order saved = orderRepository.save(order);
+        eventPublisher.publishEvent(OrderCanceledEvent.of(saved.getId(), saved.getMemberId(), reason, previousStatus));
+        log.info("[Order] 주문 취소 성공: orderId={}", saved.getId());
+        return saved;
     }
 
     @Override
@@ -182,7 +353,7 @@ public class OrderServiceImpl implements OrderService {
         }
         order.confirm();
         orderRepository.save(order);
-        eventPublisher.publishEvent(OrderPaidEvent.of(order.getId(), order.getTotalAmount()));
+        eventPublisher.publishEvent(OrderPaidEvent.of(order.getId(), order.getMemberId(), order.getTotalAmount()));
         log.info("[Order] 결제 승인 처리 완료(확정): orderId={}", order.getId());
     }
 
@@ -197,7 +368,7 @@ public class OrderServiceImpl implements OrderService {
         }
         order.cancel();
         Order saved = orderRepository.save(order);
-        eventPublisher.publishEvent(OrderCanceledEvent.of(saved.getId(), null));
+        eventPublisher.publishEvent(OrderCanceledEvent.of(saved.getId(), saved.getMemberId(), null, OrderStatus.CONFIRMED));
         log.info("[Order] 결제 취소 처리 완료: orderId={}", saved.getId());
     }
 
@@ -257,5 +428,23 @@ public class OrderServiceImpl implements OrderService {
         }
     }
 
+    /**
+     * 생성일/금액 범위 필터의 유효성을 검증합니다.
+     */
+    private void validateRanges(OrderSearchCondition condition) {
+        if (condition.getCreatedFrom() != null && condition.getCreatedTo() != null
+                && !condition.getCreatedFrom().isBefore(condition.getCreatedTo())) {
+            throw new OrderHandler(OrderErrorStatus.INVALID_FILTER_RANGE);
+        }
+        if ((condition.getMinAmount() != null && condition.getMinAmount() < 0)
+                || (condition.getMaxAmount() != null && condition.getMaxAmount() < 0)) {
+            throw new OrderHandler(OrderErrorStatus.INVALID_FILTER_RANGE);
+        }
+        if (condition.getMinAmount() != null && condition.getMaxAmount() != null
+                && condition.getMinAmount() > condition.getMaxAmount()) {
+            throw new OrderHandler(OrderErrorStatus.INVALID_FILTER_RANGE);
+        }
+    }
+
     // 인증 의존 제거: 소유자 검증은 컨트롤러 계층에서 requesterId를 받아 처리한다.
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.ipia.order.order.service;
+
+import com.ipia.order.web.dto.response.order.OrderStatusHistoryResponse;
+
+/**
+ * 주문 상태 전이 이력 조회 서비스 인터페이스
+ */
+public interface OrderStatusHistoryService {
+
+    /**
+     * 주문의 상태 전이 이력 조회 (오래된 전이부터)
+     * 
+     * @param orderId 주문 ID
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1~100)
+     * @return 상태 전이 이력 응답 DTO
+     * @throws OrderHandler 존재하지 않는 주문 (OrderErrorStatus.ORDER_NOT_FOUND)
+     * @throws OrderHandler 잘못된 페이지네이션 파라미터 (OrderErrorStatus.INVALID_PAGINATION)
+     */
+    OrderStatusHistoryResponse getStatusHistory(long orderId, int page, int size);
+}
@@ -0,0 +1,60 @@
+package com.ipia.order.order.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipia.order.common.exception.order.OrderHandler;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.order.domain.OrderStatusHistory;
+import com.ipia.order.order.repository.OrderRepository;
+import com.ipia.order.order.repository.OrderStatusHistoryRepository;
+import com.ipia.order.web.dto.response.order.OrderStatusHistoryResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 상태 전이 이력 조회 서비스 구현체
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderStatusHistoryServiceImpl implements OrderStatusHistoryService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderRepository orderRepository;
+    private final OrderStatusHistoryRepository orderStatusHistoryRepository;
+
+    @Override
+    public OrderStatusHistoryResponse getStatusHistory(long orderId, int page, int size) {
+        log.info("[Order] 주문 상태 이력 조회 요청: orderId={}, page={}, size={}", orderId, page, size);
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new OrderHandler(OrderErrorStatus.INVALID_PAGINATION);
+        }
+        if (!orderRepository.existsById(orderId)) {
+            throw new OrderHandler(OrderErrorStatus.ORDER_NOT_FOUND);
+        }
+
+        // id는 기록 순서이므로 (order_id, id) 인덱스를 그대로 읽는다
+        Page<OrderStatusHistory> histories = orderStatusHistoryRepository.findByOrderId(
+                orderId, PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "id")));
+
+        OrderStatusHistoryResponse response = OrderStatusHistoryResponse.builder()
+                .orderId(orderId)
+                .entries(histories.getContent().stream()
+                        .map(OrderStatusHistoryResponse.Entry::from)
+                        .toList())
+                .totalCount(histories.getTotalElements())
+                .page(page)
+                .size(size)
+                .totalPages(histories.getTotalPages())
+                .build();
+        log.info("[Order] 주문 상태 이력 조회 성공: orderId={}, count={}", orderId, response.getEntries().size());
+        return response;
+    }
+}
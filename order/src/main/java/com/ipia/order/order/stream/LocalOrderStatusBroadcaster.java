@@ -0,0 +1,25 @@
+package com.ipia.order.order.stream;
+
+import com.ipia.order.order.service.OrderListPageCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 단일 노드 전파 (Redis 미사용 환경)
+ */
+@RequiredArgsConstructor
+public class LocalOrderStatusBroadcaster implements OrderStatusBroadcaster {
+
+    private final OrderStreamRegistry registry;
+    private final OrderListPageCache pageCache;
+
+    @Override
+    public void broadcast(OrderStatusMessage message) {
+        registry.deliver(message);
+    }
+
+    @Override
+    public void broadcastListInvalidation(long memberId) {
+        pageCache.invalidate(memberId);
+    }
+}
@@ -0,0 +1,70 @@
+package com.ipia.order.order.stream;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ipia.order.order.event.OrderCanceledEvent;
+import com.ipia.order.order.event.OrderCreatedEvent;
+import com.ipia.order.order.event.OrderPaidEvent;
+import com.ipia.order.order.event.OrderStatusBulkChangedEvent;
+import com.ipia.order.order.repository.OrderRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 도메인 이벤트 → 회원 주문 목록 캐시 무효화 전파
+ *
+ * 커밋 이후 변경된 주문의 회원(이벤트에 실린 회원, 대량 전이는 조회)에 대해 모든 노드의 OrderListPageCache에서 그 회원 항목을 비운다.
+ * 전파 실패가 주문 처리 결과에 영향을 주지 않도록 예외를 삼킨다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderListCacheInvalidationListener {
+
+    private final OrderRepository orderRepository;
+    private final OrderStatusBroadcaster broadcaster;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        invalidate(event.getMemberId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderPaid(OrderPaidEvent event) {
+        invalidate(event.getMemberId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        invalidate(event.getMemberId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderStatusBulkChanged(OrderStatusBulkChangedEvent event) {
+        if (!event.getOrderIds().isEmpty()) {
+            invalidateOwnersOf(event.getOrderIds());
+        }
+    }
+
+    private void invalidate(Long memberId) {
+        try {
+            broadcaster.broadcastListInvalidation(memberId);
+        } catch (Exception e) {
+            log.warn("[OrderStream] 주문 목록 캐시 무효화 실패: memberId={}", memberId, e);
+        }
+    }
+
+    private void invalidateOwnersOf(List<Long> orderIds) {
+        try {
+            orderRepository.findMemberIdsByIdIn(orderIds).forEach(broadcaster::broadcastListInvalidation);
+        } catch (Exception e) {
+            // 회원을 못 찾으면 항목 수명이 끝날 때까지 이전 목록이 보일 수 있다
+            log.warn("[OrderStream] 주문 목록 캐시 무효화 실패: orderIds={}", orderIds.size(), e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ipia.order.order.stream;
+
+/**
+ * 주문 상태 변경 메시지 전파
+ */
+public interface OrderStatusBroadcaster {
+
+    /**
+     * 상태 변경 메시지를 해당 회원을 구독 중인 모든 노드에 전파
+     *
+     * @param message 상태 변경 메시지
+     */
+    void broadcast(OrderStatusMessage message);
+
+    /**
+     * 회원 주문 목록 캐시 무효화를 이 노드를 포함한 모든 노드에 전파
+     *
+     * @param memberId 주문이 생성/결제/취소/상태 변경된 회원 ID
+     */
+    void broadcastListInvalidation(long memberId);
+}
@@ -0,0 +1,15 @@
+package com.ipia.order.order.stream;
+
+import java.time.LocalDateTime;
+
+import com.ipia.order.order.enums.OrderStatus;
+
+/**
+ * 주문 상태 변경 스트림 메시지 (노드 간 전파 및 SSE 페이로드)
+ */
+public record OrderStatusMessage(Long orderId, Long memberId, OrderStatus status, LocalDateTime occurredAt) {
+
+    public static OrderStatusMessage of(Long orderId, Long memberId, OrderStatus status, LocalDateTime occurredAt) {
+        return new OrderStatusMessage(orderId, memberId, status, occurredAt);
+    }
+}
@@ -0,0 +1,47 @@
+package com.ipia.order.order.stream;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.event.OrderCanceledEvent;
+import com.ipia.order.order.event.OrderPaidEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 도메인 이벤트 → 상태 스트림 전파
+ * 
+ * 커밋된 상태 변경만 내보내도록 커밋 이후에 처리하며,
+ * 스트림 전파 실패가 주문 처리 결과에 영향을 주지 않도록 예외를 삼킨다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusStreamListener {
+
+    private final OrderStatusBroadcaster broadcaster;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderPaid(OrderPaidEvent event) {
+        publish(event.getOrderId(), event.getMemberId(), OrderStatus.CONFIRMED, event.getPaidAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        publish(event.getOrderId(), event.getMemberId(), OrderStatus.CANCELED, event.getCanceledAt());
+    }
+
+    private void publish(Long orderId, Long memberId, OrderStatus status, LocalDateTime occurredAt) {
+        try {
+            // 회원 ID는 이벤트에 실려 오므로 주문을 다시 조회하지 않는다
+            broadcaster.broadcast(OrderStatusMessage.of(orderId, memberId, status, occurredAt));
+        } catch (Exception e) {
+            log.warn("[OrderStream] 상태 변경 전파 실패: orderId={}, status={}", orderId, status, e);
+        }
+    }
+}
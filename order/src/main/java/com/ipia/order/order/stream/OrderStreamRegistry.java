@@ -0,0 +1,218 @@
+package com.ipia.order.order.stream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipia.order.order.config.OrderStreamProperties;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 로컬 SSE 구독자 레지스트리
+ * 
+ * 회원 ID → SseEmitter 목록만 보관하며, 비동기 서블릿 요청이라 유휴 연결은 스레드를 점유하지 않는다.
+ * 메시지는 한 번만 직렬화해 같은 회원의 모든 연결에 그대로 보낸다.
+ * heartbeat는 전용 스레드에서 연결마다 하나씩만 보내 느린 연결이 스케줄러 스레드나 다른 연결을 막지 않게 한다.
+ */
+@Slf4j
+@Component
+public class OrderStreamRegistry implements MeterBinder {
+
+    static final String EVENT_NAME = "order-status";
+    private static final long RECONNECT_MILLIS = 3_000L;
+
+    private final OrderStreamProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final ExecutorService heartbeatSender;
+    /** heartbeat 전송이 끝나지 않은 연결 (다음 주기에 중복으로 쌓지 않음) */
+    private final Set<SseEmitter> pinging = ConcurrentHashMap.newKeySet();
+
+    public OrderStreamRegistry(OrderStreamProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        AtomicInteger sequence = new AtomicInteger();
+        this.heartbeatSender = Executors.newFixedThreadPool(Math.max(1, properties.getHeartbeatThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "order-stream-heartbeat-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 회원의 주문 상태 변경 구독
+     * 회원당 최대 구독 수를 넘으면 가장 오래된 연결을 종료한다.
+     *
+     * @param memberId 회원 ID
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(long memberId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        List<SseEmitter> evicted = new ArrayList<>(1);
+        emitters.compute(memberId, (id, list) -> {
+            List<SseEmitter> target = list == null ? new CopyOnWriteArrayList<>() : list;
+            while (target.size() >= Math.max(1, properties.getMaxEmittersPerMember())) {
+                evicted.add(target.remove(0));
+            }
+            target.add(emitter);
+            return target;
+        });
+        subscriberCount.addAndGet(1 - evicted.size());
+        evicted.forEach(SseEmitter::complete);
+
+        emitter.onCompletion(() -> remove(memberId, emitter));
+        emitter.onTimeout(() -> {
+            remove(memberId, emitter);
+            emitter.complete();
+        });
+        emitter.onError(e -> remove(memberId, emitter));
+
+        try {
+            // 응답 헤더를 즉시 내려보내고 재연결 간격을 알려준다
+            emitter.send(SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("connected"));
+        } catch (IOException e) {
+            remove(memberId, emitter);
+            emitter.completeWithError(e);
+        }
+        log.debug("[OrderStream] 구독 등록: memberId={}, subscribers={}", memberId, subscriberCount.get());
+        return emitter;
+    }
+
+    /**
+     * 해당 회원의 로컬 구독자에게 상태 변경 전달 (구독자가 없으면 무시)
+     *
+     * @param message 상태 변경 메시지
+     */
+    public void deliver(OrderStatusMessage message) {
+        List<SseEmitter> targets = emitters.get(message.memberId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            log.warn("[OrderStream] 메시지 직렬화 실패: orderId={}", message.orderId(), e);
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event()
+                .id(message.orderId() + ":" + message.status())
+                .name(EVENT_NAME)
+                .data(payload)
+                .build();
+
+        for (SseEmitter emitter : targets) {
+            if (send(message.memberId(), emitter, event)) {
+                delivered.increment();
+            }
+        }
+    }
+
+    /**
+     * 끊어진 연결 정리를 위한 주기적 heartbeat (프록시 유휴 타임아웃 방지 겸용)
+     * 전송은 heartbeat 스레드에 맡기고, 이전 ping을 아직 보내는 중인 연결은 이번 주기에 건너뛴다.
+     */
+    @Scheduled(fixedDelayString = "${order.stream.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        emitters.forEach((memberId, list) -> list.forEach(emitter -> {
+            if (!pinging.add(emitter)) {
+                return;
+            }
+            try {
+                heartbeatSender.execute(() -> {
+                    try {
+                        send(memberId, emitter, ping);
+                    } finally {
+                        pinging.remove(emitter);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                pinging.remove(emitter);
+            }
+        }));
+    }
+
+    /**
+     * 현재 노드의 구독 연결 수
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatSender.shutdownNow();
+        emitters.values().forEach(list -> list.forEach(SseEmitter::complete));
+        emitters.clear();
+        subscriberCount.set(0);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("order.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open order status SSE connections on this node")
+                .register(registry);
+        FunctionCounter.builder("order.stream.delivered", delivered, LongAdder::sum)
+                .description("Order status events written to SSE connections")
+                .register(registry);
+        FunctionCounter.builder("order.stream.dropped", dropped, LongAdder::sum)
+                .description("SSE writes that failed and closed the connection")
+                .register(registry);
+    }
+
+    private boolean send(Long memberId, SseEmitter emitter, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 완료된 연결
+            dropped.increment();
+            remove(memberId, emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void remove(Long memberId, SseEmitter emitter) {
+        AtomicBoolean removed = new AtomicBoolean();
+        emitters.computeIfPresent(memberId, (id, list) -> {
+            removed.set(list.remove(emitter));
+            return list.isEmpty() ? null : list;
+        });
+        if (removed.get()) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+}
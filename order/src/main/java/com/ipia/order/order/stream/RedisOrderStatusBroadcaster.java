@@ -0,0 +1,76 @@
+package com.ipia.order.order.stream;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipia.order.order.service.OrderListPageCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis pub/sub 기반 노드 간 전파
+ * 
+ * 발행 노드를 포함한 모든 노드가 채널 메시지를 받아 자기 노드의 구독자에게만 전달한다.
+ * Redis 발행에 실패하면 최소한 같은 노드의 구독자에게는 직접 전달한다.
+ * 회원 주문 목록 캐시 무효화는 별도 채널로 회원 ID만 보내며, 발행 노드는 응답 지연 없이 바로 비운다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisOrderStatusBroadcaster implements OrderStatusBroadcaster, MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final OrderStreamRegistry registry;
+    private final OrderListPageCache pageCache;
+    private final String channel;
+    private final String listInvalidationChannel;
+
+    @Override
+    public void broadcast(OrderStatusMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("[OrderStream] Redis 발행 실패 - 로컬 구독자에게만 전달: orderId={}", message.orderId(), e);
+            registry.deliver(message);
+        }
+    }
+
+    @Override
+    public void broadcastListInvalidation(long memberId) {
+        pageCache.invalidate(memberId);
+        try {
+            stringRedisTemplate.convertAndSend(listInvalidationChannel, Long.toString(memberId));
+        } catch (Exception e) {
+            // 다른 노드는 항목 수명(page-cache-ttl)이 지나야 새 목록을 본다
+            log.warn("[OrderStream] 목록 캐시 무효화 발행 실패: memberId={}", memberId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (listInvalidationChannel.equals(new String(message.getChannel(), StandardCharsets.UTF_8))) {
+            onListInvalidation(message);
+            return;
+        }
+        try {
+            OrderStatusMessage statusMessage = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), OrderStatusMessage.class);
+            registry.deliver(statusMessage);
+        } catch (Exception e) {
+            log.warn("[OrderStream] 채널 메시지 처리 실패: channel={}", channel, e);
+        }
+    }
+
+    private void onListInvalidation(Message message) {
+        try {
+            pageCache.invalidate(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("[OrderStream] 목록 캐시 무효화 메시지 형식 오류: channel={}", listInvalidationChannel);
+        }
+    }
+}
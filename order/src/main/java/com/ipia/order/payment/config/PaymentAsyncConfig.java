@@ -0,0 +1,12 @@
+package com.ipia.order.payment.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 결제 승인 비동기 경로 설정 (응답 대기 시간, 결제 확정 스레드)
+ */
+@Configuration
+@EnableConfigurationProperties(PaymentAsyncProperties.class)
+public class PaymentAsyncConfig {
+}
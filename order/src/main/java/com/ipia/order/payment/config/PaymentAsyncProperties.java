@@ -0,0 +1,42 @@
+package com.ipia.order.payment.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "payment.async")
+public class PaymentAsyncProperties {
+
+    /** 승인 응답 대기 상한 (초과 시 같은 멱등 키로 재요청하도록 안내) */
+    private Duration confirmTimeout = Duration.ofSeconds(15);
+
+    /** Toss 응답 후 결제 확정(DB 저장)을 실행할 스레드 수 (DB 커넥션 풀보다 작게) */
+    private int finalizePoolSize = 8;
+
+    /** 결제 확정 대기열 크기 (스레드 수와 합친 만큼만 동시에 승인을 받고, 넘으면 Toss 호출 전에 거절) */
+    private int finalizeQueueCapacity = 2000;
+
+    public Duration getConfirmTimeout() {
+        return confirmTimeout;
+    }
+
+    public void setConfirmTimeout(Duration confirmTimeout) {
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    public int getFinalizePoolSize() {
+        return finalizePoolSize;
+    }
+
+    public void setFinalizePoolSize(int finalizePoolSize) {
+        this.finalizePoolSize = finalizePoolSize;
+    }
+
+    public int getFinalizeQueueCapacity() {
+        return finalizeQueueCapacity;
+    }
+
+    public void setFinalizeQueueCapacity(int finalizeQueueCapacity) {
+        this.finalizeQueueCapacity = finalizeQueueCapacity;
+    }
+}
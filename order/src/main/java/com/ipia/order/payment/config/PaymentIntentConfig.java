@@ -0,0 +1,35 @@
+package com.ipia.order.payment.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.ipia.order.payment.intent.repository.PaymentIntentRepository;
+import com.ipia.order.payment.intent.service.PaymentIntentService;
+import com.ipia.order.payment.intent.service.PaymentIntentServiceImpl;
+import com.ipia.order.payment.intent.service.RedisPaymentIntentService;
+
+/**
+ * 결제 의도 저장소 설정
+ *
+ * payment.intent.store=redis(기본)이면 TTL로 만료되는 Redis 해시를,
+ * db면 결제와 같은 내구성이 필요할 때 쓰는 payment_intents 테이블을 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties(PaymentIntentProperties.class)
+public class PaymentIntentConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "payment.intent", name = "store", havingValue = "redis", matchIfMissing = true)
+    public PaymentIntentService redisPaymentIntentService(StringRedisTemplate stringRedisTemplate, PaymentIntentProperties properties) {
+        return new RedisPaymentIntentService(stringRedisTemplate, properties.getKeyPrefix());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "payment.intent", name = "store", havingValue = "db")
+    public PaymentIntentService dbPaymentIntentService(PaymentIntentRepository paymentIntentRepository) {
+        return new PaymentIntentServiceImpl(paymentIntentRepository);
+    }
+}
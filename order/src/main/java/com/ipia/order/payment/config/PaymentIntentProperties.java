@@ -0,0 +1,86 @@
+package com.ipia.order.payment.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "payment.intent")
+public class PaymentIntentProperties {
+
+    /** 결제 의도 저장소 (redis: TTL 해시, db: payment_intents 테이블) */
+    private String store = "redis";
+
+    /** Redis 의도 키 접두사 (키 = 접두사 + intentId) */
+    private String keyPrefix = "payment:intent:";
+
+    /** 만료 의도 정리 작업 사용 여부 (db 저장소에서만 동작, redis는 TTL로 만료) */
+    private boolean purgeEnabled = true;
+
+    /** 정리 작업 주기 */
+    private Duration purgeInterval = Duration.ofMinutes(1);
+
+    /** 정리 작업 한 배치(트랜잭션)의 최대 삭제 건수 */
+    private int purgeBatchSize = 500;
+
+    /** 한 번 실행에서 처리할 최대 배치 수 (나머지는 다음 주기) */
+    private int purgeMaxBatchesPerRun = 20;
+
+    /** 정리 작업 단일 실행 임대 시간 (한 번 실행 시간보다 넉넉하게) */
+    private Duration purgeLeaseTime = Duration.ofMinutes(5);
+
+    public String getStore() {
+        return store;
+    }
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public boolean isPurgeEnabled() {
+        return purgeEnabled;
+    }
+
+    public void setPurgeEnabled(boolean purgeEnabled) {
+        this.purgeEnabled = purgeEnabled;
+    }
+
+    public Duration getPurgeInterval() {
+        return purgeInterval;
+    }
+
+    public void setPurgeInterval(Duration purgeInterval) {
+        this.purgeInterval = purgeInterval;
+    }
+
+    public int getPurgeBatchSize() {
+        return purgeBatchSize;
+    }
+
+    public void setPurgeBatchSize(int purgeBatchSize) {
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    public int getPurgeMaxBatchesPerRun() {
+        return purgeMaxBatchesPerRun;
+    }
+
+    public void setPurgeMaxBatchesPerRun(int purgeMaxBatchesPerRun) {
+        this.purgeMaxBatchesPerRun = purgeMaxBatchesPerRun;
+    }
+
+    public Duration getPurgeLeaseTime() {
+        return purgeLeaseTime;
+    }
+
+    public void setPurgeLeaseTime(Duration purgeLeaseTime) {
+        this.purgeLeaseTime = purgeLeaseTime;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ipia.order.payment.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 정산 파일 대사 설정
+ */
+@Configuration
+@EnableConfigurationProperties(PaymentSettlementProperties.class)
+public class PaymentSettlementConfig {
+}
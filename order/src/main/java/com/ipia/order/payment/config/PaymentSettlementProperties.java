@@ -0,0 +1,63 @@
+package com.ipia.order.payment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "payment.settlement")
+public class PaymentSettlementProperties {
+
+    /** 대사할 정산 파일을 두는 디렉터리 (요청은 이 안의 파일 이름만 받는다) */
+    private String inboxDir = "./settlements/inbox";
+
+    /** 불일치 목록 CSV를 쓰는 디렉터리 */
+    private String reportDir = "./settlements/reports";
+
+    /** 결제 조회 한 번(IN 조회)에 묶을 거래 ID 수 */
+    private int lookupBatchSize = 1_000;
+
+    /** 한 번에 메모리 매핑할 파일 구간 크기 (가장 긴 행보다 커야 하며 2GB 미만) */
+    private DataSize mapWindowSize = DataSize.ofMegabytes(256);
+
+    /** 응답에 담을 불일치 예시 최대 수 (전체 목록은 보고서 파일) */
+    private int maxSamples = 100;
+
+    public String getInboxDir() {
+        return inboxDir;
+    }
+
+    public void setInboxDir(String inboxDir) {
+        this.inboxDir = inboxDir;
+    }
+
+    public String getReportDir() {
+        return reportDir;
+    }
+
+    public void setReportDir(String reportDir) {
+        this.reportDir = reportDir;
+    }
+
+    public int getLookupBatchSize() {
+        return lookupBatchSize;
+    }
+
+    public void setLookupBatchSize(int lookupBatchSize) {
+        this.lookupBatchSize = lookupBatchSize;
+    }
+
+    public DataSize getMapWindowSize() {
+        return mapWindowSize;
+    }
+
+    public void setMapWindowSize(DataSize mapWindowSize) {
+        this.mapWindowSize = mapWindowSize;
+    }
+
+    public int getMaxSamples() {
+        return maxSamples;
+    }
+
+    public void setMaxSamples(int maxSamples) {
+        this.maxSamples = maxSamples;
+    }
+}
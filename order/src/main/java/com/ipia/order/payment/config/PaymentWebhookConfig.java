@@ -0,0 +1,36 @@
+package com.ipia.order.payment.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipia.order.payment.webhook.InMemoryPaymentWebhookQueue;
+import com.ipia.order.payment.webhook.PaymentWebhookQueue;
+import com.ipia.order.payment.webhook.RedisPaymentWebhookQueue;
+
+/**
+ * 결제 웹훅 수신 설정
+ *
+ * payment.webhook.store=redis(기본)이면 노드 간 공유되는 Redis 대기열을,
+ * memory면 단일 노드용 인메모리 대기열을 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties(PaymentWebhookProperties.class)
+public class PaymentWebhookConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "payment.webhook", name = "store", havingValue = "redis", matchIfMissing = true)
+    public PaymentWebhookQueue redisPaymentWebhookQueue(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                                                        PaymentWebhookProperties properties) {
+        return new RedisPaymentWebhookQueue(stringRedisTemplate, objectMapper, properties.getKey(), properties.getDedupTtl());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "payment.webhook", name = "store", havingValue = "memory")
+    public PaymentWebhookQueue inMemoryPaymentWebhookQueue() {
+        return new InMemoryPaymentWebhookQueue();
+    }
+}
@@ -0,0 +1,119 @@
+package com.ipia.order.payment.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "payment.webhook")
+public class PaymentWebhookProperties {
+
+    /** 웹훅 수신(POST /api/payments/webhook) 및 반영 워커 사용 여부 */
+    private boolean enabled = false;
+
+    /** 서명 검증 키 (비어 있으면 모든 웹훅을 거절) */
+    private String secret;
+
+    /** 전송 시각과 수신 시각의 허용 차이 (재전송 공격 방지) */
+    private Duration signatureTolerance = Duration.ofMinutes(5);
+
+    /** 웹훅 대기열 저장소 (redis: 노드 공유, memory: 단일 노드) */
+    private String store = "redis";
+
+    /** Redis 키 접두사 */
+    private String key = "payment:webhook";
+
+    /** 같은 이벤트 재전송을 걸러내는 기간 */
+    private Duration dedupTtl = Duration.ofDays(3);
+
+    /** 워커가 한 번에 꺼낼 최대 이벤트 수 */
+    private int batchSize = 200;
+
+    /** 워커 1회 실행당 최대 배치 수 */
+    private int maxBatchesPerRun = 20;
+
+    /** 꺼낸 뒤 ack 없이 이 시간이 지나면 대기열로 되돌림 (노드 장애 복구, 보류 이벤트 재시도) */
+    private Duration visibilityTimeout = Duration.ofMinutes(1);
+
+    /** 승인 예약 후 이 시간 안의 DONE 웹훅은 진행 중인 승인 요청이 반영하도록 보류 */
+    private Duration approvalGrace = Duration.ofMinutes(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    public Duration getSignatureTolerance() {
+        return signatureTolerance;
+    }
+
+    public void setSignatureTolerance(Duration signatureTolerance) {
+        this.signatureTolerance = signatureTolerance;
+    }
+
+    public String getStore() {
+        return store;
+    }
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public Duration getDedupTtl() {
+        return dedupTtl;
+    }
+
+    public void setDedupTtl(Duration dedupTtl) {
+        this.dedupTtl = dedupTtl;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    public Duration getVisibilityTimeout() {
+        return visibilityTimeout;
+    }
+
+    public void setVisibilityTimeout(Duration visibilityTimeout) {
+        this.visibilityTimeout = visibilityTimeout;
+    }
+
+    public Duration getApprovalGrace() {
+        return approvalGrace;
+    }
+
+    public void setApprovalGrace(Duration approvalGrace) {
+        this.approvalGrace = approvalGrace;
+    }
+}
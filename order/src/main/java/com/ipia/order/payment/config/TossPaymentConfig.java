@@ -1,17 +1,36 @@
 package com.ipia.order.payment.config;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.ipia.order.payment.service.external.TossSimulator;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
 /**
  * Toss Payments API 연동 설정
+ *
+ * Toss 호출은 전용 커넥션 풀을 쓴다. 최대 연결 수와 연결 대기열 상한/대기 시간을 두어
+ * Toss가 느려져도 요청이 끝없이 쌓이지 않고 빠르게 실패하게 하며,
+ * 풀 지표(reactor.netty.connection.provider.*{name=toss})와 요청 지표(reactor.netty.http.client.*)로 크기를 잡는다.
+ * Toss 시뮬레이터(TossSimulatorConfig)가 떠 있으면 baseUrl 대신 시뮬레이터로 보낸다.
  */
+@Slf4j
 @Configuration
-@EnableConfigurationProperties(TossProperties.class)
+@EnableConfigurationProperties({TossProperties.class, TossResilienceProperties.class})
 public class TossPaymentConfig {
 
+    static final String POOL_NAME = "toss";
+    private static final String CANCEL_URI_TAG = "/v1/payments/{paymentKey}/cancel";
+
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder()
@@ -19,4 +38,53 @@ public class TossPaymentConfig {
                 .build()
                 .mutate();
     }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider tossConnectionProvider(TossProperties properties) {
+        log.info("[Payment] Toss 커넥션 풀: maxConnections={}, pendingAcquireMaxCount={}, pendingAcquireTimeout={}",
+                properties.getMaxConnections(), properties.getPendingAcquireMaxCount(), properties.getPendingAcquireTimeout());
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxLifeTime(properties.getMaxLifeTime())
+                .evictInBackground(properties.getEvictInterval())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient tossWebClient(WebClient.Builder webClientBuilder, TossProperties properties,
+                                   ConnectionProvider tossConnectionProvider, ObjectProvider<TossSimulator> tossSimulator) {
+        TossSimulator simulator = tossSimulator.getIfAvailable();
+        String baseUrl = simulator != null ? simulator.baseUrl() : properties.getBaseUrl();
+        if (simulator != null) {
+            log.info("[Payment] Toss 호출을 시뮬레이터로 보냄: baseUrl={}", baseUrl);
+        }
+        return buildTossWebClient(webClientBuilder, properties, tossConnectionProvider, baseUrl);
+    }
+
+    public WebClient buildTossWebClient(WebClient.Builder webClientBuilder, TossProperties properties,
+                                        ConnectionProvider tossConnectionProvider, String baseUrl) {
+        HttpClient httpClient = HttpClient.create(tossConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getResponseTimeout())
+                .metrics(true, TossPaymentConfig::uriTag);
+        if (properties.isHttp2()) {
+            // TLS ALPN으로 협상하고, 서버가 지원하지 않으면 HTTP/1.1을 쓴다
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+        return webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    /**
+     * 요청 지표 uri 태그 (취소 API 경로의 결제 키를 템플릿으로 묶어 태그 수를 고정)
+     */
+    static String uriTag(String uri) {
+        return uri.endsWith("/cancel") ? CANCEL_URI_TAG : uri;
+    }
 }
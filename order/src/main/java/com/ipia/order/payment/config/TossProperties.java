@@ -1,5 +1,7 @@
 package com.ipia.order.payment.config;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "toss")
@@ -9,6 +11,33 @@ public class TossProperties {
     private String secretKey;
     private boolean enableRealCall = false;
 
+    /** TCP 연결 수립 제한 시간 */
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    /** 요청 전송 후 응답 수신 제한 시간 (초과 시 TOSS_NETWORK_ERROR) */
+    private Duration responseTimeout = Duration.ofSeconds(10);
+
+    /** Toss 전용 커넥션 풀 최대 연결 수 */
+    private int maxConnections = 100;
+
+    /** 연결을 기다릴 수 있는 요청 수 상한 (초과 시 즉시 실패) */
+    private int pendingAcquireMaxCount = 500;
+
+    /** 연결 대기 제한 시간 */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+    /** 유휴 연결 유지 시간 (Toss/중간 장비의 유휴 종료보다 짧게) */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /** 연결 최대 수명 (DNS 변경 반영) */
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    /** 유휴/수명 초과 연결 백그라운드 정리 주기 */
+    private Duration evictInterval = Duration.ofSeconds(30);
+
+    /** HTTP/2 사용 여부 (TLS ALPN 협상, 미지원 시 HTTP/1.1) */
+    private boolean http2 = false;
+
     public String getBaseUrl() {
         return baseUrl;
     }
@@ -32,6 +61,76 @@ public class TossProperties {
     public void setEnableRealCall(boolean enableRealCall) {
         this.enableRealCall = enableRealCall;
     }
-}
 
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getResponseTimeout() {
+        return responseTimeout;
+    }
+
+    public void setResponseTimeout(Duration responseTimeout) {
+        this.responseTimeout = responseTimeout;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getPendingAcquireMaxCount() {
+        return pendingAcquireMaxCount;
+    }
+
+    public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+        this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+    }
+
+    public Duration getPendingAcquireTimeout() {
+        return pendingAcquireTimeout;
+    }
+
+    public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+        this.pendingAcquireTimeout = pendingAcquireTimeout;
+    }
+
+    public Duration getMaxIdleTime() {
+        return maxIdleTime;
+    }
 
+    public void setMaxIdleTime(Duration maxIdleTime) {
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    public Duration getMaxLifeTime() {
+        return maxLifeTime;
+    }
+
+    public void setMaxLifeTime(Duration maxLifeTime) {
+        this.maxLifeTime = maxLifeTime;
+    }
+
+    public Duration getEvictInterval() {
+        return evictInterval;
+    }
+
+    public void setEvictInterval(Duration evictInterval) {
+        this.evictInterval = evictInterval;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+}
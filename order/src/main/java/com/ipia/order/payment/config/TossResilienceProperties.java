@@ -0,0 +1,207 @@
+package com.ipia.order.payment.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "toss.resilience")
+public class TossResilienceProperties {
+
+    /** 서킷 판단에 쓰는 최근 호출 수 */
+    private int windowSize = 50;
+
+    /** 비율을 판단하기 시작하는 최소 호출 수 */
+    private int minimumCalls = 20;
+
+    /** 실패율 기준(%) - 5xx/429/타임아웃/연결 오류만 실패로 센다 */
+    private float failureRateThreshold = 50f;
+
+    /** 느린 호출 비율 기준(%) */
+    private float slowCallRateThreshold = 80f;
+
+    /** 느린 호출로 보는 응답 시간 (responseTimeout보다 짧게) */
+    private Duration slowCallDuration = Duration.ofSeconds(3);
+
+    /** 서킷이 열린 뒤 시험 호출까지 대기 시간 */
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    /** HALF_OPEN에서 허용하는 시험 호출 수 */
+    private int halfOpenCalls = 5;
+
+    /** Toss 동시 호출 상한 (초과 시 대기하지 않고 즉시 거절) */
+    private int maxConcurrentCalls = 50;
+
+    /** 승인 재시도 횟수 (5xx/429/연결 오류/타임아웃만, 0이면 재시도 없음) */
+    private int retryMaxAttempts = 2;
+
+    /** 재시도 첫 대기 시간 (시도마다 두 배) */
+    private Duration retryMinBackoff = Duration.ofMillis(100);
+
+    /** 재시도 최대 대기 시간 */
+    private Duration retryMaxBackoff = Duration.ofSeconds(1);
+
+    /** 재시도 대기 시간 흔들기 비율 (0~1, 동시에 실패한 요청이 같은 순간에 몰리지 않도록) */
+    private double retryJitter = 0.5;
+
+    /** 승인 헤징 사용 여부 (응답이 늦으면 같은 멱등 키로 한 번 더 요청) */
+    private boolean hedgeEnabled = false;
+
+    /** 헤징 시작 기준 백분위 (최근 승인 응답 시간의 이 백분위를 넘기면 두 번째 요청) */
+    private double hedgePercentile = 95;
+
+    /** 헤징 대기 하한 */
+    private Duration hedgeMinDelay = Duration.ofMillis(200);
+
+    /** 헤징 대기 상한 (표본이 부족할 때도 이 값을 쓴다) */
+    private Duration hedgeMaxDelay = Duration.ofSeconds(3);
+
+    /** 백분위 계산에 필요한 최소 표본 수 */
+    private int hedgeMinSamples = 50;
+
+    /** 승인 요청 대비 헤징 허용 비율 (Toss 전체가 느려졌을 때 요청이 두 배로 늘지 않도록) */
+    private double hedgeBudgetRatio = 0.1;
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public float getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(float failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public float getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(float slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public Duration getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public void setSlowCallDuration(Duration slowCallDuration) {
+        this.slowCallDuration = slowCallDuration;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    public void setHalfOpenCalls(int halfOpenCalls) {
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public int getRetryMaxAttempts() {
+        return retryMaxAttempts;
+    }
+
+    public void setRetryMaxAttempts(int retryMaxAttempts) {
+        this.retryMaxAttempts = retryMaxAttempts;
+    }
+
+    public Duration getRetryMinBackoff() {
+        return retryMinBackoff;
+    }
+
+    public void setRetryMinBackoff(Duration retryMinBackoff) {
+        this.retryMinBackoff = retryMinBackoff;
+    }
+
+    public Duration getRetryMaxBackoff() {
+        return retryMaxBackoff;
+    }
+
+    public void setRetryMaxBackoff(Duration retryMaxBackoff) {
+        this.retryMaxBackoff = retryMaxBackoff;
+    }
+
+    public double getRetryJitter() {
+        return retryJitter;
+    }
+
+    public void setRetryJitter(double retryJitter) {
+        this.retryJitter = retryJitter;
+    }
+
+    public boolean isHedgeEnabled() {
+        return hedgeEnabled;
+    }
+
+    public void setHedgeEnabled(boolean hedgeEnabled) {
+        this.hedgeEnabled = hedgeEnabled;
+    }
+
+    public double getHedgePercentile() {
+        return hedgePercentile;
+    }
+
+    public void setHedgePercentile(double hedgePercentile) {
+        this.hedgePercentile = hedgePercentile;
+    }
+
+    public Duration getHedgeMinDelay() {
+        return hedgeMinDelay;
+    }
+
+    public void setHedgeMinDelay(Duration hedgeMinDelay) {
+        this.hedgeMinDelay = hedgeMinDelay;
+    }
+
+    public Duration getHedgeMaxDelay() {
+        return hedgeMaxDelay;
+    }
+
+    public void setHedgeMaxDelay(Duration hedgeMaxDelay) {
+        this.hedgeMaxDelay = hedgeMaxDelay;
+    }
+
+    public int getHedgeMinSamples() {
+        return hedgeMinSamples;
+    }
+
+    public void setHedgeMinSamples(int hedgeMinSamples) {
+        this.hedgeMinSamples = hedgeMinSamples;
+    }
+
+    public double getHedgeBudgetRatio() {
+        return hedgeBudgetRatio;
+    }
+
+    public void setHedgeBudgetRatio(double hedgeBudgetRatio) {
+        this.hedgeBudgetRatio = hedgeBudgetRatio;
+    }
+}
@@ -0,0 +1,31 @@
+package com.ipia.order.payment.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.ipia.order.payment.service.external.TossSimulator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 앱 안 Toss 시뮬레이터 (toss.simulator.enabled=true일 때만)
+ *
+ * 시뮬레이터를 띄우면 tossWebClient가 baseUrl 대신 시뮬레이터 주소로 호출한다.
+ * 실제 HTTP 경로(커넥션 풀, 서킷, 재시도/헤징)를 거치도록 toss.enableRealCall도 true여야 한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "toss.simulator", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(TossSimulatorProperties.class)
+public class TossSimulatorConfig {
+
+    @Bean(destroyMethod = "close")
+    public TossSimulator tossSimulator(TossSimulatorProperties simulatorProperties, TossProperties tossProperties) {
+        if (!tossProperties.isEnableRealCall()) {
+            log.warn("[Payment] toss.enableRealCall=false라 Toss 시뮬레이터로 요청이 가지 않습니다.");
+        }
+        return TossSimulator.start(simulatorProperties);
+    }
+}
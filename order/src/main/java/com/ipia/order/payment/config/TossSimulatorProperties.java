@@ -0,0 +1,146 @@
+package com.ipia.order.payment.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "toss.simulator")
+public class TossSimulatorProperties {
+
+    public enum LatencyDistribution {
+        /** 항상 latencyMedian */
+        FIXED,
+        /** latencyMin ~ (2 × latencyMedian - latencyMin) 균등 분포 (평균이 중앙값) */
+        UNIFORM,
+        /** latencyMin 위에 중앙값 latencyMedian, p99 latencyP99가 되는 로그 정규 분포 (긴 꼬리) */
+        LOG_NORMAL
+    }
+
+    /** 앱 안에서 시뮬레이터를 띄우고 Toss 호출을 그쪽으로 보낼지 여부 */
+    private boolean enabled = false;
+
+    /** 수신 포트 (0이면 빈 포트) */
+    private int port = 0;
+
+    private LatencyDistribution latencyDistribution = LatencyDistribution.LOG_NORMAL;
+
+    private Duration latencyMin = Duration.ofMillis(20);
+
+    private Duration latencyMedian = Duration.ofMillis(80);
+
+    private Duration latencyP99 = Duration.ofMillis(800);
+
+    /** 응답 지연 상한 (분포 꼬리 자르기) */
+    private Duration latencyMax = Duration.ofSeconds(5);
+
+    /** 5xx로 응답할 비율 (0~1) */
+    private double errorRate = 0;
+
+    /** 응답하지 않고 붙잡아 둘 비율 (0~1, 클라이언트 응답 제한 시간 확인용) */
+    private double timeoutRate = 0;
+
+    /** 타임아웃 요청을 붙잡아 두는 시간 (이후 연결을 닫음) */
+    private Duration timeoutHold = Duration.ofSeconds(30);
+
+    /** 초당 처리 상한 (초과 시 429, 0이면 제한 없음) */
+    private int rateLimitPerSecond = 0;
+
+    /** 요청 처리 스레드 수 (지연은 별도 스케줄러가 담당하므로 작아도 된다) */
+    private int workerThreads = 4;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public LatencyDistribution getLatencyDistribution() {
+        return latencyDistribution;
+    }
+
+    public void setLatencyDistribution(LatencyDistribution latencyDistribution) {
+        this.latencyDistribution = latencyDistribution;
+    }
+
+    public Duration getLatencyMin() {
+        return latencyMin;
+    }
+
+    public void setLatencyMin(Duration latencyMin) {
+        this.latencyMin = latencyMin;
+    }
+
+    public Duration getLatencyMedian() {
+        return latencyMedian;
+    }
+
+    public void setLatencyMedian(Duration latencyMedian) {
+        this.latencyMedian = latencyMedian;
+    }
+
+    public Duration getLatencyP99() {
+        return latencyP99;
+    }
+
+    public void setLatencyP99(Duration latencyP99) {
+        this.latencyP99 = latencyP99;
+    }
+
+    public Duration getLatencyMax() {
+        return latencyMax;
+    }
+
+    public void setLatencyMax(Duration latencyMax) {
+        this.latencyMax = latencyMax;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public double getTimeoutRate() {
+        return timeoutRate;
+    }
+
+    public void setTimeoutRate(double timeoutRate) {
+        this.timeoutRate = timeoutRate;
+    }
+
+    public Duration getTimeoutHold() {
+        return timeoutHold;
+    }
+
+    public void setTimeoutHold(Duration timeoutHold) {
+        this.timeoutHold = timeoutHold;
+    }
+
+    public int getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public void setRateLimitPerSecond(int rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+}
@@ -4,14 +4,22 @@ import com.ipia.order.common.entity.BaseEntity;
 import com.ipia.order.common.exception.payment.PaymentHandler;
 import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
 import com.ipia.order.payment.enums.PaymentStatus;
+import com.ipia.order.payment.event.PaymentStatusChangedEvent;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * 결제 정보를 나타내는 엔티티
@@ -20,7 +28,13 @@ import java.time.LocalDateTime;
  * Toss Payments API와 연동하여 외부 결제 시스템과 통신
  */
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", uniqueConstraints = {
+        // 주문당 결제 1건: 승인 예약(PENDING) 경합 시 한 요청만 Toss를 호출한다
+        @UniqueConstraint(name = "uk_payments_order_id", columnNames = "order_id")
+}, indexes = {
+        // 웹훅/정산 대사의 외부 거래 ID 조회
+        @Index(name = "idx_payments_provider_txn_id", columnList = "provider_txn_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment extends BaseEntity {
@@ -90,6 +104,13 @@ public class Payment extends BaseEntity {
     @Version
     private Long version;
 
+    /**
+     * 저장 시 발행할 도메인 이벤트 (PaymentRepository.save 후 비워짐)
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<Object> domainEvents = new ArrayList<>();
+
     @Builder(access = AccessLevel.PROTECTED)
     private Payment(Long orderId, BigDecimal paidAmount, String providerTxnId) {
         validateOrderId(orderId);
@@ -129,8 +150,9 @@ public class Payment extends BaseEntity {
         validateApprovalStatus();
         validateAmountMatch(orderTotalAmount);
 
-        this.status = PaymentStatus.APPROVED;
+        changeStatus(PaymentStatus.APPROVED);
         this.approvedAt = LocalDateTime.now();
+        registerStatusChanged(paidAmount, approvedAt);
     }
 
     /**
@@ -144,9 +166,10 @@ public class Payment extends BaseEntity {
         validateCancelStatus();
         validateCancelAmount(cancelAmount);
 
-        this.status = PaymentStatus.CANCELED;
+        changeStatus(PaymentStatus.CANCELED);
         this.canceledAmount = cancelAmount;
         this.canceledAt = LocalDateTime.now();
+        registerStatusChanged(cancelAmount, canceledAt);
     }
 
     /**
@@ -160,9 +183,21 @@ public class Payment extends BaseEntity {
         validateRefundStatus();
         validateRefundAmount(refundAmount);
 
-        this.status = PaymentStatus.REFUNDED;
+        changeStatus(PaymentStatus.REFUNDED);
         this.refundedAmount = refundAmount;
         this.refundedAt = LocalDateTime.now();
+        registerStatusChanged(refundAmount, refundedAt);
+    }
+
+    /**
+     * 대사 필요 처리
+     * Toss에서 승인됐을 수 있는 예약을 지우면 실제 결제 기록이 사라지므로, 종료 상태로 남겨 정산 대사에서 확인한다.
+     *
+     * @throws PaymentHandler 승인 예약(PENDING)이 아닌 경우
+     */
+    public void requireReconciliation() {
+        validateTransition(PaymentStatus.RECONCILIATION_REQUIRED, PaymentErrorStatus.PAYMENT_CANNOT_APPROVE);
+        changeStatus(PaymentStatus.RECONCILIATION_REQUIRED);
     }
 
     /**
@@ -193,6 +228,29 @@ public class Payment extends BaseEntity {
         return status == PaymentStatus.PENDING;
     }
 
+    /**
+     * 결제가 대사 필요 상태인지 확인
+     */
+    public boolean isReconciliationRequired() {
+        return status == PaymentStatus.RECONCILIATION_REQUIRED;
+    }
+
+    // ==================== 도메인 이벤트 ====================
+
+    private void registerStatusChanged(BigDecimal amount, LocalDateTime occurredAt) {
+        domainEvents.add(PaymentStatusChangedEvent.of(orderId, status, amount, occurredAt));
+    }
+
+    @DomainEvents
+    Collection<Object> domainEvents() {
+        return Collections.unmodifiableList(domainEvents);
+    }
+
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        domainEvents.clear();
+    }
+
     // ==================== 검증 메서드 ====================
 
     private void validateOrderId(Long orderId) {
@@ -238,20 +296,33 @@ public class Payment extends BaseEntity {
     }
 
     private void validateApprovalStatus() {
-        if (!status.canApprove()) {
-            throw new PaymentHandler(PaymentErrorStatus.PAYMENT_CANNOT_APPROVE);
-        }
+        validateTransition(PaymentStatus.APPROVED, PaymentErrorStatus.PAYMENT_CANNOT_APPROVE);
     }
 
     private void validateCancelStatus() {
-        if (!status.canCancel()) {
-            throw new PaymentHandler(PaymentErrorStatus.PAYMENT_CANNOT_CANCEL);
-        }
+        validateTransition(PaymentStatus.CANCELED, PaymentErrorStatus.PAYMENT_CANNOT_CANCEL);
     }
 
     private void validateRefundStatus() {
-        if (!status.canRefund()) {
-            throw new PaymentHandler(PaymentErrorStatus.PAYMENT_CANNOT_REFUND);
+        validateTransition(PaymentStatus.REFUNDED, PaymentErrorStatus.PAYMENT_CANNOT_REFUND);
+    }
+
+    /**
+     * 전이 규칙은 PaymentStateMachine에 선언되어 있다.
+     * 거부된 시도는 전이 지표에 기록한다.
+     */
+    private void validateTransition(PaymentStatus targetStatus, PaymentErrorStatus errorStatus) {
+        if (!PaymentStateMachine.RULES.canTransition(status, targetStatus)) {
+            PaymentStateMachine.RULES.recordRejected(targetStatus, 1);
+            throw new PaymentHandler(errorStatus);
         }
     }
+
+    /**
+     * 검증이 끝난 뒤 상태를 변경하고 전이 지표에 기록한다.
+     */
+    private void changeStatus(PaymentStatus targetStatus) {
+        PaymentStateMachine.RULES.transition(status, targetStatus);
+        this.status = targetStatus;
+    }
 }
@@ -0,0 +1,29 @@
+package com.ipia.order.payment.domain;
+
+import static com.ipia.order.payment.enums.PaymentStatus.*;
+
+import com.ipia.order.common.statemachine.StateMachine;
+import com.ipia.order.payment.enums.PaymentStatus;
+
+/**
+ * 결제 상태 전이 규칙
+ *
+ * PENDING → APPROVED → CANCELED → REFUNDED
+ * PENDING → RECONCILIATION_REQUIRED (종료 상태)
+ */
+public final class PaymentStateMachine {
+
+    public static final StateMachine<PaymentStatus> RULES = StateMachine.builder(PaymentStatus.class, "payment")
+            // PENDING 상태에서만 승인 가능
+            .allow(PENDING, APPROVED)
+            // APPROVED 상태에서만 취소 가능
+            .allow(APPROVED, CANCELED)
+            // CANCELED 상태에서만 환불 가능
+            .allow(CANCELED, REFUNDED)
+            // 보상 취소 실패 등으로 결과를 알 수 없는 예약은 지우지 않고 대사 대상으로 남김
+            .allow(PENDING, RECONCILIATION_REQUIRED)
+            .build();
+
+    private PaymentStateMachine() {
+    }
+}
@@ -1,9 +1,12 @@
 package com.ipia.order.payment.enums;
 
+import com.ipia.order.payment.domain.PaymentStateMachine;
+
 /**
  * 결제 상태를 나타내는 enum
  * 
  * 상태 전이: PENDING → APPROVED → CANCELED → REFUNDED
+ * (확인할 수 없는 승인 예약은 PENDING → RECONCILIATION_REQUIRED)
  */
 public enum PaymentStatus {
     
@@ -25,7 +28,12 @@ public enum PaymentStatus {
     /**
      * 결제 환불 상태
      */
-    REFUNDED("결제 환불");
+    REFUNDED("결제 환불"),
+
+    /**
+     * 대사 필요 상태 (Toss 승인 여부를 확인할 수 없는 승인 예약, 정산 대사/수동 확인으로만 해소)
+     */
+    RECONCILIATION_REQUIRED("대사 필요");
     
     private final String description;
     
@@ -42,7 +50,7 @@ public enum PaymentStatus {
      * PENDING 상태에서만 승인 가능
      */
     public boolean canApprove() {
-        return this == PENDING;
+        return PaymentStateMachine.RULES.canTransition(this, APPROVED);
     }
     
     /**
@@ -50,7 +58,7 @@ public enum PaymentStatus {
      * APPROVED 상태에서만 취소 가능
      */
     public boolean canCancel() {
-        return this == APPROVED;
+        return PaymentStateMachine.RULES.canTransition(this, CANCELED);
     }
     
     /**
@@ -58,6 +66,6 @@ public enum PaymentStatus {
      * CANCELED 상태에서만 환불 가능
      */
     public boolean canRefund() {
-        return this == CANCELED;
+        return PaymentStateMachine.RULES.canTransition(this, REFUNDED);
     }
 }
@@ -0,0 +1,32 @@
+package com.ipia.order.payment.enums;
+
+/**
+ * 웹훅 이벤트 반영 결과
+ */
+public enum PaymentWebhookOutcome {
+
+    /**
+     * 결제/주문 상태에 반영함
+     */
+    APPLIED,
+
+    /**
+     * 이미 반영됐거나 지난 상태라 건너뜀 (재전송, 순서 뒤바뀜, 동기 요청이 먼저 반영)
+     */
+    IGNORED,
+
+    /**
+     * 외부 거래 ID에 해당하는 결제가 없음
+     */
+    UNMATCHED,
+
+    /**
+     * 자동으로 반영할 수 없어 수동 확인이 필요함 (부분 취소: 결제 도메인에 부분 취소 상태가 없다)
+     */
+    REVIEW_REQUIRED,
+
+    /**
+     * 지금은 반영하지 않고 나중에 다시 시도 (진행 중인 승인 요청에 맡김)
+     */
+    DEFERRED
+}
@@ -0,0 +1,27 @@
+package com.ipia.order.payment.enums;
+
+/**
+ * 정산 대사 불일치 유형
+ */
+public enum SettlementMismatchType {
+
+    /**
+     * 정산 금액과 결제 금액이 다름
+     */
+    AMOUNT,
+
+    /**
+     * 정산 상태와 결제 상태가 맞지 않음
+     */
+    STATUS,
+
+    /**
+     * 정산 파일에는 있으나 결제가 없음
+     */
+    MISSING_PAYMENT,
+
+    /**
+     * 정산일에 승인된 결제가 정산 파일에 없음
+     */
+    MISSING_SETTLEMENT
+}
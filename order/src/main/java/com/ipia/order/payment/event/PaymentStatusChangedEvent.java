@@ -0,0 +1,52 @@
+package com.ipia.order.payment.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.ipia.order.payment.enums.PaymentStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 결제 상태 변경 이벤트 (승인/취소/환불)
+ * 
+ * Payment 엔티티가 상태를 바꿀 때 등록하고, 저장(PaymentRepository.save) 시 발행된다.
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentStatusChangedEvent {
+
+    /**
+     * 주문 ID
+     */
+    private final Long orderId;
+
+    /**
+     * 변경된 결제 상태
+     */
+    private final PaymentStatus status;
+
+    /**
+     * 상태 변경 금액 (승인/취소/환불 금액)
+     */
+    private final BigDecimal amount;
+
+    /**
+     * 상태 변경 일시
+     */
+    private final LocalDateTime occurredAt;
+
+    /**
+     * 결제 상태 변경 이벤트 생성
+     *
+     * @param orderId 주문 ID
+     * @param status 변경된 결제 상태
+     * @param amount 상태 변경 금액
+     * @param occurredAt 상태 변경 일시
+     * @return 결제 상태 변경 이벤트
+     */
+    public static PaymentStatusChangedEvent of(Long orderId, PaymentStatus status, BigDecimal amount, LocalDateTime occurredAt) {
+        return new PaymentStatusChangedEvent(orderId, status, amount, occurredAt);
+    }
+}
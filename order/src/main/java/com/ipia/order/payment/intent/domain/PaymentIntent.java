@@ -10,6 +10,7 @@ import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -17,7 +18,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "payment_intents")
+@Table(name = "payment_intents", indexes = {
+        @Index(name = "idx_payment_intents_expires_at", columnList = "expires_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PaymentIntent extends BaseEntity {
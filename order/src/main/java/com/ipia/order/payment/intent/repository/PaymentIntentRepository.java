@@ -1,8 +1,10 @@
 package com.ipia.order.payment.intent.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -17,8 +19,21 @@ public interface PaymentIntentRepository extends JpaRepository<PaymentIntent, St
     Optional<PaymentIntent> findByIntentId(String intentId);
 
     @Modifying
-    @Query("DELETE FROM PaymentIntent p WHERE p.expiresAt < :now")
-    void deleteExpiredIntents(@Param("now") LocalDateTime now);
+    @Query("DELETE FROM PaymentIntent p WHERE p.intentId = :intentId")
+    int deleteByIntentId(@Param("intentId") String intentId);
+
+    /**
+     * 만료된 의도 ID (만료 순, idx_payment_intents_expires_at 범위 스캔)
+     */
+    @Query("SELECT p.intentId FROM PaymentIntent p WHERE p.expiresAt < :now ORDER BY p.expiresAt")
+    List<String> findExpiredIntentIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 만료된 의도 일괄 삭제 (조회 이후 다시 저장된 의도는 만료 조건으로 제외)
+     */
+    @Modifying
+    @Query("DELETE FROM PaymentIntent p WHERE p.intentId IN :intentIds AND p.expiresAt < :now")
+    int deleteExpiredByIntentIdIn(@Param("intentIds") List<String> intentIds, @Param("now") LocalDateTime now);
 }
 
 
@@ -0,0 +1,121 @@
+package com.ipia.order.payment.intent.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.common.scheduling.SchedulerLeaseLock;
+import com.ipia.order.payment.config.PaymentIntentProperties;
+import com.ipia.order.payment.intent.repository.PaymentIntentRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 결제 의도 정리 워커 (payment.intent.store=db)
+ *
+ * 만료 시각 인덱스로 오래된 순 ID를 batchSize만큼 읽고 (조회 1회 + IN 삭제 1회)를 짧은 트랜잭션으로 반복한다.
+ * 한 번 실행에 maxBatchesPerRun까지만 지워 잠금/언두가 커지지 않게 하고, 남은 건 다음 주기에 이어서 지운다.
+ * 여러 노드 중 임대(SchedulerLeaseLock)를 가진 한 노드만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "payment.intent", name = "store", havingValue = "db")
+public class PaymentIntentPurgeWorker implements MeterBinder {
+
+    static final String LEASE_NAME = "payment-intent-purge";
+
+    private final PaymentIntentRepository paymentIntentRepository;
+    private final SchedulerLeaseLock schedulerLeaseLock;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentIntentProperties properties;
+
+    private final LongAdder purged = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder leaseSkipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * 만료된 결제 의도를 삭제합니다.
+     *
+     * @return 이번 실행에서 삭제된 의도 수 (임대를 얻지 못했으면 0)
+     */
+    @Scheduled(fixedDelayString = "${payment.intent.purge-interval:PT1M}")
+    public int purgeExpiredIntents() {
+        if (!properties.isPurgeEnabled()) {
+            return 0;
+        }
+        if (!schedulerLeaseLock.tryAcquire(LEASE_NAME, properties.getPurgeLeaseTime())) {
+            leaseSkipped.increment();
+            return 0;
+        }
+        int total = 0;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int batchSize = properties.getPurgeBatchSize();
+            for (int batch = 0; batch < properties.getPurgeMaxBatchesPerRun(); batch++) {
+                BatchResult result = transactionTemplate.execute(status -> purgeBatch(now, batchSize));
+                if (result == null) {
+                    break;
+                }
+                total += result.deleted();
+                // 조회한 수 기준으로 다음 배치 여부를 정한다 (사이에 사용된 의도가 있어도 남은 만료 건을 계속 지움)
+                if (result.read() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("[PaymentIntent] 만료 의도 정리 실패: purgedBeforeFailure={}", total, e);
+        } finally {
+            schedulerLeaseLock.release(LEASE_NAME);
+        }
+        if (total > 0) {
+            log.info("[PaymentIntent] 만료 의도 정리: purged={}", total);
+        }
+        return total;
+    }
+
+    private BatchResult purgeBatch(LocalDateTime now, int batchSize) {
+        List<String> expiredIds = paymentIntentRepository.findExpiredIntentIds(now, PageRequest.ofSize(batchSize));
+        if (expiredIds.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+        int deleted = paymentIntentRepository.deleteExpiredByIntentIdIn(expiredIds, now);
+        batches.increment();
+        purged.add(deleted);
+        return new BatchResult(expiredIds.size(), deleted);
+    }
+
+    /**
+     * 배치 결과: 조회한 만료 ID 수(다음 배치 여부 판단)와 실제 삭제된 행 수(보고용)
+     */
+    private record BatchResult(int read, int deleted) {
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("payment.intent.purge.purged", purged, LongAdder::sum)
+                .description("정리 작업이 삭제한 만료 결제 의도 수")
+                .register(registry);
+        FunctionCounter.builder("payment.intent.purge.batches", batches, LongAdder::sum)
+                .description("만료 의도 삭제 배치(트랜잭션) 수")
+                .register(registry);
+        FunctionCounter.builder("payment.intent.purge.lease-skipped", leaseSkipped, LongAdder::sum)
+                .description("다른 노드가 실행 중이라 건너뛴 정리 주기 수")
+                .register(registry);
+        FunctionCounter.builder("payment.intent.purge.failed", failed, LongAdder::sum)
+                .description("실패한 정리 실행 수")
+                .register(registry);
+    }
+}
@@ -2,6 +2,12 @@ package com.ipia.order.payment.intent.service;
 
 import java.math.BigDecimal;
 
+/**
+ * 결제 의도 저장소
+ *
+ * payment.intent.store=redis(기본)이면 TTL이 걸린 Redis 해시를, db면 payment_intents 테이블을 쓴다.
+ * (PaymentIntentConfig)
+ */
 public interface PaymentIntentService {
 
     void store(String intentId, Long orderId, BigDecimal amount, String successUrl, String failUrl, String idempotencyKey, long ttlSeconds);
@@ -10,6 +16,11 @@ public interface PaymentIntentService {
 
     void delete(String intentId);
 
+    /**
+     * 의도 사용 처리: 조회와 삭제를 한 번에 (없거나 만료됐으면 null)
+     */
+    PaymentIntentData consume(String intentId);
+
     record PaymentIntentData(
             String intentId,
             Long orderId,
@@ -2,7 +2,7 @@ package com.ipia.order.payment.intent.service;
 
 import java.math.BigDecimal;
 
-import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.ipia.order.payment.intent.domain.PaymentIntent;
 import com.ipia.order.payment.intent.repository.PaymentIntentRepository;
@@ -10,7 +10,12 @@ import com.ipia.order.payment.intent.repository.PaymentIntentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-@Service
+/**
+ * DB(payment_intents) 결제 의도 저장소 (payment.intent.store=db)
+ *
+ * 의도가 결제 확정과 같은 내구성을 가져야 할 때 쓴다.
+ * 만료된 의도는 조회에서 없는 것으로 보고, 삭제는 PaymentIntentPurgeWorker가 배치로 한다. (조회 경로에서 쓰지 않음)
+ */
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentIntentServiceImpl implements PaymentIntentService {
@@ -27,26 +32,33 @@ public class PaymentIntentServiceImpl implements PaymentIntentService {
     @Override
     public PaymentIntentData get(String intentId) {
         return paymentIntentRepository.findByIntentId(intentId)
-                .map(entity -> {
-                    if (entity.isExpired()) {
-                        try { paymentIntentRepository.delete(entity); } catch (Exception ignored) {}
-                        return null;
-                    }
-                    return new PaymentIntentData(
-                            entity.getIntentId(),
-                            entity.getOrderId(),
-                            entity.getAmount(),
-                            entity.getSuccessUrl(),
-                            entity.getFailUrl(),
-                            entity.getIdempotencyKey()
-                    );
-                })
+                .filter(entity -> !entity.isExpired())
+                .map(entity -> new PaymentIntentData(
+                        entity.getIntentId(),
+                        entity.getOrderId(),
+                        entity.getAmount(),
+                        entity.getSuccessUrl(),
+                        entity.getFailUrl(),
+                        entity.getIdempotencyKey()
+                ))
                 .orElse(null);
     }
 
     @Override
+    @Transactional
     public void delete(String intentId) {
-        paymentIntentRepository.findByIntentId(intentId).ifPresent(paymentIntentRepository::delete);
+        paymentIntentRepository.deleteByIntentId(intentId);
+    }
+
+    @Override
+    @Transactional
+    public PaymentIntentData consume(String intentId) {
+        PaymentIntentData intent = get(intentId);
+        if (paymentIntentRepository.deleteByIntentId(intentId) == 0) {
+            // 다른 요청이 먼저 사용했거나 만료로 지워진 경우
+            return null;
+        }
+        return intent;
     }
 }
 
@@ -0,0 +1,116 @@
+package com.ipia.order.payment.intent.service;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.ipia.order.common.exception.payment.PaymentHandler;
+import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 해시(payment:intent:{intentId}) 결제 의도 저장소 (payment.intent.store=redis)
+ *
+ * 만료는 Redis TTL에 맡기므로 조회 경로에서 지우지 않고, 모든 연산이 왕복 한 번이다.
+ * - 저장: HSET + EXPIRE (스크립트 하나)
+ * - 조회: HGETALL
+ * - 사용: HGETALL + DEL을 스크립트로 원자 실행 (같은 의도를 두 요청이 동시에 사용해도 한쪽만 받는다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisPaymentIntentService implements PaymentIntentService {
+
+    private static final String FIELD_ORDER_ID = "orderId";
+    private static final String FIELD_AMOUNT = "amount";
+    private static final String FIELD_SUCCESS_URL = "successUrl";
+    private static final String FIELD_FAIL_URL = "failUrl";
+    private static final String FIELD_IDEMPOTENCY_KEY = "idempotencyKey";
+
+    /**
+     * KEYS: 의도 키, ARGV: TTL(초), 필드/값 목록
+     */
+    private static final RedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) "
+                    + "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+                    + "return 1",
+            Long.class);
+
+    /**
+     * KEYS: 의도 키, 반환: 필드/값 목록 (없으면 빈 목록)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "local fields = redis.call('HGETALL', KEYS[1]) "
+                    + "if #fields > 0 then redis.call('DEL', KEYS[1]) end "
+                    + "return fields",
+            List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String keyPrefix;
+
+    @Override
+    public void store(String intentId, Long orderId, BigDecimal amount, String successUrl, String failUrl, String idempotencyKey, long ttlSeconds) {
+        if (ttlSeconds <= 0) {
+            throw new PaymentHandler(PaymentErrorStatus.INVALID_EXPIRES_AT);
+        }
+        stringRedisTemplate.execute(STORE_SCRIPT, Collections.singletonList(key(intentId)),
+                String.valueOf(ttlSeconds),
+                FIELD_ORDER_ID, String.valueOf(orderId),
+                FIELD_AMOUNT, amount.toPlainString(),
+                FIELD_SUCCESS_URL, successUrl,
+                FIELD_FAIL_URL, failUrl,
+                FIELD_IDEMPOTENCY_KEY, idempotencyKey);
+        log.info("PaymentIntent Redis 저장: {}", intentId);
+    }
+
+    @Override
+    public PaymentIntentData get(String intentId) {
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(key(intentId));
+        if (fields.isEmpty()) {
+            return null;
+        }
+        return toData(intentId, fields);
+    }
+
+    @Override
+    public void delete(String intentId) {
+        stringRedisTemplate.delete(key(intentId));
+    }
+
+    @Override
+    public PaymentIntentData consume(String intentId) {
+        List<?> flat = stringRedisTemplate.execute(CONSUME_SCRIPT, Collections.singletonList(key(intentId)));
+        if (flat == null || flat.isEmpty()) {
+            return null;
+        }
+        Map<Object, Object> fields = new HashMap<>();
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            fields.put(flat.get(i).toString(), flat.get(i + 1).toString());
+        }
+        return toData(intentId, fields);
+    }
+
+    private String key(String intentId) {
+        return keyPrefix + intentId;
+    }
+
+    private static PaymentIntentData toData(String intentId, Map<Object, Object> fields) {
+        return new PaymentIntentData(
+                intentId,
+                Long.valueOf((String) fields.get(FIELD_ORDER_ID)),
+                new BigDecimal((String) fields.get(FIELD_AMOUNT)),
+                (String) fields.get(FIELD_SUCCESS_URL),
+                (String) fields.get(FIELD_FAIL_URL),
+                (String) fields.get(FIELD_IDEMPOTENCY_KEY)
+        );
+    }
+}
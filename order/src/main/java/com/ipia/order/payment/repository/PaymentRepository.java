@@ -1,11 +1,18 @@
 package com.ipia.order.payment.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ipia.order.payment.domain.Payment;
+import com.ipia.order.payment.settlement.repository.PaymentSettlementSource;
 
 /**
  * Payment 도메인 저장소 포트
@@ -28,4 +35,24 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      * @return Payment 엔티티 또는 empty
      */
     Optional<Payment> findByProviderTxnId(String providerTxnId);
+
+    /**
+     * 외부 거래 ID 묶음으로 정산 대사용 결제 행 조회
+     */
+    @Query("SELECT new com.ipia.order.payment.settlement.repository.PaymentSettlementSource("
+            + "p.id, p.providerTxnId, p.paidAmount, p.status) "
+            + "FROM Payment p WHERE p.providerTxnId IN :providerTxnIds")
+    List<PaymentSettlementSource> findSettlementSources(@Param("providerTxnIds") Collection<String> providerTxnIds);
+
+    /**
+     * 기간 안에 승인된 결제를 ID 순으로 한 구간씩 조회 (keyset)
+     */
+    @Query("SELECT new com.ipia.order.payment.settlement.repository.PaymentSettlementSource("
+            + "p.id, p.providerTxnId, p.paidAmount, p.status) "
+            + "FROM Payment p WHERE p.id > :afterId AND p.approvedAt >= :from AND p.approvedAt < :to "
+            + "ORDER BY p.id")
+    List<PaymentSettlementSource> findApprovedSettlementSources(@Param("afterId") long afterId,
+                                                                @Param("from") LocalDateTime from,
+                                                                @Param("to") LocalDateTime to,
+                                                                Pageable pageable);
 }
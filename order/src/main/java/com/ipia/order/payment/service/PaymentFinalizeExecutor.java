@@ -0,0 +1,116 @@
+package com.ipia.order.payment.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.ipia.order.payment.config.PaymentAsyncProperties;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 결제 승인의 확정 단계(DB 저장) 전용 스레드
+ *
+ * Toss 응답은 Netty 이벤트 루프에서 완료되므로 JDBC 작업을 그 스레드에서 하지 않고 여기로 넘긴다.
+ * 스레드 수를 DB 커넥션 풀보다 작게 두어 확정이 몰려도 다른 요청의 커넥션을 남긴다.
+ * 승인 요청은 Toss 호출 전에 자리(스레드 수 + 대기열 크기)를 확보해야 하므로 대기열이 넘치지 않고,
+ * 자리가 없으면 Toss를 호출하지 않고 거절한다. (이미 승인된 결제를 버리거나 이벤트 루프에서 확정하지 않도록)
+ */
+@Slf4j
+@Component
+public class PaymentFinalizeExecutor implements MeterBinder, DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore slots;
+    private final LongAdder refused = new LongAdder();
+    private final LongAdder overflow = new LongAdder();
+
+    public PaymentFinalizeExecutor(PaymentAsyncProperties properties) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.slots = new Semaphore(properties.getFinalizePoolSize() + properties.getFinalizeQueueCapacity());
+        this.executor = new ThreadPoolExecutor(
+                properties.getFinalizePoolSize(), properties.getFinalizePoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getFinalizeQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "payment-finalize-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    // 자리를 확보한 작업만 들어오므로 종료 중에만 발생, 승인된 결제를 잃지 않도록 별도 스레드에서 실행
+                    overflow.increment();
+                    log.warn("[Payment] 결제 확정 작업 거부 - 별도 스레드에서 실행: shutdown={}", pool.isShutdown());
+                    Thread thread = new Thread(runnable, "payment-finalize-overflow-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.start();
+                });
+    }
+
+    /**
+     * 확정 작업 자리를 확보합니다. (Toss 호출 전, 호출 스레드에서)
+     *
+     * @return 확보했으면 true, 확정 작업이 밀려 있으면 false
+     */
+    public boolean tryAcquire() {
+        if (slots.tryAcquire()) {
+            return true;
+        }
+        refused.increment();
+        return false;
+    }
+
+    /**
+     * 확보한 자리를 쓰지 않고 돌려줍니다. (Toss 호출 전에 실패한 경우)
+     */
+    public void release() {
+        slots.release();
+    }
+
+    /**
+     * 확보한 자리로 확정 작업을 실행하고, 끝나면 자리를 돌려줍니다.
+     */
+    public void execute(Runnable task) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                slots.release();
+            }
+        });
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("[Payment] 결제 확정 작업 종료 대기 초과: queued={}", executor.getQueue().size());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("payment.finalize.queued", executor, pool -> pool.getQueue().size())
+                .description("대기 중인 결제 확정 작업 수")
+                .register(registry);
+        Gauge.builder("payment.finalize.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 결제 확정 작업 수")
+                .register(registry);
+        FunctionCounter.builder("payment.finalize.refused", refused, LongAdder::sum)
+                .description("확정 작업이 밀려 Toss 호출 전에 거절한 승인 요청 수")
+                .register(registry);
+        FunctionCounter.builder("payment.finalize.overflow", overflow, LongAdder::sum)
+                .description("종료 중 거부되어 별도 스레드에서 실행한 확정 작업 수")
+                .register(registry);
+    }
+}
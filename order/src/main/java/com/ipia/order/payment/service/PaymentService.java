@@ -1,6 +1,7 @@
 package com.ipia.order.payment.service;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 결제 서비스 응용 계층 인터페이스.
@@ -14,6 +15,13 @@ public interface PaymentService {
 
     Long approve(String intentId, String paymentKey, long orderId, BigDecimal amount, String idempotencyKey);
 
+    /**
+     * 결제 승인 (비동기)
+     * 검증까지는 호출 스레드에서 하고, Toss 승인 대기 동안에는 스레드를 점유하지 않는다.
+     * 결과/예외는 반환된 future로 전달된다.
+     */
+    CompletableFuture<Long> approveAsync(String intentId, String paymentKey, long orderId, BigDecimal amount, String idempotencyKey);
+
     void cancel(String paymentKey, BigDecimal cancelAmount, String reason);
 }
 
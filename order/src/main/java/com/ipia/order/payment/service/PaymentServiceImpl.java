@@ -1,11 +1,17 @@
 package com.ipia.order.payment.service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 import com.ipia.order.common.exception.payment.PaymentHandler;
@@ -14,7 +20,6 @@ import com.ipia.order.idempotency.service.IdempotencyKeyService;
 import com.ipia.order.order.service.OrderService;
 import com.ipia.order.payment.domain.Payment;
 import com.ipia.order.payment.service.external.TossCancelResponse;
-import com.ipia.order.payment.service.external.TossConfirmResponse;
 import com.ipia.order.payment.service.external.TossPaymentClient;
 import com.ipia.order.payment.intent.service.PaymentIntentService;
 import com.ipia.order.payment.intent.service.PaymentIntentService.PaymentIntentData;
@@ -34,8 +39,13 @@ public class PaymentServiceImpl implements PaymentService {
     private final OrderService orderService;
     private final ApplicationEventPublisher eventPublisher;
     private final IdempotencyKeyService idempotencyKeyService;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentFinalizeExecutor paymentFinalizeExecutor;
 
     private static final long INTENT_TTL_SECONDS = 1800; // 30분
+    private static final String APPROVE_ENDPOINT = "POST /payments/approve";
+    private static final Duration APPROVAL_RESERVATION_TIMEOUT = Duration.ofMinutes(5); // Toss 응답 상한보다 길게
+    private static final String APPROVAL_COMPENSATION_REASON = "결제 확정 실패로 인한 자동 취소";
 
     @Override
     @Transactional
@@ -92,8 +102,14 @@ public class PaymentServiceImpl implements PaymentService {
         log.info("결제 의도 검증 성공: intentId={}, orderId={}, amount={}", intentId, orderId, amount);
     }
 
+    /**
+     * 결제 승인
+     * Toss 호출 동안 트랜잭션(DB 커넥션, 행 잠금)을 잡지 않도록 단계를 나눈다.
+     * 1) 예약: 짧은 트랜잭션으로 의도 검증 후 PENDING 결제를 저장 (주문당 결제 유니크 제약으로 동시 승인 차단)
+     * 2) Toss 승인: 트랜잭션 없이 호출, 실패하면 예약을 지운다
+     * 3) 확정: 짧은 트랜잭션으로 승인/의도 삭제/주문 결제 완료, 실패하면 Toss 결제를 취소하고 예약을 지운다
+     */
     @Override
-    @Transactional
     public Long approve(String intentId, String paymentKey, long orderId, BigDecimal amount, String idempotencyKey) {
         log.info("결제 승인 요청: intentId={}, paymentKey={}, orderId={}, amount={}", intentId, paymentKey, orderId, amount);
         
@@ -102,7 +118,7 @@ public class PaymentServiceImpl implements PaymentService {
         
         // 멱등성 처리로 결제 승인 실행
         return idempotencyKeyService.executeWithIdempotency(
-                "POST /payments/approve",
+                APPROVE_ENDPOINT,
                 idempotencyKey,
                 Long.class,
                 () -> executeApproveLogic(intentId, paymentKey, orderId, amount, idempotencyKey)
@@ -110,58 +126,260 @@ public class PaymentServiceImpl implements PaymentService {
     }
     
     private Long executeApproveLogic(String intentId, String paymentKey, long orderId, BigDecimal amount, String idempotencyKey) {
-        // 의도 검증
-        verify(intentId, paymentKey, orderId, amount, idempotencyKey);
-        
-        // 기존 결제 확인 (중복 승인 방지)
-        paymentRepository.findByOrderId(orderId).ifPresent(payment -> {
-            if (payment.isApproved()) {
-                log.warn("이미 승인된 결제: orderId={}, paymentId={}", orderId, payment.getId());
-                throw new PaymentHandler(PaymentErrorStatus.PAYMENT_ALREADY_APPROVED);
-            }
-        });
-        
-        // Toss API 호출
-        TossConfirmResponse tossResponse = tossPaymentClient.confirm(paymentKey, String.valueOf(orderId), amount);
+        // 예약 (의도 검증, 중복 승인 방지)
+        Long paymentId = reserveApproval(intentId, paymentKey, orderId, amount, idempotencyKey);
         
-        // Payment 엔티티 생성 및 승인
-        Payment payment = Payment.create(orderId, amount, paymentKey);
-        payment.approve(amount);
-        
-        // 저장
-        Payment savedPayment = paymentRepository.save(payment);
-        
-        // 의도 삭제
-        paymentIntentService.delete(intentId);
-        
-        // 주문 상태 업데이트 (결제 완료)
-        orderService.handlePaymentApproved(orderId);
+        // Toss API 호출 (트랜잭션 밖)
+        try {
+            tossPaymentClient.confirm(paymentKey, String.valueOf(orderId), amount, idempotencyKey);
+        } catch (RuntimeException e) {
+            releaseReservation(paymentId);
+            throw e;
+        }
         
-        log.info("결제 승인 완료: paymentId={}, orderId={}, amount={}", savedPayment.getId(), orderId, amount);
-        return savedPayment.getId();
+        return completeApproval(paymentId, intentId, orderId, paymentKey, amount);
     }
 
+    /**
+     * 비동기 승인
+     * 1) 호출 스레드: 입력 검증, 확정 작업 자리 확보(없으면 거절), 예약 (짧은 트랜잭션)
+     * 2) Toss 승인: 논블로킹, 대기 중 점유하는 스레드/커넥션 없음
+     * 3) 확정 스레드: 멱등 키 기록과 함께 확정, 실패 시 예약 해제/보상 취소
+     * 같은 멱등 키로 이미 완료된 승인은 외부 호출 없이 기존 결과를 돌려준다.
+     */
+    @Override
+    public CompletableFuture<Long> approveAsync(String intentId, String paymentKey, long orderId, BigDecimal amount, String idempotencyKey) {
+        log.info("결제 승인 요청(비동기): intentId={}, paymentKey={}, orderId={}, amount={}", intentId, paymentKey, orderId, amount);
+
+        // 입력값 검증
+        validateApproveParams(intentId, paymentKey, orderId, amount, idempotencyKey);
+
+        // 완료된 멱등 키면 저장된 응답 재사용
+        if (idempotencyKeyService.findByIdempotencyKey(APPROVE_ENDPOINT, idempotencyKey).isPresent()) {
+            return CompletableFuture.completedFuture(approve(intentId, paymentKey, orderId, amount, idempotencyKey));
+        }
+
+        // 확정 작업 자리를 Toss 호출 전에 확보 (응답 후 대기열이 넘쳐 이벤트 루프에서 확정하지 않도록)
+        if (!paymentFinalizeExecutor.tryAcquire()) {
+            log.warn("결제 확정 작업 포화 - 승인 거절: orderId={}", orderId);
+            throw new PaymentHandler(PaymentErrorStatus.PAYMENT_FINALIZE_BUSY);
+        }
+        Long paymentId;
+        try {
+            paymentId = reserveApproval(intentId, paymentKey, orderId, amount, idempotencyKey);
+        } catch (RuntimeException e) {
+            paymentFinalizeExecutor.release();
+            throw e;
+        }
+
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        tossPaymentClient.confirmAsync(paymentKey, String.valueOf(orderId), amount, idempotencyKey)
+                .whenComplete((tossResponse, tossError) -> paymentFinalizeExecutor.execute(() -> {
+                    if (tossError != null) {
+                        releaseReservation(paymentId);
+                        result.completeExceptionally(tossError instanceof CompletionException && tossError.getCause() != null
+                                ? tossError.getCause() : tossError);
+                        return;
+                    }
+                    try {
+                        result.complete(idempotencyKeyService.executeWithIdempotency(APPROVE_ENDPOINT, idempotencyKey, Long.class,
+                                () -> completeApproval(paymentId, intentId, orderId, paymentKey, amount)));
+                    } catch (RuntimeException e) {
+                        result.completeExceptionally(e);
+                    }
+                }));
+        return result;
+    }
+
+    /**
+     * 승인 예약: 의도 검증 후 PENDING 결제 저장
+     * 확정/해제 없이 남은 오래된 예약(프로세스 중단, 보상 취소 실패 등)은 Toss에서 승인됐을 수 있으므로
+     * 지우지 않고 대사 필요로 바꾼 뒤 승인을 거절한다.
+     */
+    private Long reserveApproval(String intentId, String paymentKey, long orderId, BigDecimal amount, String idempotencyKey) {
+        Long paymentId;
+        try {
+            paymentId = transactionTemplate.execute(status -> {
+                // 의도 검증
+                verify(intentId, paymentKey, orderId, amount, idempotencyKey);
+
+                // 기존 결제 확인 (중복 승인 방지)
+                Payment existing = paymentRepository.findByOrderId(orderId).orElse(null);
+                if (existing == null) {
+                    return paymentRepository.save(Payment.create(orderId, amount, paymentKey)).getId();
+                }
+                if (existing.isApproved()) {
+                    log.warn("이미 승인된 결제: orderId={}, paymentId={}", orderId, existing.getId());
+                    throw new PaymentHandler(PaymentErrorStatus.PAYMENT_ALREADY_APPROVED);
+                }
+                if (existing.isReconciliationRequired()) {
+                    throw new PaymentHandler(PaymentErrorStatus.PAYMENT_RECONCILIATION_REQUIRED);
+                }
+                if (!existing.isPending()) {
+                    throw new PaymentHandler(PaymentErrorStatus.PAYMENT_CANNOT_APPROVE);
+                }
+                if (!isStaleReservation(existing)) {
+                    log.warn("승인 진행 중인 결제: orderId={}, paymentId={}", orderId, existing.getId());
+                    throw new PaymentHandler(PaymentErrorStatus.PAYMENT_APPROVAL_IN_PROGRESS);
+                }
+                // 전환은 커밋해야 하므로 예외 대신 null을 돌려주고 트랜잭션 밖에서 거절한다
+                log.error("확정/해제되지 않은 오래된 승인 예약 - 대사 필요로 전환: orderId={}, paymentId={}, paymentKey={}",
+                        orderId, existing.getId(), existing.getProviderTxnId());
+                existing.requireReconciliation();
+                paymentRepository.save(existing);
+                return null;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 주문의 다른 요청이 먼저 예약함
+            log.warn("승인 예약 경합: orderId={}", orderId);
+            throw new PaymentHandler(PaymentErrorStatus.PAYMENT_APPROVAL_IN_PROGRESS);
+        }
+        if (paymentId == null) {
+            throw new PaymentHandler(PaymentErrorStatus.PAYMENT_RECONCILIATION_REQUIRED);
+        }
+        return paymentId;
+    }
+
+    private boolean isStaleReservation(Payment payment) {
+        LocalDateTime reservedAt = payment.getCreatedAt();
+        return reservedAt != null && reservedAt.isBefore(LocalDateTime.now().minus(APPROVAL_RESERVATION_TIMEOUT));
+    }
+
+    /**
+     * 승인 확정: 예약 결제 승인, 주문 결제 완료 처리 후 커밋되면 의도 사용 처리
+     * 확정하지 못하면 Toss에서 이미 승인된 금액을 취소한다. (보상)
+     * 의도 저장소가 Redis일 수 있어 의도는 트랜잭션 밖에서 지우고, 실패해도 TTL로 만료되므로 승인은 유지한다.
+     */
+    private Long completeApproval(Long paymentId, String intentId, long orderId, String paymentKey, BigDecimal amount) {
+        Long approvedPaymentId;
+        try {
+            approvedPaymentId = transactionTemplate.execute(status -> {
+                Payment payment = paymentRepository.findById(paymentId)
+                        .orElseThrow(() -> new PaymentHandler(PaymentErrorStatus.PAYMENT_NOT_FOUND));
+                payment.approve(amount);
+                Payment savedPayment = paymentRepository.save(payment);
+
+                // 주문 상태 업데이트 (결제 완료)
+                orderService.handlePaymentApproved(orderId);
+
+                log.info("결제 승인 완료: paymentId={}, orderId={}, amount={}", savedPayment.getId(), orderId, amount);
+                return savedPayment.getId();
+            });
+        } catch (RuntimeException e) {
+            log.warn("결제 확정 실패 - 보상 취소: paymentId={}, orderId={}", paymentId, orderId, e);
+            compensateApproval(paymentId, paymentKey, amount);
+            throw e;
+        }
+
+        // 의도 사용 처리
+        try {
+            if (paymentIntentService.consume(intentId) == null) {
+                log.warn("결제 의도가 이미 사용되었거나 만료됨: intentId={}", intentId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("결제 의도 삭제 실패 - TTL 만료로 정리됨: intentId={}", intentId, e);
+        }
+        return approvedPaymentId;
+    }
+
+    private void compensateApproval(Long paymentId, String paymentKey, BigDecimal amount) {
+        try {
+            tossPaymentClient.cancel(paymentKey, amount, APPROVAL_COMPENSATION_REASON);
+        } catch (RuntimeException e) {
+            // Toss에서 승인된 금액이므로 예약을 지우지 않고 대사 필요로 남긴다 (다음 승인 요청이 회수하지 않음)
+            log.error("보상 취소 실패 - 수동 확인 필요: paymentId={}, paymentKey={}, amount={}", paymentId, paymentKey, amount, e);
+            requireReconciliation(paymentId);
+            return;
+        }
+        releaseReservation(paymentId);
+    }
+
+    /**
+     * 승인 예약을 대사 필요로 전환 (PENDING인 경우에만)
+     */
+    private void requireReconciliation(Long paymentId) {
+        try {
+            transactionTemplate.execute(status -> {
+                paymentRepository.findById(paymentId)
+                        .filter(Payment::isPending)
+                        .ifPresent(payment -> {
+                            payment.requireReconciliation();
+                            paymentRepository.save(payment);
+                        });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // PENDING으로 남은 예약은 APPROVAL_RESERVATION_TIMEOUT 이후 다음 승인 요청이 대사 필요로 전환한다
+            log.warn("승인 예약 대사 필요 전환 실패: paymentId={}", paymentId, e);
+        }
+    }
+
+    /**
+     * 승인 예약 해제 (PENDING인 경우에만 삭제)
+     */
+    private void releaseReservation(Long paymentId) {
+        try {
+            transactionTemplate.execute(status -> {
+                paymentRepository.findById(paymentId)
+                        .filter(Payment::isPending)
+                        .ifPresent(paymentRepository::delete);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 남은 예약은 APPROVAL_RESERVATION_TIMEOUT 이후 다음 승인 요청이 대사 필요로 전환한다
+            log.warn("승인 예약 해제 실패: paymentId={}", paymentId, e);
+        }
+    }
+
+    /**
+     * 결제 취소
+     * 승인과 마찬가지로 Toss 호출 동안 트랜잭션을 잡지 않는다.
+     * 사전 확인(짧은 읽기) → Toss 취소(트랜잭션 없음) → 짧은 트랜잭션으로 다시 읽어 취소 반영
+     */
     @Override
-    @Transactional
     public void cancel(String paymentKey, BigDecimal cancelAmount, String reason) {
         log.info("결제 취소 요청: paymentKey={}, cancelAmount={}, reason={}", paymentKey, cancelAmount, reason);
         
         // 입력값 검증
         validateCancelParams(paymentKey, cancelAmount, reason);
         
-        // Payment 조회
+        // Payment 조회 및 취소 가능 여부 사전 확인 (Toss 호출 전에 거절)
         Payment payment = paymentRepository.findByProviderTxnId(paymentKey)
                 .orElseThrow(() -> new PaymentHandler(PaymentErrorStatus.PAYMENT_NOT_FOUND));
+        if (!payment.getStatus().canCancel()) {
+            throw new PaymentHandler(PaymentErrorStatus.PAYMENT_CANNOT_CANCEL);
+        }
+        if (cancelAmount.compareTo(payment.getPaidAmount()) > 0) {
+            throw new PaymentHandler(PaymentErrorStatus.CANCEL_AMOUNT_EXCEEDED);
+        }
         
-        // Toss API 호출
+        // Toss API 호출 (트랜잭션 밖)
         TossCancelResponse tossResponse = tossPaymentClient.cancel(paymentKey, cancelAmount, reason);
         
-        // Payment 취소 처리
-        payment.cancel(cancelAmount, reason);
-        paymentRepository.save(payment);
-        
-        // 주문 상태 업데이트 (결제 취소)
-        orderService.handlePaymentCanceled(payment.getOrderId());
+        try {
+            transactionTemplate.execute(status -> {
+                Payment current = paymentRepository.findByProviderTxnId(paymentKey)
+                        .orElseThrow(() -> new PaymentHandler(PaymentErrorStatus.PAYMENT_NOT_FOUND));
+
+                // Toss 취소 웹훅이 먼저 반영한 경우
+                if (current.isCanceled() && cancelAmount.compareTo(current.getCanceledAmount()) == 0) {
+                    log.info("결제 취소가 웹훅으로 이미 반영됨: paymentKey={}", paymentKey);
+                    return null;
+                }
+
+                // Payment 취소 처리
+                current.cancel(cancelAmount, reason);
+                paymentRepository.save(current);
+                
+                // 주문 상태 업데이트 (결제 취소)
+                orderService.handlePaymentCanceled(current.getOrderId());
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // Toss 취소는 되돌릴 수 없으므로 기록을 남기고 실패를 알린다 (정산 대사에서 확인)
+            log.error("Toss 취소 후 로컬 반영 실패 - 수동 확인 필요: paymentKey={}, cancelAmount={}", paymentKey, cancelAmount, e);
+            throw e;
+        }
         
         log.info("결제 취소 완료: paymentId={}, orderId={}, cancelAmount={}", payment.getId(), payment.getOrderId(), cancelAmount);
     }
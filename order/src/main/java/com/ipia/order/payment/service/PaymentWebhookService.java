@@ -0,0 +1,48 @@
+package com.ipia.order.payment.service;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import com.ipia.order.payment.enums.PaymentWebhookOutcome;
+import com.ipia.order.payment.webhook.PaymentWebhookEvent;
+
+/**
+ * 결제 웹훅 서비스
+ *
+ * 수신(receive)은 서명 검증과 대기열 적재만 하고 바로 응답하며,
+ * 반영(apply)은 PaymentWebhookWorker가 같은 거래의 이벤트를 묶어 발생 순서대로 호출한다.
+ */
+public interface PaymentWebhookService {
+
+    /**
+     * 웹훅 수신
+     *
+     * @param payload 요청 본문 (서명 대상 원문)
+     * @param signature tosspayments-webhook-signature 헤더 (v1:{base64},...)
+     * @param transmissionTime tosspayments-webhook-transmission-time 헤더
+     * @param transmissionId tosspayments-webhook-transmission-id 헤더 (없으면 본문 해시로 중복 제거)
+     * @return 새로 적재했으면 true (중복이거나 처리 대상이 아닌 이벤트면 false)
+     */
+    boolean receive(String payload, @Nullable String signature, @Nullable String transmissionTime,
+                    @Nullable String transmissionId);
+
+    /**
+     * 같은 외부 거래 ID의 이벤트를 발생 순서대로 한 트랜잭션에서 반영
+     *
+     * @param events 같은 providerTxnId의 이벤트 (발생 순서)
+     * @return 앞에서부터 처리한 이벤트별 결과 (DEFERRED가 나오면 거기서 멈추고 뒤 이벤트는 처리하지 않는다)
+     */
+    List<PaymentWebhookOutcome> apply(List<PaymentWebhookEvent> events);
+
+    /**
+     * 반영에 실패한 승인(DONE) 이벤트 보상
+     *
+     * 결제사에서는 승인됐지만 주문이 이미 취소/만료되는 등으로 확정할 수 없으면 동기 승인 경로와 같이
+     * Toss 결제를 취소하고 승인 예약을 지운다. (트랜잭션 밖에서 호출)
+     *
+     * @return 보상했으면 true, 보상 대상(승인 대기 결제의 DONE)이 아니면 false
+     * @throws RuntimeException Toss 취소 실패 (이벤트를 ack하지 않고 다시 시도해야 한다)
+     */
+    boolean compensate(PaymentWebhookEvent event);
+}
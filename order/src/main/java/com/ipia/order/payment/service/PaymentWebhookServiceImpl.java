@@ -0,0 +1,302 @@
+package com.ipia.order.payment.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipia.order.common.exception.payment.PaymentHandler;
+import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
+import com.ipia.order.order.service.OrderService;
+import com.ipia.order.payment.config.PaymentWebhookProperties;
+import com.ipia.order.payment.domain.Payment;
+import com.ipia.order.payment.enums.PaymentWebhookOutcome;
+import com.ipia.order.payment.repository.PaymentRepository;
+import com.ipia.order.payment.service.external.TossPaymentClient;
+import com.ipia.order.payment.webhook.PaymentWebhookEvent;
+import com.ipia.order.payment.webhook.PaymentWebhookQueue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 웹훅 서비스 구현체
+ *
+ * 반영은 결제 상태 기준으로만 전진한다. 이미 그 상태이거나 지난 상태로 가는 이벤트(재전송, 순서 뒤바뀜,
+ * 동기 승인/취소 요청이 먼저 반영한 경우)는 건너뛰므로 같은 이벤트가 두 번 와도 결과가 같다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentWebhookServiceImpl implements PaymentWebhookService {
+
+    static final String PAYMENT_STATUS_CHANGED = "PAYMENT_STATUS_CHANGED";
+    private static final String SIGNATURE_VERSION_PREFIX = "v1:";
+    private static final String WEBHOOK_CANCEL_REASON = "결제사 취소 (웹훅)";
+    private static final String COMPENSATION_REASON = "결제 확정 실패로 인한 자동 취소 (웹훅)";
+
+    private final PaymentWebhookQueue paymentWebhookQueue;
+    private final PaymentRepository paymentRepository;
+    private final OrderService orderService;
+    private final TossPaymentClient tossPaymentClient;
+    private final ObjectMapper objectMapper;
+    private final PaymentWebhookProperties properties;
+
+    @Override
+    public boolean receive(String payload, @Nullable String signature, @Nullable String transmissionTime,
+                           @Nullable String transmissionId) {
+        if (!properties.isEnabled()) {
+            throw new PaymentHandler(PaymentErrorStatus.WEBHOOK_DISABLED);
+        }
+        if (!verifySignature(properties.getSecret(), payload, signature, transmissionTime,
+                properties.getSignatureTolerance(), OffsetDateTime.now())) {
+            log.warn("[PaymentWebhook] 서명 검증 실패: transmissionId={}", transmissionId);
+            throw new PaymentHandler(PaymentErrorStatus.TOSS_WEBHOOK_SIGNATURE_INVALID);
+        }
+
+        PaymentWebhookEvent event = parse(payload, transmissionId);
+        if (event == null) {
+            return false;
+        }
+        try {
+            boolean added = paymentWebhookQueue.enqueue(event);
+            log.info("[PaymentWebhook] 웹훅 수신: eventId={}, providerTxnId={}, status={}, duplicate={}",
+                    event.eventId(), event.providerTxnId(), event.status(), !added);
+            return added;
+        } catch (DataAccessException e) {
+            log.warn("[PaymentWebhook] 웹훅 대기열 장애: providerTxnId={}", event.providerTxnId(), e);
+            throw new PaymentHandler(PaymentErrorStatus.WEBHOOK_QUEUE_UNAVAILABLE);
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<PaymentWebhookOutcome> apply(List<PaymentWebhookEvent> events) {
+        List<PaymentWebhookOutcome> outcomes = new ArrayList<>(events.size());
+        if (events.isEmpty()) {
+            return outcomes;
+        }
+        Payment payment = paymentRepository.findByProviderTxnId(events.get(0).providerTxnId()).orElse(null);
+        for (PaymentWebhookEvent event : events) {
+            if (payment == null) {
+                log.warn("[PaymentWebhook] 결제 없음: providerTxnId={}, status={}", event.providerTxnId(), event.status());
+                outcomes.add(PaymentWebhookOutcome.UNMATCHED);
+                continue;
+            }
+            PaymentWebhookOutcome outcome = applyEvent(payment, event);
+            outcomes.add(outcome);
+            if (outcome == PaymentWebhookOutcome.DEFERRED) {
+                break;
+            }
+        }
+        return outcomes;
+    }
+
+    @Override
+    public boolean compensate(PaymentWebhookEvent event) {
+        if (!"DONE".equalsIgnoreCase(event.status())) {
+            return false;
+        }
+        Payment payment = paymentRepository.findByProviderTxnId(event.providerTxnId())
+                .filter(Payment::isPending)
+                .orElse(null);
+        if (payment == null) {
+            return false;
+        }
+        BigDecimal amount = event.totalAmount() != null ? event.totalAmount() : payment.getPaidAmount();
+        try {
+            tossPaymentClient.cancel(event.providerTxnId(), amount, COMPENSATION_REASON);
+        } catch (RuntimeException e) {
+            log.error("[PaymentWebhook] 보상 취소 실패 - 수동 확인 필요: paymentId={}, providerTxnId={}, amount={}",
+                    payment.getId(), event.providerTxnId(), amount, e);
+            throw e;
+        }
+        try {
+            paymentRepository.delete(payment);
+        } catch (RuntimeException e) {
+            // 남은 예약은 승인 예약 만료 후 다음 승인 요청이 회수한다
+            log.warn("[PaymentWebhook] 승인 예약 해제 실패: paymentId={}", payment.getId(), e);
+        }
+        log.warn("[PaymentWebhook] 확정할 수 없는 승인 보상 취소: paymentId={}, orderId={}, amount={}",
+                payment.getId(), payment.getOrderId(), amount);
+        return true;
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private PaymentWebhookOutcome applyEvent(Payment payment, PaymentWebhookEvent event) {
+        switch (event.status().toUpperCase(Locale.ROOT)) {
+            case "DONE" -> {
+                if (payment.isReconciliationRequired()) {
+                    // Toss 승인이 확인됐지만 주문 확정/보상 결과를 알 수 없는 예약이므로 대사에서 정리한다
+                    log.error("[PaymentWebhook] 대사 필요 결제의 승인 통지 - 수동 확인 필요: paymentId={}, orderId={}",
+                            payment.getId(), payment.getOrderId());
+                    return PaymentWebhookOutcome.REVIEW_REQUIRED;
+                }
+                if (!payment.isPending()) {
+                    return PaymentWebhookOutcome.IGNORED;
+                }
+                if (isApprovalInFlight(payment)) {
+                    return PaymentWebhookOutcome.DEFERRED;
+                }
+                payment.approve(event.totalAmount() != null ? event.totalAmount() : payment.getPaidAmount());
+                paymentRepository.save(payment);
+                orderService.handlePaymentApproved(payment.getOrderId());
+                log.info("[PaymentWebhook] 지연 승인 반영: paymentId={}, orderId={}", payment.getId(), payment.getOrderId());
+                return PaymentWebhookOutcome.APPLIED;
+            }
+            case "PARTIAL_CANCELED" -> {
+                if (!payment.isApproved()) {
+                    return PaymentWebhookOutcome.IGNORED;
+                }
+                // 부분 취소를 전액 취소로 반영하면 주문 전체가 취소되어 재고/매출이 어긋난다
+                log.error("[PaymentWebhook] 부분 취소 - 수동 확인 필요: paymentId={}, orderId={}, cancelAmount={}",
+                        payment.getId(), payment.getOrderId(), event.cancelAmount());
+                return PaymentWebhookOutcome.REVIEW_REQUIRED;
+            }
+            case "CANCELED" -> {
+                if (!payment.isApproved()) {
+                    return PaymentWebhookOutcome.IGNORED;
+                }
+                BigDecimal cancelAmount = event.cancelAmount() != null ? event.cancelAmount() : payment.getPaidAmount();
+                payment.cancel(cancelAmount, WEBHOOK_CANCEL_REASON);
+                paymentRepository.save(payment);
+                orderService.handlePaymentCanceled(payment.getOrderId());
+                log.info("[PaymentWebhook] 결제사 취소 반영: paymentId={}, orderId={}, cancelAmount={}",
+                        payment.getId(), payment.getOrderId(), cancelAmount);
+                return PaymentWebhookOutcome.APPLIED;
+            }
+            default -> {
+                // ABORTED/EXPIRED 등 승인되지 않은 예약은 승인 요청 실패 처리와 주문 만료가 정리한다
+                return PaymentWebhookOutcome.IGNORED;
+            }
+        }
+    }
+
+    /**
+     * 예약 직후에는 승인 요청 스레드가 Toss 응답을 받아 직접 확정하므로 웹훅은 기다린다.
+     * (동시에 확정하면 한쪽이 낙관적 락 충돌로 실패해 보상 취소가 일어날 수 있다)
+     */
+    private boolean isApprovalInFlight(Payment payment) {
+        LocalDateTime reservedAt = payment.getCreatedAt();
+        return reservedAt != null && reservedAt.isAfter(LocalDateTime.now().minus(properties.getApprovalGrace()));
+    }
+
+    /**
+     * Toss 결제 상태 변경 웹훅 본문을 이벤트로 변환 (다른 종류의 웹훅이면 null)
+     */
+    @Nullable
+    private PaymentWebhookEvent parse(String payload, @Nullable String transmissionId) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new PaymentHandler(PaymentErrorStatus.INVALID_WEBHOOK_PAYLOAD);
+        }
+        if (root == null || !PAYMENT_STATUS_CHANGED.equals(root.path("eventType").asText())) {
+            log.debug("[PaymentWebhook] 처리 대상이 아닌 웹훅: eventType={}", root == null ? null : root.path("eventType").asText());
+            return null;
+        }
+        JsonNode data = root.path("data");
+        String paymentKey = data.path("paymentKey").asText("");
+        String status = data.path("status").asText("");
+        if (paymentKey.isBlank() || status.isBlank()) {
+            throw new PaymentHandler(PaymentErrorStatus.INVALID_WEBHOOK_PAYLOAD);
+        }
+
+        BigDecimal cancelAmount = null;
+        for (JsonNode cancel : data.path("cancels")) {
+            if (cancel.hasNonNull("cancelAmount")) {
+                cancelAmount = (cancelAmount == null ? BigDecimal.ZERO : cancelAmount).add(cancel.get("cancelAmount").decimalValue());
+            }
+        }
+        LocalDateTime receivedAt = LocalDateTime.now();
+        String eventId = transmissionId != null && !transmissionId.isBlank()
+                ? transmissionId
+                : UUID.nameUUIDFromBytes(payload.getBytes(StandardCharsets.UTF_8)).toString();
+        return new PaymentWebhookEvent(
+                eventId,
+                paymentKey,
+                data.hasNonNull("orderId") ? data.get("orderId").asText() : null,
+                status,
+                data.hasNonNull("totalAmount") ? data.get("totalAmount").decimalValue() : null,
+                cancelAmount,
+                parseTime(root.path("createdAt").asText(null), receivedAt),
+                receivedAt);
+    }
+
+    private static LocalDateTime parseTime(@Nullable String value, LocalDateTime fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            try {
+                return OffsetDateTime.parse(value).toLocalDateTime();
+            } catch (DateTimeParseException ignored) {
+                return fallback;
+            }
+        }
+    }
+
+    /**
+     * 서명 검증: 헤더의 v1 서명 중 하나가 HMAC-SHA256(secret, "{payload}:{transmissionTime}")의 Base64와 같고
+     * 전송 시각이 허용 차이 안이어야 한다. (키가 없으면 항상 실패)
+     */
+    static boolean verifySignature(@Nullable String secret, String payload, @Nullable String signature,
+                                   @Nullable String transmissionTime, Duration tolerance, OffsetDateTime now) {
+        if (secret == null || secret.isBlank() || signature == null || transmissionTime == null) {
+            return false;
+        }
+        try {
+            OffsetDateTime sentAt = OffsetDateTime.parse(transmissionTime.trim());
+            if (Duration.between(sentAt, now).abs().compareTo(tolerance) > 0) {
+                return false;
+            }
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+
+        byte[] expected = Base64.getEncoder().encode(sign(secret, payload + ":" + transmissionTime.trim()));
+        for (String candidate : signature.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith(SIGNATURE_VERSION_PREFIX)
+                    && MessageDigest.isEqual(expected,
+                    trimmed.substring(SIGNATURE_VERSION_PREFIX.length()).getBytes(StandardCharsets.US_ASCII))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static byte[] sign(String secret, String message) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(message.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.ipia.order.payment.service.external;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.ipia.order.common.concurrent.CircuitBreaker;
+import com.ipia.order.common.exception.payment.PaymentHandler;
+import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
+import com.ipia.order.payment.config.TossResilienceProperties;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Toss 호출 보호 (서킷 브레이커 + 동시 호출 격벽)
+ *
+ * Toss 장애 시 요청이 응답 제한 시간만큼 붙잡혀 톰캣 스레드/커넥션 풀을 소진하지 않도록,
+ * 서킷이 열려 있거나 동시 호출 수가 상한이면 Toss를 부르지 않고 바로 PaymentHandler로 실패시킨다.
+ * 결제 외 API는 Toss 호출을 거치지 않으므로 장애 중에도 영향이 없다.
+ * - 실패로 세는 것: 5xx/429 응답, 타임아웃/연결 오류, 빈 응답
+ * - 4xx 응답은 요청 문제이므로 성공으로 센다 (서킷을 열지 않음)
+ */
+@Slf4j
+@Component
+public class TossCallGuard implements MeterBinder {
+
+    static final String CIRCUIT_NAME = "toss";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final int maxConcurrentCalls;
+
+    private final LongAdder bulkheadRejected = new LongAdder();
+
+    public TossCallGuard(TossResilienceProperties properties) {
+        this(new CircuitBreaker(CIRCUIT_NAME, properties.getWindowSize(), properties.getMinimumCalls(),
+                properties.getFailureRateThreshold(), properties.getSlowCallRateThreshold(),
+                properties.getSlowCallDuration(), properties.getOpenDuration(), properties.getHalfOpenCalls()),
+                properties.getMaxConcurrentCalls());
+    }
+
+    TossCallGuard(CircuitBreaker circuitBreaker, int maxConcurrentCalls) {
+        this.circuitBreaker = circuitBreaker;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+    }
+
+    /**
+     * 호출 Mono를 보호 (구독 시점에 허용 여부를 판단하고, 끝나면 결과를 서킷에 기록)
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                log.warn("[Payment] Toss 서킷 열림 - 호출 거절");
+                return Mono.error(new PaymentHandler(PaymentErrorStatus.TOSS_CIRCUIT_OPEN));
+            }
+            if (!bulkhead.tryAcquire()) {
+                circuitBreaker.releasePermission();
+                bulkheadRejected.increment();
+                log.warn("[Payment] Toss 동시 호출 상한 초과 - 호출 거절: max={}", maxConcurrentCalls);
+                return Mono.error(new PaymentHandler(PaymentErrorStatus.TOSS_BULKHEAD_FULL));
+            }
+            long startedAt = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return call
+                    .doOnSuccess(value -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            circuitBreaker.onSuccess(System.nanoTime() - startedAt);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            long elapsed = System.nanoTime() - startedAt;
+                            if (isProviderFailure(e)) {
+                                circuitBreaker.onFailure(elapsed);
+                            } else {
+                                circuitBreaker.onSuccess(elapsed);
+                            }
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            circuitBreaker.releasePermission();
+                        }
+                    })
+                    .doFinally(signal -> bulkhead.release());
+        });
+    }
+
+    static boolean isProviderFailure(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status >= 500 || status == 429;
+        }
+        return true;
+    }
+
+    public CircuitBreaker.Snapshot circuitSnapshot() {
+        return circuitBreaker.snapshot();
+    }
+
+    public int availableConcurrentCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    public int maxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("payment.toss.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("Toss 서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(registry);
+        FunctionCounter.builder("payment.toss.circuit.calls", circuitBreaker, CircuitBreaker::successCount)
+                .tag("outcome", "success")
+                .description("Toss 호출 결과 수")
+                .register(registry);
+        FunctionCounter.builder("payment.toss.circuit.calls", circuitBreaker, CircuitBreaker::failureCount)
+                .tag("outcome", "failure")
+                .description("Toss 호출 결과 수")
+                .register(registry);
+        FunctionCounter.builder("payment.toss.circuit.slow-calls", circuitBreaker, CircuitBreaker::slowCount)
+                .description("느린 호출 기준을 넘긴 Toss 호출 수")
+                .register(registry);
+        FunctionCounter.builder("payment.toss.circuit.rejected", circuitBreaker, CircuitBreaker::rejectedCount)
+                .description("서킷이 열려 거절한 Toss 호출 수")
+                .register(registry);
+        FunctionCounter.builder("payment.toss.circuit.opened", circuitBreaker, CircuitBreaker::openedCount)
+                .description("서킷이 열린 횟수")
+                .register(registry);
+        Gauge.builder("payment.toss.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("남은 Toss 동시 호출 허용 수")
+                .register(registry);
+        FunctionCounter.builder("payment.toss.bulkhead.rejected", bulkheadRejected, LongAdder::sum)
+                .description("동시 호출 상한으로 거절한 Toss 호출 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,39 @@
+package com.ipia.order.payment.service.external;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.ipia.order.common.concurrent.CircuitBreaker;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Toss 서킷/격벽 상태 조회 (GET /actuator/tosscircuit)
+ *
+ * 서킷이 열려도 애플리케이션 자체는 정상이므로 health에 넣지 않고 별도 엔드포인트로 노출한다.
+ * (health를 DOWN으로 만들면 결제 외 API까지 트래픽에서 빠진다)
+ */
+@Component
+@Endpoint(id = "tosscircuit")
+@RequiredArgsConstructor
+public class TossCircuitEndpoint {
+
+    private final TossCallGuard tossCallGuard;
+
+    @ReadOperation
+    public Map<String, Object> circuit() {
+        CircuitBreaker.Snapshot snapshot = tossCallGuard.circuitSnapshot();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("state", snapshot.state());
+        body.put("bufferedCalls", snapshot.bufferedCalls());
+        body.put("failureRate", snapshot.failureRate());
+        body.put("slowCallRate", snapshot.slowCallRate());
+        body.put("availableConcurrentCalls", tossCallGuard.availableConcurrentCalls());
+        body.put("maxConcurrentCalls", tossCallGuard.maxConcurrentCalls());
+        return body;
+    }
+}
@@ -0,0 +1,282 @@
+package com.ipia.order.payment.service.external;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.ipia.order.common.exception.payment.PaymentHandler;
+import com.ipia.order.payment.config.TossResilienceProperties;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+/**
+ * Toss 승인 재시도/헤징 정책
+ *
+ * 승인 요청은 Toss 멱등 키를 함께 보내므로 같은 승인을 여러 번 보내도 한 번만 처리된다. 이를 이용해
+ * - 재시도: 5xx/429/연결 오류/타임아웃이면 지수 백오프(흔들기 포함) 후 다시 보낸다
+ * - 헤징: 첫 요청이 최근 응답 시간의 백분위(기본 p95)를 넘기도록 끝나지 않으면 두 번째 요청을 보내고 먼저 온 응답을 쓴다
+ * 헤징은 예산(승인 요청 대비 비율) 안에서만 보내 Toss 전체가 느려졌을 때 요청이 두 배로 늘지 않게 한다.
+ * 시도별 응답 시간(payment.toss.confirm.attempt)과 최종 응답 시간(payment.toss.confirm)을 함께 기록해 꼬리 지연 개선을 비교한다.
+ */
+@Slf4j
+@Component
+public class TossConfirmPolicy implements MeterBinder {
+
+    private static final int LATENCY_WINDOW_SIZE = 1024;
+    private static final int DEADLINE_REFRESH_INTERVAL = 32;
+    private static final double MAX_HEDGE_TOKENS = 10;
+
+    private final TossResilienceProperties properties;
+    private final RetryBackoffSpec retrySpec;
+    private final LatencyWindow latencyWindow = new LatencyWindow();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder hedgesSkipped = new LongAdder();
+
+    // this로 보호
+    private double hedgeTokens = MAX_HEDGE_TOKENS;
+
+    private volatile Timer attemptTimer;
+    private volatile Timer confirmTimer;
+
+    public TossConfirmPolicy(TossResilienceProperties properties) {
+        this.properties = properties;
+        this.retrySpec = Retry.backoff(properties.getRetryMaxAttempts(), properties.getRetryMinBackoff())
+                .maxBackoff(properties.getRetryMaxBackoff())
+                .jitter(properties.getRetryJitter())
+                .filter(TossConfirmPolicy::isRetryable)
+                .doBeforeRetry(signal -> {
+                    retries.increment();
+                    log.info("[Payment] Toss 승인 재시도: attempt={}, cause={}",
+                            signal.totalRetries() + 1, signal.failure().toString());
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    /**
+     * 승인 시도 Mono(구독할 때마다 요청 한 번)에 헤징과 재시도를 적용
+     */
+    public <T> Mono<T> apply(Mono<T> attempt) {
+        return Mono.defer(() -> {
+            requests.increment();
+            addHedgeToken();
+            long startedAt = System.nanoTime();
+            return hedged(timed(attempt))
+                    .retryWhen(retrySpec)
+                    .doOnSuccess(value -> record(confirmTimer, System.nanoTime() - startedAt));
+        });
+    }
+
+    /**
+     * 재시도 대상: Toss 장애로 볼 수 있는 오류 (서킷/격벽 거절, 응답 파싱 실패, 4xx는 다시 보내도 같으므로 제외)
+     */
+    static boolean isRetryable(Throwable e) {
+        return !(e instanceof PaymentHandler) && TossCallGuard.isProviderFailure(e);
+    }
+
+    /**
+     * 현재 헤징 대기 시간 (최근 성공 시도 응답 시간의 백분위, 하한/상한 적용)
+     */
+    public Duration hedgeDelay() {
+        long minNanos = properties.getHedgeMinDelay().toNanos();
+        long maxNanos = properties.getHedgeMaxDelay().toNanos();
+        long percentile = latencyWindow.percentileNanos();
+        if (percentile < 0) {
+            return properties.getHedgeMaxDelay();
+        }
+        return Duration.ofNanos(Math.min(maxNanos, Math.max(minNanos, percentile)));
+    }
+
+    private <T> Mono<T> timed(Mono<T> attempt) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return attempt.doOnSuccess(value -> {
+                long elapsed = System.nanoTime() - startedAt;
+                latencyWindow.record(elapsed);
+                record(attemptTimer, elapsed);
+            });
+        });
+    }
+
+    private <T> Mono<T> hedged(Mono<T> attempt) {
+        if (!properties.isHedgeEnabled()) {
+            return attempt;
+        }
+        return Mono.create(sink -> {
+            HedgeRace<T> race = new HedgeRace<>(sink, attempt);
+            sink.onDispose(race.subscriptions);
+            race.subscriptions.add(attempt.subscribe(
+                    value -> race.win(value, false), e -> race.fail(e, false), () -> race.win(null, false)));
+            race.subscriptions.add(Mono.delay(hedgeDelay()).subscribe(tick -> race.launchHedge()));
+        });
+    }
+
+    private synchronized void addHedgeToken() {
+        hedgeTokens = Math.min(MAX_HEDGE_TOKENS, hedgeTokens + properties.getHedgeBudgetRatio());
+    }
+
+    private synchronized boolean tryTakeHedgeToken() {
+        if (hedgeTokens < 1) {
+            return false;
+        }
+        hedgeTokens -= 1;
+        return true;
+    }
+
+    private static void record(Timer timer, long nanos) {
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 첫 요청과 헤징 요청의 경주 (먼저 성공한 쪽을 내보내고 나머지는 취소, 둘 다 실패하면 첫 요청의 오류)
+     */
+    private final class HedgeRace<T> {
+
+        private final MonoSink<T> sink;
+        private final Mono<T> attempt;
+        private final Disposable.Composite subscriptions = Disposables.composite();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        // this로 보호
+        private boolean hedgeLaunched;
+        private int failures;
+        private Throwable primaryError;
+
+        private HedgeRace(MonoSink<T> sink, Mono<T> attempt) {
+            this.sink = sink;
+            this.attempt = attempt;
+        }
+
+        private void win(T value, boolean fromHedge) {
+            if (done.compareAndSet(false, true)) {
+                if (fromHedge) {
+                    hedgeWins.increment();
+                }
+                subscriptions.dispose();
+                sink.success(value);
+            }
+        }
+
+        private synchronized void fail(Throwable e, boolean fromHedge) {
+            if (done.get()) {
+                return;
+            }
+            if (!fromHedge) {
+                primaryError = e;
+            }
+            failures++;
+            if ((!hedgeLaunched || failures == 2) && done.compareAndSet(false, true)) {
+                subscriptions.dispose();
+                sink.error(primaryError != null ? primaryError : e);
+            }
+        }
+
+        private synchronized void launchHedge() {
+            if (done.get() || hedgeLaunched) {
+                return;
+            }
+            if (!tryTakeHedgeToken()) {
+                hedgesSkipped.increment();
+                return;
+            }
+            hedgeLaunched = true;
+            hedges.increment();
+            subscriptions.add(attempt.subscribe(
+                    value -> win(value, true), e -> fail(e, true), () -> win(null, true)));
+        }
+    }
+
+    /**
+     * 최근 성공 시도 응답 시간 (고정 크기 원형 버퍼, 백분위는 일정 건수마다 다시 계산)
+     */
+    private final class LatencyWindow {
+
+        private final long[] samples = new long[LATENCY_WINDOW_SIZE];
+        private int next;
+        private int size;
+        private int sinceRefresh;
+        private volatile long percentileNanos = -1;
+
+        private synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            if (size < samples.length) {
+                size++;
+            }
+            if (++sinceRefresh >= DEADLINE_REFRESH_INTERVAL && size >= properties.getHedgeMinSamples()) {
+                sinceRefresh = 0;
+                long[] sorted = Arrays.copyOf(samples, size);
+                Arrays.sort(sorted);
+                int index = (int) Math.ceil(properties.getHedgePercentile() / 100.0 * size) - 1;
+                percentileNanos = sorted[Math.max(0, Math.min(size - 1, index))];
+            }
+        }
+
+        private long percentileNanos() {
+            return percentileNanos;
+        }
+    }
+
+    public long hedgeCount() {
+        return hedges.sum();
+    }
+
+    public long hedgeWinCount() {
+        return hedgeWins.sum();
+    }
+
+    public long retryCount() {
+        return retries.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        attemptTimer = Timer.builder("payment.toss.confirm.attempt")
+                .description("Toss 승인 시도별 응답 시간 (재시도/헤징 전)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        confirmTimer = Timer.builder("payment.toss.confirm")
+                .description("Toss 승인 최종 응답 시간 (재시도/헤징 후)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        FunctionCounter.builder("payment.toss.confirm.requests", requests, LongAdder::sum)
+                .description("Toss 승인 요청 수")
+                .register(registry);
+        FunctionCounter.builder("payment.toss.confirm.retries", retries, LongAdder::sum)
+                .description("Toss 승인 재시도 수")
+                .register(registry);
+        FunctionCounter.builder("payment.toss.confirm.hedges", hedges, LongAdder::sum)
+                .description("보낸 헤징 요청 수 (requests 대비 비율이 헤징률)")
+                .register(registry);
+        FunctionCounter.builder("payment.toss.confirm.hedge-wins", hedgeWins, LongAdder::sum)
+                .description("헤징 요청이 먼저 응답한 수")
+                .register(registry);
+        FunctionCounter.builder("payment.toss.confirm.hedges-skipped", hedgesSkipped, LongAdder::sum)
+                .description("헤징 예산 부족으로 보내지 않은 헤징 수")
+                .register(registry);
+        Gauge.builder("payment.toss.confirm.hedge-delay", this, policy -> policy.hedgeDelay().toNanos() / 1_000_000.0)
+                .description("현재 헤징 대기 시간(ms)")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+}
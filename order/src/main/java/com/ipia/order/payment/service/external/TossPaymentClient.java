@@ -1,12 +1,26 @@
 package com.ipia.order.payment.service.external;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 
 public interface TossPaymentClient {
 
-    TossConfirmResponse confirm(String paymentKey, String orderId, BigDecimal amount);
+    /**
+     * 결제 승인
+     * idempotencyKey는 우리 멱등 키로, Toss 멱등 키를 만들어 재시도/헤징 요청이 한 번만 처리되게 한다.
+     */
+    TossConfirmResponse confirm(String paymentKey, String orderId, BigDecimal amount, String idempotencyKey);
 
     TossCancelResponse cancel(String paymentKey, BigDecimal cancelAmount, String reason);
-}
 
+    /**
+     * 결제 승인 (논블로킹)
+     * 호출 스레드를 점유하지 않고 응답 수신 시 완료된다. 실패는 PaymentHandler로 완료된다.
+     */
+    CompletableFuture<TossConfirmResponse> confirmAsync(String paymentKey, String orderId, BigDecimal amount, String idempotencyKey);
 
+    /**
+     * 결제 취소 (논블로킹)
+     */
+    CompletableFuture<TossCancelResponse> cancelAsync(String paymentKey, BigDecimal cancelAmount, String reason);
+}
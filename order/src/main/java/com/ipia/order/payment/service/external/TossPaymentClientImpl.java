@@ -3,6 +3,8 @@ package com.ipia.order.payment.service.external;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -12,71 +14,106 @@ import com.ipia.order.payment.config.TossProperties;
 import com.ipia.order.common.exception.payment.PaymentHandler;
 import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
 
+import reactor.core.publisher.Mono;
+
 /**
  * 기본 구현체: 실제 연동 전까지는 단순 에코 응답을 반환한다.
  * 운영 연동 시 이 구현을 교체하거나 내부 로직을 실제 API 호출로 대체한다.
+ *
+ * 요청은 Mono 하나로 만들고, 동기 메서드는 block(), 비동기 메서드는 CompletableFuture로 내보낸다.
+ * 오류 매핑(응답 오류 → TOSS_API_ERROR, 그 외 → TOSS_NETWORK_ERROR)은 두 경로가 같다.
+ * 실제 호출은 TossCallGuard(서킷 브레이커/동시 호출 상한)를 거친다.
+ * 승인은 우리 멱등 키에서 만든 Toss Idempotency-Key를 보내고, TossConfirmPolicy로 재시도/헤징한다.
  */
 @Component
 public class TossPaymentClientImpl implements TossPaymentClient {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final WebClient webClient;
     private final TossProperties tossProperties;
+    private final TossCallGuard tossCallGuard;
+    private final TossConfirmPolicy tossConfirmPolicy;
 
-    public TossPaymentClientImpl(WebClient.Builder webClientBuilder, TossProperties tossProperties) {
-        this.webClient = webClientBuilder.baseUrl(tossProperties.getBaseUrl()).build();
+    public TossPaymentClientImpl(WebClient tossWebClient, TossProperties tossProperties, TossCallGuard tossCallGuard,
+                                 TossConfirmPolicy tossConfirmPolicy) {
+        this.webClient = tossWebClient;
         this.tossProperties = tossProperties;
+        this.tossCallGuard = tossCallGuard;
+        this.tossConfirmPolicy = tossConfirmPolicy;
+    }
+
+    @Override
+    public TossConfirmResponse confirm(String paymentKey, String orderId, BigDecimal amount, String idempotencyKey) {
+        return confirmMono(paymentKey, orderId, amount, idempotencyKey).block();
     }
 
     @Override
-    public TossConfirmResponse confirm(String paymentKey, String orderId, BigDecimal amount) {
+    public TossCancelResponse cancel(String paymentKey, BigDecimal cancelAmount, String reason) {
+        return cancelMono(paymentKey, cancelAmount, reason).block();
+    }
+
+    @Override
+    public CompletableFuture<TossConfirmResponse> confirmAsync(String paymentKey, String orderId, BigDecimal amount,
+                                                               String idempotencyKey) {
+        return confirmMono(paymentKey, orderId, amount, idempotencyKey).toFuture();
+    }
+
+    @Override
+    public CompletableFuture<TossCancelResponse> cancelAsync(String paymentKey, BigDecimal cancelAmount, String reason) {
+        return cancelMono(paymentKey, cancelAmount, reason).toFuture();
+    }
+
+    private Mono<TossConfirmResponse> confirmMono(String paymentKey, String orderId, BigDecimal amount,
+                                                  String idempotencyKey) {
         if (!tossProperties.isEnableRealCall()) {
-            return new TossConfirmResponse(paymentKey, orderId, amount);
+            return Mono.just(new TossConfirmResponse(paymentKey, orderId, amount));
         }
+        Mono<TossConfirmResponse> attempt = tossCallGuard.protect(webClient.post()
+                .uri("/v1/payments/confirm")
+                .header("Authorization", buildBasicAuthHeader(tossProperties.getSecretKey()))
+                .header("Content-Type", "application/json")
+                .header(IDEMPOTENCY_KEY_HEADER, tossIdempotencyKey(idempotencyKey))
+                .bodyValue(new ConfirmRequest(paymentKey, orderId, amount))
+                .retrieve()
+                .bodyToMono(ConfirmResponseBody.class)
+                .map(response -> new TossConfirmResponse(response.paymentKey, response.orderId, response.totalAmount))
+                .switchIfEmpty(Mono.error(() -> new PaymentHandler(PaymentErrorStatus.TOSS_RESPONSE_PARSE_ERROR))));
+        return tossConfirmPolicy.apply(attempt)
+                .onErrorMap(this::toPaymentException);
+    }
 
-        try {
-            var response = webClient.post()
-                    .uri("/v1/payments/confirm")
-                    .header("Authorization", buildBasicAuthHeader(tossProperties.getSecretKey()))
-                    .header("Content-Type", "application/json")
-                    .bodyValue(new ConfirmRequest(paymentKey, orderId, amount))
-                    .retrieve()
-                    .bodyToMono(ConfirmResponseBody.class)
-                    .block();
-
-            if (response == null) {
-                throw new PaymentHandler(PaymentErrorStatus.TOSS_RESPONSE_PARSE_ERROR);
-            }
-            return new TossConfirmResponse(response.paymentKey, response.orderId, response.totalAmount);
-        } catch (WebClientResponseException e) {
-            throw new PaymentHandler(PaymentErrorStatus.TOSS_API_ERROR);
-        } catch (Exception e) {
-            throw new PaymentHandler(PaymentErrorStatus.TOSS_NETWORK_ERROR);
+    private Mono<TossCancelResponse> cancelMono(String paymentKey, BigDecimal cancelAmount, String reason) {
+        if (!tossProperties.isEnableRealCall()) {
+            return Mono.just(new TossCancelResponse(paymentKey, cancelAmount, "CANCELED"));
         }
+        return tossCallGuard.protect(webClient.post()
+                .uri("/v1/payments/" + paymentKey + "/cancel")
+                .header("Authorization", buildBasicAuthHeader(tossProperties.getSecretKey()))
+                .header("Content-Type", "application/json")
+                .bodyValue(new CancelRequest(cancelAmount, reason))
+                .retrieve()
+                .bodyToMono(CancelResponseBody.class)
+                .map(response -> new TossCancelResponse(paymentKey, response.cancelAmount, response.status))
+                .switchIfEmpty(Mono.error(() -> new PaymentHandler(PaymentErrorStatus.TOSS_RESPONSE_PARSE_ERROR))))
+                .onErrorMap(this::toPaymentException);
     }
 
-    @Override
-    public TossCancelResponse cancel(String paymentKey, BigDecimal cancelAmount, String reason) {
-        if (!tossProperties.isEnableRealCall()) {
-            return new TossCancelResponse(paymentKey, cancelAmount, "CANCELED");
+    private Throwable toPaymentException(Throwable e) {
+        if (e instanceof PaymentHandler) {
+            return e;
         }
-        try {
-            var response = webClient.post()
-                    .uri("/v1/payments/" + paymentKey + "/cancel")
-                    .header("Authorization", buildBasicAuthHeader(tossProperties.getSecretKey()))
-                    .header("Content-Type", "application/json")
-                    .bodyValue(new CancelRequest(cancelAmount, reason))
-                    .retrieve()
-                    .bodyToMono(CancelResponseBody.class)
-                    .block();
-            if (response == null) {
-                throw new PaymentHandler(PaymentErrorStatus.TOSS_RESPONSE_PARSE_ERROR);
-            }
-            return new TossCancelResponse(paymentKey, response.cancelAmount, response.status);
-        } catch (WebClientResponseException e) {
-            throw new PaymentHandler(PaymentErrorStatus.TOSS_API_ERROR);
-        } catch (Exception e) {
-            throw new PaymentHandler(PaymentErrorStatus.TOSS_NETWORK_ERROR);
+        if (e instanceof WebClientResponseException) {
+            return new PaymentHandler(PaymentErrorStatus.TOSS_API_ERROR);
         }
+        return new PaymentHandler(PaymentErrorStatus.TOSS_NETWORK_ERROR);
+    }
+
+    /**
+     * Toss Idempotency-Key (우리 멱등 키에서 결정적으로 만든 UUID, 같은 승인의 재시도/헤징은 같은 키)
+     */
+    static String tossIdempotencyKey(String idempotencyKey) {
+        return UUID.nameUUIDFromBytes(("confirm:" + idempotencyKey).getBytes(StandardCharsets.UTF_8)).toString();
     }
 
     private String buildBasicAuthHeader(String secretKey) {
@@ -0,0 +1,309 @@
+package com.ipia.order.payment.service.external;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipia.order.payment.config.TossSimulatorProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Toss 결제 API 시뮬레이터 (승인 /v1/payments/confirm, 취소 /v1/payments/{paymentKey}/cancel)
+ *
+ * 네트워크 없이 실제와 비슷한 Toss 응답 특성으로 승인 처리량을 측정하기 위한 로컬 HTTP 서버.
+ * 앱 안에서 띄우거나(toss.simulator.enabled) 테스트에서 start()로 띄워 baseUrl()을 Toss 주소로 쓴다.
+ * - 응답 지연: 고정/균등/로그 정규 분포 (TossSimulatorProperties.LatencyDistribution)
+ * - 오류: errorRate 비율로 500, timeoutRate 비율은 응답 없이 붙잡아 둔다
+ * - 처리 상한: 초당 rateLimitPerSecond건을 넘으면 429
+ * - 같은 Idempotency-Key의 승인은 처음 응답을 그대로 돌려준다 (재시도/헤징 확인용)
+ * 지연 중인 요청은 스케줄러에 걸어 두므로 동시 요청 수만큼 스레드가 필요하지 않다.
+ */
+@Slf4j
+public class TossSimulator implements MeterBinder, AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String PAYMENTS_PATH = "/v1/payments/";
+    private static final String CONFIRM_PATH = "/v1/payments/confirm";
+    private static final String CANCEL_SUFFIX = "/cancel";
+    private static final double Z_99 = 2.3263;
+    private static final int MAX_REPLAY_ENTRIES = 100_000;
+
+    private final TossSimulatorProperties properties;
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, byte[]> confirmReplies = new ConcurrentHashMap<>();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+
+    // this로 보호
+    private long rateWindowStartedAt = System.nanoTime();
+    private int rateWindowCount;
+
+    private TossSimulator(TossSimulatorProperties properties) throws IOException {
+        this.properties = properties;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, properties.getWorkerThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "toss-simulator-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "toss-simulator-delay-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress("localhost", properties.getPort()), 1024);
+        this.server.createContext(PAYMENTS_PATH, this::handle);
+        this.server.setExecutor(workers);
+    }
+
+    /**
+     * 시뮬레이터 시작 (port가 0이면 빈 포트)
+     */
+    public static TossSimulator start(TossSimulatorProperties properties) {
+        try {
+            TossSimulator simulator = new TossSimulator(properties);
+            simulator.server.start();
+            log.info("[Payment] Toss 시뮬레이터 시작: baseUrl={}, latency={}, errorRate={}, timeoutRate={}, rateLimit={}",
+                    simulator.baseUrl(), properties.getLatencyDistribution(), properties.getErrorRate(),
+                    properties.getTimeoutRate(), properties.getRateLimitPerSecond());
+            return simulator;
+        } catch (IOException e) {
+            throw new IllegalStateException("Toss 시뮬레이터를 시작할 수 없습니다.", e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        byte[] requestBody = exchange.getRequestBody().readAllBytes();
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            failed.increment();
+            respond(exchange, 405, error("METHOD_NOT_ALLOWED", "POST만 지원합니다."));
+            return;
+        }
+        if (!tryAcquireRate()) {
+            rateLimited.increment();
+            respond(exchange, 429, error("TOO_MANY_REQUESTS", "요청이 너무 많습니다."));
+            return;
+        }
+
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < properties.getTimeoutRate()) {
+            timedOut.increment();
+            scheduler.schedule(exchange::close, properties.getTimeoutHold().toNanos(), TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        int status;
+        byte[] body;
+        if (roll < properties.getTimeoutRate() + properties.getErrorRate()) {
+            failed.increment();
+            status = 500;
+            body = error("FAILED_INTERNAL_SYSTEM_PROCESSING", "내부 시스템 처리 작업이 실패했습니다.");
+        } else {
+            try {
+                body = reply(exchange, requestBody);
+                status = body == null ? 404 : 200;
+                if (body == null) {
+                    failed.increment();
+                    body = error("NOT_FOUND", "지원하지 않는 경로입니다.");
+                } else {
+                    succeeded.increment();
+                }
+            } catch (IOException e) {
+                failed.increment();
+                status = 400;
+                body = error("INVALID_REQUEST", "잘못된 요청입니다.");
+            }
+        }
+
+        int responseStatus = status;
+        byte[] responseBody = body;
+        scheduler.schedule(() -> respond(exchange, responseStatus, responseBody), sampleLatencyNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 경로별 정상 응답 본문 (지원하지 않는 경로면 null)
+     */
+    private byte[] reply(HttpExchange exchange, byte[] requestBody) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        JsonNode request = OBJECT_MAPPER.readTree(requestBody);
+        if (CONFIRM_PATH.equals(path)) {
+            String idempotencyKey = exchange.getRequestHeaders().getFirst(TossPaymentClientImpl.IDEMPOTENCY_KEY_HEADER);
+            if (idempotencyKey != null) {
+                byte[] previous = confirmReplies.get(idempotencyKey);
+                if (previous != null) {
+                    replayed.increment();
+                    return previous;
+                }
+            }
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("paymentKey", request.path("paymentKey").asText());
+            body.put("orderId", request.path("orderId").asText());
+            body.put("status", "DONE");
+            body.put("totalAmount", new BigDecimal(request.path("amount").asText("0")));
+            body.put("approvedAt", OffsetDateTime.now().toString());
+            byte[] bytes = OBJECT_MAPPER.writeValueAsBytes(body);
+            if (idempotencyKey != null) {
+                if (confirmReplies.size() >= MAX_REPLAY_ENTRIES) {
+                    confirmReplies.clear();
+                }
+                byte[] raced = confirmReplies.putIfAbsent(idempotencyKey, bytes);
+                if (raced != null) {
+                    replayed.increment();
+                    return raced;
+                }
+            }
+            return bytes;
+        }
+        if (path.endsWith(CANCEL_SUFFIX)) {
+            String paymentKey = path.substring(PAYMENTS_PATH.length(), path.length() - CANCEL_SUFFIX.length());
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("paymentKey", paymentKey);
+            body.put("status", "CANCELED");
+            body.put("cancelAmount", new BigDecimal(request.path("cancelAmount").asText("0")));
+            return OBJECT_MAPPER.writeValueAsBytes(body);
+        }
+        return null;
+    }
+
+    private synchronized boolean tryAcquireRate() {
+        int limit = properties.getRateLimitPerSecond();
+        if (limit <= 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (now - rateWindowStartedAt >= TimeUnit.SECONDS.toNanos(1)) {
+            rateWindowStartedAt = now;
+            rateWindowCount = 0;
+        }
+        if (rateWindowCount >= limit) {
+            return false;
+        }
+        rateWindowCount++;
+        return true;
+    }
+
+    long sampleLatencyNanos() {
+        long min = properties.getLatencyMin().toNanos();
+        long median = Math.max(min, properties.getLatencyMedian().toNanos());
+        long max = properties.getLatencyMax().toNanos();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latency = switch (properties.getLatencyDistribution()) {
+            case FIXED -> median;
+            case UNIFORM -> min + (long) (random.nextDouble() * 2 * (median - min));
+            case LOG_NORMAL -> {
+                long p99 = Math.max(median, properties.getLatencyP99().toNanos());
+                if (median == min) {
+                    yield min;
+                }
+                double mu = Math.log(median - min);
+                double sigma = Math.log((double) Math.max(p99 - min, 1) / (median - min)) / Z_99;
+                yield min + (long) Math.exp(mu + sigma * random.nextGaussian());
+            }
+        };
+        return Math.min(latency, max);
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) {
+        try {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 응답 제한 시간으로 먼저 끊은 경우
+            log.debug("[Payment] Toss 시뮬레이터 응답 실패: status={}, cause={}", status, e.toString());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static byte[] error(String code, String message) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(Map.of("code", code, "message", message));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    public long succeededCount() {
+        return succeeded.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    public long timedOutCount() {
+        return timedOut.sum();
+    }
+
+    public long rateLimitedCount() {
+        return rateLimited.sum();
+    }
+
+    public long replayedCount() {
+        return replayed.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registerOutcome(registry, "succeeded", succeeded);
+        registerOutcome(registry, "failed", failed);
+        registerOutcome(registry, "timed-out", timedOut);
+        registerOutcome(registry, "rate-limited", rateLimited);
+        FunctionCounter.builder("payment.toss.simulator.replayed", replayed, LongAdder::sum)
+                .description("같은 Idempotency-Key로 이전 응답을 돌려준 승인 수")
+                .register(registry);
+    }
+
+    private static void registerOutcome(MeterRegistry registry, String outcome, LongAdder counter) {
+        FunctionCounter.builder("payment.toss.simulator.requests", counter, LongAdder::sum)
+                .tag("outcome", outcome)
+                .description("Toss 시뮬레이터 요청 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ipia.order.payment.settlement.repository;
+
+import java.math.BigDecimal;
+
+import com.ipia.order.payment.enums.PaymentStatus;
+
+/**
+ * 정산 대사용 결제 행 (엔티티를 영속성 컨텍스트에 올리지 않는 조회 결과)
+ */
+public record PaymentSettlementSource(
+        Long paymentId,
+        String providerTxnId,
+        BigDecimal paidAmount,
+        PaymentStatus status
+) {
+}
@@ -0,0 +1,481 @@
+package com.ipia.order.payment.settlement.service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+import com.ipia.order.common.exception.payment.PaymentHandler;
+import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
+
+/**
+ * 정산 파일 파서 (CSV, JSONL)
+ *
+ * 파일을 windowBytes 단위로 메모리 매핑해 매핑 버퍼 위에서 바로 행/필드 경계를 찾는다.
+ * 행 문자열이나 필드 배열을 만들지 않고 필요한 세 필드(거래 ID, 금액, 상태)만 디코딩하므로
+ * 힙 사용량은 파일 크기와 무관하다 (매핑 영역은 힙 밖의 페이지 캐시).
+ * - CSV: 첫 행이 헤더이며 providerTxnId|paymentKey, amount|totalAmount|settlementAmount, status 열을 찾는다.
+ *   큰따옴표로 감싼 필드의 쉼표는 구분자로 보지 않는다.
+ * - JSONL: 한 행에 평평한 객체 하나. 같은 키 이름을 찾으며 중첩 값은 건너뛴다 (문자열 이스케이프는 풀지 않음).
+ * 금액은 부호/소수점만 허용하는 10진수이고, 상태는 없어도 된다.
+ * 한 인스턴스는 한 스레드에서만 사용한다 (디코딩용 버퍼를 재사용).
+ */
+public class SettlementFileParser {
+
+    /**
+     * 파싱 결과를 받는 쪽
+     */
+    public interface Handler {
+
+        void onRecord(SettlementRecord record);
+
+        /**
+         * 필수 필드가 없거나 형식이 잘못된 행
+         */
+        void onMalformed(long lineNumber);
+    }
+
+    /**
+     * 파싱 요약
+     *
+     * @param lines 읽은 행 수 (빈 행, CSV 헤더 포함)
+     * @param records 정상 행 수
+     * @param malformed 잘못된 행 수
+     */
+    public record Result(long lines, long records, long malformed) {
+    }
+
+    public enum Format {
+        CSV,
+        JSONL;
+
+        /**
+         * 확장자로 형식 판단 (.csv, .jsonl, .ndjson)
+         */
+        public static Format of(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+                return JSONL;
+            }
+            throw new PaymentHandler(PaymentErrorStatus.INVALID_SETTLEMENT_FILE);
+        }
+    }
+
+    private static final byte[][] ID_NAMES = names("providertxnid", "paymentkey");
+    private static final byte[][] AMOUNT_NAMES = names("amount", "totalamount", "settlementamount");
+    private static final byte[][] STATUS_NAMES = names("status");
+
+    private static final int ID = 0;
+    private static final int AMOUNT = 1;
+    private static final int STATUS = 2;
+
+    private final int windowBytes;
+
+    // 행마다 찾은 필드 구간 [start, end) (없으면 -1)
+    private final int[] fieldStart = new int[3];
+    private final int[] fieldEnd = new int[3];
+    private byte[] scratch = new byte[128];
+
+    // CSV 헤더에서 찾은 열 위치
+    private int[] csvColumns;
+
+    /**
+     * @param windowBytes 한 번에 매핑할 최대 바이트 수 (가장 긴 행보다 커야 함)
+     */
+    public SettlementFileParser(int windowBytes) {
+        this.windowBytes = windowBytes;
+    }
+
+    public Result parse(Path file, Handler handler) throws IOException {
+        Format format = Format.of(file);
+        csvColumns = null;
+        long lines = 0;
+        long records = 0;
+        long malformed = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                int length = (int) Math.min(windowBytes, size - position);
+                boolean lastWindow = position + length == size;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                int lineStart = 0;
+                for (int i = 0; i < length; i++) {
+                    if (buffer.get(i) != '\n') {
+                        continue;
+                    }
+                    lines++;
+                    int outcome = parseLine(buffer, lineStart, i, lines, format, handler);
+                    records += outcome > 0 ? 1 : 0;
+                    malformed += outcome < 0 ? 1 : 0;
+                    lineStart = i + 1;
+                }
+                if (lastWindow) {
+                    if (lineStart < length) {
+                        lines++;
+                        int outcome = parseLine(buffer, lineStart, length, lines, format, handler);
+                        records += outcome > 0 ? 1 : 0;
+                        malformed += outcome < 0 ? 1 : 0;
+                    }
+                    position = size;
+                } else {
+                    if (lineStart == 0) {
+                        // 매핑 구간 안에 줄바꿈이 없음
+                        throw new PaymentHandler(PaymentErrorStatus.INVALID_SETTLEMENT_FILE);
+                    }
+                    // 끊긴 마지막 행은 다음 구간에서 처음부터 다시 읽는다
+                    position += lineStart;
+                }
+            }
+        }
+        return new Result(lines, records, malformed);
+    }
+
+    /**
+     * @return 1 정상 행, 0 건너뛴 행(빈 행/헤더), -1 잘못된 행
+     */
+    private int parseLine(MappedByteBuffer buffer, int start, int end, long lineNumber, Format format, Handler handler) {
+        if (lineNumber == 1 && end - start >= 3
+                && buffer.get(start) == (byte) 0xEF && buffer.get(start + 1) == (byte) 0xBB && buffer.get(start + 2) == (byte) 0xBF) {
+            start += 3;
+        }
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        while (start < end && isWhitespace(buffer.get(start))) {
+            start++;
+        }
+        if (start == end) {
+            return 0;
+        }
+
+        if (format == Format.CSV && csvColumns == null) {
+            readCsvHeader(buffer, start, end);
+            return 0;
+        }
+
+        fieldStart[ID] = fieldStart[AMOUNT] = fieldStart[STATUS] = -1;
+        boolean scanned = format == Format.CSV ? scanCsv(buffer, start, end) : scanJson(buffer, start, end);
+        if (!scanned || fieldStart[ID] < 0 || fieldStart[AMOUNT] < 0 || fieldEnd[ID] == fieldStart[ID]) {
+            handler.onMalformed(lineNumber);
+            return -1;
+        }
+        BigDecimal amount = parseAmount(buffer, fieldStart[AMOUNT], fieldEnd[AMOUNT]);
+        if (amount == null) {
+            handler.onMalformed(lineNumber);
+            return -1;
+        }
+        String providerTxnId = decode(buffer, fieldStart[ID], fieldEnd[ID]);
+        String status = fieldStart[STATUS] < 0 || fieldEnd[STATUS] == fieldStart[STATUS]
+                ? null : decode(buffer, fieldStart[STATUS], fieldEnd[STATUS]);
+        handler.onRecord(new SettlementRecord(lineNumber, providerTxnId, amount, status));
+        return 1;
+    }
+
+    // ==================== CSV ====================
+
+    private void readCsvHeader(MappedByteBuffer buffer, int start, int end) {
+        int[] columns = {-1, -1, -1};
+        int column = 0;
+        int position = start;
+        while (position <= end) {
+            int fieldEndExclusive = csvFieldEnd(buffer, position, end);
+            int from = position;
+            int to = fieldEndExclusive;
+            if (to - from >= 2 && buffer.get(from) == '"' && buffer.get(to - 1) == '"') {
+                from++;
+                to--;
+            }
+            if (columns[ID] < 0 && matchesAny(buffer, from, to, ID_NAMES)) {
+                columns[ID] = column;
+            } else if (columns[AMOUNT] < 0 && matchesAny(buffer, from, to, AMOUNT_NAMES)) {
+                columns[AMOUNT] = column;
+            } else if (columns[STATUS] < 0 && matchesAny(buffer, from, to, STATUS_NAMES)) {
+                columns[STATUS] = column;
+            }
+            column++;
+            position = fieldEndExclusive + 1;
+        }
+        if (columns[ID] < 0 || columns[AMOUNT] < 0) {
+            throw new PaymentHandler(PaymentErrorStatus.INVALID_SETTLEMENT_FILE);
+        }
+        csvColumns = columns;
+    }
+
+    private boolean scanCsv(MappedByteBuffer buffer, int start, int end) {
+        int column = 0;
+        int position = start;
+        while (position <= end) {
+            int fieldEndExclusive = csvFieldEnd(buffer, position, end);
+            for (int field = 0; field < 3; field++) {
+                if (csvColumns[field] == column) {
+                    int from = position;
+                    int to = fieldEndExclusive;
+                    if (to - from >= 2 && buffer.get(from) == '"' && buffer.get(to - 1) == '"') {
+                        from++;
+                        to--;
+                    }
+                    fieldStart[field] = trimStart(buffer, from, to);
+                    fieldEnd[field] = trimEnd(buffer, fieldStart[field], to);
+                }
+            }
+            column++;
+            position = fieldEndExclusive + 1;
+        }
+        return true;
+    }
+
+    /**
+     * position에서 시작하는 CSV 필드의 끝 (쉼표 또는 행 끝 위치)
+     */
+    private static int csvFieldEnd(MappedByteBuffer buffer, int position, int end) {
+        boolean quoted = false;
+        for (int i = position; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == ',' && !quoted) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    // ==================== JSONL ====================
+
+    private boolean scanJson(MappedByteBuffer buffer, int start, int end) {
+        int position = skipWhitespace(buffer, start, end);
+        if (position >= end || buffer.get(position) != '{') {
+            return false;
+        }
+        position = skipWhitespace(buffer, position + 1, end);
+        if (position < end && buffer.get(position) == '}') {
+            return true;
+        }
+        while (position < end) {
+            if (buffer.get(position) != '"') {
+                return false;
+            }
+            int keyStart = position + 1;
+            int keyEnd = jsonStringEnd(buffer, keyStart, end);
+            if (keyEnd < 0) {
+                return false;
+            }
+            position = skipWhitespace(buffer, keyEnd + 1, end);
+            if (position >= end || buffer.get(position) != ':') {
+                return false;
+            }
+            position = skipWhitespace(buffer, position + 1, end);
+            if (position >= end) {
+                return false;
+            }
+
+            int valueStart;
+            int valueEnd;
+            byte first = buffer.get(position);
+            if (first == '"') {
+                valueStart = position + 1;
+                valueEnd = jsonStringEnd(buffer, valueStart, end);
+                if (valueEnd < 0) {
+                    return false;
+                }
+                position = valueEnd + 1;
+            } else if (first == '{' || first == '[') {
+                valueStart = -1;
+                valueEnd = -1;
+                position = skipJsonContainer(buffer, position, end);
+                if (position < 0) {
+                    return false;
+                }
+            } else {
+                valueStart = position;
+                while (position < end && buffer.get(position) != ',' && buffer.get(position) != '}'
+                        && !isWhitespace(buffer.get(position))) {
+                    position++;
+                }
+                valueEnd = position;
+            }
+
+            if (valueStart >= 0) {
+                int field = matchesAny(buffer, keyStart, keyEnd, ID_NAMES) ? ID
+                        : matchesAny(buffer, keyStart, keyEnd, AMOUNT_NAMES) ? AMOUNT
+                        : matchesAny(buffer, keyStart, keyEnd, STATUS_NAMES) ? STATUS : -1;
+                if (field >= 0 && fieldStart[field] < 0 && !isNull(buffer, valueStart, valueEnd, first)) {
+                    fieldStart[field] = valueStart;
+                    fieldEnd[field] = valueEnd;
+                }
+            }
+
+            position = skipWhitespace(buffer, position, end);
+            if (position >= end) {
+                return false;
+            }
+            byte separator = buffer.get(position);
+            if (separator == '}') {
+                return true;
+            }
+            if (separator != ',') {
+                return false;
+            }
+            position = skipWhitespace(buffer, position + 1, end);
+        }
+        return false;
+    }
+
+    /**
+     * 닫는 따옴표 위치 (없으면 -1)
+     */
+    private static int jsonStringEnd(MappedByteBuffer buffer, int position, int end) {
+        for (int i = position; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '\\') {
+                i++;
+            } else if (b == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 객체/배열 값을 건너뛴 다음 위치 (짝이 맞지 않으면 -1)
+     */
+    private static int skipJsonContainer(MappedByteBuffer buffer, int position, int end) {
+        int depth = 0;
+        for (int i = position; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '"') {
+                i = jsonStringEnd(buffer, i + 1, end);
+                if (i < 0) {
+                    return -1;
+                }
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                if (--depth == 0) {
+                    return i + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isNull(MappedByteBuffer buffer, int start, int end, byte first) {
+        return first != '"' && end - start == 4 && buffer.get(start) == 'n' && buffer.get(start + 1) == 'u'
+                && buffer.get(start + 2) == 'l' && buffer.get(start + 3) == 'l';
+    }
+
+    // ==================== 공통 ====================
+
+    /**
+     * 10진수 금액 파싱 (정수부/소수부를 long 하나로 모아 BigDecimal은 한 번만 만든다, 형식 오류면 null)
+     */
+    private static BigDecimal parseAmount(MappedByteBuffer buffer, int start, int end) {
+        if (start >= end) {
+            return null;
+        }
+        boolean negative = false;
+        int position = start;
+        byte sign = buffer.get(position);
+        if (sign == '-' || sign == '+') {
+            negative = sign == '-';
+            position++;
+        }
+        long unscaled = 0;
+        int scale = -1;
+        int digits = 0;
+        for (; position < end; position++) {
+            byte b = buffer.get(position);
+            if (b == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+            if (b < '0' || b > '9' || digits == 18) {
+                return null;
+            }
+            unscaled = unscaled * 10 + (b - '0');
+            digits++;
+            if (scale >= 0) {
+                scale++;
+            }
+        }
+        if (digits == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    private String decode(MappedByteBuffer buffer, int start, int end) {
+        int length = end - start;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 대소문자와 '_'를 무시하고 이름 비교
+     */
+    private static boolean matchesAny(MappedByteBuffer buffer, int start, int end, byte[][] names) {
+        start = trimStart(buffer, start, end);
+        end = trimEnd(buffer, start, end);
+        for (byte[] name : names) {
+            int matched = 0;
+            boolean equal = true;
+            for (int i = start; i < end && equal; i++) {
+                byte b = buffer.get(i);
+                if (b == '_') {
+                    continue;
+                }
+                if (b >= 'A' && b <= 'Z') {
+                    b = (byte) (b + ('a' - 'A'));
+                }
+                equal = matched < name.length && name[matched++] == b;
+            }
+            if (equal && matched == name.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipWhitespace(MappedByteBuffer buffer, int position, int end) {
+        while (position < end && isWhitespace(buffer.get(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int trimStart(MappedByteBuffer buffer, int start, int end) {
+        return skipWhitespace(buffer, start, end);
+    }
+
+    private static int trimEnd(MappedByteBuffer buffer, int start, int end) {
+        while (end > start && isWhitespace(buffer.get(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private static byte[][] names(String... names) {
+        byte[][] bytes = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            bytes[i] = names[i].getBytes(StandardCharsets.US_ASCII);
+        }
+        return bytes;
+    }
+}
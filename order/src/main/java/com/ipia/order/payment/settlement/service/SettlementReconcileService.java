@@ -0,0 +1,25 @@
+package com.ipia.order.payment.settlement.service;
+
+import java.time.LocalDate;
+
+import org.springframework.lang.Nullable;
+
+import com.ipia.order.web.dto.response.payment.SettlementReconcileResponse;
+
+/**
+ * 정산 파일 대사 서비스
+ *
+ * Toss 정산 파일(CSV/JSONL)의 거래를 payments와 외부 거래 ID로 맞춰 보고
+ * 금액/상태 불일치와 양쪽 누락을 보고서로 남긴다.
+ */
+public interface SettlementReconcileService {
+
+    /**
+     * 정산 파일 대사
+     *
+     * @param fileName payment.settlement.inbox-dir 안의 정산 파일 이름
+     * @param settlementDate 정산일 (주면 그날 승인됐지만 파일에 없는 결제도 찾는다)
+     * @return 대사 요약과 불일치 예시
+     */
+    SettlementReconcileResponse reconcile(String fileName, @Nullable LocalDate settlementDate);
+}
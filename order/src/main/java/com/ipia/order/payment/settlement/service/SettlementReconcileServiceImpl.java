@@ -0,0 +1,368 @@
+package com.ipia.order.payment.settlement.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import com.ipia.order.common.exception.payment.PaymentHandler;
+import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
+import com.ipia.order.payment.config.PaymentSettlementProperties;
+import com.ipia.order.payment.enums.PaymentStatus;
+import com.ipia.order.payment.enums.SettlementMismatchType;
+import com.ipia.order.payment.repository.PaymentRepository;
+import com.ipia.order.payment.settlement.repository.PaymentSettlementSource;
+import com.ipia.order.web.dto.response.payment.SettlementReconcileResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정산 파일 대사 서비스 구현체
+ *
+ * 파일을 SettlementFileParser로 한 행씩 흘려 보내며 lookupBatchSize개씩 모아 IN 조회 한 번으로 결제와 맞춘다.
+ * 불일치는 바로 보고서 CSV에 쓰고 응답에는 개수와 앞쪽 예시만 담으므로 힙 사용량은 파일 크기와 무관하다.
+ * 정산일을 주면 읽은 거래 ID의 64비트 지문을 모아 두었다가 그날 승인된 결제를 ID 순으로 훑어
+ * 파일에 없는 결제를 찾는다 (이 경우만 행당 약 16바이트를 더 쓴다).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementReconcileServiceImpl implements SettlementReconcileService {
+
+    private static final DateTimeFormatter REPORT_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentSettlementProperties properties;
+
+    private final AtomicBoolean reconciling = new AtomicBoolean(false);
+
+    @Override
+    public SettlementReconcileResponse reconcile(String fileName, @Nullable LocalDate settlementDate) {
+        Path file = resolveInboxFile(fileName);
+        SettlementFileParser.Format.of(file);
+        if (!reconciling.compareAndSet(false, true)) {
+            throw new PaymentHandler(PaymentErrorStatus.SETTLEMENT_RECONCILE_IN_PROGRESS);
+        }
+        try {
+            long started = System.currentTimeMillis();
+            Path reportFile = reportFileFor(file);
+            log.info("[Settlement] 정산 대사 시작: file={}, settlementDate={}", file, settlementDate);
+
+            Reconciliation reconciliation;
+            SettlementFileParser.Result parsed;
+            try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+                writer.write("type,lineNumber,providerTxnId,settlementAmount,paymentAmount,settlementStatus,paymentStatus");
+                writer.newLine();
+                reconciliation = new Reconciliation(writer, settlementDate != null);
+                SettlementFileParser parser = new SettlementFileParser(
+                        (int) Math.min(properties.getMapWindowSize().toBytes(), Integer.MAX_VALUE - 8));
+                parsed = parser.parse(file, reconciliation);
+                reconciliation.flush();
+                if (settlementDate != null) {
+                    reconciliation.findMissingSettlements(settlementDate);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            long elapsed = System.currentTimeMillis() - started;
+            log.info("[Settlement] 정산 대사 완료: file={}, records={}, malformed={}, matched={}, amount={}, status={}, "
+                            + "missingPayment={}, missingSettlement={}, elapsedMs={}",
+                    file.getFileName(), parsed.records(), parsed.malformed(), reconciliation.matched,
+                    reconciliation.amountMismatches, reconciliation.statusMismatches,
+                    reconciliation.missingPayments, reconciliation.missingSettlements, elapsed);
+            return SettlementReconcileResponse.builder()
+                    .fileName(file.getFileName().toString())
+                    .settlementDate(settlementDate)
+                    .records(parsed.records())
+                    .malformedLines(parsed.malformed())
+                    .matched(reconciliation.matched)
+                    .amountMismatches(reconciliation.amountMismatches)
+                    .statusMismatches(reconciliation.statusMismatches)
+                    .missingPayments(reconciliation.missingPayments)
+                    .missingSettlements(reconciliation.missingSettlements)
+                    .reportFile(reportFile.toString())
+                    .samples(reconciliation.samples)
+                    .elapsedMillis(elapsed)
+                    .build();
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    /**
+     * inbox 디렉터리 밖을 가리키는 이름(../ 등)은 없는 파일로 취급한다.
+     */
+    private Path resolveInboxFile(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new PaymentHandler(PaymentErrorStatus.SETTLEMENT_FILE_NOT_FOUND);
+        }
+        Path inbox = Paths.get(properties.getInboxDir()).toAbsolutePath().normalize();
+        Path file = inbox.resolve(fileName).normalize();
+        if (!file.startsWith(inbox) || !Files.isRegularFile(file)) {
+            throw new PaymentHandler(PaymentErrorStatus.SETTLEMENT_FILE_NOT_FOUND);
+        }
+        return file;
+    }
+
+    private Path reportFileFor(Path file) {
+        try {
+            Path reportDir = Files.createDirectories(Paths.get(properties.getReportDir()).toAbsolutePath().normalize());
+            return reportDir.resolve(file.getFileName() + "." + LocalDateTime.now().format(REPORT_SUFFIX) + ".mismatches.csv");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 정산 상태와 결제 상태 대응 (정산 상태가 없으면 비교하지 않는다)
+     */
+    static boolean statusMatches(@Nullable String settlementStatus, PaymentStatus paymentStatus) {
+        if (settlementStatus == null) {
+            return true;
+        }
+        return switch (settlementStatus.trim().toUpperCase(Locale.ROOT)) {
+            case "DONE", "APPROVED" -> paymentStatus == PaymentStatus.APPROVED;
+            case "CANCELED", "CANCELLED", "PARTIAL_CANCELED" ->
+                    paymentStatus == PaymentStatus.CANCELED || paymentStatus == PaymentStatus.REFUNDED;
+            case "REFUNDED" -> paymentStatus == PaymentStatus.REFUNDED;
+            case "READY", "IN_PROGRESS", "WAITING_FOR_DEPOSIT", "PENDING" -> paymentStatus == PaymentStatus.PENDING;
+            default -> false;
+        };
+    }
+
+    /**
+     * 대사 한 번의 진행 상태 (파서 콜백을 받아 묶음 조회/비교/보고서 기록)
+     */
+    private final class Reconciliation implements SettlementFileParser.Handler {
+
+        private final BufferedWriter writer;
+        private final int batchSize = Math.max(1, properties.getLookupBatchSize());
+        private final int maxSamples = Math.max(0, properties.getMaxSamples());
+        private final List<SettlementRecord> pending = new ArrayList<>(batchSize);
+        private final Set<String> pendingIds = new HashSet<>();
+        private final Map<String, PaymentSettlementSource> found = new HashMap<>();
+        @Nullable
+        private final FingerprintSet seen;
+
+        private final List<SettlementReconcileResponse.Mismatch> samples = new ArrayList<>();
+        private long matched;
+        private long amountMismatches;
+        private long statusMismatches;
+        private long missingPayments;
+        private long missingSettlements;
+
+        Reconciliation(BufferedWriter writer, boolean trackSeen) {
+            this.writer = writer;
+            this.seen = trackSeen ? new FingerprintSet() : null;
+        }
+
+        @Override
+        public void onRecord(SettlementRecord record) {
+            pending.add(record);
+            if (seen != null) {
+                seen.add(FingerprintSet.fingerprint(record.providerTxnId()));
+            }
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onMalformed(long lineNumber) {
+            log.debug("[Settlement] 잘못된 정산 행: line={}", lineNumber);
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            for (SettlementRecord record : pending) {
+                pendingIds.add(record.providerTxnId());
+            }
+            for (PaymentSettlementSource payment : paymentRepository.findSettlementSources(pendingIds)) {
+                found.put(payment.providerTxnId(), payment);
+            }
+            for (SettlementRecord record : pending) {
+                compare(record, found.get(record.providerTxnId()));
+            }
+            pending.clear();
+            pendingIds.clear();
+            found.clear();
+        }
+
+        private void compare(SettlementRecord record, @Nullable PaymentSettlementSource payment) {
+            if (payment == null) {
+                missingPayments++;
+                report(SettlementMismatchType.MISSING_PAYMENT, record, null);
+                return;
+            }
+            boolean amountMatches = record.amount().compareTo(payment.paidAmount()) == 0;
+            boolean statusMatches = statusMatches(record.status(), payment.status());
+            if (!amountMatches) {
+                amountMismatches++;
+                report(SettlementMismatchType.AMOUNT, record, payment);
+            }
+            if (!statusMatches) {
+                statusMismatches++;
+                report(SettlementMismatchType.STATUS, record, payment);
+            }
+            if (amountMatches && statusMatches) {
+                matched++;
+            }
+        }
+
+        /**
+         * 정산일에 승인된 결제 중 파일에서 지문을 보지 못한 것
+         */
+        void findMissingSettlements(LocalDate settlementDate) {
+            LocalDateTime from = settlementDate.atStartOfDay();
+            LocalDateTime to = settlementDate.plusDays(1).atStartOfDay();
+            PageRequest chunk = PageRequest.ofSize(batchSize);
+            long afterId = 0;
+            List<PaymentSettlementSource> payments;
+            do {
+                payments = paymentRepository.findApprovedSettlementSources(afterId, from, to, chunk);
+                for (PaymentSettlementSource payment : payments) {
+                    if (payment.providerTxnId() != null
+                            && !seen.contains(FingerprintSet.fingerprint(payment.providerTxnId()))) {
+                        missingSettlements++;
+                        report(SettlementMismatchType.MISSING_SETTLEMENT, null, payment);
+                    }
+                    afterId = payment.paymentId();
+                }
+            } while (payments.size() == chunk.getPageSize());
+        }
+
+        private void report(SettlementMismatchType type, @Nullable SettlementRecord record,
+                            @Nullable PaymentSettlementSource payment) {
+            SettlementReconcileResponse.Mismatch mismatch = SettlementReconcileResponse.Mismatch.builder()
+                    .type(type)
+                    .lineNumber(record == null ? 0 : record.lineNumber())
+                    .providerTxnId(record != null ? record.providerTxnId() : payment.providerTxnId())
+                    .settlementAmount(record == null ? null : record.amount())
+                    .paymentAmount(payment == null ? null : payment.paidAmount())
+                    .settlementStatus(record == null ? null : record.status())
+                    .paymentStatus(payment == null ? null : payment.status())
+                    .build();
+            if (samples.size() < maxSamples) {
+                samples.add(mismatch);
+            }
+            try {
+                writer.write(type.name());
+                writer.write(',');
+                writer.write(Long.toString(mismatch.getLineNumber()));
+                writer.write(',');
+                writer.write(csv(mismatch.getProviderTxnId()));
+                writer.write(',');
+                writer.write(csv(mismatch.getSettlementAmount()));
+                writer.write(',');
+                writer.write(csv(mismatch.getPaymentAmount()));
+                writer.write(',');
+                writer.write(csv(mismatch.getSettlementStatus()));
+                writer.write(',');
+                writer.write(csv(mismatch.getPaymentStatus()));
+                writer.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String csv(@Nullable Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value instanceof BigDecimal amount ? amount.toPlainString() : value.toString();
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0) {
+                return text;
+            }
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    /**
+     * 거래 ID 64비트 지문의 열린 주소 해시 집합 (0은 빈 칸 표시로 쓰므로 지문에서 피한다)
+     */
+    static final class FingerprintSet {
+
+        private long[] slots = new long[1 << 16];
+        private int size;
+
+        static long fingerprint(String value) {
+            // FNV-1a 64 후 섞기
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            return hash == 0 ? 1 : hash;
+        }
+
+        void add(long fingerprint) {
+            if (size * 2 >= slots.length) {
+                grow();
+            }
+            if (insert(slots, fingerprint)) {
+                size++;
+            }
+        }
+
+        boolean contains(long fingerprint) {
+            int mask = slots.length - 1;
+            for (int i = (int) fingerprint & mask; slots[i] != 0; i = (i + 1) & mask) {
+                if (slots[i] == fingerprint) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean insert(long[] table, long fingerprint) {
+            int mask = table.length - 1;
+            int i = (int) fingerprint & mask;
+            while (table[i] != 0) {
+                if (table[i] == fingerprint) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            table[i] = fingerprint;
+            return true;
+        }
+
+        private void grow() {
+            long[] grown = new long[slots.length * 2];
+            for (long fingerprint : slots) {
+                if (fingerprint != 0) {
+                    insert(grown, fingerprint);
+                }
+            }
+            slots = grown;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.ipia.order.payment.settlement.service;
+
+import java.math.BigDecimal;
+
+/**
+ * 정산 파일 한 행
+ *
+ * @param lineNumber 파일 안의 행 번호 (1부터, CSV 헤더 포함)
+ * @param providerTxnId 외부 거래 ID (Toss Payment Key)
+ * @param amount 정산 금액
+ * @param status 정산 파일의 거래 상태 (DONE, CANCELED 등 원문)
+ */
+public record SettlementRecord(
+        long lineNumber,
+        String providerTxnId,
+        BigDecimal amount,
+        String status
+) {
+}
@@ -0,0 +1,121 @@
+package com.ipia.order.payment.webhook;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 단일 노드용 인메모리 웹훅 대기열 (로컬/테스트)
+ *
+ * 프로세스가 종료되면 대기 중인 이벤트가 사라지므로 운영에서는 Redis 대기열을 사용한다.
+ * (결제사는 2xx를 받은 웹훅을 다시 보내지 않는다)
+ */
+public class InMemoryPaymentWebhookQueue implements PaymentWebhookQueue {
+
+    private record Inflight(PaymentWebhookEvent event, Instant claimedAt) {
+    }
+
+    private final Deque<PaymentWebhookEvent> pending = new ArrayDeque<>();
+    /** 이벤트 ID → 처리 중 이벤트 (꺼낸 순서) */
+    private final Map<String, Inflight> inflight = new LinkedHashMap<>();
+    /** 거래 ID → 처리 중 이벤트 수 */
+    private final Map<String, Integer> activeTransactions = new HashMap<>();
+    /** 거래 ID → 앞선 이벤트가 처리 중이라 보류된 이벤트 (도착 순서) */
+    private final Map<String, List<PaymentWebhookEvent>> held = new HashMap<>();
+    private final Set<String> seen = new HashSet<>();
+
+    @Override
+    public synchronized boolean enqueue(PaymentWebhookEvent event) {
+        if (!seen.add(event.eventId())) {
+            return false;
+        }
+        pending.addLast(event);
+        return true;
+    }
+
+    @Override
+    public synchronized List<PaymentWebhookEvent> claim(int max) {
+        List<PaymentWebhookEvent> claimed = new ArrayList<>();
+        Set<String> claimedTransactions = new HashSet<>();
+        Instant now = Instant.now();
+        PaymentWebhookEvent event;
+        while (claimed.size() < max && (event = pending.pollFirst()) != null) {
+            String transaction = event.providerTxnId();
+            if (!claimedTransactions.contains(transaction) && activeTransactions.containsKey(transaction)) {
+                held.computeIfAbsent(transaction, key -> new ArrayList<>()).add(event);
+                continue;
+            }
+            claimedTransactions.add(transaction);
+            inflight.put(event.eventId(), new Inflight(event, now));
+            activeTransactions.merge(transaction, 1, Integer::sum);
+            claimed.add(event);
+        }
+        return claimed;
+    }
+
+    @Override
+    public synchronized void ack(List<PaymentWebhookEvent> events) {
+        List<PaymentWebhookEvent> released = new ArrayList<>();
+        for (PaymentWebhookEvent event : events) {
+            if (inflight.remove(event.eventId()) != null) {
+                release(event.providerTxnId(), released);
+            }
+        }
+        pushFront(released);
+    }
+
+    @Override
+    public synchronized int recoverStale(Duration visibilityTimeout) {
+        Instant cutoff = Instant.now().minus(visibilityTimeout);
+        List<PaymentWebhookEvent> recovered = new ArrayList<>();
+        List<PaymentWebhookEvent> released = new ArrayList<>();
+        for (Inflight entry : List.copyOf(inflight.values())) {
+            if (!entry.claimedAt().isAfter(cutoff)) {
+                inflight.remove(entry.event().eventId());
+                recovered.add(entry.event());
+                release(entry.event().providerTxnId(), released);
+            }
+        }
+        // 복구한 이벤트 뒤에 그 거래의 보류 이벤트가 오도록 함께 되돌린다
+        int count = recovered.size();
+        recovered.addAll(released);
+        pushFront(recovered);
+        return count;
+    }
+
+    @Override
+    public synchronized long pendingCount() {
+        long heldCount = 0;
+        for (List<PaymentWebhookEvent> events : held.values()) {
+            heldCount += events.size();
+        }
+        return pending.size() + heldCount;
+    }
+
+    /**
+     * 거래의 처리 중 이벤트 수를 줄이고, 없어지면 보류된 이벤트를 released에 이어 붙인다.
+     */
+    private void release(String transaction, List<PaymentWebhookEvent> released) {
+        Integer remaining = activeTransactions.computeIfPresent(transaction, (key, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            List<PaymentWebhookEvent> waiting = held.remove(transaction);
+            if (waiting != null) {
+                released.addAll(waiting);
+            }
+        }
+    }
+
+    private void pushFront(List<PaymentWebhookEvent> events) {
+        for (int i = events.size() - 1; i >= 0; i--) {
+            pending.addFirst(events.get(i));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ipia.order.payment.webhook;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 수신한 결제 상태 변경 웹훅 (대기열에 JSON으로 저장)
+ *
+ * @param eventId 중복 제거 키 (전송 ID, 없으면 본문 해시)
+ * @param providerTxnId 외부 거래 ID (Toss Payment Key)
+ * @param orderId 결제사에 보낸 주문 ID
+ * @param status 결제사 결제 상태 (DONE, CANCELED, PARTIAL_CANCELED, ABORTED, EXPIRED 등 원문)
+ * @param totalAmount 결제 금액
+ * @param cancelAmount 누적 취소 금액 (취소 내역이 없으면 null)
+ * @param occurredAt 결제사 이벤트 발생 시각 (같은 거래의 반영 순서)
+ * @param receivedAt 수신 시각
+ */
+public record PaymentWebhookEvent(String eventId, String providerTxnId, @Nullable String orderId, String status,
+                                  @Nullable BigDecimal totalAmount, @Nullable BigDecimal cancelAmount,
+                                  LocalDateTime occurredAt, LocalDateTime receivedAt) {
+}
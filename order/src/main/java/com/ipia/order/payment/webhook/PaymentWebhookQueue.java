@@ -0,0 +1,46 @@
+package com.ipia.order.payment.webhook;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 결제 웹훅 대기열
+ *
+ * 수신 스레드는 적재만 하고 반영은 워커가 한다.
+ * 꺼낸(claim) 이벤트는 ack 전까지 처리 중 목록에 남고, ack되지 않은 이벤트(노드 장애, 보류)는
+ * 가시성 제한 시간이 지나면 recoverStale로 대기열 앞에 되돌린다.
+ * 같은 거래(providerTxnId)의 이벤트가 처리 중이면 뒤에 온 이벤트는 꺼내지 않고 거래별로 보류했다가,
+ * 처리 중인 이벤트가 모두 ack되거나 복구될 때 그 뒤에 이어 대기열 앞으로 되돌린다. (배치와 노드를 넘어 거래 내 순서 보장)
+ */
+public interface PaymentWebhookQueue {
+
+    /**
+     * 이벤트 적재 (같은 이벤트 ID를 중복 제거 기간 안에 이미 받았으면 적재하지 않는다)
+     *
+     * @return 새로 적재했으면 true
+     */
+    boolean enqueue(PaymentWebhookEvent event);
+
+    /**
+     * 대기 중인 이벤트를 최대 max개 도착 순서대로 꺼내 처리 중 목록으로 옮긴다.
+     * 이번 호출 전부터 처리 중인 거래의 이벤트는 돌려주지 않고 보류한다.
+     */
+    List<PaymentWebhookEvent> claim(int max);
+
+    /**
+     * 처리 완료된 이벤트를 처리 중 목록에서 제거 (거래의 처리 중 이벤트가 없어지면 보류된 이벤트를 되돌림)
+     */
+    void ack(List<PaymentWebhookEvent> events);
+
+    /**
+     * 가시성 제한 시간이 지난 처리 중 이벤트를 대기열 앞으로 되돌린다.
+     *
+     * @return 되돌린 이벤트 수
+     */
+    int recoverStale(Duration visibilityTimeout);
+
+    /**
+     * 대기 중인 이벤트 수 (보류된 이벤트 포함)
+     */
+    long pendingCount();
+}
@@ -0,0 +1,217 @@
+package com.ipia.order.payment.webhook;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ipia.order.common.exception.general.GeneralException;
+import com.ipia.order.payment.config.PaymentWebhookProperties;
+import com.ipia.order.payment.enums.PaymentWebhookOutcome;
+import com.ipia.order.payment.service.PaymentWebhookService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 웹훅 반영 워커
+ *
+ * 대기열에서 이벤트를 배치로 꺼내 외부 거래 ID별로 묶고, 묶음마다 발생 순서대로 한 트랜잭션에서 반영한 뒤 ack한다.
+ * 묶음이 통째로 실패하면 이벤트를 하나씩 다시 시도한다. 업무 규칙 위반(GeneralException)으로 확정하지 못한 승인은
+ * Toss 결제를 보상 취소하고, 그 밖의 규칙 위반은 거절로 보고 ack한다.
+ * 그 밖의 실패, 보상 취소 실패나 보류(DEFERRED)가 나오면 같은 거래의 나머지 이벤트까지 ack하지 않아 순서를 지킨 채 다시 처리된다.
+ * ack되지 않은 동안 뒤에 도착한 같은 거래의 이벤트는 대기열이 보류하므로 다음 배치에서 앞질러 반영되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "payment.webhook", name = "enabled", havingValue = "true")
+public class PaymentWebhookWorker implements MeterBinder {
+
+    private final PaymentWebhookQueue paymentWebhookQueue;
+    private final PaymentWebhookService paymentWebhookService;
+    private final PaymentWebhookProperties properties;
+
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder ignored = new LongAdder();
+    private final LongAdder unmatched = new LongAdder();
+    private final LongAdder reviewRequired = new LongAdder();
+    private final LongAdder compensated = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * 대기 중인 웹훅 이벤트를 반영합니다.
+     *
+     * @return 이번 실행에서 처리(ack)된 이벤트 수
+     */
+    @Scheduled(fixedDelayString = "${payment.webhook.poll-interval:PT0.2S}")
+    public int drain() {
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<PaymentWebhookEvent> claimed = paymentWebhookQueue.claim(properties.getBatchSize());
+            if (claimed.isEmpty()) {
+                break;
+            }
+            for (List<PaymentWebhookEvent> group : groupByTransaction(claimed)) {
+                total += process(group);
+            }
+            if (claimed.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 노드 장애나 보류로 ack되지 않은 이벤트를 대기열로 되돌립니다.
+     */
+    @Scheduled(fixedDelayString = "${payment.webhook.recover-interval:PT30S}")
+    public int recover() {
+        int recovered = paymentWebhookQueue.recoverStale(properties.getVisibilityTimeout());
+        if (recovered > 0) {
+            log.info("[PaymentWebhook] 미완료 웹훅 이벤트 재적재: count={}", recovered);
+        }
+        return recovered;
+    }
+
+    /**
+     * 외부 거래 ID별로 묶고 묶음 안은 발생 시각 순으로 정렬 (묶음 순서는 처음 도착한 순서)
+     */
+    static List<List<PaymentWebhookEvent>> groupByTransaction(List<PaymentWebhookEvent> claimed) {
+        Map<String, List<PaymentWebhookEvent>> groups = new LinkedHashMap<>();
+        for (PaymentWebhookEvent event : claimed) {
+            groups.computeIfAbsent(event.providerTxnId(), key -> new ArrayList<>()).add(event);
+        }
+        List<List<PaymentWebhookEvent>> result = new ArrayList<>(groups.size());
+        for (List<PaymentWebhookEvent> group : groups.values()) {
+            group.sort(Comparator.comparing(PaymentWebhookEvent::occurredAt)
+                    .thenComparing(PaymentWebhookEvent::receivedAt));
+            result.add(group);
+        }
+        return result;
+    }
+
+    private int process(List<PaymentWebhookEvent> group) {
+        try {
+            return complete(group, paymentWebhookService.apply(group));
+        } catch (Exception e) {
+            log.warn("[PaymentWebhook] 묶음 반영 실패 - 이벤트별 재시도: providerTxnId={}, size={}",
+                    group.get(0).providerTxnId(), group.size(), e);
+        }
+
+        int processed = 0;
+        for (PaymentWebhookEvent event : group) {
+            try {
+                int completed = complete(List.of(event), paymentWebhookService.apply(List.of(event)));
+                processed += completed;
+                if (completed == 0) {
+                    break;
+                }
+            } catch (GeneralException e) {
+                if (!reject(event, e)) {
+                    break;
+                }
+                processed++;
+            } catch (Exception e) {
+                failed.increment();
+                log.warn("[PaymentWebhook] 이벤트 반영 실패 - 복구 대기: eventId={}, providerTxnId={}",
+                        event.eventId(), event.providerTxnId(), e);
+                break;
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 업무 규칙 위반으로 반영하지 못한 이벤트 정리 (결제사에서 승인된 돈은 보상 취소로 돌려준다)
+     *
+     * @return ack했으면 true, 보상 취소가 실패해 다시 시도해야 하면 false
+     */
+    private boolean reject(PaymentWebhookEvent event, GeneralException cause) {
+        try {
+            if (paymentWebhookService.compensate(event)) {
+                compensated.increment();
+                paymentWebhookQueue.ack(List.of(event));
+                return true;
+            }
+        } catch (Exception e) {
+            failed.increment();
+            log.error("[PaymentWebhook] 확정할 수 없는 승인의 보상 취소 실패 - 복구 대기: eventId={}, providerTxnId={}, code={}",
+                    event.eventId(), event.providerTxnId(), cause.getStatus().getCode(), e);
+            return false;
+        }
+        rejected.increment();
+        log.warn("[PaymentWebhook] 반영할 수 없는 이벤트 - 건너뜀: eventId={}, providerTxnId={}, status={}, code={}",
+                event.eventId(), event.providerTxnId(), event.status(), cause.getStatus().getCode());
+        paymentWebhookQueue.ack(List.of(event));
+        return true;
+    }
+
+    /**
+     * 보류된 이벤트 앞까지만 ack (보류된 이벤트와 그 뒤 이벤트는 가시성 제한 시간 뒤 다시 처리)
+     */
+    private int complete(List<PaymentWebhookEvent> events, List<PaymentWebhookOutcome> outcomes) {
+        int done = 0;
+        for (PaymentWebhookOutcome outcome : outcomes) {
+            if (outcome == PaymentWebhookOutcome.DEFERRED) {
+                deferred.increment();
+                log.info("[PaymentWebhook] 승인 진행 중이라 반영 보류: providerTxnId={}", events.get(done).providerTxnId());
+                break;
+            }
+            switch (outcome) {
+                case APPLIED -> applied.increment();
+                case IGNORED -> ignored.increment();
+                case REVIEW_REQUIRED -> reviewRequired.increment();
+                default -> unmatched.increment();
+            }
+            done++;
+        }
+        if (done > 0) {
+            paymentWebhookQueue.ack(events.subList(0, done));
+        }
+        return done;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("payment.webhook.pending", paymentWebhookQueue, PaymentWebhookQueue::pendingCount)
+                .description("반영을 기다리는 웹훅 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("payment.webhook.applied", applied, LongAdder::sum)
+                .description("결제 상태에 반영된 웹훅 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("payment.webhook.ignored", ignored, LongAdder::sum)
+                .description("이미 반영됐거나 처리 대상이 아니라 건너뛴 웹훅 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("payment.webhook.unmatched", unmatched, LongAdder::sum)
+                .description("일치하는 결제가 없는 웹훅 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("payment.webhook.review-required", reviewRequired, LongAdder::sum)
+                .description("부분 취소 등 수동 확인이 필요한 웹훅 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("payment.webhook.compensated", compensated, LongAdder::sum)
+                .description("확정할 수 없어 Toss 결제를 보상 취소한 승인 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("payment.webhook.deferred", deferred, LongAdder::sum)
+                .description("승인 진행 중이라 보류된 웹훅 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("payment.webhook.rejected", rejected, LongAdder::sum)
+                .description("업무 규칙 위반으로 건너뛴 웹훅 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("payment.webhook.failed", failed, LongAdder::sum)
+                .description("반영 실패로 복구를 기다리는 웹훅 이벤트 수")
+                .register(registry);
+    }
+}
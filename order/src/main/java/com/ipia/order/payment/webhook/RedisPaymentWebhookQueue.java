@@ -0,0 +1,213 @@
+package com.ipia.order.payment.webhook;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Redis 기반 웹훅 대기열 (노드 간 공유, Redis 영속화 설정을 따른다)
+ *
+ * - {key}:pending   LIST  대기 중인 이벤트(JSON)
+ * - {key}:inflight  ZSET  처리 중인 이벤트 ID (score = 꺼낸 시각 epoch millis)
+ * - {key}:payload   HASH  처리 중인 이벤트 ID → 이벤트(JSON)
+ * - {key}:active    HASH  거래 ID → 처리 중 이벤트 수
+ * - {key}:held      HASH  거래 ID → 앞선 이벤트가 처리 중이라 보류된 이벤트 목록(JSON 배열, 도착 순서)
+ * - {key}:seen:{eventId}  받은 이벤트 표식 (dedupTtl 후 만료)
+ *
+ * 적재/꺼내기/ack/복구는 Lua 스크립트로 원자적으로 수행하므로 여러 노드의 워커가 동시에 꺼내도 중복되지 않고,
+ * 한 거래의 이벤트는 한 번에 한 워커만 처리한다.
+ */
+public class RedisPaymentWebhookQueue implements PaymentWebhookQueue {
+
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then "
+                    + "  redis.call('RPUSH', KEYS[2], ARGV[2]) return 1 "
+                    + "end "
+                    + "return 0",
+            Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local items = {} "
+                    + "local claimed = {} "
+                    + "while #items < tonumber(ARGV[1]) do "
+                    + "  local payload = redis.call('LPOP', KEYS[1]) "
+                    + "  if not payload then break end "
+                    + "  local event = cjson.decode(payload) "
+                    + "  local txn = event['providerTxnId'] "
+                    + "  if not claimed[txn] and redis.call('HEXISTS', KEYS[4], txn) == 1 then "
+                    + "    local held = redis.call('HGET', KEYS[5], txn) "
+                    + "    local list = held and cjson.decode(held) or {} "
+                    + "    list[#list + 1] = payload "
+                    + "    redis.call('HSET', KEYS[5], txn, cjson.encode(list)) "
+                    + "  else "
+                    + "    claimed[txn] = true "
+                    + "    redis.call('ZADD', KEYS[2], ARGV[2], event['eventId']) "
+                    + "    redis.call('HSET', KEYS[3], event['eventId'], payload) "
+                    + "    redis.call('HINCRBY', KEYS[4], txn, 1) "
+                    + "    items[#items + 1] = payload "
+                    + "  end "
+                    + "end "
+                    + "return items",
+            List.class);
+
+    /**
+     * 거래의 처리 중 이벤트 수를 줄이고, 없어지면 보류된 이벤트를 out에 이어 붙인다. (ack/복구 공용)
+     */
+    private static final String RELEASE_FUNCTION =
+            "local function release(txn, out) "
+                    + "  if redis.call('HINCRBY', KEYS[4], txn, -1) > 0 then return end "
+                    + "  redis.call('HDEL', KEYS[4], txn) "
+                    + "  local held = redis.call('HGET', KEYS[5], txn) "
+                    + "  if held then "
+                    + "    redis.call('HDEL', KEYS[5], txn) "
+                    + "    for _, payload in ipairs(cjson.decode(held)) do out[#out + 1] = payload end "
+                    + "  end "
+                    + "end "
+                    + "local function pushFront(items) "
+                    + "  for i = #items, 1, -1 do redis.call('LPUSH', KEYS[1], items[i]) end "
+                    + "end ";
+
+    private static final RedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>(
+            RELEASE_FUNCTION
+                    + "local released = {} "
+                    + "for i = 1, #ARGV do "
+                    + "  local payload = redis.call('HGET', KEYS[3], ARGV[i]) "
+                    + "  if payload then "
+                    + "    redis.call('HDEL', KEYS[3], ARGV[i]) "
+                    + "    redis.call('ZREM', KEYS[2], ARGV[i]) "
+                    + "    release(cjson.decode(payload)['providerTxnId'], released) "
+                    + "  end "
+                    + "end "
+                    + "pushFront(released) "
+                    + "return #released",
+            Long.class);
+
+    private static final RedisScript<Long> RECOVER_SCRIPT = new DefaultRedisScript<>(
+            RELEASE_FUNCTION
+                    + "local ids = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1]) "
+                    + "local recovered = {} "
+                    + "local released = {} "
+                    + "for i = 1, #ids do "
+                    + "  local payload = redis.call('HGET', KEYS[3], ids[i]) "
+                    + "  redis.call('HDEL', KEYS[3], ids[i]) "
+                    + "  redis.call('ZREM', KEYS[2], ids[i]) "
+                    + "  if payload then "
+                    + "    recovered[#recovered + 1] = payload "
+                    + "    release(cjson.decode(payload)['providerTxnId'], released) "
+                    + "  end "
+                    + "end "
+                    // 복구한 이벤트 뒤에 그 거래의 보류 이벤트가 오도록 함께 되돌린다
+                    + "for _, payload in ipairs(released) do recovered[#recovered + 1] = payload end "
+                    + "pushFront(recovered) "
+                    + "return #ids",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String pendingKey;
+    private final String inflightKey;
+    private final String payloadKey;
+    private final String activeKey;
+    private final String heldKey;
+    private final String seenKeyPrefix;
+    private final Duration dedupTtl;
+
+    public RedisPaymentWebhookQueue(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                                    String key, Duration dedupTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.pendingKey = key + ":pending";
+        this.inflightKey = key + ":inflight";
+        this.payloadKey = key + ":payload";
+        this.activeKey = key + ":active";
+        this.heldKey = key + ":held";
+        this.seenKeyPrefix = key + ":seen:";
+        this.dedupTtl = dedupTtl;
+    }
+
+    @Override
+    public boolean enqueue(PaymentWebhookEvent event) {
+        Long added = stringRedisTemplate.execute(ENQUEUE_SCRIPT,
+                List.of(seenKeyPrefix + event.eventId(), pendingKey),
+                String.valueOf(dedupTtl.toSeconds()),
+                serialize(event));
+        return added != null && added == 1L;
+    }
+
+    @Override
+    public List<PaymentWebhookEvent> claim(int max) {
+        List<?> payloads = stringRedisTemplate.execute(CLAIM_SCRIPT, keys(),
+                String.valueOf(max), String.valueOf(Instant.now().toEpochMilli()));
+        if (payloads == null || payloads.isEmpty()) {
+            return List.of();
+        }
+        List<PaymentWebhookEvent> events = new ArrayList<>(payloads.size());
+        for (Object payload : payloads) {
+            events.add(deserialize(payload.toString()));
+        }
+        return events;
+    }
+
+    @Override
+    public void ack(List<PaymentWebhookEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Object[] ids = events.stream().map(PaymentWebhookEvent::eventId).toArray();
+        stringRedisTemplate.execute(ACK_SCRIPT, keys(), ids);
+    }
+
+    @Override
+    public int recoverStale(Duration visibilityTimeout) {
+        Long recovered = stringRedisTemplate.execute(RECOVER_SCRIPT, keys(),
+                String.valueOf(Instant.now().minus(visibilityTimeout).toEpochMilli()));
+        return recovered == null ? 0 : recovered.intValue();
+    }
+
+    @Override
+    public long pendingCount() {
+        Long size = stringRedisTemplate.opsForList().size(pendingKey);
+        long heldCount = 0;
+        for (Object held : stringRedisTemplate.opsForHash().values(heldKey)) {
+            heldCount += deserializeHeld(held.toString()).size();
+        }
+        return (size == null ? 0 : size) + heldCount;
+    }
+
+    private List<String> keys() {
+        return List.of(pendingKey, inflightKey, payloadKey, activeKey, heldKey);
+    }
+
+    private String serialize(PaymentWebhookEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("웹훅 이벤트 직렬화 실패: eventId=" + event.eventId(), e);
+        }
+    }
+
+    private List<String> deserializeHeld(String held) {
+        try {
+            return objectMapper.readValue(held, objectMapper.getTypeFactory().constructCollectionType(List.class, String.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("보류 웹훅 이벤트 역직렬화 실패", e);
+        }
+    }
+
+    private PaymentWebhookEvent deserialize(String payload) {
+        try {
+            return objectMapper.readValue(payload, PaymentWebhookEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("웹훅 이벤트 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.ipia.order.report.analytics;
+
+/**
+ * 주문 분석 그룹 기준
+ */
+public enum AnalyticsGroupBy {
+    /** 전체 한 그룹 */
+    NONE,
+    /** 주문 상태 */
+    STATUS,
+    /** 결제 상태 (결제 없음 포함) */
+    PAYMENT_STATUS,
+    /** 회원 (금액 합계 내림차순 상위 N) */
+    MEMBER,
+    /** 주문 생성 시각 (시간 단위) */
+    HOUR,
+    /** 주문 생성 일자 */
+    DAY
+}
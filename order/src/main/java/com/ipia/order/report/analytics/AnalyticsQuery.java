@@ -0,0 +1,120 @@
+package com.ipia.order.report.analytics;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+
+import com.ipia.order.common.exception.report.ReportHandler;
+import com.ipia.order.common.exception.report.status.ReportErrorStatus;
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.payment.enums.PaymentStatus;
+
+/**
+ * 컬럼 스캔용으로 변환된 주문 분석 조건
+ * 
+ * 상태 조건은 딕셔너리 코드 비트마스크로, 생성일 범위는 분 단위 정수로 바꿔 행마다 비교 몇 번으로 거른다.
+ *
+ * @param statusMask 허용 주문 상태 코드 비트 (전체 허용이면 모든 비트)
+ * @param paymentStatusMask 허용 결제 상태 코드 비트 (결제 상태를 지정하면 결제 없는 주문은 제외)
+ * @param fromMinute 생성 시각 하한 (포함, OrderColumnStore.toMinute 기준)
+ * @param toMinute 생성 시각 상한 (미포함)
+ * @param memberId 회원 필터 (0이면 전체)
+ */
+public record AnalyticsQuery(
+        AnalyticsGroupBy groupBy,
+        int statusMask,
+        int paymentStatusMask,
+        int fromMinute,
+        int toMinute,
+        long minAmount,
+        long maxAmount,
+        long memberId,
+        boolean percentiles,
+        int limit
+) {
+
+    private static final int ALL = -1;
+
+    public static AnalyticsQuery of(AnalyticsGroupBy groupBy,
+                                    Set<OrderStatus> statuses,
+                                    Set<PaymentStatus> paymentStatuses,
+                                    @Nullable LocalDateTime createdFrom,
+                                    @Nullable LocalDateTime createdTo,
+                                    @Nullable Long minAmount,
+                                    @Nullable Long maxAmount,
+                                    @Nullable Long memberId,
+                                    boolean percentiles,
+                                    int limit) {
+        int statusMask = statuses.isEmpty() ? ALL : 0;
+        for (OrderStatus status : statuses) {
+            statusMask |= 1 << OrderColumnStore.codeOf(status);
+        }
+        int paymentStatusMask = paymentStatuses.isEmpty() ? ALL : 0;
+        for (PaymentStatus status : paymentStatuses) {
+            paymentStatusMask |= 1 << OrderColumnStore.codeOf(status);
+        }
+        return new AnalyticsQuery(
+                groupBy,
+                statusMask,
+                paymentStatusMask,
+                createdFrom == null ? Integer.MIN_VALUE : OrderColumnStore.toMinute(createdFrom),
+                createdTo == null ? Integer.MAX_VALUE : OrderColumnStore.toMinute(createdTo),
+                minAmount == null ? Long.MIN_VALUE : minAmount,
+                maxAmount == null ? Long.MAX_VALUE : maxAmount,
+                memberId == null ? 0 : memberId,
+                percentiles,
+                limit);
+    }
+
+    // ==================== 요청 파라미터 변환 ====================
+
+    /**
+     * 그룹 기준 변환 (null/공백이면 NONE)
+     * @throws ReportHandler 알 수 없는 그룹 기준 (ReportErrorStatus.INVALID_ANALYTICS_QUERY)
+     */
+    public static AnalyticsGroupBy parseGroupBy(@Nullable String raw) {
+        if (raw == null || raw.isBlank()) {
+            return AnalyticsGroupBy.NONE;
+        }
+        return parseEnum(AnalyticsGroupBy.class, raw);
+    }
+
+    /**
+     * 쉼표로 구분된 주문 상태 변환 (예: "CONFIRMED,SHIPPED")
+     * @throws ReportHandler 알 수 없는 상태 (ReportErrorStatus.INVALID_ANALYTICS_QUERY)
+     */
+    public static Set<OrderStatus> parseOrderStatuses(@Nullable String raw) {
+        return parseEnums(OrderStatus.class, raw);
+    }
+
+    /**
+     * 쉼표로 구분된 결제 상태 변환 (예: "APPROVED")
+     * @throws ReportHandler 알 수 없는 상태 (ReportErrorStatus.INVALID_ANALYTICS_QUERY)
+     */
+    public static Set<PaymentStatus> parsePaymentStatuses(@Nullable String raw) {
+        return parseEnums(PaymentStatus.class, raw);
+    }
+
+    private static <E extends Enum<E>> Set<E> parseEnums(Class<E> type, @Nullable String raw) {
+        Set<E> values = EnumSet.noneOf(type);
+        if (raw == null || raw.isBlank()) {
+            return values;
+        }
+        for (String token : raw.split(",")) {
+            if (!token.isBlank()) {
+                values.add(parseEnum(type, token));
+            }
+        }
+        return values;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String raw) {
+        try {
+            return Enum.valueOf(type, raw.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ReportHandler(ReportErrorStatus.INVALID_ANALYTICS_QUERY);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.ipia.order.report.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 그룹별 집계 테이블 (long 키 오픈 어드레싱, 박싱 없음)
+ * 
+ * 스캔 작업마다 하나씩 만들어 채우고, 포크-조인 합류 시 병합한다. (스레드 안전하지 않음)
+ */
+final class GroupTable {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * 그룹 하나의 집계 결과
+     */
+    record Group(long key, long count, long sum, long min, long max, AmountHistogram histogram) {
+    }
+
+    private final boolean withHistogram;
+    private long[] keys;
+    private long[] counts;
+    private long[] sums;
+    private long[] mins;
+    private long[] maxs;
+    private AmountHistogram[] histograms;
+    private int size;
+
+    /** 스캔한 행 수 (삭제/빈 행 제외) */
+    long scannedRows;
+
+    /** 조건에 맞은 행 수 */
+    long matchedRows;
+
+    GroupTable(boolean withHistogram) {
+        this.withHistogram = withHistogram;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    void add(long key, long amount) {
+        int slot = slotOf(key);
+        counts[slot]++;
+        sums[slot] += amount;
+        if (amount < mins[slot]) {
+            mins[slot] = amount;
+        }
+        if (amount > maxs[slot]) {
+            maxs[slot] = amount;
+        }
+        if (withHistogram) {
+            histograms[slot].record(amount);
+        }
+        matchedRows++;
+    }
+
+    GroupTable merge(GroupTable other) {
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] == EMPTY) {
+                continue;
+            }
+            int slot = slotOf(other.keys[i]);
+            counts[slot] += other.counts[i];
+            sums[slot] += other.sums[i];
+            mins[slot] = Math.min(mins[slot], other.mins[i]);
+            maxs[slot] = Math.max(maxs[slot], other.maxs[i]);
+            if (withHistogram) {
+                histograms[slot].merge(other.histograms[i]);
+            }
+        }
+        scannedRows += other.scannedRows;
+        matchedRows += other.matchedRows;
+        return this;
+    }
+
+    int size() {
+        return size;
+    }
+
+    List<Group> groups() {
+        List<Group> groups = new ArrayList<>(size);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                groups.add(new Group(keys[i], counts[i], sums[i], mins[i], maxs[i],
+                        withHistogram ? histograms[i] : null));
+            }
+        }
+        return groups;
+    }
+
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+            return slotOf(key);
+        }
+        keys[slot] = key;
+        mins[slot] = Long.MAX_VALUE;
+        maxs[slot] = Long.MIN_VALUE;
+        if (withHistogram) {
+            histograms[slot] = new AmountHistogram();
+        }
+        size++;
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldCounts = counts;
+        long[] oldSums = sums;
+        long[] oldMins = mins;
+        long[] oldMaxs = maxs;
+        AmountHistogram[] oldHistograms = histograms;
+        allocate(oldKeys.length * 2);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+            int slot = mix(oldKeys[i]) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            counts[slot] = oldCounts[i];
+            sums[slot] = oldSums[i];
+            mins[slot] = oldMins[i];
+            maxs[slot] = oldMaxs[i];
+            if (withHistogram) {
+                histograms[slot] = oldHistograms[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        counts = new long[capacity];
+        sums = new long[capacity];
+        mins = new long[capacity];
+        maxs = new long[capacity];
+        histograms = withHistogram ? new AmountHistogram[capacity] : null;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
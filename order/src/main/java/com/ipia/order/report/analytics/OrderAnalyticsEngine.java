@@ -0,0 +1,346 @@
+package com.ipia.order.report.analytics;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ipia.order.common.exception.report.ReportHandler;
+import com.ipia.order.common.exception.report.status.ReportErrorStatus;
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.event.OrderCanceledEvent;
+import com.ipia.order.order.event.OrderCreatedEvent;
+import com.ipia.order.order.event.OrderPaidEvent;
+import com.ipia.order.order.event.OrderStatusBulkChangedEvent;
+import com.ipia.order.order.repository.OrderRepository;
+import com.ipia.order.payment.enums.PaymentStatus;
+import com.ipia.order.payment.event.PaymentStatusChangedEvent;
+import com.ipia.order.report.config.AnalyticsProperties;
+import com.ipia.order.report.repository.AnalyticsSourceRepository;
+import com.ipia.order.report.repository.OrderColumnSource;
+import com.ipia.order.report.repository.PaymentColumnSource;
+import com.ipia.order.web.dto.response.report.OrderAnalyticsResponse;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인메모리 주문 분석 엔진
+ *
+ * orders/payments를 OrderColumnStore로 적재해 두고, 관리자 분석 조회(필터/그룹/집계)를
+ * 전용 ForkJoinPool에서 청크 병렬 스캔으로 처리한다. (OLTP DB에 집계 쿼리를 보내지 않음)
+ *
+ * - 적재: 기동 시와 주기마다 ID keyset 구간으로 전부 읽어 새 저장소를 만든 뒤 교체 (전용 단일 스레드)
+ * - 증분: 커밋된 주문/결제 이벤트를 현재 저장소(적재 중이면 새 저장소에도)에 반영
+ * - 적재와 이벤트가 같은 행을 엇갈려 쓰면 다음 적재까지 어긋날 수 있는 근사 스냅샷이다.
+ */
+@Slf4j
+@Component
+public class OrderAnalyticsEngine implements MeterBinder {
+
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final AnalyticsSourceRepository sourceRepository;
+    private final OrderRepository orderRepository;
+    private final AnalyticsProperties properties;
+    private final ForkJoinPool scanPool;
+    private final ExecutorService loader;
+
+    private volatile OrderColumnStore current;
+    private volatile OrderColumnStore loading;
+    private volatile LocalDateTime loadedAt;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder eventsApplied = new LongAdder();
+
+    public OrderAnalyticsEngine(AnalyticsSourceRepository sourceRepository,
+                                OrderRepository orderRepository,
+                                AnalyticsProperties properties) {
+        this.sourceRepository = sourceRepository;
+        this.orderRepository = orderRepository;
+        this.properties = properties;
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.scanPool = new ForkJoinPool(parallelism);
+        this.loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-analytics-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 분석 조회
+     *
+     * @throws ReportHandler 분석 꺼짐/적재 전 (ReportErrorStatus.ANALYTICS_DISABLED, ANALYTICS_NOT_READY)
+     * @throws ReportHandler 잘못된 조건 (ReportErrorStatus.INVALID_ANALYTICS_QUERY)
+     */
+    public OrderAnalyticsResponse query(AnalyticsQuery query) {
+        OrderColumnStore store = requireStore();
+        validate(query);
+
+        long started = System.nanoTime();
+        GroupTable table = store.scan(query, scanPool);
+        Comparator<GroupTable.Group> order = query.groupBy() == AnalyticsGroupBy.MEMBER
+                ? Comparator.comparingLong(GroupTable.Group::sum).reversed()
+                : Comparator.comparingLong(GroupTable.Group::key);
+        List<OrderAnalyticsResponse.Group> groups = table.groups().stream()
+                .sorted(order)
+                .limit(query.limit())
+                .map(group -> toResponse(query.groupBy(), group))
+                .toList();
+        double elapsedMillis = (System.nanoTime() - started) / 1_000_000.0;
+        queries.increment();
+
+        log.info("[Analytics] 주문 분석 조회: groupBy={}, scanned={}, matched={}, groups={}, elapsedMs={}",
+                query.groupBy(), table.scannedRows, table.matchedRows, table.size(), String.format("%.1f", elapsedMillis));
+        return OrderAnalyticsResponse.builder()
+                .groupBy(query.groupBy())
+                .scannedRows(table.scannedRows)
+                .matchedRows(table.matchedRows)
+                .totalGroups(table.size())
+                .elapsedMillis(elapsedMillis)
+                .snapshotLoadedAt(loadedAt)
+                .groups(groups)
+                .build();
+    }
+
+    private OrderColumnStore requireStore() {
+        if (!properties.isEnabled()) {
+            throw new ReportHandler(ReportErrorStatus.ANALYTICS_DISABLED);
+        }
+        OrderColumnStore store = current;
+        if (store == null) {
+            throw new ReportHandler(ReportErrorStatus.ANALYTICS_NOT_READY);
+        }
+        return store;
+    }
+
+    private void validate(AnalyticsQuery query) {
+        if (query.limit() < 1 || query.limit() > properties.getMaxGroups()
+                || query.fromMinute() >= query.toMinute()
+                || query.minAmount() > query.maxAmount()
+                // 회원 그룹은 그룹 수가 회원 수만큼이라 그룹마다 히스토그램을 둘 수 없다
+                || (query.percentiles() && query.groupBy() == AnalyticsGroupBy.MEMBER)) {
+            throw new ReportHandler(ReportErrorStatus.INVALID_ANALYTICS_QUERY);
+        }
+    }
+
+    private static OrderAnalyticsResponse.Group toResponse(AnalyticsGroupBy groupBy, GroupTable.Group group) {
+        OrderAnalyticsResponse.Group.GroupBuilder builder = OrderAnalyticsResponse.Group.builder()
+                .key(keyOf(groupBy, group.key()))
+                .count(group.count())
+                .sumAmount(group.sum())
+                .minAmount(group.min())
+                .maxAmount(group.max())
+                .avgAmount(group.count() == 0 ? 0 : (double) group.sum() / group.count());
+        if (group.histogram() != null) {
+            builder.p50(group.histogram().percentile(PERCENTILES[0], group.min(), group.max()))
+                    .p90(group.histogram().percentile(PERCENTILES[1], group.min(), group.max()))
+                    .p99(group.histogram().percentile(PERCENTILES[2], group.min(), group.max()));
+        }
+        return builder.build();
+    }
+
+    private static String keyOf(AnalyticsGroupBy groupBy, long key) {
+        return switch (groupBy) {
+            case NONE -> "ALL";
+            case STATUS -> OrderColumnStore.orderStatusOf(key).name();
+            case PAYMENT_STATUS -> {
+                PaymentStatus status = OrderColumnStore.paymentStatusOf(key);
+                yield status == null ? "NONE" : status.name();
+            }
+            case MEMBER -> String.valueOf(key);
+            case HOUR -> OrderColumnStore.fromMinute(key * 60).toString();
+            case DAY -> OrderColumnStore.fromMinute(key * 1440).toLocalDate().toString();
+        };
+    }
+
+    // ==================== 적재 ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            requestRefresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${report.analytics.refresh-interval:PT30M}",
+            initialDelayString = "${report.analytics.refresh-interval:PT30M}")
+    public void scheduledRefresh() {
+        if (properties.isEnabled()) {
+            requestRefresh();
+        }
+    }
+
+    /**
+     * 전체 재적재 요청 (전용 스레드에서 비동기 실행)
+     *
+     * @return 이미 적재 중이면 false
+     */
+    public boolean requestRefresh() {
+        if (!properties.isEnabled()) {
+            throw new ReportHandler(ReportErrorStatus.ANALYTICS_DISABLED);
+        }
+        if (!refreshing.compareAndSet(false, true)) {
+            return false;
+        }
+        loader.execute(() -> {
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("[Analytics] 주문 분석 스냅샷 적재 실패 - 기존 스냅샷 유지", e);
+            } finally {
+                loading = null;
+                refreshing.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * orders/payments를 ID 구간으로 전부 읽어 새 저장소를 만든 뒤 교체
+     */
+    void refresh() {
+        long started = System.currentTimeMillis();
+        long minId = orderRepository.findMinId();
+        long maxId = orderRepository.findMaxId();
+        if (maxId - minId + 1 > properties.getMaxRows()) {
+            log.warn("[Analytics] 주문 ID 구간이 최대 행 수를 넘어 적재하지 않음: ids=[{}, {}], maxRows={}",
+                    minId, maxId, properties.getMaxRows());
+            return;
+        }
+        OrderColumnStore store = new OrderColumnStore(Math.max(1, minId));
+        loading = store;
+        PageRequest chunk = PageRequest.of(0, Math.max(1, properties.getLoadChunkSize()));
+
+        long afterId = 0;
+        List<OrderColumnSource> orders;
+        do {
+            orders = sourceRepository.findOrders(afterId, chunk);
+            for (OrderColumnSource order : orders) {
+                store.putOrder(order.id(), order.memberId(), order.totalAmount(), order.createdAt(), order.status());
+                afterId = order.id();
+            }
+        } while (orders.size() == chunk.getPageSize());
+
+        afterId = 0;
+        List<PaymentColumnSource> payments;
+        do {
+            payments = sourceRepository.findPayments(afterId, chunk);
+            for (PaymentColumnSource payment : payments) {
+                store.updatePaymentStatus(payment.orderId(), payment.status());
+                afterId = payment.id();
+            }
+        } while (payments.size() == chunk.getPageSize());
+
+        current = store;
+        loadedAt = LocalDateTime.now();
+        log.info("[Analytics] 주문 분석 스냅샷 적재 완료: rows={}, elapsedMs={}",
+                store.liveRows(), System.currentTimeMillis() - started);
+    }
+
+    // ==================== 증분 반영 ====================
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        apply(store -> store.putOrder(event.getOrderId(), event.getMemberId(), event.getTotalAmount(),
+                event.getCreatedAt(), OrderStatus.CREATED));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderPaid(OrderPaidEvent event) {
+        apply(store -> store.updateStatus(event.getOrderId(), OrderStatus.CONFIRMED));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        apply(store -> store.updateStatus(event.getOrderId(), OrderStatus.CANCELED));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderStatusBulkChanged(OrderStatusBulkChangedEvent event) {
+        apply(store -> {
+            for (Long orderId : event.getOrderIds()) {
+                store.updateStatus(orderId, event.getToStatus());
+            }
+            return true;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPaymentStatusChanged(PaymentStatusChangedEvent event) {
+        apply(store -> store.updatePaymentStatus(event.getOrderId(), event.getStatus()));
+    }
+
+    private void apply(Predicate<OrderColumnStore> change) {
+        OrderColumnStore active = current;
+        OrderColumnStore next = loading;
+        if (active == null && next == null) {
+            return;
+        }
+        try {
+            if (active != null) {
+                change.test(active);
+            }
+            if (next != null && next != active) {
+                change.test(next);
+            }
+            eventsApplied.increment();
+        } catch (Exception e) {
+            log.warn("[Analytics] 주문 분석 스냅샷 증분 반영 실패", e);
+        }
+    }
+
+    // ==================== 테스트/종료 ====================
+
+    /**
+     * 저장소 직접 지정 (테스트용)
+     */
+    void install(OrderColumnStore store) {
+        this.current = store;
+        this.loadedAt = LocalDateTime.now();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+        scanPool.shutdown();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("report.analytics.rows", this, engine -> {
+                    OrderColumnStore store = engine.current;
+                    return store == null ? 0 : store.liveRows();
+                })
+                .description("분석 스냅샷에 적재된 주문 수")
+                .register(registry);
+        FunctionCounter.builder("report.analytics.queries", queries, LongAdder::sum)
+                .description("처리한 분석 조회 수")
+                .register(registry);
+        FunctionCounter.builder("report.analytics.events", eventsApplied, LongAdder::sum)
+                .description("스냅샷에 반영한 주문/결제 이벤트 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,297 @@
+package com.ipia.order.report.analytics;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.payment.enums.PaymentStatus;
+
+/**
+ * 주문 컬럼 저장소 (인메모리 분석용 스냅샷)
+ *
+ * 주문 한 건을 행으로 두지 않고 컬럼별 원시 배열(long[]/int[]/byte[])에 나눠 저장한다.
+ * - 행 번호 = 주문 ID - 기준 ID (IDENTITY로 거의 연속이므로 주문 ID로 바로 찾아감, 순서 무관하게 반영 가능)
+ * - 상태는 1바이트 딕셔너리 코드(enum 순서 + 1, 0 = 빈 행/결제 없음)
+ * - 생성 시각은 분 단위 int (로컬 시각 기준이라 시/일 그룹은 나눗셈 한 번)
+ * - 배열은 65,536행 단위 청크로 나눠 늘릴 때 복사하지 않고, 청크가 포크-조인 스캔의 작업 단위가 된다.
+ *
+ * 쓰기는 한 번에 하나(synchronized)이고 읽기(스캔)는 잠금 없이 진행한다.
+ * 스캔 중 갱신된 행은 컬럼마다 갱신 전/후가 섞여 보일 수 있는 근사 스냅샷이다.
+ */
+public class OrderColumnStore {
+
+    static final int CHUNK_BITS = 16;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /** 빈 행 (주문 없음) 코드 */
+    static final byte ABSENT = 0;
+
+    /** 결제 없음 코드 */
+    static final byte NO_PAYMENT = 0;
+
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+    private static final PaymentStatus[] PAYMENT_STATUSES = PaymentStatus.values();
+
+    /**
+     * 청크 하나의 컬럼들
+     */
+    static final class Chunk {
+        final long[] memberIds = new long[CHUNK_SIZE];
+        final long[] amounts = new long[CHUNK_SIZE];
+        final int[] createdMinutes = new int[CHUNK_SIZE];
+        final byte[] statuses = new byte[CHUNK_SIZE];
+        final byte[] paymentStatuses = new byte[CHUNK_SIZE];
+    }
+
+    private final long baseId;
+    private volatile Chunk[] chunks = new Chunk[0];
+    private volatile int rowLimit;
+    private volatile long version;
+    private int liveRows;
+
+    /**
+     * @param baseId 행 0에 대응하는 주문 ID (보통 최소 주문 ID)
+     */
+    public OrderColumnStore(long baseId) {
+        this.baseId = baseId;
+    }
+
+    // ==================== 인코딩 ====================
+
+    static byte codeOf(OrderStatus status) {
+        return (byte) (status.ordinal() + 1);
+    }
+
+    static byte codeOf(PaymentStatus status) {
+        return (byte) (status.ordinal() + 1);
+    }
+
+    static OrderStatus orderStatusOf(long code) {
+        return ORDER_STATUSES[(int) code - 1];
+    }
+
+    /**
+     * 결제 상태 코드 복원 (결제 없음이면 null)
+     */
+    static PaymentStatus paymentStatusOf(long code) {
+        return code == NO_PAYMENT ? null : PAYMENT_STATUSES[(int) code - 1];
+    }
+
+    /**
+     * 로컬 시각 → 분 단위 정수 (로컬 시각을 UTC로 간주해 시간대 계산 없이 시/일 경계를 맞춤)
+     */
+    static int toMinute(LocalDateTime time) {
+        return (int) Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    static LocalDateTime fromMinute(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+
+    // ==================== 쓰기 ====================
+
+    /**
+     * 주문 행 저장 (있으면 덮어씀)
+     *
+     * @return 기준 ID보다 작은 주문이라 담을 수 없으면 false
+     */
+    public synchronized boolean putOrder(long orderId, long memberId, long amount, LocalDateTime createdAt,
+                                         OrderStatus status) {
+        int row = rowOf(orderId);
+        if (row < 0) {
+            return false;
+        }
+        Chunk chunk = chunkForWrite(row);
+        int offset = row & CHUNK_MASK;
+        if (chunk.statuses[offset] == ABSENT) {
+            liveRows++;
+        }
+        chunk.memberIds[offset] = memberId;
+        chunk.amounts[offset] = amount;
+        chunk.createdMinutes[offset] = toMinute(createdAt);
+        chunk.statuses[offset] = codeOf(status);
+        if (row >= rowLimit) {
+            rowLimit = row + 1;
+        }
+        version++;
+        return true;
+    }
+
+    /**
+     * 주문 상태 갱신 (행이 없으면 무시)
+     */
+    public synchronized boolean updateStatus(long orderId, OrderStatus status) {
+        Chunk chunk = chunkForUpdate(orderId);
+        if (chunk == null) {
+            return false;
+        }
+        chunk.statuses[rowOf(orderId) & CHUNK_MASK] = codeOf(status);
+        version++;
+        return true;
+    }
+
+    /**
+     * 결제 상태 갱신 (행이 없으면 무시)
+     */
+    public synchronized boolean updatePaymentStatus(long orderId, PaymentStatus status) {
+        Chunk chunk = chunkForUpdate(orderId);
+        if (chunk == null) {
+            return false;
+        }
+        chunk.paymentStatuses[rowOf(orderId) & CHUNK_MASK] = codeOf(status);
+        version++;
+        return true;
+    }
+
+    public synchronized int liveRows() {
+        return liveRows;
+    }
+
+    private int rowOf(long orderId) {
+        long row = orderId - baseId;
+        return row < 0 || row >= Integer.MAX_VALUE ? -1 : (int) row;
+    }
+
+    private Chunk chunkForWrite(int row) {
+        int index = row >>> CHUNK_BITS;
+        Chunk[] current = chunks;
+        if (index < current.length && current[index] != null) {
+            return current[index];
+        }
+        if (index >= current.length) {
+            current = Arrays.copyOf(current, Math.max(index + 1, current.length * 2));
+        }
+        current[index] = new Chunk();
+        // 새 청크는 rowLimit(volatile)보다 먼저 공개한다
+        chunks = current;
+        return current[index];
+    }
+
+    private Chunk chunkForUpdate(long orderId) {
+        int row = rowOf(orderId);
+        if (row < 0 || row >= rowLimit) {
+            return null;
+        }
+        Chunk chunk = chunks[row >>> CHUNK_BITS];
+        return chunk == null || chunk.statuses[row & CHUNK_MASK] == ABSENT ? null : chunk;
+    }
+
+    // ==================== 스캔 ====================
+
+    /**
+     * 조건에 맞는 행을 그룹별로 집계 (청크 단위 포크-조인 병렬 스캔)
+     */
+    GroupTable scan(AnalyticsQuery query, ForkJoinPool pool) {
+        // volatile 읽기 순서: version → rowLimit → chunks (쓰기 순서의 역순이라 공개된 값을 모두 본다)
+        long observed = version;
+        int limit = rowLimit;
+        Chunk[] snapshot = chunks;
+        int chunkCount = (limit + CHUNK_SIZE - 1) >>> CHUNK_BITS;
+        if (observed == 0 || chunkCount == 0) {
+            return new GroupTable(query.percentiles());
+        }
+        // 작업 수를 병렬도의 4배 정도로 맞춰 그룹 테이블 병합 비용과 부하 균형을 함께 잡는다
+        int chunksPerLeaf = Math.max(1, chunkCount / (pool.getParallelism() * 4));
+        return pool.invoke(new ScanTask(snapshot, limit, 0, chunkCount, chunksPerLeaf, query));
+    }
+
+    private static final class ScanTask extends RecursiveTask<GroupTable> {
+
+        private final Chunk[] chunks;
+        private final int rowLimit;
+        private final int fromChunk;
+        private final int toChunk;
+        private final int chunksPerLeaf;
+        private final AnalyticsQuery query;
+
+        ScanTask(Chunk[] chunks, int rowLimit, int fromChunk, int toChunk, int chunksPerLeaf, AnalyticsQuery query) {
+            this.chunks = chunks;
+            this.rowLimit = rowLimit;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.chunksPerLeaf = chunksPerLeaf;
+            this.query = query;
+        }
+
+        @Override
+        protected GroupTable compute() {
+            if (toChunk - fromChunk <= chunksPerLeaf) {
+                GroupTable table = new GroupTable(query.percentiles());
+                for (int index = fromChunk; index < toChunk; index++) {
+                    scanChunk(index, table);
+                }
+                return table;
+            }
+            int middle = (fromChunk + toChunk) >>> 1;
+            ScanTask left = new ScanTask(chunks, rowLimit, fromChunk, middle, chunksPerLeaf, query);
+            ScanTask right = new ScanTask(chunks, rowLimit, middle, toChunk, chunksPerLeaf, query);
+            left.fork();
+            GroupTable rightTable = right.compute();
+            return left.join().merge(rightTable);
+        }
+
+        private void scanChunk(int index, GroupTable table) {
+            Chunk chunk = chunks[index];
+            if (chunk == null) {
+                return;
+            }
+            int end = Math.min(CHUNK_SIZE, rowLimit - (index << CHUNK_BITS));
+            byte[] statuses = chunk.statuses;
+            byte[] paymentStatuses = chunk.paymentStatuses;
+            int[] createdMinutes = chunk.createdMinutes;
+            long[] amounts = chunk.amounts;
+            long[] memberIds = chunk.memberIds;
+
+            int statusMask = query.statusMask();
+            int paymentStatusMask = query.paymentStatusMask();
+            int fromMinute = query.fromMinute();
+            int toMinute = query.toMinute();
+            long minAmount = query.minAmount();
+            long maxAmount = query.maxAmount();
+            long memberFilter = query.memberId();
+            AnalyticsGroupBy groupBy = query.groupBy();
+
+            long scanned = 0;
+            for (int i = 0; i < end; i++) {
+                byte status = statuses[i];
+                if (status == ABSENT) {
+                    continue;
+                }
+                scanned++;
+                if ((statusMask & (1 << status)) == 0) {
+                    continue;
+                }
+                int minute = createdMinutes[i];
+                if (minute < fromMinute || minute >= toMinute) {
+                    continue;
+                }
+                long amount = amounts[i];
+                if (amount < minAmount || amount > maxAmount) {
+                    continue;
+                }
+                byte paymentStatus = paymentStatuses[i];
+                if ((paymentStatusMask & (1 << paymentStatus)) == 0) {
+                    continue;
+                }
+                long memberId = memberIds[i];
+                if (memberFilter != 0 && memberId != memberFilter) {
+                    continue;
+                }
+                long key = switch (groupBy) {
+                    case NONE -> 0;
+                    case STATUS -> status;
+                    case PAYMENT_STATUS -> paymentStatus;
+                    case MEMBER -> memberId;
+                    case HOUR -> Math.floorDiv(minute, 60);
+                    case DAY -> Math.floorDiv(minute, 1440);
+                };
+                table.add(key, amount);
+            }
+            table.scannedRows += scanned;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ipia.order.report.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "report.analytics")
+public class AnalyticsProperties {
+
+    /** 인메모리 주문 분석 스냅샷 사용 여부 (끄면 적재하지 않고 조회 API는 503) */
+    private boolean enabled = true;
+
+    /** 스캔 병렬도 (0이면 CPU 코어 수) */
+    private int parallelism = 0;
+
+    /** 적재 시 한 번에 읽을 행 수 */
+    private int loadChunkSize = 10_000;
+
+    /** 적재할 최대 주문 ID 구간 (초과하면 적재하지 않음, 메모리 상한) */
+    private int maxRows = 20_000_000;
+
+    /** 조회 결과 최대 그룹 수 */
+    private int maxGroups = 1_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getLoadChunkSize() {
+        return loadChunkSize;
+    }
+
+    public void setLoadChunkSize(int loadChunkSize) {
+        this.loadChunkSize = loadChunkSize;
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    public void setMaxRows(int maxRows) {
+        this.maxRows = maxRows;
+    }
+
+    public int getMaxGroups() {
+        return maxGroups;
+    }
+
+    public void setMaxGroups(int maxGroups) {
+        this.maxGroups = maxGroups;
+    }
+}
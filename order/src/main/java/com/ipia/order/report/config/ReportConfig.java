@@ -0,0 +1,12 @@
+package com.ipia.order.report.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 매출 리포트 설정 (일별 매출 집계, 인메모리 주문 분석)
+ */
+@Configuration
+@EnableConfigurationProperties({RevenueRollupProperties.class, AnalyticsProperties.class})
+public class ReportConfig {
+}
@@ -0,0 +1,40 @@
+package com.ipia.order.report.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "report.rollup")
+public class RevenueRollupProperties {
+
+    /** 한 번의 DB 반영 트랜잭션에 묶을 최대 집계 키 수 */
+    private int flushBatchSize = 200;
+
+    /** 재집계 시 한 번에 읽을 원천 행 수 */
+    private int backfillChunkSize = 1_000;
+
+    /** 조회/재집계 최대 기간 (일) */
+    private int maxRangeDays = 366;
+
+    public int getFlushBatchSize() {
+        return flushBatchSize;
+    }
+
+    public void setFlushBatchSize(int flushBatchSize) {
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    public int getBackfillChunkSize() {
+        return backfillChunkSize;
+    }
+
+    public void setBackfillChunkSize(int backfillChunkSize) {
+        this.backfillChunkSize = backfillChunkSize;
+    }
+
+    public int getMaxRangeDays() {
+        return maxRangeDays;
+    }
+
+    public void setMaxRangeDays(int maxRangeDays) {
+        this.maxRangeDays = maxRangeDays;
+    }
+}
@@ -0,0 +1,48 @@
+package com.ipia.order.report.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.ipia.order.report.enums.RevenueMetric;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 매출 집계 (집계일 × 집계 항목 × 회원 등급)
+ * 
+ * 주문/결제 이벤트로 증분 갱신되며(RevenueRollupWriteBehind), 원본은 orders/payments다.
+ * 기본 키가 집계일로 시작하므로 기간 조회는 키 범위 읽기로 끝난다.
+ * 행 갱신은 네이티브 UPSERT로만 하고 이 엔티티는 조회용으로 쓴다.
+ */
+@Entity
+@Table(name = "daily_revenue_rollups")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyRevenueRollup {
+
+    @EmbeddedId
+    private DailyRevenueRollupId id;
+
+    /** 건수 */
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    /** 금액 합계 */
+    @Column(name = "amount", precision = 19, scale = 2, nullable = false)
+    private BigDecimal amount;
+
+    public static DailyRevenueRollup of(LocalDate statDate, RevenueMetric metric, String memberTier,
+                                        long eventCount, BigDecimal amount) {
+        DailyRevenueRollup rollup = new DailyRevenueRollup();
+        rollup.id = new DailyRevenueRollupId(statDate, metric, memberTier);
+        rollup.eventCount = eventCount;
+        rollup.amount = amount;
+        return rollup;
+    }
+}
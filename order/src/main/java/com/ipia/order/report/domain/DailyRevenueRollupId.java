@@ -0,0 +1,37 @@
+package com.ipia.order.report.domain;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import com.ipia.order.report.enums.RevenueMetric;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 매출 집계 키 (집계일, 집계 항목, 회원 등급)
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class DailyRevenueRollupId implements Serializable {
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", length = 32, nullable = false)
+    private RevenueMetric metric;
+
+    @Column(name = "member_tier", length = 32, nullable = false)
+    private String memberTier;
+}
@@ -0,0 +1,17 @@
+package com.ipia.order.report.enums;
+
+/**
+ * 일별 매출 집계 항목 (주문/결제 상태 변화 종류)
+ */
+public enum RevenueMetric {
+    /** 주문 결제 완료 (주문 총액) */
+    ORDER_PAID,
+    /** 주문 취소 (주문 총액) */
+    ORDER_CANCELED,
+    /** 결제 승인 (승인 금액) */
+    PAYMENT_APPROVED,
+    /** 결제 취소 (취소 금액) */
+    PAYMENT_CANCELED,
+    /** 결제 환불 (환불 금액) */
+    PAYMENT_REFUNDED
+}
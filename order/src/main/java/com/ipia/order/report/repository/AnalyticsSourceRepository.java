@@ -0,0 +1,25 @@
+package com.ipia.order.report.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ipia.order.order.domain.Order;
+
+/**
+ * 분석 스냅샷 적재용 orders/payments 구간 조회 (ID keyset, 필요한 컬럼만)
+ */
+@Repository
+public interface AnalyticsSourceRepository extends org.springframework.data.repository.Repository<Order, Long> {
+
+    @Query("SELECT new com.ipia.order.report.repository.OrderColumnSource(o.id, o.memberId, o.totalAmount, o.status, o.createdAt) "
+            + "FROM Order o WHERE o.id > :afterId ORDER BY o.id")
+    List<OrderColumnSource> findOrders(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT new com.ipia.order.report.repository.PaymentColumnSource(p.id, p.orderId, p.status) "
+            + "FROM Payment p WHERE p.id > :afterId ORDER BY p.id")
+    List<PaymentColumnSource> findPayments(@Param("afterId") long afterId, Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.ipia.order.report.repository;
+
+import java.time.LocalDateTime;
+
+import com.ipia.order.member.enums.MemberRole;
+
+/**
+ * 재집계용 취소 주문 행
+ *
+ * @param canceledAt 취소 시각 (CANCELED는 종료 상태이므로 주문의 마지막 수정 시각)
+ */
+public record CanceledOrderRollupSource(
+        Long orderId,
+        Long totalAmount,
+        LocalDateTime canceledAt,
+        MemberRole memberRole
+) {
+}
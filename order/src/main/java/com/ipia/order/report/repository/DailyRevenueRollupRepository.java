@@ -0,0 +1,101 @@
+package com.ipia.order.report.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipia.order.report.domain.DailyRevenueRollup;
+import com.ipia.order.report.domain.DailyRevenueRollupId;
+
+@Repository
+public interface DailyRevenueRollupRepository extends JpaRepository<DailyRevenueRollup, DailyRevenueRollupId> {
+
+    /**
+     * 기간 조회 (양끝 포함, 기본 키 범위 읽기)
+     */
+    @Query("SELECT r FROM DailyRevenueRollup r WHERE r.id.statDate BETWEEN :from AND :to "
+            + "ORDER BY r.id.statDate, r.id.metric, r.id.memberTier")
+    List<DailyRevenueRollup> findRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 건수/금액 누적 (행이 없으면 생성)
+     *
+     * ON DUPLICATE KEY UPDATE는 H2 MySQL 모드에서만 동작하므로, 갱신한 행이 없을 때만 삽입한다.
+     */
+    @Transactional
+    default int accumulate(LocalDate statDate, String metric, String memberTier, long count, BigDecimal amount) {
+        int updated = addToExisting(statDate, metric, memberTier, count, amount);
+        return updated > 0 ? updated : insertRow(statDate, metric, memberTier, count, amount);
+    }
+
+    @Modifying
+    @Query(value = "UPDATE daily_revenue_rollups SET event_count = event_count + :count, amount = amount + :amount "
+            + "WHERE stat_date = :statDate AND metric = :metric AND member_tier = :memberTier", nativeQuery = true)
+    int addToExisting(@Param("statDate") LocalDate statDate,
+                      @Param("metric") String metric,
+                      @Param("memberTier") String memberTier,
+                      @Param("count") long count,
+                      @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_revenue_rollups (stat_date, metric, member_tier, event_count, amount) "
+            + "VALUES (:statDate, :metric, :memberTier, :count, :amount)", nativeQuery = true)
+    int insertRow(@Param("statDate") LocalDate statDate,
+                  @Param("metric") String metric,
+                  @Param("memberTier") String memberTier,
+                  @Param("count") long count,
+                  @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query(value = "DELETE FROM daily_revenue_rollups WHERE stat_date BETWEEN :from AND :to", nativeQuery = true)
+    int deleteRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // ==================== 집계 원천 (orders/payments) ====================
+
+    /**
+     * 주문 이벤트 집계용 주문 총액과 회원 등급 조회
+     */
+    @Query("SELECT new com.ipia.order.report.repository.OrderRollupSource(o.totalAmount, m.role) "
+            + "FROM Order o LEFT JOIN Member m ON m.id = o.memberId WHERE o.id = :orderId")
+    Optional<OrderRollupSource> findOrderSource(@Param("orderId") Long orderId);
+
+    /**
+     * 기간 안에 승인/취소/환불된 결제를 ID 순으로 한 구간씩 조회 (keyset)
+     */
+    @Query("SELECT new com.ipia.order.report.repository.PaymentRollupSource("
+            + "p.id, p.paidAmount, p.canceledAmount, p.refundedAmount, p.approvedAt, p.canceledAt, p.refundedAt, "
+            + "o.totalAmount, m.role) "
+            + "FROM Payment p JOIN Order o ON o.id = p.orderId LEFT JOIN Member m ON m.id = o.memberId "
+            + "WHERE p.id > :afterId "
+            + "AND ((p.approvedAt >= :from AND p.approvedAt < :to) "
+            + "OR (p.canceledAt >= :from AND p.canceledAt < :to) "
+            + "OR (p.refundedAt >= :from AND p.refundedAt < :to)) "
+            + "ORDER BY p.id")
+    List<PaymentRollupSource> findPaymentSources(@Param("afterId") long afterId,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to,
+                                                 Pageable pageable);
+
+    /**
+     * 기간 안에 취소된 주문을 ID 순으로 한 구간씩 조회 (keyset)
+     */
+    @Query("SELECT new com.ipia.order.report.repository.CanceledOrderRollupSource(o.id, o.totalAmount, o.updatedAt, m.role) "
+            + "FROM Order o LEFT JOIN Member m ON m.id = o.memberId "
+            + "WHERE o.id > :afterId AND o.status = com.ipia.order.order.enums.OrderStatus.CANCELED "
+            + "AND o.updatedAt >= :from AND o.updatedAt < :to "
+            + "ORDER BY o.id")
+    List<CanceledOrderRollupSource> findCanceledOrderSources(@Param("afterId") long afterId,
+                                                             @Param("from") LocalDateTime from,
+                                                             @Param("to") LocalDateTime to,
+                                                             Pageable pageable);
+}
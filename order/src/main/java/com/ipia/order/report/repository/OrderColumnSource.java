@@ -0,0 +1,11 @@
+package com.ipia.order.report.repository;
+
+import java.time.LocalDateTime;
+
+import com.ipia.order.order.enums.OrderStatus;
+
+/**
+ * 분석 스냅샷 적재용 주문 행
+ */
+public record OrderColumnSource(Long id, Long memberId, Long totalAmount, OrderStatus status, LocalDateTime createdAt) {
+}
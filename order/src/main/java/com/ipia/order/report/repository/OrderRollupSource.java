@@ -0,0 +1,11 @@
+package com.ipia.order.report.repository;
+
+import com.ipia.order.member.enums.MemberRole;
+
+/**
+ * 주문 이벤트 집계에 필요한 주문 금액과 회원 등급
+ *
+ * @param memberRole 회원이 삭제된 경우 null
+ */
+public record OrderRollupSource(Long totalAmount, MemberRole memberRole) {
+}
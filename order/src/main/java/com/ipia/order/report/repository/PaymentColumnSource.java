@@ -0,0 +1,9 @@
+package com.ipia.order.report.repository;
+
+import com.ipia.order.payment.enums.PaymentStatus;
+
+/**
+ * 분석 스냅샷 적재용 결제 행
+ */
+public record PaymentColumnSource(Long id, Long orderId, PaymentStatus status) {
+}
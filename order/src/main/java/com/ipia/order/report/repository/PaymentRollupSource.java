@@ -0,0 +1,22 @@
+package com.ipia.order.report.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.ipia.order.member.enums.MemberRole;
+
+/**
+ * 재집계용 결제 행 (결제 + 주문 총액 + 회원 등급)
+ */
+public record PaymentRollupSource(
+        Long paymentId,
+        BigDecimal paidAmount,
+        BigDecimal canceledAmount,
+        BigDecimal refundedAmount,
+        LocalDateTime approvedAt,
+        LocalDateTime canceledAt,
+        LocalDateTime refundedAt,
+        Long orderTotalAmount,
+        MemberRole memberRole
+) {
+}
@@ -0,0 +1,38 @@
+package com.ipia.order.report.service;
+
+import java.time.LocalDate;
+
+import org.springframework.lang.Nullable;
+
+import com.ipia.order.web.dto.response.report.DailyRevenueResponse;
+import com.ipia.order.web.dto.response.report.RevenueBackfillResponse;
+
+/**
+ * 일별 매출 집계 서비스 인터페이스
+ * 
+ * 주요 기능:
+ * - 집계 테이블(daily_revenue_rollups) 기간 조회 (orders/payments를 집계하지 않음)
+ * - orders/payments로부터 기간 재집계 (구간 단위로 읽어 메모리에서 합산 후 한 번에 교체)
+ */
+public interface RevenueReportService {
+
+    /**
+     * 일별 매출 조회
+     *
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @param memberTier 회원 등급 필터 (null이면 전체)
+     * @throws ReportHandler 잘못된 기간 (ReportErrorStatus.INVALID_REPORT_RANGE, REPORT_RANGE_TOO_LONG)
+     */
+    DailyRevenueResponse getDailyRevenue(LocalDate from, LocalDate to, @Nullable String memberTier);
+
+    /**
+     * 기간 재집계 (기존 집계 행을 원천 데이터 기준으로 교체)
+     *
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함, 오늘 이전)
+     * @throws ReportHandler 잘못된 기간 (ReportErrorStatus.INVALID_REPORT_RANGE, REPORT_RANGE_TOO_LONG, BACKFILL_RANGE_NOT_CLOSED)
+     * @throws ReportHandler 이미 재집계 중 (ReportErrorStatus.BACKFILL_IN_PROGRESS)
+     */
+    RevenueBackfillResponse backfill(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,225 @@
+package com.ipia.order.report.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.common.exception.report.ReportHandler;
+import com.ipia.order.common.exception.report.status.ReportErrorStatus;
+import com.ipia.order.member.enums.MemberRole;
+import com.ipia.order.report.config.RevenueRollupProperties;
+import com.ipia.order.report.domain.DailyRevenueRollup;
+import com.ipia.order.report.enums.RevenueMetric;
+import com.ipia.order.report.repository.CanceledOrderRollupSource;
+import com.ipia.order.report.repository.DailyRevenueRollupRepository;
+import com.ipia.order.report.repository.PaymentRollupSource;
+import com.ipia.order.report.service.RevenueRollupWriteBehind.RollupDelta;
+import com.ipia.order.report.service.RevenueRollupWriteBehind.RollupKey;
+import com.ipia.order.web.dto.response.report.DailyRevenueResponse;
+import com.ipia.order.web.dto.response.report.RevenueBackfillResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일별 매출 집계 서비스 구현체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevenueReportServiceImpl implements RevenueReportService {
+
+    private final DailyRevenueRollupRepository rollupRepository;
+    private final RevenueRollupWriteBehind writeBehind;
+    private final TransactionTemplate transactionTemplate;
+    private final RevenueRollupProperties properties;
+
+    private final AtomicBoolean backfilling = new AtomicBoolean(false);
+
+    @Override
+    @Transactional(readOnly = true)
+    public DailyRevenueResponse getDailyRevenue(LocalDate from, LocalDate to, @Nullable String memberTier) {
+        validateRange(from, to);
+
+        List<DailyRevenueResponse.Row> rows = new ArrayList<>();
+        Map<LocalDate, DaySummaryBuilder> days = new TreeMap<>();
+        for (DailyRevenueRollup rollup : rollupRepository.findRange(from, to)) {
+            if (memberTier != null && !memberTier.equalsIgnoreCase(rollup.getId().getMemberTier())) {
+                continue;
+            }
+            rows.add(DailyRevenueResponse.Row.builder()
+                    .date(rollup.getId().getStatDate())
+                    .metric(rollup.getId().getMetric())
+                    .memberTier(rollup.getId().getMemberTier())
+                    .count(rollup.getEventCount())
+                    .amount(rollup.getAmount())
+                    .build());
+            days.computeIfAbsent(rollup.getId().getStatDate(), DaySummaryBuilder::new).add(rollup);
+        }
+
+        log.info("[Report] 일별 매출 조회: from={}, to={}, tier={}, rows={}", from, to, memberTier, rows.size());
+        return DailyRevenueResponse.builder()
+                .from(from)
+                .to(to)
+                .days(days.values().stream().map(DaySummaryBuilder::build).toList())
+                .rows(rows)
+                .build();
+    }
+
+    @Override
+    public RevenueBackfillResponse backfill(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        if (!to.isBefore(LocalDate.now())) {
+            throw new ReportHandler(ReportErrorStatus.BACKFILL_RANGE_NOT_CLOSED);
+        }
+        if (!backfilling.compareAndSet(false, true)) {
+            throw new ReportHandler(ReportErrorStatus.BACKFILL_IN_PROGRESS);
+        }
+        try {
+            long started = System.currentTimeMillis();
+            LocalDateTime fromTime = from.atStartOfDay();
+            LocalDateTime toTime = to.plusDays(1).atStartOfDay();
+            PageRequest chunk = PageRequest.of(0, Math.max(1, properties.getBackfillChunkSize()));
+            Map<RollupKey, RollupDelta> totals = new HashMap<>();
+            log.info("[Report] 매출 재집계 시작: from={}, to={}", from, to);
+
+            // 아직 반영되지 않은 기간 증분이 교체 후에 더해지면 이중 집계되므로 먼저 비운다 (원천에서 다시 센다)
+            writeBehind.drainRange(from, to);
+
+            // 결제: 승인/취소/환불 시각이 기간 안에 있는 것만 각각 집계
+            long scannedPayments = 0;
+            long afterId = 0;
+            List<PaymentRollupSource> payments;
+            do {
+                payments = rollupRepository.findPaymentSources(afterId, fromTime, toTime, chunk);
+                for (PaymentRollupSource payment : payments) {
+                    if (within(payment.approvedAt(), fromTime, toTime)) {
+                        add(totals, payment.approvedAt(), RevenueMetric.ORDER_PAID, payment.memberRole(),
+                                BigDecimal.valueOf(payment.orderTotalAmount()));
+                        add(totals, payment.approvedAt(), RevenueMetric.PAYMENT_APPROVED, payment.memberRole(),
+                                payment.paidAmount());
+                    }
+                    if (within(payment.canceledAt(), fromTime, toTime)) {
+                        add(totals, payment.canceledAt(), RevenueMetric.PAYMENT_CANCELED, payment.memberRole(),
+                                payment.canceledAmount());
+                    }
+                    if (within(payment.refundedAt(), fromTime, toTime)) {
+                        add(totals, payment.refundedAt(), RevenueMetric.PAYMENT_REFUNDED, payment.memberRole(),
+                                payment.refundedAmount());
+                    }
+                    afterId = payment.paymentId();
+                }
+                scannedPayments += payments.size();
+            } while (payments.size() == chunk.getPageSize());
+
+            // 취소 주문: 주문의 마지막 수정 시각을 취소 시각으로 본다
+            long scannedCanceledOrders = 0;
+            afterId = 0;
+            List<CanceledOrderRollupSource> canceledOrders;
+            do {
+                canceledOrders = rollupRepository.findCanceledOrderSources(afterId, fromTime, toTime, chunk);
+                for (CanceledOrderRollupSource order : canceledOrders) {
+                    add(totals, order.canceledAt(), RevenueMetric.ORDER_CANCELED, order.memberRole(),
+                            BigDecimal.valueOf(order.totalAmount()));
+                    afterId = order.orderId();
+                }
+                scannedCanceledOrders += canceledOrders.size();
+            } while (canceledOrders.size() == chunk.getPageSize());
+
+            // 기간의 집계 행을 한 트랜잭션에서 교체 (조회는 교체 전 또는 후만 본다)
+            transactionTemplate.execute(status -> {
+                rollupRepository.deleteRange(from, to);
+                totals.forEach((key, delta) -> rollupRepository.accumulate(
+                        key.statDate(), key.metric().name(), key.memberTier(), delta.count(), delta.amount()));
+                return totals.size();
+            });
+
+            long elapsed = System.currentTimeMillis() - started;
+            log.info("[Report] 매출 재집계 완료: from={}, to={}, payments={}, canceledOrders={}, rows={}, elapsedMs={}",
+                    from, to, scannedPayments, scannedCanceledOrders, totals.size(), elapsed);
+            return RevenueBackfillResponse.builder()
+                    .from(from)
+                    .to(to)
+                    .scannedPayments(scannedPayments)
+                    .scannedCanceledOrders(scannedCanceledOrders)
+                    .rollupRows(totals.size())
+                    .elapsedMillis(elapsed)
+                    .build();
+        } finally {
+            backfilling.set(false);
+        }
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new ReportHandler(ReportErrorStatus.INVALID_REPORT_RANGE);
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > properties.getMaxRangeDays()) {
+            throw new ReportHandler(ReportErrorStatus.REPORT_RANGE_TOO_LONG);
+        }
+    }
+
+    private static boolean within(@Nullable LocalDateTime time, LocalDateTime from, LocalDateTime to) {
+        return time != null && !time.isBefore(from) && time.isBefore(to);
+    }
+
+    private static void add(Map<RollupKey, RollupDelta> totals, LocalDateTime occurredAt, RevenueMetric metric,
+                            @Nullable MemberRole role, @Nullable BigDecimal amount) {
+        RollupKey key = new RollupKey(occurredAt.toLocalDate(), metric, RevenueRollupWriteBehind.tierOf(role));
+        totals.merge(key, new RollupDelta(1, amount == null ? BigDecimal.ZERO : amount), RollupDelta::plus);
+    }
+
+    /**
+     * 하루치 집계 행을 요약으로 합산
+     */
+    private static final class DaySummaryBuilder {
+
+        private final LocalDate date;
+        private long paidOrders;
+        private long canceledOrders;
+        private BigDecimal approved = BigDecimal.ZERO;
+        private BigDecimal canceled = BigDecimal.ZERO;
+        private BigDecimal refunded = BigDecimal.ZERO;
+
+        DaySummaryBuilder(LocalDate date) {
+            this.date = date;
+        }
+
+        void add(DailyRevenueRollup rollup) {
+            switch (rollup.getId().getMetric()) {
+                case ORDER_PAID -> paidOrders += rollup.getEventCount();
+                case ORDER_CANCELED -> canceledOrders += rollup.getEventCount();
+                case PAYMENT_APPROVED -> approved = approved.add(rollup.getAmount());
+                case PAYMENT_CANCELED -> canceled = canceled.add(rollup.getAmount());
+                case PAYMENT_REFUNDED -> refunded = refunded.add(rollup.getAmount());
+            }
+        }
+
+        DailyRevenueResponse.DaySummary build() {
+            return DailyRevenueResponse.DaySummary.builder()
+                    .date(date)
+                    .paidOrders(paidOrders)
+                    .canceledOrders(canceledOrders)
+                    .approvedAmount(approved)
+                    .canceledAmount(canceled)
+                    .refundedAmount(refunded)
+                    .netRevenue(approved.subtract(canceled).subtract(refunded))
+                    .build();
+        }
+    }
+}
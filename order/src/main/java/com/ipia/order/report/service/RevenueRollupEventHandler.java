@@ -0,0 +1,74 @@
+package com.ipia.order.report.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ipia.order.order.event.OrderCanceledEvent;
+import com.ipia.order.order.event.OrderPaidEvent;
+import com.ipia.order.payment.event.PaymentStatusChangedEvent;
+import com.ipia.order.report.enums.RevenueMetric;
+import com.ipia.order.report.repository.DailyRevenueRollupRepository;
+import com.ipia.order.report.repository.OrderRollupSource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문/결제 이벤트 → 일별 매출 집계 증분
+ * 
+ * 커밋된 변화만 반영하며, 집계 실패가 주문/결제 처리 결과에 영향을 주지 않도록 예외를 삼킨다.
+ * 집계일은 이벤트 발생 시각의 날짜다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevenueRollupEventHandler {
+
+    private final DailyRevenueRollupRepository rollupRepository;
+    private final RevenueRollupWriteBehind writeBehind;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderPaid(OrderPaidEvent event) {
+        recordOrder(event.getOrderId(), RevenueMetric.ORDER_PAID, event.getPaidAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        recordOrder(event.getOrderId(), RevenueMetric.ORDER_CANCELED, event.getCanceledAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPaymentStatusChanged(PaymentStatusChangedEvent event) {
+        RevenueMetric metric = switch (event.getStatus()) {
+            case APPROVED -> RevenueMetric.PAYMENT_APPROVED;
+            case CANCELED -> RevenueMetric.PAYMENT_CANCELED;
+            case REFUNDED -> RevenueMetric.PAYMENT_REFUNDED;
+            default -> null;
+        };
+        if (metric == null) {
+            return;
+        }
+        try {
+            OrderRollupSource source = rollupRepository.findOrderSource(event.getOrderId()).orElse(null);
+            writeBehind.record(event.getOccurredAt().toLocalDate(), metric,
+                    source == null ? null : source.memberRole(), event.getAmount());
+        } catch (Exception e) {
+            log.warn("[Report] 결제 매출 집계 실패: orderId={}, status={}", event.getOrderId(), event.getStatus(), e);
+        }
+    }
+
+    private void recordOrder(Long orderId, RevenueMetric metric, LocalDateTime occurredAt) {
+        try {
+            rollupRepository.findOrderSource(orderId).ifPresentOrElse(
+                    source -> writeBehind.record(occurredAt.toLocalDate(), metric, source.memberRole(),
+                            BigDecimal.valueOf(source.totalAmount())),
+                    () -> log.warn("[Report] 집계할 주문을 찾을 수 없음: orderId={}, metric={}", orderId, metric));
+        } catch (Exception e) {
+            log.warn("[Report] 주문 매출 집계 실패: orderId={}, metric={}", orderId, metric, e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.ipia.order.report.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.member.enums.MemberRole;
+import com.ipia.order.report.config.RevenueRollupProperties;
+import com.ipia.order.report.enums.RevenueMetric;
+import com.ipia.order.report.repository.DailyRevenueRollupRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일별 매출 집계 증분 지연 반영기 (write-behind)
+ * 
+ * 같은 날·항목·등급의 집계 행은 모든 결제가 함께 갱신하는 핫 로우이므로, 이벤트마다 UPSERT하지 않고
+ * 키별 증분을 메모리에서 합산해 주기마다 키당 UPSERT 한 번으로 반영한다.
+ * 반영에 실패한 증분은 다시 합산해 다음 주기에 재시도한다. (프로세스 중단 시 유실분은 재집계로 복구)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevenueRollupWriteBehind implements MeterBinder {
+
+    static final String UNKNOWN_TIER = "UNKNOWN";
+
+    /**
+     * 집계 키 (집계일, 항목, 회원 등급)
+     */
+    record RollupKey(LocalDate statDate, RevenueMetric metric, String memberTier) {
+    }
+
+    /**
+     * 집계 키 하나의 누적 증분
+     */
+    record RollupDelta(long count, BigDecimal amount) {
+
+        RollupDelta plus(RollupDelta other) {
+            return new RollupDelta(count + other.count, amount.add(other.amount));
+        }
+    }
+
+    private final DailyRevenueRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RevenueRollupProperties properties;
+
+    private final ConcurrentHashMap<RollupKey, RollupDelta> pending = new ConcurrentHashMap<>();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * 회원 등급 (현재는 회원 권한을 등급으로 사용, 회원이 없으면 UNKNOWN)
+     */
+    static String tierOf(@Nullable MemberRole role) {
+        return role == null ? UNKNOWN_TIER : role.name();
+    }
+
+    /**
+     * 증분 누적 (키 단위 원자적 병합)
+     */
+    public void record(LocalDate statDate, RevenueMetric metric, @Nullable MemberRole role, BigDecimal amount) {
+        pending.merge(new RollupKey(statDate, metric, tierOf(role)), new RollupDelta(1, amount), RollupDelta::plus);
+    }
+
+    /**
+     * 누적된 증분을 DB에 반영합니다.
+     *
+     * @return 반영된 집계 키 수
+     */
+    @Scheduled(fixedDelayString = "${report.rollup.flush-interval:PT1S}")
+    public synchronized int flush() {
+        int total = 0;
+        List<RollupKey> keys = new ArrayList<>(pending.keySet());
+        for (int from = 0; from < keys.size(); from += properties.getFlushBatchSize()) {
+            // remove로 꺼낸 시점 이후의 증분은 새 항목으로 누적되므로 유실되지 않는다
+            Map<RollupKey, RollupDelta> batch = new LinkedHashMap<>();
+            for (RollupKey key : keys.subList(from, Math.min(from + properties.getFlushBatchSize(), keys.size()))) {
+                RollupDelta delta = pending.remove(key);
+                if (delta != null) {
+                    batch.put(key, delta);
+                }
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                transactionTemplate.execute(status -> applyBatch(batch));
+                flushed.add(batch.size());
+                total += batch.size();
+            } catch (Exception e) {
+                failed.add(batch.size());
+                log.warn("[Report] 매출 집계 증분 DB 반영 실패 - 다음 주기에 재시도: keys={}", batch.size(), e);
+                batch.forEach((key, delta) -> pending.merge(key, delta, RollupDelta::plus));
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 재집계 전에 기간의 대기 증분을 비웁니다.
+     * 먼저 반영을 시도하고(재집계가 기간 행을 교체하므로 반영분은 원천에서 다시 센다), 반영하지 못한 기간 증분은 버린다.
+     * flush와 같은 잠금을 잡으므로 반환 뒤에는 반영 중인 배치가 재집계의 교체 뒤에 커밋되지 않는다.
+     *
+     * @return 반영하지 못해 버린 기간 증분 키 수
+     */
+    public synchronized int drainRange(LocalDate from, LocalDate to) {
+        flush();
+        int discarded = 0;
+        for (RollupKey key : new ArrayList<>(pending.keySet())) {
+            if (!key.statDate().isBefore(from) && !key.statDate().isAfter(to) && pending.remove(key) != null) {
+                discarded++;
+            }
+        }
+        if (discarded > 0) {
+            log.warn("[Report] 재집계 기간의 미반영 증분 폐기 (원천에서 다시 집계): from={}, to={}, keys={}", from, to, discarded);
+        }
+        return discarded;
+    }
+
+    private int applyBatch(Map<RollupKey, RollupDelta> batch) {
+        int updated = 0;
+        for (Map.Entry<RollupKey, RollupDelta> entry : batch.entrySet()) {
+            RollupKey key = entry.getKey();
+            RollupDelta delta = entry.getValue();
+            updated += rollupRepository.accumulate(key.statDate(), key.metric().name(), key.memberTier(),
+                    delta.count(), delta.amount());
+        }
+        return updated;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("report.rollup.pending", pending, Map::size)
+                .description("DB 반영 대기 중인 매출 집계 키 수")
+                .register(registry);
+        FunctionCounter.builder("report.rollup.flushed", flushed, LongAdder::sum)
+                .description("DB에 반영된 매출 집계 증분 수")
+                .register(registry);
+        FunctionCounter.builder("report.rollup.failed", failed, LongAdder::sum)
+                .description("DB 반영에 실패해 재시도 대기 중인 매출 집계 증분 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ipia.order.web.controller.inventory;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ipia.order.common.exception.ApiErrorCodeExample;
+import com.ipia.order.common.exception.ApiErrorCodeExamples;
+import com.ipia.order.common.exception.ApiResponse;
+import com.ipia.order.common.exception.inventory.status.InventoryErrorStatus;
+import com.ipia.order.common.exception.inventory.status.InventorySuccessStatus;
+import com.ipia.order.inventory.service.InventoryService;
+import com.ipia.order.web.dto.request.inventory.SetStockRequest;
+import com.ipia.order.web.dto.response.inventory.InventoryResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 재고 관리 컨트롤러
+ * /api/admin/** 경로는 SecurityConfig에서 ADMIN 권한으로 제한된다.
+ */
+@RestController
+@RequestMapping("/api/admin/inventory")
+@RequiredArgsConstructor
+@Tag(name = "관리자 재고 관리", description = "SKU별 재고 설정/조회 등 관리자 전용 재고 API")
+public class AdminInventoryController {
+
+    private final InventoryService inventoryService;
+
+    /**
+     * 재고 조회
+     * GET /api/admin/inventory/{sku}
+     */
+    @Operation(summary = "재고 조회", description = "SKU의 현재 가용 수량과 예약/판매 수량을 조회합니다. 예약/판매 수량은 주기적으로 반영되는 DB 값입니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "재고 조회 성공",
+                    content = @Content(schema = @Schema(implementation = InventoryResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "재고 미등록 SKU")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = InventoryErrorStatus.class, codes = {"INVENTORY_NOT_FOUND"})
+    })
+    @GetMapping("/{sku}")
+    public ResponseEntity<ApiResponse<InventoryResponse>> getInventory(@PathVariable String sku) {
+        return ApiResponse.onSuccess(InventorySuccessStatus.INVENTORY_FOUND, inventoryService.getInventory(sku));
+    }
+
+    /**
+     * 가용 수량 설정
+     * PUT /api/admin/inventory/{sku}
+     */
+    @Operation(summary = "가용 수량 설정", description = "SKU의 가용 수량을 설정합니다. 미등록 SKU면 새로 등록되며, 이후 해당 SKU 주문부터 재고 예약이 적용됩니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "재고 설정 성공",
+                    content = @Content(schema = @Schema(implementation = InventoryResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = InventoryErrorStatus.class, codes = {"INVALID_STOCK_QUANTITY"})
+    })
+    @PutMapping("/{sku}")
+    public ResponseEntity<ApiResponse<InventoryResponse>> setAvailable(
+            @PathVariable String sku,
+            @Valid @RequestBody SetStockRequest request) {
+        return ApiResponse.onSuccess(InventorySuccessStatus.INVENTORY_UPDATED,
+                inventoryService.setAvailable(sku, request.getAvailable()));
+    }
+}
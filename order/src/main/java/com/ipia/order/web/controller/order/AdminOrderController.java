@@ -0,0 +1,113 @@
+package com.ipia.order.web.controller.order;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ipia.order.common.exception.ApiErrorCodeExample;
+import com.ipia.order.common.exception.ApiErrorCodeExamples;
+import com.ipia.order.common.exception.ApiResponse;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.common.exception.order.status.OrderSuccessStatus;
+import com.ipia.order.order.history.MemberOrderHistoryRebuilder;
+import com.ipia.order.order.service.OrderFulfillmentService;
+import com.ipia.order.order.service.OrderStatusHistoryService;
+import com.ipia.order.web.dto.request.order.BulkTransitionRequest;
+import com.ipia.order.web.dto.response.order.BulkTransitionResponse;
+import com.ipia.order.web.dto.response.order.OrderHistoryRebuildResponse;
+import com.ipia.order.web.dto.response.order.OrderStatusHistoryResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 주문 관리 컨트롤러
+ * /api/admin/** 경로는 SecurityConfig에서 ADMIN 권한으로 제한된다.
+ */
+@RestController
+@RequestMapping("/api/admin/orders")
+@RequiredArgsConstructor
+@Tag(name = "관리자 주문 관리", description = "창고 이행(출고/배송) 등 관리자 전용 주문 API")
+public class AdminOrderController {
+
+    private final OrderFulfillmentService orderFulfillmentService;
+    private final MemberOrderHistoryRebuilder memberOrderHistoryRebuilder;
+    private final OrderStatusHistoryService orderStatusHistoryService;
+
+    /**
+     * 주문 일괄 상태 전이
+     * POST /api/admin/orders/fulfillment
+     */
+    @Operation(summary = "주문 일괄 상태 전이", description = "주문 ID 목록을 대상 상태(FULFILLMENT_STARTED, SHIPPED, DELIVERED, COMPLETED)로 일괄 전이합니다. 전이할 수 없는 주문은 주문별 실패 사유로 반환됩니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "일괄 전이 처리 완료",
+                    content = @Content(schema = @Schema(implementation = BulkTransitionResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = OrderErrorStatus.class, codes = {"INVALID_BULK_REQUEST", "UNSUPPORTED_BULK_TRANSITION"})
+    })
+    @PostMapping("/fulfillment")
+    public ResponseEntity<ApiResponse<BulkTransitionResponse>> transition(
+            @Valid @RequestBody BulkTransitionRequest request) {
+
+        BulkTransitionResponse response = orderFulfillmentService.transition(
+                request.getOrderIds(),
+                request.getTargetStatus()
+        );
+        return ApiResponse.onSuccess(OrderSuccessStatus.ORDERS_TRANSITIONED, response);
+    }
+
+    /**
+     * 회원 주문 이력 읽기 모델 재구성
+     * POST /api/admin/orders/history/rebuild
+     */
+    @Operation(summary = "주문 이력 읽기 모델 재구성", description = "orders 테이블로부터 회원 주문 이력 읽기 모델(member_order_view, member_order_stats)을 구간 단위로 다시 만듭니다. 완료 전까지 주문 목록은 orders에서 조회됩니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "재구성 완료",
+                    content = @Content(schema = @Schema(implementation = OrderHistoryRebuildResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "재구성 진행 중")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = OrderErrorStatus.class, codes = {"HISTORY_REBUILD_IN_PROGRESS"})
+    })
+    @PostMapping("/history/rebuild")
+    public ResponseEntity<ApiResponse<OrderHistoryRebuildResponse>> rebuildHistory() {
+        OrderHistoryRebuildResponse response = memberOrderHistoryRebuilder.rebuild();
+        return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_HISTORY_REBUILT, response);
+    }
+
+    /**
+     * 주문 상태 전이 이력 조회
+     * GET /api/admin/orders/{id}/status-history
+     */
+    @Operation(summary = "주문 상태 전이 이력 조회", description = "주문이 거쳐 온 상태 전이(CREATED → CONFIRMED → SHIPPED 등)를 오래된 순서로 조회합니다. 전이 시점과 취소 사유가 포함됩니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = OrderStatusHistoryResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 페이지네이션"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = OrderErrorStatus.class, codes = {"ORDER_NOT_FOUND", "INVALID_PAGINATION"})
+    })
+    @GetMapping("/{id}/status-history")
+    public ResponseEntity<ApiResponse<OrderStatusHistoryResponse>> getStatusHistory(
+            @Parameter(description = "주문 ID", example = "1") @PathVariable("id") Long id,
+            @Parameter(description = "페이지 번호", example = "0") @RequestParam(value = "page", defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(value = "size", defaultValue = "20") int size) {
+        OrderStatusHistoryResponse response = orderStatusHistoryService.getStatusHistory(id, page, size);
+        return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_STATUS_HISTORY_FOUND, response);
+    }
+}
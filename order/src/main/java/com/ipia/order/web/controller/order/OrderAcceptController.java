@@ -0,0 +1,96 @@
+package com.ipia.order.web.controller.order;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ipia.order.common.exception.ApiErrorCodeExample;
+import com.ipia.order.common.exception.ApiErrorCodeExamples;
+import com.ipia.order.common.exception.ApiResponse;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.common.exception.order.status.OrderSuccessStatus;
+import com.ipia.order.common.security.CurrentUser;
+import com.ipia.order.order.accept.OrderAcceptCommand;
+import com.ipia.order.order.service.OrderAcceptanceService;
+import com.ipia.order.web.dto.request.order.CreateOrderRequest;
+import com.ipia.order.web.dto.response.order.OrderAcceptanceResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 주문 접수 컨트롤러
+ * order.accept.enabled=true일 때만 접수를 받는다.
+ */
+@RestController
+@RequestMapping("/api/orders/async")
+@RequiredArgsConstructor
+@Tag(name = "주문 관리", description = "주문 생성, 조회, 취소 등의 주문 관리 API")
+public class OrderAcceptController {
+
+    private final OrderAcceptanceService orderAcceptanceService;
+
+    /**
+     * 주문 비동기 접수
+     * POST /api/orders/async
+     */
+    @Operation(summary = "주문 비동기 접수", description = "주문 요청을 대기열에 적재하고 바로 202와 추적 ID를 반환합니다. 회원/재고 검증과 저장은 백그라운드에서 배치로 처리되며, 결과는 접수 상태 조회로 확인합니다. 같은 멱등키로 다시 보내면 같은 추적 ID가 반환됩니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "주문 접수 완료",
+                    content = @Content(schema = @Schema(implementation = OrderAcceptanceResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "비동기 접수 비활성 또는 대기열 장애")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = OrderErrorStatus.class, codes = {"INVALID_AMOUNT", "INVALID_ORDER_LINE", "ORDER_TOTAL_MISMATCH", "ASYNC_ACCEPT_DISABLED", "ACCEPT_QUEUE_UNAVAILABLE"})
+    })
+    @PostMapping
+    public ResponseEntity<ApiResponse<OrderAcceptanceResponse>> acceptOrder(
+            @Valid @RequestBody CreateOrderRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Parameter(hidden = true) @AuthenticationPrincipal CurrentUser user) {
+
+        List<OrderAcceptCommand.Line> lines = request.getLines() == null ? null : request.getLines().stream()
+                .map(line -> new OrderAcceptCommand.Line(line.getSku(), line.getProductName(), line.getUnitPrice(), line.getQuantity()))
+                .toList();
+        OrderAcceptanceResponse response = orderAcceptanceService.accept(
+                user.getMemberId(), request.getTotalAmount(), lines, idempotencyKey);
+        return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_ACCEPTED, response);
+    }
+
+    /**
+     * 주문 접수 상태 조회
+     * GET /api/orders/async/{trackingId}
+     */
+    @Operation(summary = "주문 접수 상태 조회", description = "비동기 접수의 처리 상태(PENDING, CREATED, REJECTED)를 조회합니다. CREATED면 orderId로 GET /api/orders/{id}를 조회할 수 있습니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "접수 상태 조회 성공",
+                    content = @Content(schema = @Schema(implementation = OrderAcceptanceResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "접수 내역 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = OrderErrorStatus.class, codes = {"ACCEPTANCE_NOT_FOUND", "ACCESS_DENIED"})
+    })
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<ApiResponse<OrderAcceptanceResponse>> getAcceptance(
+            @Parameter(description = "접수 추적 ID") @PathVariable("trackingId") String trackingId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CurrentUser user) {
+        return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_ACCEPTANCE_FOUND,
+                orderAcceptanceService.getAcceptance(trackingId, user.getMemberId()));
+    }
+}
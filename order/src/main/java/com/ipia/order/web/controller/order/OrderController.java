@@ -1,7 +1,10 @@
 package com.ipia.order.web.controller.order;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,16 +19,22 @@ import org.springframework.web.bind.annotation.RestController;
 import com.ipia.order.common.exception.ApiErrorCodeExample;
 import com.ipia.order.common.exception.ApiErrorCodeExamples;
 import com.ipia.order.common.exception.ApiResponse;
+import com.ipia.order.common.exception.inventory.status.InventoryErrorStatus;
 import com.ipia.order.common.exception.order.OrderHandler;
 import com.ipia.order.common.exception.order.status.OrderErrorStatus;
 import com.ipia.order.common.exception.order.status.OrderSuccessStatus;
 import com.ipia.order.common.security.CurrentUser;
 import com.ipia.order.member.enums.MemberRole;
 import com.ipia.order.order.domain.Order;
+import com.ipia.order.order.domain.OrderLine;
+import com.ipia.order.order.enums.OrderSortKey;
+import com.ipia.order.order.repository.OrderSearchCondition;
+import com.ipia.order.order.service.OrderReadCoalescer;
 import com.ipia.order.order.service.OrderService;
 import com.ipia.order.web.dto.request.order.CancelOrderRequest;
 import com.ipia.order.web.dto.request.order.CreateOrderRequest;
 import com.ipia.order.web.dto.response.order.OrderListResponse;
+import com.ipia.order.web.dto.response.order.OrderMultiGetResponse;
 import com.ipia.order.web.dto.response.order.OrderResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -47,12 +56,13 @@ import lombok.RequiredArgsConstructor;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderReadCoalescer orderReadCoalescer;
 
     /**
      * 주문 생성
      * POST /api/orders
      */
-    @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다. 멱등성을 보장해, 동일한 멱등키가 요청이 들어오면 헤더에 x-idempotency 관련 헤더들이 추가됩니다.")
+    @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다. 주문 라인(lines)을 보내면 총액은 라인 합계로 계산됩니다. 멱등성을 보장해, 동일한 멱등키가 요청이 들어오면 헤더에 x-idempotency 관련 헤더들이 추가됩니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "주문 생성 성공", 
                     content = @Content(schema = @Schema(implementation = OrderResponse.class))),
@@ -60,7 +70,8 @@ public class OrderController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "멱등 키 중복")
     })
     @ApiErrorCodeExamples({
-            @ApiErrorCodeExample(value = OrderErrorStatus.class, codes = {"MEMBER_NOT_FOUND", "INVALID_AMOUNT", "IDEMPOTENCY_CONFLICT"})
+            @ApiErrorCodeExample(value = OrderErrorStatus.class, codes = {"MEMBER_NOT_FOUND", "INVALID_AMOUNT", "INVALID_ORDER_LINE", "ORDER_TOTAL_MISMATCH", "IDEMPOTENCY_CONFLICT"}),
+            @ApiErrorCodeExample(value = InventoryErrorStatus.class, codes = {"OUT_OF_STOCK", "INVENTORY_UNAVAILABLE"})
     })
     @PostMapping
     public ResponseEntity<ApiResponse<OrderResponse>> createOrder(
@@ -71,11 +82,22 @@ public class OrderController {
         // 토큰에서 사용자 ID 추출하여 본인만 주문 생성 가능
         Long memberId = user.getMemberId();
         
-        Order order = orderService.createOrder(
-            memberId, 
-            request.getTotalAmount(), 
-            idempotencyKey
-        );
+        Order order;
+        if (request.getLines() != null && !request.getLines().isEmpty()) {
+            List<OrderLine> lines = request.getLines().stream()
+                    .map(line -> OrderLine.of(line.getSku(), line.getProductName(), line.getUnitPrice(), line.getQuantity()))
+                    .toList();
+            order = orderService.createOrderWithLines(memberId, lines, request.getTotalAmount(), idempotencyKey);
+        } else {
+            if (request.getTotalAmount() == null) {
+                throw new OrderHandler(OrderErrorStatus.INVALID_AMOUNT);
+            }
+            order = orderService.createOrder(
+                memberId, 
+                request.getTotalAmount(), 
+                idempotencyKey
+            );
+        }
         
         OrderResponse response = OrderResponse.from(order);
         return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_CREATED, response);
@@ -100,34 +122,60 @@ public class OrderController {
             @Parameter(description = "주문 ID", example = "1") @PathVariable("id") Long id,
             @Parameter(hidden = true) @AuthenticationPrincipal CurrentUser user) {
        
-        Long memberId = user.getMemberId();
-        Optional<Order> orderOptional = orderService.getOrder(id, memberId);
-        
-        if (orderOptional.isEmpty()) {
-            throw new OrderHandler(OrderErrorStatus.ORDER_NOT_FOUND);
-        }
-        
-        OrderResponse response = OrderResponse.from(orderOptional.get());
+        // 같은 주문 동시 조회(재시도 등)는 한 번의 DB 조회로 합침
+        OrderResponse response = orderReadCoalescer.getOrder(id, user.getMemberId());
         return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_FOUND, response);
     }
 
+    /**
+     * 주문 다건 조회
+     * GET /api/orders?ids=1,2,3
+     */
+    @Operation(summary = "주문 다건 조회", description = "주문 ID 목록(최대 100개)을 한 번에 조회합니다. 결과는 요청 순서대로 반환되며, 존재하지 않거나 본인 주문이 아닌 ID는 found=false로 표시됩니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "주문 다건 조회 성공",
+                    content = @Content(schema = @Schema(implementation = OrderMultiGetResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = OrderErrorStatus.class, codes = {"INVALID_MULTI_GET_REQUEST"})
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<OrderMultiGetResponse>> getOrders(
+            @Parameter(description = "주문 ID 목록 (쉼표 구분)", example = "1,2,3") @RequestParam("ids") List<Long> ids,
+            @Parameter(hidden = true) @AuthenticationPrincipal CurrentUser user) {
+
+        // 관리자는 소유자 제한 없이 조회, 일반 사용자는 본인 주문만 조회
+        Long requesterMemberId = isAdmin(user) ? null : user.getMemberId();
+        OrderMultiGetResponse response = orderService.getOrders(ids, requesterMemberId);
+        return ApiResponse.onSuccess(OrderSuccessStatus.ORDERS_FOUND, response);
+    }
+
     /**
      * 주문 목록 조회
      * GET /api/orders
      */
-    @Operation(summary = "주문 목록 조회", description = "필터 조건에 따라 주문 목록을 조회합니다.")
+    @Operation(summary = "주문 목록 조회", description = "필터 조건에 따라 주문 목록을 조회합니다. 상태는 쉼표로 여러 개 지정할 수 있고, 생성일 범위는 [createdFrom, createdTo) 구간입니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "주문 목록 조회 성공", 
                     content = @Content(schema = @Schema(implementation = OrderListResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
     })
     @ApiErrorCodeExamples({
-            @ApiErrorCodeExample(value = OrderErrorStatus.class, codes = {"INVALID_FILTER", "INVALID_PAGINATION"})
+            @ApiErrorCodeExample(value = OrderErrorStatus.class, codes = {"INVALID_FILTER", "INVALID_FILTER_RANGE", "INVALID_SORT", "INVALID_PAGINATION"})
     })
     @GetMapping
     public ResponseEntity<ApiResponse<OrderListResponse>> listOrders(
             @Parameter(description = "회원 ID", example = "1") @RequestParam(value = "memberId", required = false) Long memberId,
-            @Parameter(description = "주문 상태", example = "PENDING") @RequestParam(value = "status", required = false) String status,
+            @Parameter(description = "주문 상태 (쉼표로 여러 개 지정)", example = "CREATED,CONFIRMED") @RequestParam(value = "status", required = false) String status,
+            @Parameter(description = "생성일 시작 (포함)", example = "2025-01-01T00:00:00") @RequestParam(value = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "생성일 끝 (미포함)", example = "2025-02-01T00:00:00") @RequestParam(value = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "최소 주문 금액 (포함)", example = "10000") @RequestParam(value = "minAmount", required = false) Long minAmount,
+            @Parameter(description = "최대 주문 금액 (포함)", example = "50000") @RequestParam(value = "maxAmount", required = false) Long maxAmount,
+            @Parameter(description = "정렬 기준 (CREATED_AT, TOTAL_AMOUNT, ID)", example = "CREATED_AT") @RequestParam(value = "sort", required = false) String sort,
+            @Parameter(description = "정렬 방향 (ASC, DESC)", example = "DESC") @RequestParam(value = "direction", required = false) String direction,
             @Parameter(description = "페이지 번호", example = "0") @RequestParam(value = "page", defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "10") @RequestParam(value = "size", defaultValue = "10") int size,
             @Parameter(hidden = true) @AuthenticationPrincipal CurrentUser user) {
@@ -137,7 +185,17 @@ public class OrderController {
             memberId = user.getMemberId(); // 본인 ID로 강제 설정
         }
         
-        OrderListResponse response = orderService.listOrders(memberId, status, page, size);
+        OrderSearchCondition condition = OrderSearchCondition.builder()
+                .memberId(memberId)
+                .statuses(OrderSearchCondition.parseStatuses(status))
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .sortKey(OrderSortKey.from(sort))
+                .direction(OrderSearchCondition.parseDirection(direction))
+                .build();
+        OrderListResponse response = orderReadCoalescer.searchOrders(condition, page, size);
         return ApiResponse.onSuccess(OrderSuccessStatus.ORDERS_FOUND, response);
     }
 
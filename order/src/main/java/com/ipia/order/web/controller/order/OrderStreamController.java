@@ -0,0 +1,41 @@
+package com.ipia.order.web.controller.order;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ipia.order.common.security.CurrentUser;
+import com.ipia.order.order.stream.OrderStreamRegistry;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 상태 스트림 컨트롤러 (SSE)
+ */
+@RestController
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Tag(name = "주문 관리", description = "주문 생성, 조회, 취소 등의 주문 관리 API")
+public class OrderStreamController {
+
+    private final OrderStreamRegistry orderStreamRegistry;
+
+    /**
+     * 주문 상태 변경 구독
+     * GET /api/orders/stream
+     */
+    @Operation(summary = "주문 상태 변경 구독 (SSE)",
+            description = "본인 주문의 상태 변경(결제 확정, 취소)을 Server-Sent Events로 전달합니다. "
+                    + "이벤트 이름은 order-status이며 data는 {orderId, memberId, status, occurredAt} JSON입니다. "
+                    + "연결이 만료되면 클라이언트가 재연결해야 합니다.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderStatus(@Parameter(hidden = true) @AuthenticationPrincipal CurrentUser user) {
+        return orderStreamRegistry.subscribe(user.getMemberId());
+    }
+}
@@ -0,0 +1,60 @@
+package com.ipia.order.web.controller.payment;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ipia.order.common.exception.ApiErrorCodeExample;
+import com.ipia.order.common.exception.ApiErrorCodeExamples;
+import com.ipia.order.common.exception.ApiResponse;
+import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
+import com.ipia.order.common.exception.payment.status.PaymentSuccessStatus;
+import com.ipia.order.payment.settlement.service.SettlementReconcileService;
+import com.ipia.order.web.dto.request.payment.SettlementReconcileRequest;
+import com.ipia.order.web.dto.response.payment.SettlementReconcileResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 정산 대사 컨트롤러
+ * /api/admin/** 경로는 SecurityConfig에서 ADMIN 권한으로 제한된다.
+ */
+@RestController
+@RequestMapping("/api/admin/settlements")
+@RequiredArgsConstructor
+@Tag(name = "관리자 정산 대사", description = "Toss 정산 파일과 결제 내역 대사 API")
+public class AdminSettlementController {
+
+    private final SettlementReconcileService settlementReconcileService;
+
+    /**
+     * 정산 파일 대사
+     * POST /api/admin/settlements/reconcile
+     */
+    @Operation(summary = "정산 파일 대사", description = "정산 파일 디렉터리의 CSV/JSONL 파일을 결제 내역과 외부 거래 ID로 맞춰 금액/상태 불일치와 누락을 찾습니다. 전체 불일치 목록은 보고서 CSV로 남기고 응답에는 개수와 예시만 담습니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "대사 완료",
+                    content = @Content(schema = @Schema(implementation = SettlementReconcileResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "지원하지 않는 파일 형식"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "정산 파일 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "대사 진행 중")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = PaymentErrorStatus.class, codes = {"SETTLEMENT_FILE_NOT_FOUND",
+                    "INVALID_SETTLEMENT_FILE", "SETTLEMENT_RECONCILE_IN_PROGRESS"})
+    })
+    @PostMapping("/reconcile")
+    public ResponseEntity<ApiResponse<SettlementReconcileResponse>> reconcile(
+            @Valid @RequestBody SettlementReconcileRequest request) {
+        return ApiResponse.onSuccess(PaymentSuccessStatus.SETTLEMENT_RECONCILED,
+                settlementReconcileService.reconcile(request.getFileName(), request.getSettlementDate()));
+    }
+}
@@ -2,6 +2,7 @@ package com.ipia.order.web.controller.payment;
 
 import java.math.BigDecimal;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -10,18 +11,22 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import com.ipia.order.common.exception.ApiErrorCodeExample;
 import com.ipia.order.common.exception.ApiErrorCodeExamples;
 import com.ipia.order.common.exception.ApiResponse;
 import com.ipia.order.common.exception.order.OrderHandler;
 import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.common.exception.payment.PaymentHandler;
 import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
 import com.ipia.order.common.exception.payment.status.PaymentSuccessStatus;
 import com.ipia.order.common.security.CurrentUser;
 import com.ipia.order.order.domain.Order;
 import com.ipia.order.order.service.OrderService;
+import com.ipia.order.payment.config.PaymentAsyncProperties;
 import com.ipia.order.payment.service.PaymentService;
+import com.ipia.order.payment.service.PaymentWebhookService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -36,10 +41,16 @@ public class PaymentController {
 
     private final PaymentService paymentService;
     private final OrderService orderService;
+    private final PaymentAsyncProperties paymentAsyncProperties;
+    private final PaymentWebhookService paymentWebhookService;
 
-    public PaymentController(PaymentService paymentService, OrderService orderService) {
+    public PaymentController(PaymentService paymentService, OrderService orderService,
+                             PaymentAsyncProperties paymentAsyncProperties,
+                             PaymentWebhookService paymentWebhookService) {
         this.paymentService = paymentService;
         this.orderService = orderService;
+        this.paymentAsyncProperties = paymentAsyncProperties;
+        this.paymentWebhookService = paymentWebhookService;
     }
 
     @Operation(summary = "결제 의도 생성", description = "주문에 대한 결제 의도를 생성합니다.")
@@ -70,18 +81,20 @@ public class PaymentController {
         return ApiResponse.onSuccess(PaymentSuccessStatus.INTENT_CREATED, new IntentResponse(intentId));
     }
 
-    @Operation(summary = "결제 승인", description = "결제 키/의도/주문/금액을 검증하고 결제를 승인합니다.")
+    @Operation(summary = "결제 승인", description = "결제 키/의도/주문/금액을 검증하고 결제를 승인합니다. "
+            + "Toss 승인 대기 중에는 요청 스레드를 반환하며, 대기 시간을 넘기면 504로 응답합니다. (같은 멱등 키로 재요청)")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "승인 성공",
                     content = @Content(schema = @Schema(implementation = ApproveResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "중복 승인")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "중복 승인"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "504", description = "승인 응답 대기 시간 초과")
     })
     @ApiErrorCodeExamples({
-            @ApiErrorCodeExample(value = PaymentErrorStatus.class, codes = {"PAYMENT_AMOUNT_MISMATCH", "PAYMENT_CANNOT_APPROVE", "DUPLICATE_PAYMENT_APPROVAL"})
+            @ApiErrorCodeExample(value = PaymentErrorStatus.class, codes = {"PAYMENT_AMOUNT_MISMATCH", "PAYMENT_CANNOT_APPROVE", "DUPLICATE_PAYMENT_APPROVAL", "PAYMENT_CONFIRM_TIMEOUT"})
     })
     @PostMapping("/confirm")
-    public ResponseEntity<ApiResponse<ApproveResponse>> approve(
+    public DeferredResult<ResponseEntity<ApiResponse<ApproveResponse>>> approve(
             @RequestBody ApproveRequest request,
             @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal CurrentUser user) {
@@ -89,14 +102,24 @@ public class PaymentController {
         // 주문 소유자 확인
         validateOrderOwnership(request.orderId(), user.getMemberId());
         
-        Long paymentId = paymentService.approve(
+        DeferredResult<ResponseEntity<ApiResponse<ApproveResponse>>> result =
+                new DeferredResult<>(paymentAsyncProperties.getConfirmTimeout().toMillis());
+        result.onTimeout(() -> result.setErrorResult(new PaymentHandler(PaymentErrorStatus.PAYMENT_CONFIRM_TIMEOUT)));
+
+        paymentService.approveAsync(
                 request.intentId(),
                 request.paymentKey(),
                 request.orderId(),
                 request.amount(),
                 idempotencyKey
-        );
-        return ApiResponse.onSuccess(PaymentSuccessStatus.PAYMENT_APPROVED, new ApproveResponse(paymentId));
+        ).whenComplete((paymentId, ex) -> {
+            if (ex != null) {
+                result.setErrorResult(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+            } else {
+                result.setResult(ApiResponse.onSuccess(PaymentSuccessStatus.PAYMENT_APPROVED, new ApproveResponse(paymentId)));
+            }
+        });
+        return result;
     }
 
     @Operation(summary = "결제 취소", description = "결제 키와 취소 금액, 사유로 결제를 취소합니다.")
@@ -146,6 +169,28 @@ public class PaymentController {
         return ApiResponse.onSuccess(PaymentSuccessStatus.PAYMENT_VERIFIED);
     }
     
+    @Operation(summary = "결제 웹훅 수신", description = "Toss 결제 상태 변경 웹훅을 서명 검증 후 대기열에 적재하고 바로 응답합니다. "
+            + "결제 반영은 워커가 거래별로 발생 순서대로 처리합니다. (같은 전송 ID는 한 번만 적재)")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "수신 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 본문"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "서명 검증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "웹훅 비활성 또는 대기열 장애")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = PaymentErrorStatus.class, codes = {"TOSS_WEBHOOK_SIGNATURE_INVALID", "INVALID_WEBHOOK_PAYLOAD", "WEBHOOK_DISABLED", "WEBHOOK_QUEUE_UNAVAILABLE"})
+    })
+    @PostMapping("/webhook")
+    public ResponseEntity<ApiResponse<Void>> webhook(
+            @RequestBody String payload,
+            @RequestHeader(name = "tosspayments-webhook-signature", required = false) String signature,
+            @RequestHeader(name = "tosspayments-webhook-transmission-time", required = false) String transmissionTime,
+            @RequestHeader(name = "tosspayments-webhook-transmission-id", required = false) String transmissionId) {
+
+        paymentWebhookService.receive(payload, signature, transmissionTime, transmissionId);
+        return ApiResponse.onSuccess(PaymentSuccessStatus.WEBHOOK_PROCESSED);
+    }
+
     /**
      * 주문 소유자 확인 헬퍼 메서드
      */
@@ -0,0 +1,109 @@
+package com.ipia.order.web.controller.report;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ipia.order.common.exception.ApiErrorCodeExample;
+import com.ipia.order.common.exception.ApiErrorCodeExamples;
+import com.ipia.order.common.exception.ApiResponse;
+import com.ipia.order.common.exception.report.ReportHandler;
+import com.ipia.order.common.exception.report.status.ReportErrorStatus;
+import com.ipia.order.common.exception.report.status.ReportSuccessStatus;
+import com.ipia.order.report.analytics.AnalyticsQuery;
+import com.ipia.order.report.analytics.OrderAnalyticsEngine;
+import com.ipia.order.web.dto.response.report.OrderAnalyticsResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 주문 분석 컨트롤러 (인메모리 컬럼 스냅샷 조회)
+ * /api/admin/** 경로는 SecurityConfig에서 ADMIN 권한으로 제한된다.
+ */
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+@Tag(name = "관리자 주문 분석", description = "인메모리 주문 스냅샷 필터/그룹/집계 API")
+public class AdminAnalyticsController {
+
+    private final OrderAnalyticsEngine orderAnalyticsEngine;
+
+    /**
+     * 주문 분석 조회
+     * GET /api/admin/analytics/orders?groupBy=DAY&statuses=CONFIRMED,SHIPPED&percentiles=true
+     */
+    @Operation(summary = "주문 분석 조회", description = "메모리에 적재된 주문 스냅샷을 병렬 스캔해 조건에 맞는 주문을 그룹별(NONE, STATUS, PAYMENT_STATUS, MEMBER, HOUR, DAY)로 집계합니다. DB를 조회하지 않으며 최근 변경은 커밋 직후 반영됩니다. 백분위는 약 2% 오차의 근사값이고 MEMBER 그룹에서는 지원하지 않습니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = OrderAnalyticsResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 조건"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "분석 꺼짐/스냅샷 적재 전")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = ReportErrorStatus.class, codes = {"INVALID_ANALYTICS_QUERY", "ANALYTICS_DISABLED", "ANALYTICS_NOT_READY"})
+    })
+    @GetMapping("/orders")
+    public ResponseEntity<ApiResponse<OrderAnalyticsResponse>> analyzeOrders(
+            @Parameter(description = "그룹 기준 (NONE, STATUS, PAYMENT_STATUS, MEMBER, HOUR, DAY)", example = "DAY")
+            @RequestParam(value = "groupBy", required = false) String groupBy,
+            @Parameter(description = "주문 상태 (쉼표 구분)", example = "CONFIRMED,SHIPPED")
+            @RequestParam(value = "statuses", required = false) String statuses,
+            @Parameter(description = "결제 상태 (쉼표 구분, 지정 시 결제 없는 주문 제외)", example = "APPROVED")
+            @RequestParam(value = "paymentStatuses", required = false) String paymentStatuses,
+            @Parameter(description = "생성 시각 하한 (포함)", example = "2025-01-01T00:00:00")
+            @RequestParam(value = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "생성 시각 상한 (미포함)", example = "2025-02-01T00:00:00")
+            @RequestParam(value = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "최소 주문 금액", example = "10000")
+            @RequestParam(value = "minAmount", required = false) Long minAmount,
+            @Parameter(description = "최대 주문 금액", example = "500000")
+            @RequestParam(value = "maxAmount", required = false) Long maxAmount,
+            @Parameter(description = "회원 ID", example = "1")
+            @RequestParam(value = "memberId", required = false) Long memberId,
+            @Parameter(description = "금액 백분위(p50/p90/p99) 포함 여부", example = "false")
+            @RequestParam(value = "percentiles", defaultValue = "false") boolean percentiles,
+            @Parameter(description = "반환할 최대 그룹 수", example = "100")
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        AnalyticsQuery query = AnalyticsQuery.of(
+                AnalyticsQuery.parseGroupBy(groupBy),
+                AnalyticsQuery.parseOrderStatuses(statuses),
+                AnalyticsQuery.parsePaymentStatuses(paymentStatuses),
+                createdFrom, createdTo, minAmount, maxAmount, memberId, percentiles, limit);
+        return ApiResponse.onSuccess(ReportSuccessStatus.ANALYTICS_QUERIED, orderAnalyticsEngine.query(query));
+    }
+
+    /**
+     * 주문 분석 스냅샷 재적재
+     * POST /api/admin/analytics/orders/refresh
+     */
+    @Operation(summary = "주문 분석 스냅샷 재적재", description = "orders/payments를 다시 읽어 스냅샷을 새로 만드는 작업을 백그라운드로 시작합니다. 적재가 끝날 때까지 기존 스냅샷으로 응답합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "재적재 시작"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "재적재 진행 중"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "분석 꺼짐")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = ReportErrorStatus.class, codes = {"ANALYTICS_REFRESH_IN_PROGRESS", "ANALYTICS_DISABLED"})
+    })
+    @PostMapping("/orders/refresh")
+    public ResponseEntity<ApiResponse<Void>> refresh() {
+        if (!orderAnalyticsEngine.requestRefresh()) {
+            throw new ReportHandler(ReportErrorStatus.ANALYTICS_REFRESH_IN_PROGRESS);
+        }
+        return ApiResponse.onSuccess(ReportSuccessStatus.ANALYTICS_REFRESH_STARTED);
+    }
+}
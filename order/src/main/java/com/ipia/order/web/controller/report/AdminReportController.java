@@ -0,0 +1,91 @@
+package com.ipia.order.web.controller.report;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ipia.order.common.exception.ApiErrorCodeExample;
+import com.ipia.order.common.exception.ApiErrorCodeExamples;
+import com.ipia.order.common.exception.ApiResponse;
+import com.ipia.order.common.exception.report.status.ReportErrorStatus;
+import com.ipia.order.common.exception.report.status.ReportSuccessStatus;
+import com.ipia.order.report.service.RevenueReportService;
+import com.ipia.order.web.dto.request.report.RevenueBackfillRequest;
+import com.ipia.order.web.dto.response.report.DailyRevenueResponse;
+import com.ipia.order.web.dto.response.report.RevenueBackfillResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 매출 리포트 컨트롤러
+ * /api/admin/** 경로는 SecurityConfig에서 ADMIN 권한으로 제한된다.
+ */
+@RestController
+@RequestMapping("/api/admin/reports")
+@RequiredArgsConstructor
+@Tag(name = "관리자 매출 리포트", description = "일별 매출/주문 집계 조회 및 재집계 API")
+public class AdminReportController {
+
+    private final RevenueReportService revenueReportService;
+
+    /**
+     * 일별 매출 조회
+     * GET /api/admin/reports/daily-revenue?from=2025-01-01&to=2025-01-31
+     */
+    @Operation(summary = "일별 매출 조회", description = "기간(양끝 포함)의 일별 매출을 집계 항목(주문 결제/취소, 결제 승인/취소/환불)과 회원 등급별로 조회합니다. 집계 테이블만 읽으며 오늘 집계는 수 초 지연될 수 있습니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = DailyRevenueResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 기간")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = ReportErrorStatus.class, codes = {"INVALID_REPORT_RANGE", "REPORT_RANGE_TOO_LONG"})
+    })
+    @GetMapping("/daily-revenue")
+    public ResponseEntity<ApiResponse<DailyRevenueResponse>> getDailyRevenue(
+            @Parameter(description = "시작일 (포함)", example = "2025-01-01") @RequestParam("from")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (포함)", example = "2025-01-31") @RequestParam("to")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "회원 등급 (USER, SELLER, ADMIN, UNKNOWN)", example = "USER")
+            @RequestParam(value = "tier", required = false) String tier) {
+        return ApiResponse.onSuccess(ReportSuccessStatus.DAILY_REVENUE_FOUND,
+                revenueReportService.getDailyRevenue(from, to, tier));
+    }
+
+    /**
+     * 일별 매출 재집계
+     * POST /api/admin/reports/daily-revenue/backfill
+     */
+    @Operation(summary = "일별 매출 재집계", description = "orders/payments를 구간 단위로 읽어 기간(양끝 포함, 오늘 이전)의 집계 행을 다시 만듭니다. 집계 도입 이전 기간을 채우거나 유실된 증분을 복구할 때 사용합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "재집계 완료",
+                    content = @Content(schema = @Schema(implementation = RevenueBackfillResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "재집계 진행 중")
+    })
+    @ApiErrorCodeExamples({
+            @ApiErrorCodeExample(value = ReportErrorStatus.class, codes = {"INVALID_REPORT_RANGE", "REPORT_RANGE_TOO_LONG",
+                    "BACKFILL_RANGE_NOT_CLOSED", "BACKFILL_IN_PROGRESS"})
+    })
+    @PostMapping("/daily-revenue/backfill")
+    public ResponseEntity<ApiResponse<RevenueBackfillResponse>> backfill(
+            @Valid @RequestBody RevenueBackfillRequest request) {
+        return ApiResponse.onSuccess(ReportSuccessStatus.REVENUE_BACKFILLED,
+                revenueReportService.backfill(request.getFrom(), request.getTo()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.ipia.order.web.dto.request.inventory;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 설정 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SetStockRequest {
+
+    /**
+     * 가용 수량
+     */
+    @NotNull(message = "가용 수량은 필수입니다")
+    @Min(value = 0, message = "가용 수량은 0 이상이어야 합니다")
+    private Long available;
+}
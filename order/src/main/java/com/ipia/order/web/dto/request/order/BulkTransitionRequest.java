@@ -0,0 +1,34 @@
+package com.ipia.order.web.dto.request.order;
+
+import java.util.List;
+
+import com.ipia.order.order.enums.OrderStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 일괄 상태 전이 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTransitionRequest {
+
+    /**
+     * 상태를 변경할 주문 ID 목록
+     */
+    @NotEmpty(message = "주문 ID 목록은 필수입니다")
+    private List<Long> orderIds;
+
+    /**
+     * 전이 대상 상태 (FULFILLMENT_STARTED, SHIPPED, DELIVERED, COMPLETED)
+     */
+    @NotNull(message = "대상 상태는 필수입니다")
+    private OrderStatus targetStatus;
+}
@@ -1,7 +1,10 @@
 package com.ipia.order.web.dto.request.order;
 
+import java.util.List;
+
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,6 +13,7 @@ import lombok.NoArgsConstructor;
 /**
  * 주문 생성 요청 DTO
  * memberId는 JWT 토큰에서 추출하므로 요청 본문에서 제외
+ * 주문 라인을 보내면 총액은 서버에서 라인 합계로 계산한다.
  */
 @Getter
 @Builder
@@ -18,9 +22,15 @@ import lombok.NoArgsConstructor;
 public class CreateOrderRequest {
 
     /**
-     * 주문 총액
+     * 주문 총액 (라인이 없으면 필수, 라인이 있으면 생략 가능하며 보낼 경우 라인 합계와 같아야 함)
      */
-    @NotNull(message = "주문 총액은 필수입니다")
     @Min(value = 1, message = "주문 총액은 1원 이상이어야 합니다")
     private Long totalAmount;
+
+    /**
+     * 주문 라인 (선택사항)
+     */
+    @Valid
+    @Size(max = 500, message = "주문 라인은 500개 이하여야 합니다")
+    private List<OrderLineRequest> lines;
 }
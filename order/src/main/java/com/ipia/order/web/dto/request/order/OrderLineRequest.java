@@ -0,0 +1,47 @@
+package com.ipia.order.web.dto.request.order;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 라인 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLineRequest {
+
+    /**
+     * 상품 SKU
+     */
+    @NotBlank(message = "SKU는 필수입니다")
+    @Size(max = 64, message = "SKU는 64자 이하여야 합니다")
+    private String sku;
+
+    /**
+     * 상품명 (선택사항)
+     */
+    @Size(max = 200, message = "상품명은 200자 이하여야 합니다")
+    private String productName;
+
+    /**
+     * 단가
+     */
+    @NotNull(message = "단가는 필수입니다")
+    @Min(value = 1, message = "단가는 1원 이상이어야 합니다")
+    private Long unitPrice;
+
+    /**
+     * 수량
+     */
+    @NotNull(message = "수량은 필수입니다")
+    @Min(value = 1, message = "수량은 1개 이상이어야 합니다")
+    private Integer quantity;
+}
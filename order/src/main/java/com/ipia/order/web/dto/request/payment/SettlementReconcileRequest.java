@@ -0,0 +1,30 @@
+package com.ipia.order.web.dto.request.payment;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정산 대사 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementReconcileRequest {
+
+    /**
+     * 정산 파일 이름 (payment.settlement.inbox-dir 기준, .csv/.jsonl/.ndjson)
+     */
+    @NotBlank(message = "정산 파일 이름은 필수입니다")
+    private String fileName;
+
+    /**
+     * 정산일 (선택, 주면 그날 승인됐지만 파일에 없는 결제도 찾는다)
+     */
+    private LocalDate settlementDate;
+}
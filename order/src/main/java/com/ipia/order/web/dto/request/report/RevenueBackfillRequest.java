@@ -0,0 +1,31 @@
+package com.ipia.order.web.dto.request.report;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 매출 재집계 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueBackfillRequest {
+
+    /**
+     * 재집계 시작일 (포함)
+     */
+    @NotNull(message = "시작일은 필수입니다")
+    private LocalDate from;
+
+    /**
+     * 재집계 종료일 (포함, 오늘 이전)
+     */
+    @NotNull(message = "종료일은 필수입니다")
+    private LocalDate to;
+}
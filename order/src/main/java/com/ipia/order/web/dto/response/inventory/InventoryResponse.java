@@ -0,0 +1,50 @@
+package com.ipia.order.web.dto.response.inventory;
+
+import com.ipia.order.inventory.domain.Inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryResponse {
+
+    /**
+     * 상품 SKU
+     */
+    private String sku;
+
+    /**
+     * 현재 가용 수량 (재고 저장소 기준, 미적재면 DB 값)
+     */
+    private long available;
+
+    /**
+     * 결제 대기 중인 예약 수량 (DB 사본, 최종 일관)
+     */
+    private long reserved;
+
+    /**
+     * 판매 확정 수량 (DB 사본, 최종 일관)
+     */
+    private long sold;
+
+    /**
+     * Inventory 엔티티와 저장소의 가용 수량으로 InventoryResponse 생성
+     */
+    public static InventoryResponse of(Inventory inventory, Long liveAvailable) {
+        return InventoryResponse.builder()
+                .sku(inventory.getSku())
+                .available(liveAvailable != null ? liveAvailable : inventory.getAvailable())
+                .reserved(inventory.getReserved())
+                .sold(inventory.getSold())
+                .build();
+    }
+}
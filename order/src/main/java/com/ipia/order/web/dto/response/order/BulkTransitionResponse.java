@@ -0,0 +1,65 @@
+package com.ipia.order.web.dto.response.order;
+
+import java.util.List;
+
+import com.ipia.order.order.enums.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 일괄 상태 전이 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTransitionResponse {
+
+    /**
+     * 전이 대상 상태
+     */
+    private OrderStatus targetStatus;
+
+    /**
+     * 요청된 주문 수 (중복 제거 후)
+     */
+    private int requestedCount;
+
+    /**
+     * 상태 전이에 성공한 주문 ID 목록
+     */
+    private List<Long> succeededIds;
+
+    /**
+     * 상태 전이에 실패한 주문 목록
+     */
+    private List<Failure> failures;
+
+    /**
+     * 주문별 실패 사유
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Failure {
+
+        /**
+         * 주문 ID
+         */
+        private Long orderId;
+
+        /**
+         * 에러 코드
+         */
+        private String code;
+
+        /**
+         * 에러 메시지
+         */
+        private String message;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ipia.order.web.dto.response.order;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ipia.order.order.enums.OrderAcceptanceState;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 주문 접수 응답 DTO (접수 직후 / 상태 조회 공용)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderAcceptanceResponse {
+
+    /**
+     * 접수 추적 ID
+     */
+    private String trackingId;
+
+    /**
+     * 처리 상태 (PENDING, CREATED, REJECTED)
+     */
+    private OrderAcceptanceState state;
+
+    /**
+     * 생성된 주문 ID (CREATED일 때만, GET /api/orders/{id}로 조회)
+     */
+    private Long orderId;
+
+    /**
+     * 거절 사유 코드 (REJECTED일 때만)
+     */
+    private String code;
+
+    /**
+     * 상태 조회 경로
+     */
+    private String statusUrl;
+}
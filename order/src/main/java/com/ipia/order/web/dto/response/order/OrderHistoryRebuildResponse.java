@@ -0,0 +1,36 @@
+package com.ipia.order.web.dto.response.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 이력 읽기 모델 재구성 결과 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderHistoryRebuildResponse {
+
+    /**
+     * 재구성 시작 시점의 최대 주문 ID (이후 주문은 이벤트로 반영됨)
+     */
+    private long maxOrderId;
+
+    /**
+     * 읽기 모델로 옮긴 주문 수
+     */
+    private long copiedOrders;
+
+    /**
+     * 처리한 구간(트랜잭션) 수
+     */
+    private int chunks;
+
+    /**
+     * 소요 시간 (밀리초)
+     */
+    private long elapsedMillis;
+}
@@ -0,0 +1,62 @@
+package com.ipia.order.web.dto.response.order;
+
+import com.ipia.order.order.domain.OrderLine;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 라인 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLineResponse {
+
+    /**
+     * 라인 번호 (1부터 시작)
+     */
+    private int lineNo;
+
+    /**
+     * 상품 SKU
+     */
+    private String sku;
+
+    /**
+     * 상품명
+     */
+    private String productName;
+
+    /**
+     * 단가
+     */
+    private Long unitPrice;
+
+    /**
+     * 수량
+     */
+    private int quantity;
+
+    /**
+     * 라인 금액 (단가 × 수량)
+     */
+    private Long lineAmount;
+
+    /**
+     * OrderLine 엔티티로부터 OrderLineResponse 생성
+     */
+    public static OrderLineResponse from(OrderLine line) {
+        return OrderLineResponse.builder()
+                .lineNo(line.getLineNo())
+                .sku(line.getSku())
+                .productName(line.getProductName())
+                .unitPrice(line.getUnitPrice())
+                .quantity(line.getQuantity())
+                .lineAmount(line.getLineAmount())
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.ipia.order.web.dto.response.order;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 다건 조회 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderMultiGetResponse {
+
+    /**
+     * 요청 순서대로 정렬된 주문별 결과
+     */
+    private List<Item> items;
+
+    /**
+     * 요청된 주문 ID 수 (중복 포함)
+     */
+    private int requestedCount;
+
+    /**
+     * 조회된 주문 수 (중복 포함)
+     */
+    private int foundCount;
+
+    /**
+     * 주문 ID별 조회 결과
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        /**
+         * 요청한 주문 ID
+         */
+        private Long orderId;
+
+        /**
+         * 조회 여부
+         */
+        private boolean found;
+
+        /**
+         * 주문 정보 (조회되지 않은 경우 null)
+         */
+        private OrderResponse order;
+
+        /**
+         * 조회되지 않은 경우의 에러 코드 (ORDER_NOT_FOUND)
+         */
+        private String code;
+    }
+}
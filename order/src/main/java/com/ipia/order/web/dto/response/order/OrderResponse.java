@@ -1,13 +1,17 @@
 package com.ipia.order.web.dto.response.order;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ipia.order.order.domain.MemberOrderView;
 import com.ipia.order.order.domain.Order;
 import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.repository.OrderSummary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 주문 응답 DTO
@@ -48,8 +52,15 @@ public class OrderResponse {
      */
     private LocalDateTime updatedAt;
 
+    /**
+     * 주문 라인 (단건 조회에서만 포함)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<OrderLineResponse> lines;
+
     /**
      * Order 엔티티로부터 OrderResponse 생성
+     * 주문 라인에 접근하지 않으므로 목록 조회에서 라인이 로딩되지 않는다.
      */
     public static OrderResponse from(Order order) {
         return OrderResponse.builder()
@@ -61,4 +72,43 @@ public class OrderResponse {
                 .updatedAt(order.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 주문 목록 프로젝션으로부터 OrderResponse 생성
+     */
+    public static OrderResponse from(OrderSummary summary) {
+        return OrderResponse.builder()
+                .id(summary.id())
+                .memberId(summary.memberId())
+                .totalAmount(summary.totalAmount())
+                .status(summary.status())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+
+    /**
+     * 회원 주문 이력 읽기 모델로부터 OrderResponse 생성
+     */
+    public static OrderResponse from(MemberOrderView view) {
+        return OrderResponse.builder()
+                .id(view.getOrderId())
+                .memberId(view.getMemberId())
+                .totalAmount(view.getTotalAmount())
+                .status(view.getStatus())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Order 엔티티로부터 주문 라인을 포함한 OrderResponse 생성
+     */
+    public static OrderResponse withLines(Order order) {
+        OrderResponse response = from(order);
+        response.lines = order.getLines().stream()
+                .map(OrderLineResponse::from)
+                .toList();
+        return response;
+    }
 }
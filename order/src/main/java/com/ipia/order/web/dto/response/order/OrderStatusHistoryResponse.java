@@ -0,0 +1,91 @@
+package com.ipia.order.web.dto.response.order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.ipia.order.order.domain.OrderStatusHistory;
+import com.ipia.order.order.enums.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 상태 전이 이력 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusHistoryResponse {
+
+    /**
+     * 주문 ID
+     */
+    private long orderId;
+
+    /**
+     * 상태 전이 목록 (오래된 전이부터)
+     */
+    private List<Entry> entries;
+
+    /**
+     * 전체 전이 수
+     */
+    private long totalCount;
+
+    /**
+     * 현재 페이지 번호
+     */
+    private int page;
+
+    /**
+     * 페이지 크기
+     */
+    private int size;
+
+    /**
+     * 전체 페이지 수
+     */
+    private int totalPages;
+
+    /**
+     * 상태 전이 한 건
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+
+        /**
+         * 이전 상태 (주문 생성이면 null)
+         */
+        private OrderStatus fromStatus;
+
+        /**
+         * 변경된 상태
+         */
+        private OrderStatus toStatus;
+
+        /**
+         * 전이 사유 (취소 사유 등)
+         */
+        private String reason;
+
+        /**
+         * 전이 일시
+         */
+        private LocalDateTime changedAt;
+
+        public static Entry from(OrderStatusHistory history) {
+            return Entry.builder()
+                    .fromStatus(history.getFromStatus())
+                    .toStatus(history.getToStatus())
+                    .reason(history.getReason())
+                    .changedAt(history.getChangedAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ipia.order.web.dto.response.payment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.ipia.order.payment.enums.PaymentStatus;
+import com.ipia.order.payment.enums.SettlementMismatchType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정산 대사 결과 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementReconcileResponse {
+
+    /**
+     * 정산 파일 이름
+     */
+    private String fileName;
+
+    /**
+     * 정산일 (요청에 없었으면 null)
+     */
+    private LocalDate settlementDate;
+
+    /**
+     * 정상적으로 읽은 정산 행 수
+     */
+    private long records;
+
+    /**
+     * 형식이 잘못되어 건너뛴 행 수
+     */
+    private long malformedLines;
+
+    /**
+     * 금액/상태가 모두 일치한 행 수
+     */
+    private long matched;
+
+    private long amountMismatches;
+
+    private long statusMismatches;
+
+    /**
+     * 정산 파일에는 있으나 결제가 없는 행 수
+     */
+    private long missingPayments;
+
+    /**
+     * 정산일에 승인됐지만 정산 파일에 없는 결제 수
+     */
+    private long missingSettlements;
+
+    /**
+     * 전체 불일치 목록 CSV 경로
+     */
+    private String reportFile;
+
+    /**
+     * 불일치 예시 (최대 payment.settlement.max-samples건)
+     */
+    private List<Mismatch> samples;
+
+    /**
+     * 소요 시간 (밀리초)
+     */
+    private long elapsedMillis;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Mismatch {
+
+        private SettlementMismatchType type;
+
+        /**
+         * 정산 파일 행 번호 (MISSING_SETTLEMENT면 0)
+         */
+        private long lineNumber;
+
+        private String providerTxnId;
+
+        private BigDecimal settlementAmount;
+
+        private BigDecimal paymentAmount;
+
+        private String settlementStatus;
+
+        private PaymentStatus paymentStatus;
+    }
+}
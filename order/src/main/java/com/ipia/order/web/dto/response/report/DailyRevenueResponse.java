@@ -0,0 +1,122 @@
+package com.ipia.order.web.dto.response.report;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.ipia.order.report.enums.RevenueMetric;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 매출 집계 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRevenueResponse {
+
+    /**
+     * 조회 시작일 (포함)
+     */
+    private LocalDate from;
+
+    /**
+     * 조회 종료일 (포함)
+     */
+    private LocalDate to;
+
+    /**
+     * 일별 요약 (집계가 있는 날만, 날짜 오름차순)
+     */
+    private List<DaySummary> days;
+
+    /**
+     * 집계 행 (집계일 × 항목 × 회원 등급)
+     */
+    private List<Row> rows;
+
+    /**
+     * 일별 요약
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DaySummary {
+
+        /**
+         * 집계일
+         */
+        private LocalDate date;
+
+        /**
+         * 결제 완료 주문 수
+         */
+        private long paidOrders;
+
+        /**
+         * 취소 주문 수
+         */
+        private long canceledOrders;
+
+        /**
+         * 결제 승인 금액
+         */
+        private BigDecimal approvedAmount;
+
+        /**
+         * 결제 취소 금액
+         */
+        private BigDecimal canceledAmount;
+
+        /**
+         * 결제 환불 금액 (취소분의 실제 반환액)
+         */
+        private BigDecimal refundedAmount;
+
+        /**
+         * 순매출 (승인 금액 - 취소 금액 - 환불 금액)
+         */
+        private BigDecimal netRevenue;
+    }
+
+    /**
+     * 집계 행
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+
+        /**
+         * 집계일
+         */
+        private LocalDate date;
+
+        /**
+         * 집계 항목
+         */
+        private RevenueMetric metric;
+
+        /**
+         * 회원 등급
+         */
+        private String memberTier;
+
+        /**
+         * 건수
+         */
+        private long count;
+
+        /**
+         * 금액 합계
+         */
+        private BigDecimal amount;
+    }
+}
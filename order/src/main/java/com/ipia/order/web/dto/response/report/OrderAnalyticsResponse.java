@@ -0,0 +1,109 @@
+package com.ipia.order.web.dto.response.report;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ipia.order.report.analytics.AnalyticsGroupBy;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인메모리 주문 분석 결과 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderAnalyticsResponse {
+
+    /**
+     * 그룹 기준
+     */
+    private AnalyticsGroupBy groupBy;
+
+    /**
+     * 스캔한 주문 수
+     */
+    private long scannedRows;
+
+    /**
+     * 조건에 맞은 주문 수
+     */
+    private long matchedRows;
+
+    /**
+     * 전체 그룹 수 (limit 적용 전)
+     */
+    private int totalGroups;
+
+    /**
+     * 스캔 소요 시간 (밀리초)
+     */
+    private double elapsedMillis;
+
+    /**
+     * 스냅샷 적재 시각 (이후 변경은 이벤트로 반영)
+     */
+    private LocalDateTime snapshotLoadedAt;
+
+    /**
+     * 그룹별 집계 (MEMBER는 금액 합계 내림차순, 그 외는 키 오름차순)
+     */
+    private List<Group> groups;
+
+    /**
+     * 그룹 하나의 집계
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Group {
+
+        /**
+         * 그룹 키 (상태명, 회원 ID, 시각/일자 등)
+         */
+        private String key;
+
+        /**
+         * 주문 수
+         */
+        private long count;
+
+        /**
+         * 주문 금액 합계
+         */
+        private long sumAmount;
+
+        /**
+         * 최소 주문 금액
+         */
+        private long minAmount;
+
+        /**
+         * 최대 주문 금액
+         */
+        private long maxAmount;
+
+        /**
+         * 평균 주문 금액
+         */
+        private double avgAmount;
+
+        /**
+         * 주문 금액 백분위 근사값 (p50, p90, p99; 요청 시에만)
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long p50;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long p90;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long p99;
+    }
+}
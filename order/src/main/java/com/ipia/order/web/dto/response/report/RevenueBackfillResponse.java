@@ -0,0 +1,48 @@
+package com.ipia.order.web.dto.response.report;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 매출 재집계 결과 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueBackfillResponse {
+
+    /**
+     * 재집계 시작일 (포함)
+     */
+    private LocalDate from;
+
+    /**
+     * 재집계 종료일 (포함)
+     */
+    private LocalDate to;
+
+    /**
+     * 읽은 결제 수
+     */
+    private long scannedPayments;
+
+    /**
+     * 읽은 취소 주문 수
+     */
+    private long scannedCanceledOrders;
+
+    /**
+     * 다시 쓴 집계 행 수
+     */
+    private int rollupRows;
+
+    /**
+     * 소요 시간 (밀리초)
+     */
+    private long elapsedMillis;
+}
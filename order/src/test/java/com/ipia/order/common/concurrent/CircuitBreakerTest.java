@@ -0,0 +1,137 @@
+package com.ipia.order.common.concurrent;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(5).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+
+    private CircuitBreaker breaker() {
+        // 최근 10건, 최소 4건, 실패율 50%, 느린 호출 80%(1초 이상), 열림 30초, 시험 호출 2건
+        return new CircuitBreaker("test", 10, 4, 50f, 80f, Duration.ofSeconds(1), Duration.ofSeconds(30), 2, now::get);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 모두 실패해도 열리지 않는다")
+    void belowMinimumCalls_StaysClosed() {
+        CircuitBreaker breaker = breaker();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            breaker.onFailure(FAST);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("실패율이 기준 이상이면 열리고, 열린 동안은 호출을 거절한다")
+    void failureRateExceeded_OpensAndRejects() {
+        CircuitBreaker breaker = breaker();
+
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onFailure(FAST);
+        breaker.onFailure(FAST);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율이 기준 이상이면 성공이어도 열린다")
+    void slowCallRateExceeded_Opens() {
+        CircuitBreaker breaker = breaker();
+
+        for (int i = 0; i < 4; i++) {
+            breaker.onSuccess(SLOW);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("오래된 결과는 창에서 밀려나 비율에 반영되지 않는다")
+    void slidingWindow_EvictsOldOutcomes() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(FAST);
+            breaker.onSuccess(FAST);
+            breaker.onSuccess(FAST);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        for (int i = 0; i < 10; i++) {
+            breaker.onSuccess(FAST);
+        }
+
+        assertThat(breaker.snapshot().failureRate()).isZero();
+        assertThat(breaker.snapshot().bufferedCalls()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("열림 시간이 지나면 시험 호출만 허용하고, 성공하면 닫힌다")
+    void halfOpen_SuccessfulTrials_Close() {
+        CircuitBreaker breaker = openedBreaker();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열린다")
+    void halfOpen_FailedTrial_Reopens() {
+        CircuitBreaker breaker = openedBreaker();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        breaker.tryAcquirePermission();
+        breaker.tryAcquirePermission();
+        breaker.onSuccess(FAST);
+        breaker.onFailure(FAST);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.openedCount()).isEqualTo(2);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("결과 없이 끝난 시험 호출은 허용을 돌려받는다")
+    void halfOpen_ReleasedPermission_CanBeReused() {
+        CircuitBreaker breaker = openedBreaker();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        breaker.tryAcquirePermission();
+        breaker.tryAcquirePermission();
+
+        breaker.releasePermission();
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    private CircuitBreaker openedBreaker() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(FAST);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+}
@@ -0,0 +1,124 @@
+package com.ipia.order.common.concurrent;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키 동시 호출은 한 번만 실행하고 결과를 함께 받는다")
+    void concurrentCallsShareOneExecution() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Integer> leader = executor.submit(() -> flight.execute("order:1", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return 42;
+        }));
+        awaitInFlight(flight);
+        List<Future<Integer>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> flight.execute("order:1", loads::incrementAndGet)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        for (Future<Integer> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(flight.executedCount()).isEqualTo(1);
+        assertThat(flight.coalescedCount()).isEqualTo(5);
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("완료된 키는 결과를 남기지 않아 다음 호출은 다시 실행한다")
+    void completedKeyIsNotCached() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(Duration.ofSeconds(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute("k", loads::incrementAndGet);
+        flight.execute("k", loads::incrementAndGet);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(flight.coalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("리더 예외는 기다리던 호출에도 같은 예외로 전달된다")
+    void leaderFailurePropagatesToFollowers() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Integer> leader = executor.submit(() -> flight.execute("k", () -> {
+            await(release);
+            throw new IllegalArgumentException("not found");
+        }));
+        awaitInFlight(flight);
+        Future<Integer> follower = executor.submit(() -> flight.execute("k", () -> 1));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 직접 실행하고 시간 초과로 센다")
+    void followerTimesOutAndLoadsItself() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Integer> leader = executor.submit(() -> flight.execute("k", () -> {
+            await(release);
+            return 1;
+        }));
+        awaitInFlight(flight);
+
+        assertThat(flight.execute("k", () -> 2)).isEqualTo(2);
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(flight.timedOutCount()).isEqualTo(1);
+        assertThat(flight.executedCount()).isEqualTo(2);
+    }
+
+    private static void awaitInFlight(SingleFlight<?, ?> flight) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.inFlightCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
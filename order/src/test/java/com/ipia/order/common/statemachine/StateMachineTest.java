@@ -0,0 +1,56 @@
+package com.ipia.order.common.statemachine;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StateMachineTest {
+
+    enum Light { RED, GREEN, YELLOW, OFF }
+
+    private final StateMachine<Light> machine = StateMachine.builder(Light.class, "light")
+            .allow(Light.RED, Light.GREEN)
+            .allow(Light.GREEN, Light.YELLOW)
+            .allow(Light.YELLOW, Light.RED)
+            .allowFrom(EnumSet.of(Light.RED, Light.GREEN, Light.YELLOW), Light.OFF)
+            .build();
+
+    @Test
+    @DisplayName("선언된 전이만 허용하고 null 상태는 거부한다")
+    void canTransition() {
+        assertThat(machine.canTransition(Light.RED, Light.GREEN)).isTrue();
+        assertThat(machine.canTransition(Light.GREEN, Light.RED)).isFalse();
+        assertThat(machine.canTransition(Light.OFF, Light.RED)).isFalse();
+        assertThat(machine.canTransition(null, Light.RED)).isFalse();
+        assertThat(machine.canTransition(Light.RED, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("transition()은 허용/거부 결과를 전이별 카운터에 기록한다")
+    void transitionRecordsCounters() {
+        assertThat(machine.transition(Light.RED, Light.GREEN)).isTrue();
+        assertThat(machine.transition(Light.RED, Light.GREEN)).isTrue();
+        assertThat(machine.transition(Light.OFF, Light.GREEN)).isFalse();
+        machine.recordTransitions(Light.GREEN, Light.YELLOW, 5);
+        machine.recordTransitions(Light.GREEN, Light.RED, 5); // 규칙에 없는 전이는 무시
+
+        assertThat(machine.acceptedCount(Light.RED, Light.GREEN)).isEqualTo(2);
+        assertThat(machine.acceptedCount(Light.GREEN, Light.YELLOW)).isEqualTo(5);
+        assertThat(machine.acceptedCount(Light.GREEN, Light.RED)).isZero();
+        assertThat(machine.rejectedCount(Light.GREEN)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전이 행렬과 역방향 조회가 선언과 일치한다")
+    void matrixAndSources() {
+        assertThat(machine.matrix())
+                .containsEntry(Light.RED, EnumSet.of(Light.GREEN, Light.OFF))
+                .containsEntry(Light.GREEN, EnumSet.of(Light.YELLOW, Light.OFF))
+                .containsEntry(Light.YELLOW, EnumSet.of(Light.RED, Light.OFF))
+                .containsEntry(Light.OFF, EnumSet.noneOf(Light.class));
+        assertThat(machine.sourcesOf(Light.OFF)).containsExactly(Light.RED, Light.GREEN, Light.YELLOW);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ipia.order.inventory.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.event.OrderCanceledEvent;
+import com.ipia.order.order.repository.OrderLineQuantityView;
+import com.ipia.order.order.repository.OrderLineRepository;
+import com.ipia.order.order.repository.OrderStatusHistoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryOrderEventHandler 주문 취소 재고 반영 테스트")
+class InventoryOrderEventHandlerTest {
+
+    private static final Long ORDER_ID = 1L;
+    private static final Long MEMBER_ID = 10L;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private OrderLineRepository orderLineRepository;
+
+    @Mock
+    private OrderStatusHistoryRepository orderStatusHistoryRepository;
+
+    private InventoryOrderEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new InventoryOrderEventHandler(inventoryService, orderLineRepository, orderStatusHistoryRepository);
+        given(orderLineRepository.findReservedQuantitiesByOrderId(ORDER_ID))
+                .willReturn(List.of(line("SKU-1", 2), line("SKU-1", 1)));
+    }
+
+    @Test
+    @DisplayName("결제 전 취소는 예약분을 해제한다")
+    void onOrderCanceled_FromCreated_ReleasesReservation() {
+        // when
+        handler.onOrderCanceled(OrderCanceledEvent.of(ORDER_ID, MEMBER_ID, "고객 취소", OrderStatus.CREATED));
+
+        // then
+        verify(inventoryService).release(Map.of("SKU-1", 3), false);
+        verifyNoInteractions(orderStatusHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("결제된 주문이 취소 요청을 거쳐 취소되면 판매 확정분을 되돌린다")
+    void onOrderCanceled_PaidViaCancelRequest_RestocksConfirmed() {
+        // given
+        given(orderStatusHistoryRepository.existsByOrderIdAndToStatus(ORDER_ID, OrderStatus.CONFIRMED)).willReturn(true);
+
+        // when
+        handler.onOrderCanceled(OrderCanceledEvent.of(ORDER_ID, MEMBER_ID, "고객 취소", OrderStatus.CANCEL_REQUESTED));
+
+        // then
+        verify(inventoryService).release(Map.of("SKU-1", 3), true);
+    }
+
+    @Test
+    @DisplayName("결제 전 주문이 취소 요청을 거쳐 취소되면 예약분을 해제한다")
+    void onOrderCanceled_UnpaidViaCancelRequest_ReleasesReservation() {
+        // given
+        given(orderStatusHistoryRepository.existsByOrderIdAndToStatus(ORDER_ID, OrderStatus.CONFIRMED)).willReturn(false);
+
+        // when
+        handler.onOrderCanceled(OrderCanceledEvent.of(ORDER_ID, MEMBER_ID, "고객 취소", OrderStatus.CANCEL_REQUESTED));
+
+        // then
+        verify(inventoryService).release(Map.of("SKU-1", 3), false);
+    }
+
+    private static OrderLineQuantityView line(String sku, int quantity) {
+        return new OrderLineQuantityView() {
+            @Override
+            public String getSku() {
+                return sku;
+            }
+
+            @Override
+            public int getQuantity() {
+                return quantity;
+            }
+        };
+    }
+}
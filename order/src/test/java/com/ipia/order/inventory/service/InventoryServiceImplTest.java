@@ -0,0 +1,198 @@
+package com.ipia.order.inventory.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.common.exception.inventory.InventoryHandler;
+import com.ipia.order.common.exception.inventory.status.InventoryErrorStatus;
+import com.ipia.order.inventory.config.InventoryProperties;
+import com.ipia.order.inventory.domain.Inventory;
+import com.ipia.order.inventory.repository.InventoryRepository;
+import com.ipia.order.inventory.store.InMemoryInventoryStockStore;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryServiceImpl 재고 예약 테스트")
+class InventoryServiceImplTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private InMemoryInventoryStockStore stockStore;
+    private InventoryWriteBehind writeBehind;
+    private InventoryServiceImpl inventoryService;
+
+    @BeforeEach
+    void setUp() {
+        stockStore = new InMemoryInventoryStockStore();
+        writeBehind = new InventoryWriteBehind(inventoryRepository, transactionTemplate, new InventoryProperties());
+        inventoryService = new InventoryServiceImpl(stockStore, inventoryRepository, writeBehind);
+
+        // 트랜잭션 템플릿은 콜백을 그대로 실행
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> {
+                    TransactionCallback<?> callback = invocation.getArgument(0);
+                    return callback.doInTransaction(null);
+                });
+    }
+
+    @Test
+    @DisplayName("모든 SKU가 충분하면 한꺼번에 차감한다")
+    void reserve_DecrementsAllSkus() {
+        // given
+        stockStore.set("A", 10);
+        stockStore.set("B", 5);
+
+        // when
+        Map<String, Integer> reserved = inventoryService.reserve(Map.of("A", 3, "B", 5));
+
+        // then
+        assertThat(reserved).containsExactlyInAnyOrderEntriesOf(Map.of("A", 3, "B", 5));
+        assertThat(stockStore.get("A")).isEqualTo(7L);
+        assertThat(stockStore.get("B")).isZero();
+    }
+
+    @Test
+    @DisplayName("한 SKU라도 부족하면 OUT_OF_STOCK 예외이며 어떤 SKU도 차감하지 않는다")
+    void reserve_WithInsufficientSku_ReservesNothing() {
+        // given
+        stockStore.set("A", 10);
+        stockStore.set("B", 1);
+
+        // when & then
+        assertThatThrownBy(() -> inventoryService.reserve(Map.of("A", 3, "B", 2)))
+                .isInstanceOf(InventoryHandler.class)
+                .hasMessage(InventoryErrorStatus.OUT_OF_STOCK.getCode());
+        assertThat(stockStore.get("A")).isEqualTo(10L);
+        assertThat(stockStore.get("B")).isEqualTo(1L);
+        assertThat(writeBehind.pendingAvailable("A")).isZero();
+    }
+
+    @Test
+    @DisplayName("저장소에 없는 SKU는 DB 값으로 적재 후 예약하고, DB에도 없는 SKU는 재고 관리 대상에서 제외한다")
+    void reserve_SeedsMissingSkuAndSkipsUntracked() {
+        // given
+        given(inventoryRepository.findAllById(anyList()))
+                .willReturn(List.of(Inventory.create("A", 20)));
+
+        // when
+        Map<String, Integer> reserved = inventoryService.reserve(Map.of("A", 4, "UNTRACKED", 1));
+
+        // then
+        assertThat(reserved).containsExactlyEntriesOf(Map.of("A", 4));
+        assertThat(stockStore.get("A")).isEqualTo(16L);
+        assertThat(stockStore.get("UNTRACKED")).isNull();
+    }
+
+    @Test
+    @DisplayName("동시 예약이 몰려도 가용 수량을 넘겨 판매하지 않는다")
+    void reserve_UnderContention_NeverOversells() throws InterruptedException {
+        // given
+        int stock = 50;
+        int buyers = 200;
+        stockStore.set("HOT", stock);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        for (int i = 0; i < buyers; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    inventoryService.reserve(Map.of("HOT", 1));
+                    success.incrementAndGet();
+                } catch (InventoryHandler e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(success.get()).isEqualTo(stock);
+        assertThat(rejected.get()).isEqualTo(buyers - stock);
+        assertThat(stockStore.get("HOT")).isZero();
+        assertThat(writeBehind.pendingAvailable("HOT")).isEqualTo(-stock);
+    }
+
+    @Test
+    @DisplayName("예약/해제/확정 변화량은 SKU별로 합산되어 주기마다 UPDATE 한 번으로 반영된다")
+    void flush_AppliesAggregatedDeltaOncePerSku() {
+        // given
+        stockStore.set("A", 100);
+        for (int i = 0; i < 10; i++) {
+            inventoryService.reserve(Map.of("A", 2));
+        }
+        inventoryService.release(Map.of("A", 2), false);
+        inventoryService.confirm(Map.of("A", 6));
+
+        // when
+        int flushedSkus = writeBehind.flush();
+
+        // then
+        assertThat(flushedSkus).isEqualTo(1);
+        assertThat(stockStore.get("A")).isEqualTo(82L);
+        verify(inventoryRepository, times(1)).applyDelta(eq("A"), eq(-18L), eq(12L), eq(6L), any());
+        assertThat(writeBehind.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패한 변화량은 유실되지 않고 다음 주기에 다시 반영된다")
+    void flush_WhenDbFails_RetriesNextRun() {
+        // given
+        stockStore.set("A", 10);
+        inventoryService.reserve(Map.of("A", 3));
+        given(inventoryRepository.applyDelta(eq("A"), anyLong(), anyLong(), anyLong(), any()))
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(1);
+
+        // when
+        int first = writeBehind.flush();
+        int second = writeBehind.flush();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        verify(inventoryRepository, times(2)).applyDelta(eq("A"), eq(-3L), eq(3L), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("결제 확정된 수량을 해제하면 가용 재고를 복원하고 판매 수량에서 차감한다")
+    void release_Confirmed_MovesSoldBackToAvailable() {
+        // given
+        stockStore.set("A", 5);
+
+        // when
+        inventoryService.release(Map.of("A", 2), true);
+        writeBehind.flush();
+
+        // then
+        assertThat(stockStore.get("A")).isEqualTo(7L);
+        verify(inventoryRepository).applyDelta(eq("A"), eq(2L), eq(0L), eq(-2L), any());
+    }
+}
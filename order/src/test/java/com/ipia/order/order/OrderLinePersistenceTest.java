@@ -0,0 +1,145 @@
+package com.ipia.order.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipia.order.inventory.service.InventoryService;
+import com.ipia.order.member.domain.Member;
+import com.ipia.order.member.enums.MemberRole;
+import com.ipia.order.member.repository.MemberRepository;
+import com.ipia.order.order.domain.Order;
+import com.ipia.order.order.domain.OrderLine;
+import com.ipia.order.order.repository.OrderLineQuantityView;
+import com.ipia.order.order.repository.OrderLineRepository;
+import com.ipia.order.order.repository.OrderSearchCondition;
+import com.ipia.order.order.service.OrderService;
+import com.ipia.order.web.dto.response.order.OrderListResponse;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 주문 라인 저장/조회 시 실행 SQL 수 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OrderLinePersistenceTest {
+
+    private static final int LINE_COUNT = 200;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrderLineRepository orderLineRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        member = memberRepository.save(Member.builder()
+                .name("liner")
+                .email("liner@example.com")
+                .password("encoded")
+                .role(MemberRole.USER)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("200개 라인 주문 생성은 라인 수가 아니라 배치 수만큼의 SQL로 저장된다")
+    void createOrderWithLines_BatchesInserts() {
+        // given
+        List<OrderLine> lines = IntStream.rangeClosed(1, LINE_COUNT)
+                .mapToObj(i -> OrderLine.of("SKU-" + i, "상품" + i, 100L * i, 1))
+                .toList();
+        statistics.clear();
+
+        // when
+        Order order = orderService.createOrderWithLines(member.getId(), lines, null, null);
+        entityManager.flush();
+
+        // then
+        long expectedTotal = 100L * LINE_COUNT * (LINE_COUNT + 1) / 2;
+        assertThat(order.getTotalAmount()).isEqualTo(expectedTotal);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(LINE_COUNT + 1);
+        // 회원 조회 + 재고 조회(IN 1회) + 주문 INSERT + 시퀀스 조회(50개 단위) + 라인 배치 INSERT
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(15);
+    }
+
+    @Test
+    @DisplayName("목록 조회는 주문 엔티티/라인을 로딩하지 않고, 단건 조회는 라인을 한 번에 로딩한다")
+    void listOrders_DoesNotLoadLines() {
+        // given
+        List<OrderLine> lines = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> OrderLine.of("SKU-" + i, null, 1_000L, i))
+                .toList();
+        Order order = orderService.createOrderWithLines(member.getId(), lines, null, null);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        OrderListResponse response = orderService.searchOrders(
+                OrderSearchCondition.builder().memberId(member.getId()).build(), 0, 10);
+
+        // then
+        assertThat(response.getOrders()).hasSize(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+
+        // 단건: 라인 컬렉션 1회 로딩
+        Order found = orderService.getOrder(order.getId(), member.getId()).orElseThrow();
+        assertThat(found.getLines()).hasSize(10);
+        assertThat(statistics.getCollectionFetchCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고를 예약한 라인만 해제/확정 대상으로 조회되고, 주문 뒤에 등록된 SKU는 빠진다")
+    void findReservedQuantities_OnlyReservedLines() {
+        // given
+        inventoryService.setAvailable("RSV-TRACKED", 10);
+        Order order = orderService.createOrderWithLines(member.getId(), List.of(
+                OrderLine.of("RSV-TRACKED", null, 1_000L, 2),
+                OrderLine.of("RSV-LATE", null, 1_000L, 3)), null, null);
+        entityManager.flush();
+        entityManager.clear();
+        inventoryService.setAvailable("RSV-LATE", 10);
+
+        // when
+        List<OrderLineQuantityView> reserved = orderLineRepository.findReservedQuantitiesByOrderId(order.getId());
+
+        // then
+        assertThat(reserved).extracting(OrderLineQuantityView::getSku, OrderLineQuantityView::getQuantity)
+                .containsExactly(tuple("RSV-TRACKED", 2));
+    }
+}
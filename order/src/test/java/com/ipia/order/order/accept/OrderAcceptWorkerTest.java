@@ -0,0 +1,103 @@
+package com.ipia.order.order.accept;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.order.config.OrderAcceptProperties;
+import com.ipia.order.order.enums.OrderAcceptanceState;
+import com.ipia.order.order.service.OrderService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderAcceptWorker 비동기 접수 저장 테스트")
+class OrderAcceptWorkerTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private InMemoryOrderAcceptQueue queue;
+    private OrderAcceptWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        queue = new InMemoryOrderAcceptQueue();
+        OrderAcceptProperties properties = new OrderAcceptProperties();
+        properties.setBatchSize(2);
+        worker = new OrderAcceptWorker(queue, orderService, properties);
+    }
+
+    @Test
+    @DisplayName("같은 추적 ID는 한 번만 적재된다")
+    void enqueue_SameTrackingId_IsAcceptedOnce() {
+        assertThat(queue.enqueue(command("t-1", 1L))).isTrue();
+        assertThat(queue.enqueue(command("t-1", 1L))).isFalse();
+        assertThat(queue.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("명령을 배치 단위로 저장하고 결과를 상태 표식에 남긴 뒤 ack한다")
+    void drain_PersistsInBatchesAndMarksResults() {
+        // given
+        queue.enqueue(command("t-1", 1L));
+        queue.enqueue(command("t-2", 1L));
+        queue.enqueue(command("t-3", 2L));
+        given(orderService.persistAccepted(anyList())).willAnswer(invocation -> {
+            List<OrderAcceptCommand> batch = invocation.getArgument(0);
+            return batch.stream()
+                    .map(c -> c.memberId() == 2L
+                            ? OrderAcceptResult.rejected(c.trackingId(), OrderErrorStatus.INACTIVE_MEMBER.getCode())
+                            : OrderAcceptResult.created(c.trackingId(), Long.valueOf(c.trackingId().substring(2))))
+                    .toList();
+        });
+
+        // when
+        int processed = worker.drain();
+
+        // then
+        assertThat(processed).isEqualTo(3);
+        verify(orderService, times(2)).persistAccepted(anyList());
+        assertThat(queue.findMarker("t-1")).isEqualTo(AcceptanceMarker.created(1L, 1L));
+        assertThat(queue.findMarker("t-3")).isEqualTo(AcceptanceMarker.rejected(2L, OrderErrorStatus.INACTIVE_MEMBER.getCode()));
+        assertThat(queue.pendingCount()).isZero();
+        assertThat(queue.recoverStale(Duration.ZERO)).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 명령별로 재시도하고, 계속 실패하는 명령만 ack하지 않고 남긴다")
+    void drain_WhenBatchFails_IsolatesFailingCommand() {
+        // given
+        OrderAcceptCommand ok = command("t-1", 1L);
+        OrderAcceptCommand poison = command("t-2", 1L);
+        queue.enqueue(ok);
+        queue.enqueue(poison);
+        given(orderService.persistAccepted(List.of(ok, poison))).willThrow(new IllegalStateException("constraint"));
+        given(orderService.persistAccepted(List.of(ok))).willReturn(List.of(OrderAcceptResult.created("t-1", 1L)));
+        given(orderService.persistAccepted(List.of(poison))).willThrow(new IllegalStateException("constraint"));
+
+        // when
+        int processed = worker.drain();
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        assertThat(queue.findMarker("t-1").state()).isEqualTo(OrderAcceptanceState.CREATED);
+        assertThat(queue.findMarker("t-2").state()).isEqualTo(OrderAcceptanceState.PENDING);
+        // ack되지 않은 명령은 가시성 제한 시간 뒤 대기열로 돌아간다
+        assertThat(queue.recoverStale(Duration.ZERO)).isEqualTo(1);
+        assertThat(queue.claim(10)).containsExactly(poison);
+    }
+
+    private static OrderAcceptCommand command(String trackingId, long memberId) {
+        return new OrderAcceptCommand(trackingId, memberId, 10_000L, null, LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+}
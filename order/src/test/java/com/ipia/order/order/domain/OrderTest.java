@@ -1,12 +1,20 @@
 package com.ipia.order.order.domain;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static com.ipia.order.order.enums.OrderStatus.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import com.ipia.order.common.exception.order.OrderHandler;
 import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.order.enums.OrderStatus;
 
 class OrderTest {
 
@@ -132,4 +140,48 @@ class OrderTest {
                 .isInstanceOf(OrderHandler.class)
                 .hasFieldOrPropertyWithValue("status", OrderErrorStatus.INVALID_TRANSITION_TO_CANCELED);
     }
+
+    @Test
+    @DisplayName("주문 상태 전이 행렬이 기대 규칙과 일치한다")
+    void transitionMatrixMatchesRules() {
+        Map<OrderStatus, Set<OrderStatus>> expected = Map.of(
+                CREATED, EnumSet.of(CONFIRMED, CANCEL_REQUESTED, CANCELED),
+                CONFIRMED, EnumSet.of(FULFILLMENT_STARTED, CANCEL_REQUESTED, CANCELED),
+                FULFILLMENT_STARTED, EnumSet.of(SHIPPED),
+                SHIPPED, EnumSet.of(DELIVERED),
+                DELIVERED, EnumSet.of(COMPLETED),
+                CANCEL_REQUESTED, EnumSet.of(CANCELED),
+                COMPLETED, EnumSet.noneOf(OrderStatus.class),
+                CANCELED, EnumSet.noneOf(OrderStatus.class),
+                PLACED, EnumSet.noneOf(OrderStatus.class)
+        );
+
+        assertThat(OrderStateMachine.RULES.matrix()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("주문 라인으로 생성하면 총액은 라인 금액 합계이고 라인 번호가 순서대로 부여된다")
+    void createWithLinesDerivesTotal() {
+        // given
+        OrderLine first = OrderLine.of("SKU-1", "상품1", 1_200L, 5);
+        OrderLine second = OrderLine.of("SKU-2", "상품2", 800L, 1);
+
+        // when
+        Order order = Order.createWithLines(1L, List.of(first, second));
+
+        // then
+        assertThat(order.getTotalAmount()).isEqualTo(6_800L);
+        assertThat(order.getLines()).containsExactly(first, second);
+        assertThat(first.getLineNo()).isEqualTo(1);
+        assertThat(second.getLineNo()).isEqualTo(2);
+        assertThat(second.getOrder()).isSameAs(order);
+    }
+
+    @Test
+    @DisplayName("수량이 0 이하인 주문 라인은 생성할 수 없다")
+    void createLineWithZeroQuantity() {
+        assertThatThrownBy(() -> OrderLine.of("SKU-1", "상품1", 1_000L, 0))
+                .isInstanceOf(OrderHandler.class)
+                .hasFieldOrPropertyWithValue("status", OrderErrorStatus.INVALID_ORDER_LINE);
+    }
 }
@@ -0,0 +1,143 @@
+package com.ipia.order.order.expiry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.order.config.OrderExpiryProperties;
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.event.OrderCanceledEvent;
+import com.ipia.order.order.repository.OrderRepository;
+import com.ipia.order.order.repository.OrderStatusView;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderExpiryWorker 미결제 주문 만료 테스트")
+class OrderExpiryWorkerTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private InMemoryOrderExpiryQueue queue;
+    private OrderExpiryProperties properties;
+    private OrderExpiryWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        queue = new InMemoryOrderExpiryQueue();
+        properties = new OrderExpiryProperties();
+        properties.setBatchSize(2);
+        worker = new OrderExpiryWorker(queue, orderRepository, eventPublisher, transactionTemplate, properties);
+
+        // 트랜잭션 템플릿은 콜백을 그대로 실행
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> {
+                    TransactionCallback<?> callback = invocation.getArgument(0);
+                    return callback.doInTransaction(null);
+                });
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 주문만 꺼내고, 여전히 CREATED인 주문만 조건부 UPDATE로 취소한다")
+    void expireDueOrders_CancelsOnlyDueCreatedOrders() {
+        // given
+        Instant past = Instant.now().minusSeconds(60);
+        queue.schedule(1L, past);
+        queue.schedule(2L, past);
+        queue.schedule(3L, past.plusSeconds(1));
+        queue.schedule(4L, Instant.now().plusSeconds(3600)); // 아직 만료 전
+
+        given(orderRepository.findStatusViewsByIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(view(1L, OrderStatus.CREATED), view(2L, OrderStatus.CONFIRMED)));
+        given(orderRepository.findStatusViewsByIdIn(List.of(3L)))
+                .willReturn(List.of(view(3L, OrderStatus.CREATED)));
+        given(orderRepository.transitionStatus(anyCollection(), eq(OrderStatus.CREATED), eq(OrderStatus.CANCELED), any()))
+                .willAnswer(invocation -> invocation.<Collection<?>>getArgument(0).size());
+
+        // when
+        int canceled = worker.expireDueOrders();
+
+        // then
+        assertThat(canceled).isEqualTo(2);
+        verify(orderRepository).transitionStatus(eq(List.of(1L)), eq(OrderStatus.CREATED), eq(OrderStatus.CANCELED), any());
+        verify(orderRepository).transitionStatus(eq(List.of(3L)), eq(OrderStatus.CREATED), eq(OrderStatus.CANCELED), any());
+
+        ArgumentCaptor<OrderCanceledEvent> eventCaptor = ArgumentCaptor.forClass(OrderCanceledEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues()).extracting(OrderCanceledEvent::getOrderId, OrderCanceledEvent::getMemberId)
+                .containsExactly(tuple(1L, 10L), tuple(3L, 30L));
+
+        // 만료 전 주문은 대기열에 남아 있다
+        assertThat(queue.popDue(Instant.now().plusSeconds(7200), 10)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("배치 처리에 실패하면 꺼낸 주문을 재예약한다")
+    void expireDueOrders_ReschedulesOnFailure() {
+        // given
+        queue.schedule(1L, Instant.now().minusSeconds(1));
+        given(orderRepository.findStatusViewsByIdIn(List.of(1L)))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when
+        int canceled = worker.expireDueOrders();
+
+        // then
+        assertThat(canceled).isZero();
+        assertThat(queue.popDue(Instant.now(), 10)).isEmpty();
+        assertThat(queue.popDue(Instant.now().plus(properties.getRetryDelay()).plusSeconds(1), 10)).containsExactly(1L);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("대기 중인 만료 항목이 없으면 DB를 조회하지 않는다")
+    void expireDueOrders_NoDueEntries_DoesNotTouchDatabase() {
+        // given
+        queue.schedule(1L, Instant.now().plusSeconds(3600));
+
+        // when
+        int canceled = worker.expireDueOrders();
+
+        // then
+        assertThat(canceled).isZero();
+        verifyNoInteractions(orderRepository);
+    }
+
+    private OrderStatusView view(Long id, OrderStatus status) {
+        return new OrderStatusView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getMemberId() {
+                return id * 10;
+            }
+
+            @Override
+            public OrderStatus getStatus() {
+                return status;
+            }
+        };
+    }
+}
@@ -0,0 +1,201 @@
+package com.ipia.order.order.history;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.common.exception.order.OrderHandler;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.order.config.OrderHistoryProperties;
+import com.ipia.order.order.repository.MemberOrderStatsRepository;
+import com.ipia.order.order.repository.MemberOrderViewRepository;
+import com.ipia.order.order.repository.OrderRepository;
+import com.ipia.order.web.dto.response.order.OrderHistoryRebuildResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("회원 주문 이력 읽기 모델 재구성/준비 상태 테스트")
+class MemberOrderHistoryRebuilderTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private MemberOrderViewRepository memberOrderViewRepository;
+
+    @Mock
+    private MemberOrderStatsRepository memberOrderStatsRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OrderHistoryProperties properties;
+    private MemberOrderHistoryReader reader;
+    private MemberOrderHistoryRebuilder rebuilder;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrderHistoryProperties();
+        properties.setRebuildChunkSize(100);
+        properties.setMaxServedPages(2);
+        reader = new MemberOrderHistoryReader(memberOrderViewRepository, memberOrderStatsRepository, orderRepository, properties);
+        rebuilder = new MemberOrderHistoryRebuilder(orderRepository, memberOrderViewRepository, memberOrderStatsRepository,
+                reader, transactionTemplate, properties);
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("최신 구간부터 역순으로 구간마다 삭제 후 복사하고, 회원 구간마다 잠근 뒤 건수를 제자리에서 다시 센다")
+    void rebuild_CopiesChunksNewestFirst() {
+        // given
+        given(orderRepository.findMaxId()).willReturn(250L);
+        given(memberOrderViewRepository.findMaxMemberId()).willReturn(150L);
+        given(memberOrderStatsRepository.findMaxMemberId()).willReturn(120L);
+        List<long[]> ranges = new ArrayList<>();
+        given(memberOrderViewRepository.copyRange(anyLong(), anyLong())).willAnswer(invocation -> {
+            long fromId = invocation.getArgument(0);
+            long toId = invocation.getArgument(1);
+            ranges.add(new long[] {fromId, toId});
+            return (int) (toId - fromId);
+        });
+
+        // when
+        OrderHistoryRebuildResponse response = rebuilder.rebuild();
+
+        // then
+        assertThat(ranges).containsExactly(new long[] {150, 250}, new long[] {50, 150}, new long[] {0, 50});
+        verify(memberOrderViewRepository).deleteRange(150, 250);
+        verify(memberOrderViewRepository).deleteRange(0, 50);
+        InOrder recount = inOrder(memberOrderStatsRepository);
+        recount.verify(memberOrderStatsRepository).lockRange(0, 100);
+        recount.verify(memberOrderStatsRepository).recountRange(0, 100);
+        recount.verify(memberOrderStatsRepository).insertMissingRange(0, 100);
+        recount.verify(memberOrderStatsRepository).lockRange(100, 150);
+        recount.verify(memberOrderStatsRepository).recountRange(100, 150);
+        recount.verify(memberOrderStatsRepository).insertMissingRange(100, 150);
+        assertThat(response.getCopiedOrders()).isEqualTo(250);
+        assertThat(response.getChunks()).isEqualTo(3);
+        assertThat(reader.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("건수 행 생성이 진행 중인 첫 주문과 충돌하면 그 회원 구간을 다시 센다")
+    void rebuild_RecountConflict_RetriesRange() {
+        // given
+        given(orderRepository.findMaxId()).willReturn(0L);
+        given(memberOrderViewRepository.findMaxMemberId()).willReturn(10L);
+        given(memberOrderStatsRepository.insertMissingRange(0, 10))
+                .willThrow(new DataIntegrityViolationException("duplicate member_id"))
+                .willReturn(1);
+
+        // when
+        rebuilder.rebuild();
+
+        // then
+        verify(memberOrderStatsRepository, times(2)).lockRange(0, 10);
+        verify(memberOrderStatsRepository, times(2)).recountRange(0, 10);
+        assertThat(reader.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성 중에는 준비 상태 점검이 읽기 모델을 제공 상태로 바꾸지 않고, 중복 실행은 거부된다")
+    void rebuild_BlocksReadinessAndConcurrentRun() {
+        // given
+        given(orderRepository.findMaxId()).willReturn(100L);
+        given(memberOrderViewRepository.copyRange(anyLong(), anyLong())).willAnswer(invocation -> {
+            reader.checkReadiness();
+            assertThat(reader.isReady()).isFalse();
+            assertThatThrownBy(() -> rebuilder.rebuild())
+                    .isInstanceOf(OrderHandler.class)
+                    .hasMessage(OrderErrorStatus.HISTORY_REBUILD_IN_PROGRESS.getCode());
+            return 100;
+        });
+
+        // when
+        rebuilder.rebuild();
+
+        // then
+        verify(orderRepository, never()).findMinId();
+        assertThat(reader.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("구간 복사가 실패하면 읽기 모델을 제공하지 않는다")
+    void rebuild_FailureKeepsReadModelOffline() {
+        // given
+        given(orderRepository.findMaxId()).willReturn(100L);
+        given(memberOrderViewRepository.copyRange(anyLong(), anyLong())).willThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> rebuilder.rebuild()).isInstanceOf(IllegalStateException.class);
+        assertThat(reader.isReady()).isFalse();
+        assertThat(reader.findPage(1L, 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새 주문만 반영된 읽기 모델(최소 ID 불일치)은 제공하지 않는다")
+    void checkReadiness_RequiresFullCoverage() {
+        // given: 배포 직후 최신 주문만 이벤트로 반영된 상태
+        given(orderRepository.findMinId()).willReturn(1L);
+        given(orderRepository.findMaxId()).willReturn(500L);
+        given(memberOrderViewRepository.findMinOrderId()).willReturn(498L);
+        given(memberOrderViewRepository.findMaxOrderId()).willReturn(500L);
+
+        // when
+        reader.checkReadiness();
+
+        // then
+        assertThat(reader.isReady()).isFalse();
+        assertThat(reader.findPage(1L, 0, 10)).isEmpty();
+        verifyNoInteractions(memberOrderStatsRepository);
+    }
+
+    @Test
+    @DisplayName("제공 중에도 계속 확인해 읽기 모델이 orders를 덮지 못하게 되면 제공을 멈춘다")
+    void checkReadiness_WhenCoverageLost_StopsServing() {
+        // given
+        given(orderRepository.findMinId()).willReturn(1L);
+        given(orderRepository.findMaxId()).willReturn(500L);
+        given(memberOrderViewRepository.findMinOrderId()).willReturn(1L, 400L);
+        given(memberOrderViewRepository.findMaxOrderId()).willReturn(500L);
+        reader.checkReadiness();
+        assertThat(reader.isReady()).isTrue();
+
+        // when: 다른 노드가 재구성을 시작해 오래된 구간이 비어 있음
+        reader.checkReadiness();
+
+        // then
+        assertThat(reader.isReady()).isFalse();
+        assertThat(reader.findPage(1L, 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("준비된 읽기 모델도 최대 제공 페이지 이후는 orders로 넘긴다")
+    void findPage_BeyondMaxServedPages_Bypasses() {
+        // given
+        given(orderRepository.findMinId()).willReturn(1L);
+        given(orderRepository.findMaxId()).willReturn(500L);
+        given(memberOrderViewRepository.findMinOrderId()).willReturn(1L);
+        given(memberOrderViewRepository.findMaxOrderId()).willReturn(500L);
+        reader.checkReadiness();
+
+        // when & then
+        assertThat(reader.isReady()).isTrue();
+        assertThat(reader.findPage(1L, 1, 10)).isPresent();
+        assertThat(reader.findPage(1L, 2, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,109 @@
+package com.ipia.order.order.history;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.event.OrderCanceledEvent;
+import com.ipia.order.order.event.OrderCreatedEvent;
+import com.ipia.order.order.event.OrderStatusBulkChangedEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderStatusHistoryRecorder 상태 이력 배치 기록 테스트")
+class OrderStatusHistoryRecorderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private OrderStatusHistoryRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new OrderStatusHistoryRecorder(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 전이는 모았다가 커밋 직전에 한 번의 배치로 쓴다")
+    void inTransaction_FlushesOnceBeforeCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+        // when
+        recorder.onOrderCreated(OrderCreatedEvent.of(1L, 10L, 10_000L));
+        recorder.onOrderCanceled(OrderCanceledEvent.of(2L, 1L, "고객 요청", OrderStatus.CREATED));
+        recorder.onOrderStatusBulkChanged(
+                OrderStatusBulkChangedEvent.of(List.of(3L, 4L, 5L), OrderStatus.CONFIRMED, OrderStatus.SHIPPED, now));
+
+        // then: 커밋 전에는 쓰지 않음
+        verifyNoInteractions(jdbcTemplate);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+        List<OrderStatusHistoryRecorder.Transition> written = captureWritten();
+        assertThat(written).hasSize(5);
+        assertThat(written).extracting(OrderStatusHistoryRecorder.Transition::orderId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(written.get(0).fromStatus()).isNull();
+        assertThat(written.get(1).reason()).isEqualTo("고객 요청");
+        assertThat(written.get(4).toStatus()).isEqualTo(OrderStatus.SHIPPED);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 전이는 기록하지 않는다")
+    void rolledBack_WritesNothing() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        recorder.onOrderCreated(OrderCreatedEvent.of(1L, 10L, 10_000L));
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(TransactionSynchronizationManager.getResource(recorder)).isNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 발행된 전이는 바로 쓴다")
+    void outsideTransaction_WritesImmediately() {
+        // when
+        recorder.onOrderCreated(OrderCreatedEvent.of(1L, 10L, 10_000L));
+
+        // then
+        assertThat(captureWritten()).hasSize(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OrderStatusHistoryRecorder.Transition> captureWritten() {
+        ArgumentCaptor<List<OrderStatusHistoryRecorder.Transition>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture(), eq(OrderStatusHistoryRecorder.BATCH_SIZE),
+                any(ParameterizedPreparedStatementSetter.class));
+        return List.copyOf(captor.getValue());
+    }
+}
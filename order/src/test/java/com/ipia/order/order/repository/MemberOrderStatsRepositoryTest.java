@@ -0,0 +1,79 @@
+package com.ipia.order.order.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.ipia.order.order.domain.MemberOrderStats;
+
+/**
+ * dev/prod와 같은 일반 H2 모드(MySQL 호환 모드 아님)에서 회원 주문 수 증가/재계산 검증
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:order-stats-regular;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("MemberOrderStatsRepository 회원 주문 수 테스트")
+class MemberOrderStatsRepositoryTest {
+
+    @Autowired
+    private MemberOrderStatsRepository memberOrderStatsRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("행이 없으면 1로 생성하고, 있으면 1씩 증가한다")
+    void increment_InsertsThenUpdates() {
+        // when
+        memberOrderStatsRepository.increment(1L);
+        memberOrderStatsRepository.increment(1L);
+        memberOrderStatsRepository.increment(2L);
+
+        // then
+        assertThat(memberOrderStatsRepository.findById(1L)).get()
+                .extracting(MemberOrderStats::getOrderCount).isEqualTo(2L);
+        assertThat(memberOrderStatsRepository.findById(2L)).get()
+                .extracting(MemberOrderStats::getOrderCount).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("재계산은 구간의 기존 행을 읽기 모델 건수로 고치고 없는 회원의 행을 만든다")
+    void recountRange_FixesInPlaceAndInsertsMissing() {
+        // given: 회원 1은 건수가 어긋나 있고, 회원 2는 행이 없으며, 회원 3은 구간 밖
+        memberOrderStatsRepository.increment(1L);
+        memberOrderStatsRepository.increment(3L);
+        insertView(10L, 1L);
+        insertView(11L, 1L);
+        insertView(12L, 2L);
+        insertView(13L, 3L);
+
+        // when
+        memberOrderStatsRepository.lockRange(0, 2);
+        memberOrderStatsRepository.recountRange(0, 2);
+        int inserted = memberOrderStatsRepository.insertMissingRange(0, 2);
+        entityManager.clear();
+
+        // then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(memberOrderStatsRepository.findById(1L)).get()
+                .extracting(MemberOrderStats::getOrderCount).isEqualTo(2L);
+        assertThat(memberOrderStatsRepository.findById(2L)).get()
+                .extracting(MemberOrderStats::getOrderCount).isEqualTo(1L);
+        assertThat(memberOrderStatsRepository.findById(3L)).get()
+                .extracting(MemberOrderStats::getOrderCount).isEqualTo(1L);
+        assertThat(memberOrderStatsRepository.findMaxMemberId()).isEqualTo(3L);
+    }
+
+    private void insertView(long orderId, long memberId) {
+        entityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO member_order_view (order_id, member_id, total_amount, status, created_at, updated_at) "
+                        + "VALUES (?1, ?2, 1000, 'CREATED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+                .setParameter(1, orderId)
+                .setParameter(2, memberId)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,181 @@
+package com.ipia.order.order.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ipia.order.order.enums.OrderSortKey;
+import com.ipia.order.order.enums.OrderStatus;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 목록 필터 조합별 인덱스 사용 검증 + 간이 벤치마크
+ *
+ * 필터 조합마다 OrderSpecifications가 실제로 만든 SQL을 가로채 H2 EXPLAIN으로 테이블 풀스캔 없이
+ * 대응 인덱스를 타는지 확인하고, 같은 조건의 응답 시간을 로그로 남긴다. (시간은 환경 편차가 커서 단정하지 않는다)
+ * 가로챈 SQL을 그대로 EXPLAIN할 수 있도록 Criteria 값은 바인딩 대신 리터럴로 렌더링한다.
+ */
+@Slf4j
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ipia.order.order.repository.OrderFilterIndexBenchmarkTest$CapturingStatementInspector",
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline"
+})
+@ActiveProfiles("test")
+@Transactional
+class OrderFilterIndexBenchmarkTest {
+
+    private static final int SEED_ROWS = 20_000;
+    private static final int MEMBER_COUNT = 500;
+    private static final int ITERATIONS = 20;
+    private static final int PAGE_SIZE = 20;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    /**
+     * 필터 조합 (검색 조건, 허용 인덱스)
+     */
+    private record FilterShape(String name, OrderSearchCondition condition, Set<String> expectedIndexes) {
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 기록 (이 테스트 컨텍스트 전용)
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        // 회원 500명, 상태 4종, 분 단위로 과거로 흩어진 생성일, 다양한 금액
+        entityManager.createNativeQuery("""
+                INSERT INTO orders (member_id, total_amount, status, created_at, updated_at)
+                SELECT MOD(X, %d) + 1,
+                       MOD(X * 7919, 100000) + 1000,
+                       CASE MOD(X, 4) WHEN 0 THEN 'CREATED' WHEN 1 THEN 'CONFIRMED' WHEN 2 THEN 'SHIPPED' ELSE 'CANCELED' END,
+                       DATEADD('MINUTE', -X, TIMESTAMP '2025-01-01 00:00:00'),
+                       DATEADD('MINUTE', -X, TIMESTAMP '2025-01-01 00:00:00')
+                FROM SYSTEM_RANGE(1, %d)
+                """.formatted(MEMBER_COUNT, SEED_ROWS)).executeUpdate();
+    }
+
+    @Test
+    @DisplayName("필터 조합마다 풀스캔 없이 대응 복합 인덱스를 사용한다")
+    void eachFilterShapeUsesIndex() {
+        SoftAssertions softly = new SoftAssertions();
+
+        for (FilterShape shape : shapes()) {
+            String plan = explain(shape);
+            log.info("[Bench] {} plan: {}", shape.name(), plan.replaceAll("\\s+", " "));
+
+            softly.assertThat(plan).as("%s: table scan", shape.name())
+                    .doesNotContainIgnoringCase("tableScan");
+            softly.assertThat(shape.expectedIndexes().stream()
+                            .anyMatch(index -> plan.toUpperCase(Locale.ROOT).contains(index.toUpperCase(Locale.ROOT))))
+                    .as("%s: expected one of %s but plan was %s", shape.name(), shape.expectedIndexes(), plan)
+                    .isTrue();
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Specification 조회 시간을 필터 조합별로 측정한다")
+    void benchmarkSpecificationQueries() {
+        for (FilterShape shape : shapes()) {
+            PageRequest pageable = PageRequest.of(0, PAGE_SIZE, shape.condition().toSort());
+            // 워밍업
+            Page<OrderSummary> page = orderRepository.searchSummaries(OrderSpecifications.matching(shape.condition()), pageable);
+
+            long started = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                orderRepository.searchSummaries(OrderSpecifications.matching(shape.condition()), pageable);
+            }
+            long avgMicros = (System.nanoTime() - started) / ITERATIONS / 1_000;
+            log.info("[Bench] {}: avg={}us, total={}", shape.name(), avgMicros, page.getTotalElements());
+
+            assertThat(page.getContent()).isNotEmpty();
+        }
+    }
+
+    /**
+     * 주문 검색과 같은 Specification/정렬/페이지로 조회해 실행된 목록 SQL을 EXPLAIN
+     */
+    private String explain(FilterShape shape) {
+        CapturingStatementInspector.CAPTURED.clear();
+        orderRepository.searchSummaries(OrderSpecifications.matching(shape.condition()),
+                PageRequest.of(0, PAGE_SIZE, shape.condition().toSort()));
+        String sql = CapturingStatementInspector.CAPTURED.stream()
+                .filter(statement -> !statement.toLowerCase(Locale.ROOT).startsWith("select count"))
+                .findFirst()
+                .orElseThrow();
+        log.info("[Bench] {} sql: {}", shape.name(), sql);
+        // 검색 값은 리터럴로 렌더링되므로 남은 파라미터는 첫 페이지의 행 수(fetch first ?)뿐이다
+        String explainable = sql.replace("?", String.valueOf(PAGE_SIZE));
+        return String.valueOf(entityManager.createNativeQuery("EXPLAIN " + explainable).getSingleResult());
+    }
+
+    private static List<FilterShape> shapes() {
+        LocalDateTime from = BASE_TIME.minusDays(3);
+        LocalDateTime to = BASE_TIME.minusDays(1);
+
+        return List.of(
+                new FilterShape("member",
+                        OrderSearchCondition.builder().memberId(42L).build(),
+                        Set.of("idx_orders_member_created", "idx_orders_member_status_created", "idx_orders_member_amount")),
+                new FilterShape("member+status",
+                        OrderSearchCondition.builder().memberId(42L).statuses(EnumSet.of(OrderStatus.CREATED)).build(),
+                        Set.of("idx_orders_member_status_created")),
+                new FilterShape("member+statuses",
+                        OrderSearchCondition.builder().memberId(42L)
+                                .statuses(EnumSet.of(OrderStatus.CREATED, OrderStatus.CONFIRMED)).build(),
+                        Set.of("idx_orders_member_status_created", "idx_orders_member_created")),
+                new FilterShape("member+createdRange",
+                        OrderSearchCondition.builder().memberId(42L).createdFrom(from).createdTo(to).build(),
+                        Set.of("idx_orders_member_created")),
+                new FilterShape("member+amountRange",
+                        OrderSearchCondition.builder().memberId(42L).minAmount(10_000L).maxAmount(80_000L)
+                                .sortKey(OrderSortKey.TOTAL_AMOUNT).build(),
+                        Set.of("idx_orders_member_amount")),
+                new FilterShape("status",
+                        OrderSearchCondition.builder().statuses(EnumSet.of(OrderStatus.SHIPPED)).build(),
+                        Set.of("idx_orders_status_created")),
+                new FilterShape("status+createdRange",
+                        OrderSearchCondition.builder().statuses(EnumSet.of(OrderStatus.SHIPPED))
+                                .createdFrom(from).createdTo(to).build(),
+                        Set.of("idx_orders_status_created")),
+                new FilterShape("createdRange",
+                        OrderSearchCondition.builder().createdFrom(from).createdTo(to).build(),
+                        Set.of("idx_orders_created")));
+    }
+}
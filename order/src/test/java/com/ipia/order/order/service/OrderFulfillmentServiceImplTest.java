@@ -0,0 +1,185 @@
+package com.ipia.order.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.common.exception.order.OrderHandler;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.order.domain.OrderStateMachine;
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.event.OrderStatusBulkChangedEvent;
+import com.ipia.order.order.repository.OrderRepository;
+import com.ipia.order.order.repository.OrderStatusView;
+import com.ipia.order.web.dto.response.order.BulkTransitionResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderFulfillmentService 일괄 상태 전이 테스트")
+class OrderFulfillmentServiceImplTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private OrderFulfillmentServiceImpl fulfillmentService;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 템플릿은 콜백을 그대로 실행
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> {
+                    TransactionCallback<?> callback = invocation.getArgument(0);
+                    return callback.doInTransaction(null);
+                });
+    }
+
+    @Test
+    @DisplayName("존재하지 않거나 상태가 맞지 않는 주문은 실패 목록으로, 나머지는 한 번의 UPDATE로 전이")
+    void transition_reportsPerIdFailures() {
+        // given
+        given(orderRepository.findStatusViewsByIdIn(anyCollection())).willReturn(List.of(
+                view(1L, OrderStatus.CONFIRMED),
+                view(2L, OrderStatus.CONFIRMED),
+                view(3L, OrderStatus.CREATED)
+        ));
+        given(orderRepository.transitionStatus(eq(List.of(1L, 2L)), eq(OrderStatus.CONFIRMED), eq(OrderStatus.FULFILLMENT_STARTED), any()))
+                .willReturn(2);
+
+        // when
+        BulkTransitionResponse response = fulfillmentService.transition(List.of(1L, 2L, 3L, 4L, 1L), OrderStatus.FULFILLMENT_STARTED);
+
+        // then
+        assertThat(response.getRequestedCount()).isEqualTo(4);
+        assertThat(response.getSucceededIds()).containsExactly(1L, 2L);
+        assertThat(response.getFailures())
+                .extracting(BulkTransitionResponse.Failure::getOrderId, BulkTransitionResponse.Failure::getCode)
+                .containsExactly(
+                        tuple(3L, OrderErrorStatus.INVALID_ORDER_STATE.getCode()),
+                        tuple(4L, OrderErrorStatus.ORDER_NOT_FOUND.getCode())
+                );
+
+        ArgumentCaptor<OrderStatusBulkChangedEvent> captor = ArgumentCaptor.forClass(OrderStatusBulkChangedEvent.class);
+        then(eventPublisher).should(times(1)).publishEvent(captor.capture());
+        assertThat(captor.getValue().getOrderIds()).containsExactly(1L, 2L);
+        assertThat(captor.getValue().getToStatus()).isEqualTo(OrderStatus.FULFILLMENT_STARTED);
+    }
+
+    @Test
+    @DisplayName("조회 이후 다른 트랜잭션이 상태를 바꾼 주문은 가드에 걸려 실패로 보고")
+    void transition_concurrentChangeIsReportedAsFailure() {
+        // given
+        given(orderRepository.findStatusViewsByIdIn(anyCollection()))
+                .willReturn(List.of(view(1L, OrderStatus.SHIPPED), view(2L, OrderStatus.SHIPPED)))
+                .willReturn(List.of(view(1L, OrderStatus.DELIVERED), view(2L, OrderStatus.CANCELED)));
+        given(orderRepository.transitionStatus(anyCollection(), eq(OrderStatus.SHIPPED), eq(OrderStatus.DELIVERED), any()))
+                .willReturn(1);
+
+        // when
+        BulkTransitionResponse response = fulfillmentService.transition(List.of(1L, 2L), OrderStatus.DELIVERED);
+
+        // then
+        assertThat(response.getSucceededIds()).containsExactly(1L);
+        assertThat(response.getFailures()).extracting(BulkTransitionResponse.Failure::getOrderId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("거절 전이 지표는 존재하지만 상태가 맞지 않는 주문만 센다 (없는 주문 ID는 제외)")
+    void transition_rejectedCountExcludesMissingOrders() {
+        // given
+        given(orderRepository.findStatusViewsByIdIn(anyCollection())).willReturn(List.of(view(1L, OrderStatus.CREATED)));
+        long before = OrderStateMachine.RULES.rejectedCount(OrderStatus.SHIPPED);
+
+        // when
+        BulkTransitionResponse response = fulfillmentService.transition(List.of(1L, 2L, 3L), OrderStatus.SHIPPED);
+
+        // then
+        assertThat(response.getFailures()).hasSize(3);
+        assertThat(OrderStateMachine.RULES.rejectedCount(OrderStatus.SHIPPED) - before).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("청크 크기를 넘는 요청은 청크마다 한 번씩 UPDATE와 이벤트 발행")
+    void transition_splitsIntoChunks() {
+        // given
+        int total = OrderFulfillmentServiceImpl.CHUNK_SIZE * 2 + 1;
+        List<Long> ids = LongStream.rangeClosed(1, total).boxed().toList();
+        given(orderRepository.findStatusViewsByIdIn(anyCollection()))
+                .willAnswer(invocation -> views(invocation.getArgument(0), id -> OrderStatus.DELIVERED));
+        given(orderRepository.transitionStatus(anyCollection(), eq(OrderStatus.DELIVERED), eq(OrderStatus.COMPLETED), any()))
+                .willAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+
+        // when
+        BulkTransitionResponse response = fulfillmentService.transition(ids, OrderStatus.COMPLETED);
+
+        // then
+        assertThat(response.getSucceededIds()).hasSize(total);
+        assertThat(response.getFailures()).isEmpty();
+        then(orderRepository).should(times(3)).transitionStatus(anyCollection(), any(), any(), any());
+        then(eventPublisher).should(times(3)).publishEvent(any(OrderStatusBulkChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("이행 단계가 아닌 대상 상태는 UNSUPPORTED_BULK_TRANSITION")
+    void transition_unsupportedTarget_throws() {
+        assertThatThrownBy(() -> fulfillmentService.transition(List.of(1L), OrderStatus.CANCELED))
+                .isInstanceOf(OrderHandler.class)
+                .hasMessage(OrderErrorStatus.UNSUPPORTED_BULK_TRANSITION.getCode());
+    }
+
+    @Test
+    @DisplayName("빈 목록 또는 최대 개수 초과 시 INVALID_BULK_REQUEST")
+    void transition_invalidIds_throws() {
+        List<Long> tooMany = LongStream.rangeClosed(1, OrderFulfillmentServiceImpl.MAX_ORDER_IDS + 1).boxed().toList();
+
+        assertThatThrownBy(() -> fulfillmentService.transition(List.of(), OrderStatus.SHIPPED))
+                .isInstanceOf(OrderHandler.class)
+                .hasMessage(OrderErrorStatus.INVALID_BULK_REQUEST.getCode());
+        assertThatThrownBy(() -> fulfillmentService.transition(tooMany, OrderStatus.SHIPPED))
+                .isInstanceOf(OrderHandler.class)
+                .hasMessage(OrderErrorStatus.INVALID_BULK_REQUEST.getCode());
+    }
+
+    private static List<OrderStatusView> views(Collection<Long> ids, Function<Long, OrderStatus> statusFn) {
+        List<OrderStatusView> views = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            views.add(view(id, statusFn.apply(id)));
+        }
+        return views;
+    }
+
+    private static OrderStatusView view(Long id, OrderStatus status) {
+        return new OrderStatusView() {
+            @Override
+            public Long getId() { return id; }
+
+            @Override
+            public Long getMemberId() { return 1L; }
+
+            @Override
+            public OrderStatus getStatus() { return status; }
+        };
+    }
+}
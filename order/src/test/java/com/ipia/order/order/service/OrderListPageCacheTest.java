@@ -0,0 +1,144 @@
+package com.ipia.order.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipia.order.order.config.OrderReadProperties;
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.repository.OrderSearchCondition;
+import com.ipia.order.web.dto.response.order.OrderListResponse;
+import com.ipia.order.web.dto.response.order.OrderResponse;
+
+@DisplayName("OrderListPageCache 회원 첫 페이지 캐시 테스트")
+class OrderListPageCacheTest {
+
+    private OrderReadProperties properties;
+    private OrderListPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrderReadProperties();
+        cache = new OrderListPageCache(new ObjectMapper().findAndRegisterModules(), properties);
+    }
+
+    @Test
+    @DisplayName("회원+상태 조건의 첫 페이지만 캐시 대상이다")
+    void isCacheable_OnlyMemberFirstPage() {
+        assertThat(cache.isCacheable(member(1L), 0, 10)).isTrue();
+        assertThat(cache.isCacheable(memberWithStatus(1L, OrderStatus.CREATED), 0, 20)).isTrue();
+        assertThat(cache.isCacheable(member(1L), 1, 10)).isFalse();
+        assertThat(cache.isCacheable(member(1L), 0, 50)).isFalse();
+        assertThat(cache.isCacheable(OrderSearchCondition.builder().build(), 0, 10)).isFalse();
+        assertThat(cache.isCacheable(OrderSearchCondition.builder().memberId(1L).minAmount(1_000L).build(), 0, 10)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장한 페이지는 역직렬화된 새 객체로 돌려주고, 상태 조건/크기가 다르면 다른 항목이다")
+    void putAndGet_RoundTrip() {
+        // given
+        cache.put(member(1L), 10, page(1L, 3), cache.version(1L));
+
+        // when
+        OrderListResponse hit = cache.get(member(1L), 10).orElseThrow();
+
+        // then
+        assertThat(hit.getOrders()).hasSize(3);
+        assertThat(hit.getOrders().get(0).getCreatedAt()).isEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+        assertThat(cache.get(member(1L), 20)).isEmpty();
+        assertThat(cache.get(memberWithStatus(1L, OrderStatus.CREATED), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회원 무효화는 그 회원 항목만 비운다")
+    void invalidate_OnlyThatMember() {
+        // given
+        cache.put(member(1L), 10, page(1L, 1), cache.version(1L));
+        cache.put(member(2L), 10, page(2L, 1), cache.version(2L));
+
+        // when
+        cache.invalidate(1L);
+
+        // then
+        assertThat(cache.get(member(1L), 10)).isEmpty();
+        assertThat(cache.get(member(2L), 10)).isPresent();
+    }
+
+    @Test
+    @DisplayName("조회 시작 후 무효화가 끼어들면 조회 결과를 저장하지 않는다")
+    void put_AfterConcurrentInvalidation_Dropped() {
+        // given: 조회 시작 시점 버전
+        long version = cache.version(1L);
+        cache.invalidate(1L);
+
+        // when
+        cache.put(member(1L), 10, page(1L, 1), version);
+
+        // then
+        assertThat(cache.get(member(1L), 10)).isEmpty();
+        assertThat(cache.entryCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("바이트 상한을 넘으면 오래 안 쓴 회원부터 제거한다")
+    void put_OverBudget_EvictsLeastRecentlyUsedMember() {
+        // given: 한 페이지 정도만 들어가는 상한
+        cache.put(member(1L), 10, page(1L, 5), cache.version(1L));
+        properties.setPageCacheMaxBytes(cache.totalBytes() + 10);
+        cache.put(member(2L), 10, page(2L, 5), cache.version(2L));
+
+        // then
+        assertThat(cache.get(member(1L), 10)).isEmpty();
+        assertThat(cache.get(member(2L), 10)).isPresent();
+        assertThat(cache.totalBytes()).isLessThanOrEqualTo(properties.getPageCacheMaxBytes());
+    }
+
+    @Test
+    @DisplayName("수명이 지난 항목은 조회되지 않는다")
+    void get_Expired_Miss() {
+        // given
+        properties.setPageCacheTtl(Duration.ZERO);
+        cache.put(member(1L), 10, page(1L, 1), cache.version(1L));
+
+        // when & then
+        assertThat(cache.get(member(1L), 10)).isEmpty();
+    }
+
+    private static OrderSearchCondition member(long memberId) {
+        return OrderSearchCondition.builder().memberId(memberId).build();
+    }
+
+    private static OrderSearchCondition memberWithStatus(long memberId, OrderStatus status) {
+        return OrderSearchCondition.builder().memberId(memberId).statuses(EnumSet.of(status)).build();
+    }
+
+    private static OrderListResponse page(long memberId, int count) {
+        List<OrderResponse> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orders.add(OrderResponse.builder()
+                    .id(memberId * 100 + i)
+                    .memberId(memberId)
+                    .totalAmount(10_000L)
+                    .status(OrderStatus.CREATED)
+                    .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0).minusMinutes(i))
+                    .updatedAt(LocalDateTime.of(2025, 1, 1, 0, 0).minusMinutes(i))
+                    .build());
+        }
+        return OrderListResponse.builder()
+                .orders(orders)
+                .totalCount(count)
+                .page(0)
+                .size(10)
+                .totalPages(1)
+                .build();
+    }
+}
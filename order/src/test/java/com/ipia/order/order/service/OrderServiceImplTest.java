@@ -14,27 +14,46 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import com.ipia.order.idempotency.service.IdempotencyKeyService;
+import com.ipia.order.inventory.service.InventoryService;
 
 import com.ipia.order.member.domain.Member;
 import com.ipia.order.member.service.MemberService;
+import com.ipia.order.order.accept.OrderAcceptCommand;
+import com.ipia.order.order.accept.OrderAcceptResult;
 import com.ipia.order.order.domain.Order;
+import com.ipia.order.order.domain.OrderLine;
 import com.ipia.order.order.domain.OrderTestBuilder;
 import com.ipia.order.order.enums.OrderStatus;
 import com.ipia.order.order.event.OrderCreatedEvent;
 import com.ipia.order.order.event.OrderPaidEvent;
+import com.ipia.order.order.history.MemberOrderHistoryReader;
 import com.ipia.order.order.repository.OrderRepository;
+import com.ipia.order.order.repository.OrderSearchCondition;
+import com.ipia.order.order.repository.OrderSummary;
+import com.ipia.order.order.enums.OrderSortKey;
+import com.ipia.order.common.exception.inventory.InventoryHandler;
+import com.ipia.order.common.exception.inventory.status.InventoryErrorStatus;
 import com.ipia.order.common.exception.order.OrderHandler;
 import com.ipia.order.common.exception.order.status.OrderErrorStatus;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 import com.ipia.order.web.dto.response.order.OrderListResponse;
+import com.ipia.order.web.dto.response.order.OrderMultiGetResponse;
 import com.ipia.order.web.dto.response.order.OrderResponse;
 
 import java.lang.reflect.Field;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.function.Supplier;
+import java.util.stream.LongStream;
 
 /**
  * OrderService 실패 케이스 테스트
@@ -45,6 +64,9 @@ import java.util.function.Supplier;
 @DisplayName("OrderService 실패 케이스 테스트")
 class OrderServiceImplTest {
 
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
     @Mock
     private OrderRepository orderRepository;
     
@@ -56,6 +78,12 @@ class OrderServiceImplTest {
     
     @Mock
     private IdempotencyKeyService idempotencyKeyService;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private MemberOrderHistoryReader memberOrderHistoryReader;
     
     @InjectMocks
     private OrderServiceImpl orderService;
@@ -296,8 +324,7 @@ class OrderServiceImplTest {
 
             given(memberService.findById(memberId))
                     .willReturn(Optional.of(validMember));
-            given(orderRepository.findByMemberIdAndStatus(memberId, status, 
-                    PageRequest.of(page, size)))
+            given(orderRepository.searchSummaries(any(Specification.class), eq(PageRequest.of(page, size, DEFAULT_SORT))))
                     .willReturn(new PageImpl<>(Collections.emptyList()));
 
             // when
@@ -315,7 +342,7 @@ class OrderServiceImplTest {
             int page = 0;
             int size = 20;
 
-            given(orderRepository.findAll(PageRequest.of(page, size)))
+            given(orderRepository.searchSummaries(any(Specification.class), eq(PageRequest.of(page, size, DEFAULT_SORT))))
                     .willReturn(new PageImpl<>(Collections.emptyList()));
 
             // when
@@ -334,8 +361,7 @@ class OrderServiceImplTest {
             int page = 1;
             int size = 5;
 
-            given(orderRepository.findByStatus(status, 
-                    PageRequest.of(page, size)))
+            given(orderRepository.searchSummaries(any(Specification.class), eq(PageRequest.of(page, size, DEFAULT_SORT))))
                     .willReturn(new PageImpl<>(Collections.emptyList()));
 
             // when
@@ -357,8 +383,7 @@ class OrderServiceImplTest {
 
             given(memberService.findById(memberId))
                     .willReturn(Optional.of(validMember));
-            given(orderRepository.findByMemberIdAndStatus(memberId, status, 
-                    PageRequest.of(page, size)))
+            given(orderRepository.searchSummaries(any(Specification.class), eq(PageRequest.of(page, size, DEFAULT_SORT))))
                     .willReturn(new PageImpl<>(Collections.emptyList()));
 
             // when
@@ -394,9 +419,8 @@ class OrderServiceImplTest {
 
             given(memberService.findById(memberId))
                     .willReturn(Optional.of(validMember));
-            given(orderRepository.findByMemberIdAndStatus(memberId, status, 
-                    PageRequest.of(page, size)))
-                    .willReturn(new PageImpl<>(expectedOrders));
+            given(orderRepository.searchSummaries(any(Specification.class), eq(PageRequest.of(page, size, DEFAULT_SORT))))
+                    .willReturn(new PageImpl<>(summaries(expectedOrders)));
 
             // when
             OrderListResponse result = orderService.listOrders(memberId, status.name(), page, size);
@@ -432,9 +456,8 @@ class OrderServiceImplTest {
 
             given(memberService.findById(memberId))
                     .willReturn(Optional.of(validMember));
-            given(orderRepository.findByMemberId(memberId, 
-                    PageRequest.of(page, size)))
-                    .willReturn(new PageImpl<>(expectedOrders));
+            given(orderRepository.searchSummaries(any(Specification.class), eq(PageRequest.of(page, size, DEFAULT_SORT))))
+                    .willReturn(new PageImpl<>(summaries(expectedOrders)));
 
             // when
             OrderListResponse result = orderService.listOrders(memberId, null, page, size);
@@ -468,9 +491,8 @@ class OrderServiceImplTest {
                     .build();
             List<Order> expectedOrders = List.of(order1, order2);
 
-            given(orderRepository.findByStatus(status, 
-                    PageRequest.of(page, size)))
-                    .willReturn(new PageImpl<>(expectedOrders));
+            given(orderRepository.searchSummaries(any(Specification.class), eq(PageRequest.of(page, size, DEFAULT_SORT))))
+                    .willReturn(new PageImpl<>(summaries(expectedOrders)));
 
             // when
             OrderListResponse result = orderService.listOrders(null, status.name(), page, size);
@@ -509,8 +531,8 @@ class OrderServiceImplTest {
                     .build();
             List<Order> expectedOrders = List.of(order1, order2, order3);
 
-            given(orderRepository.findAll(PageRequest.of(page, size)))
-                    .willReturn(new PageImpl<>(expectedOrders));
+            given(orderRepository.searchSummaries(any(Specification.class), eq(PageRequest.of(page, size, DEFAULT_SORT))))
+                    .willReturn(new PageImpl<>(summaries(expectedOrders)));
 
             // when
             OrderListResponse result = orderService.listOrders(null, null, page, size);
@@ -523,6 +545,184 @@ class OrderServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("getOrders")
+    class GetOrdersTest {
+
+        @Test
+        @DisplayName("요청 순서대로 반환하고 조회되지 않은 ID는 not-found로 표시한다")
+        void getOrders_PreservesRequestOrderWithNotFoundMarkers() {
+            // given
+            Long memberId = 1L;
+            Order order1 = OrderTestBuilder.builder().id(1L).memberId(memberId).totalAmount(10000L).build();
+            Order order3 = OrderTestBuilder.builder().id(3L).memberId(memberId).totalAmount(30000L).build();
+            given(orderRepository.findByIdInAndMemberId(any(), eq(memberId)))
+                    .willReturn(List.of(order1, order3));
+
+            // when
+            OrderMultiGetResponse result = orderService.getOrders(List.of(3L, 2L, 1L, 3L), memberId);
+
+            // then
+            assertThat(result.getRequestedCount()).isEqualTo(4);
+            assertThat(result.getFoundCount()).isEqualTo(3);
+            assertThat(result.getItems()).extracting(OrderMultiGetResponse.Item::getOrderId)
+                    .containsExactly(3L, 2L, 1L, 3L);
+            assertThat(result.getItems()).extracting(OrderMultiGetResponse.Item::isFound)
+                    .containsExactly(true, false, true, true);
+            assertThat(result.getItems().get(1).getCode()).isEqualTo(OrderErrorStatus.ORDER_NOT_FOUND.getCode());
+            assertThat(result.getItems().get(1).getOrder()).isNull();
+
+            // 중복 ID는 한 번만 조회
+            ArgumentCaptor<Collection<Long>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+            verify(orderRepository).findByIdInAndMemberId(idsCaptor.capture(), eq(memberId));
+            assertThat(idsCaptor.getValue()).containsExactly(3L, 2L, 1L);
+        }
+
+        @Test
+        @DisplayName("요청 회원이 없으면(관리자) 소유자 조건 없이 조회한다")
+        void getOrders_WithoutRequester_LoadsAllById() {
+            // given
+            Order order = OrderTestBuilder.builder().id(5L).memberId(9L).totalAmount(10000L).build();
+            given(orderRepository.findAllById(any())).willReturn(List.of(order));
+
+            // when
+            OrderMultiGetResponse result = orderService.getOrders(List.of(5L), null);
+
+            // then
+            assertThat(result.getFoundCount()).isEqualTo(1);
+            verify(orderRepository, never()).findByIdInAndMemberId(any(), any());
+        }
+
+        @Test
+        @DisplayName("최대 개수를 초과하면 INVALID_MULTI_GET_REQUEST 예외")
+        void getOrders_WithTooManyIds_ThrowsInvalidRequest() {
+            // given
+            List<Long> ids = LongStream.rangeClosed(1, OrderServiceImpl.MAX_MULTI_GET_IDS + 1)
+                    .boxed()
+                    .toList();
+
+            // when & then
+            assertThatThrownBy(() -> orderService.getOrders(ids, 1L))
+                    .isInstanceOf(OrderHandler.class)
+                    .hasMessage(OrderErrorStatus.INVALID_MULTI_GET_REQUEST.getCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("searchOrders")
+    class SearchOrdersTest {
+
+        @Test
+        @DisplayName("생성일 시작이 끝보다 같거나 늦으면 INVALID_FILTER_RANGE 예외")
+        void searchOrders_WithInvertedDateRange_ThrowsInvalidFilterRange() {
+            // given
+            LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+            OrderSearchCondition condition = OrderSearchCondition.builder()
+                    .createdFrom(now)
+                    .createdTo(now.minusDays(1))
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> orderService.searchOrders(condition, 0, 10))
+                    .isInstanceOf(OrderHandler.class)
+                    .hasMessage(OrderErrorStatus.INVALID_FILTER_RANGE.getCode());
+            verify(orderRepository, never()).searchSummaries(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("최소 금액이 최대 금액보다 크면 INVALID_FILTER_RANGE 예외")
+        void searchOrders_WithInvertedAmountRange_ThrowsInvalidFilterRange() {
+            // given
+            OrderSearchCondition condition = OrderSearchCondition.builder()
+                    .minAmount(50_000L)
+                    .maxAmount(10_000L)
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> orderService.searchOrders(condition, 0, 10))
+                    .isInstanceOf(OrderHandler.class)
+                    .hasMessage(OrderErrorStatus.INVALID_FILTER_RANGE.getCode());
+        }
+
+        @Test
+        @DisplayName("정렬 기준과 방향이 페이지 요청에 반영되고 id 보조 정렬이 붙는다")
+        void searchOrders_AppliesSortWithIdTiebreak() {
+            // given
+            OrderSearchCondition condition = OrderSearchCondition.builder()
+                    .statuses(OrderSearchCondition.parseStatuses("created, confirmed"))
+                    .minAmount(10_000L)
+                    .sortKey(OrderSortKey.TOTAL_AMOUNT)
+                    .direction(Sort.Direction.ASC)
+                    .build();
+            given(orderRepository.searchSummaries(any(Specification.class), any(Pageable.class)))
+                    .willReturn(new PageImpl<>(Collections.emptyList()));
+
+            // when
+            orderService.searchOrders(condition, 2, 15);
+
+            // then
+            ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+            verify(orderRepository).searchSummaries(any(Specification.class), pageableCaptor.capture());
+            Pageable pageable = pageableCaptor.getValue();
+            assertThat(pageable.getPageNumber()).isEqualTo(2);
+            assertThat(pageable.getPageSize()).isEqualTo(15);
+            assertThat(pageable.getSort()).isEqualTo(Sort.by(Sort.Direction.ASC, "totalAmount")
+                    .and(Sort.by(Sort.Direction.ASC, "id")));
+            assertThat(condition.getStatuses()).containsExactlyInAnyOrder(OrderStatus.CREATED, OrderStatus.CONFIRMED);
+        }
+
+        @Test
+        @DisplayName("회원 필터만 있는 최신순 조회는 읽기 모델이 제공하면 orders를 조회하지 않는다")
+        void searchOrders_MemberHistoryOnly_ServedFromReadModel() {
+            // given
+            given(memberService.findById(1L)).willReturn(Optional.of(validMember));
+            OrderListResponse fromView = OrderListResponse.builder()
+                    .orders(List.of(OrderResponse.from(validOrder)))
+                    .totalCount(1)
+                    .page(0)
+                    .size(10)
+                    .totalPages(1)
+                    .build();
+            given(memberOrderHistoryReader.findPage(1L, 0, 10)).willReturn(Optional.of(fromView));
+
+            // when
+            OrderListResponse response = orderService.searchOrders(
+                    OrderSearchCondition.builder().memberId(1L).build(), 0, 10);
+
+            // then
+            assertThat(response).isSameAs(fromView);
+            verify(orderRepository, never()).searchSummaries(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("읽기 모델이 제공하지 않거나 다른 필터가 있으면 orders를 조회한다")
+        void searchOrders_FallsBackToOrders() {
+            // given
+            given(memberService.findById(1L)).willReturn(Optional.of(validMember));
+            given(memberOrderHistoryReader.findPage(1L, 0, 10)).willReturn(Optional.empty());
+            given(orderRepository.searchSummaries(any(Specification.class), any(Pageable.class)))
+                    .willReturn(new PageImpl<>(summaries(List.of(validOrder))));
+
+            // when
+            orderService.searchOrders(OrderSearchCondition.builder().memberId(1L).build(), 0, 10);
+            orderService.searchOrders(OrderSearchCondition.builder().memberId(1L)
+                    .statuses(OrderSearchCondition.parseStatuses("CREATED")).build(), 0, 10);
+
+            // then
+            verify(memberOrderHistoryReader, times(1)).findPage(anyLong(), anyInt(), anyInt());
+            verify(orderRepository, times(2)).searchSummaries(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("쉼표 구분 상태 중 하나라도 알 수 없으면 INVALID_FILTER 예외")
+        void listOrders_WithUnknownStatusInList_ThrowsInvalidFilter() {
+            // when & then
+            assertThatThrownBy(() -> orderService.listOrders(null, "CREATED,PENDING", 0, 10))
+                    .isInstanceOf(OrderHandler.class)
+                    .hasMessage(OrderErrorStatus.INVALID_FILTER.getCode());
+        }
+    }
+
     @Nested
     @DisplayName("cancelOrder")
     class CancelOrderTest {
@@ -663,6 +863,162 @@ class OrderServiceImplTest {
 
     
 
+    @Nested
+    @DisplayName("createOrderWithLines")
+    class CreateOrderWithLinesTest {
+
+        @Test
+        @DisplayName("총액은 라인 합계로 계산되어 저장된다")
+        void createOrderWithLines_DerivesTotalFromLines() {
+            // given
+            long memberId = 1L;
+            given(memberService.findById(memberId)).willReturn(Optional.of(validMember));
+            given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+            List<OrderLine> lines = List.of(
+                    OrderLine.of("SKU-1", "상품1", 1_000L, 3),
+                    OrderLine.of("SKU-2", null, 2_500L, 2));
+
+            // when
+            Order result = orderService.createOrderWithLines(memberId, lines, null, null);
+
+            // then
+            assertThat(result.getTotalAmount()).isEqualTo(8_000L);
+            assertThat(result.getLines()).extracting(OrderLine::getLineNo).containsExactly(1, 2);
+            verify(eventPublisher).publishEvent(any(OrderCreatedEvent.class));
+            verify(inventoryService).reserve(Map.of("SKU-1", 3, "SKU-2", 2));
+        }
+
+        @Test
+        @DisplayName("같은 SKU 라인은 수량을 합산해 한 번에 예약한다")
+        void createOrderWithLines_MergesQuantitiesPerSku() {
+            // given
+            long memberId = 1L;
+            given(memberService.findById(memberId)).willReturn(Optional.of(validMember));
+            given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+            List<OrderLine> lines = List.of(
+                    OrderLine.of("SKU-1", null, 1_000L, 1),
+                    OrderLine.of("SKU-1", null, 900L, 2));
+
+            // when
+            orderService.createOrderWithLines(memberId, lines, null, null);
+
+            // then
+            verify(inventoryService).reserve(Map.of("SKU-1", 3));
+        }
+
+        @Test
+        @DisplayName("재고가 실제로 예약된 SKU의 라인만 예약 표시한다")
+        void createOrderWithLines_MarksOnlyReservedLines() {
+            // given
+            long memberId = 1L;
+            given(memberService.findById(memberId)).willReturn(Optional.of(validMember));
+            given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(inventoryService.reserve(any())).willReturn(Map.of("SKU-1", 3));
+            List<OrderLine> lines = List.of(
+                    OrderLine.of("SKU-1", null, 1_000L, 3),
+                    OrderLine.of("SKU-UNTRACKED", null, 2_500L, 2));
+
+            // when
+            Order result = orderService.createOrderWithLines(memberId, lines, null, null);
+
+            // then
+            assertThat(result.getLines()).extracting(OrderLine::getSku, OrderLine::getStockReserved)
+                    .containsExactly(tuple("SKU-1", true), tuple("SKU-UNTRACKED", false));
+        }
+
+        @Test
+        @DisplayName("재고가 부족하면 OUT_OF_STOCK 예외이며 주문을 저장하지 않는다")
+        void createOrderWithLines_OutOfStock_ThrowsException() {
+            // given
+            long memberId = 1L;
+            given(memberService.findById(memberId)).willReturn(Optional.of(validMember));
+            given(inventoryService.reserve(any())).willThrow(new InventoryHandler(InventoryErrorStatus.OUT_OF_STOCK));
+            List<OrderLine> lines = List.of(OrderLine.of("SKU-HOT", "한정판", 10_000L, 1));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createOrderWithLines(memberId, lines, null, null))
+                    .isInstanceOf(InventoryHandler.class)
+                    .hasMessage(InventoryErrorStatus.OUT_OF_STOCK.getCode());
+            verify(orderRepository, never()).save(any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("요청 총액이 라인 합계와 다르면 ORDER_TOTAL_MISMATCH 예외")
+        void createOrderWithLines_WithMismatchedTotal_ThrowsException() {
+            // given
+            long memberId = 1L;
+            given(memberService.findById(memberId)).willReturn(Optional.of(validMember));
+            List<OrderLine> lines = List.of(OrderLine.of("SKU-1", "상품1", 1_000L, 3));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createOrderWithLines(memberId, lines, 5_000L, null))
+                    .isInstanceOf(OrderHandler.class)
+                    .hasMessage(OrderErrorStatus.ORDER_TOTAL_MISMATCH.getCode());
+            verify(orderRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("persistAccepted")
+    class PersistAcceptedTest {
+
+        @Test
+        @DisplayName("이미 저장된 추적 ID는 건너뛰고, 검증 실패 명령은 거절하며, 나머지는 한 번에 저장한다")
+        void persistAccepted_SavesValidCommandsInOneBatch() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            List<OrderAcceptCommand> commands = List.of(
+                    new OrderAcceptCommand("t-dup", 1L, 10_000L, null, now),
+                    new OrderAcceptCommand("t-ok", 1L, 10_000L, null, now),
+                    new OrderAcceptCommand("t-lines", 1L, null,
+                            List.of(new OrderAcceptCommand.Line("SKU-1", null, 2_000L, 2)), now),
+                    new OrderAcceptCommand("t-no-member", 2L, 10_000L, null, now));
+            given(orderRepository.findAcceptanceIdsIn(anyCollection())).willReturn(List.of("t-dup"));
+            given(memberService.findById(1L)).willReturn(Optional.of(validMember));
+            given(memberService.findById(2L)).willReturn(Optional.empty());
+            given(orderRepository.saveAll(anyList())).willAnswer(invocation -> {
+                List<Order> orders = invocation.getArgument(0);
+                long id = 100L;
+                for (Order order : orders) {
+                    ReflectionTestUtils.setField(order, "id", id++);
+                }
+                return orders;
+            });
+
+            // when
+            List<OrderAcceptResult> results = orderService.persistAccepted(commands);
+
+            // then
+            assertThat(results).extracting(OrderAcceptResult::trackingId, OrderAcceptResult::orderId, OrderAcceptResult::errorCode)
+                    .containsExactlyInAnyOrder(
+                            tuple("t-no-member", null, OrderErrorStatus.MEMBER_NOT_FOUND.getCode()),
+                            tuple("t-ok", 100L, null),
+                            tuple("t-lines", 101L, null));
+            verify(orderRepository, times(1)).saveAll(anyList());
+            verify(orderRepository, never()).save(any());
+            verify(eventPublisher, times(2)).publishEvent(any(OrderCreatedEvent.class));
+            verify(inventoryService).reserve(Map.of("SKU-1", 2));
+        }
+
+        @Test
+        @DisplayName("재고 예약이 일시 장애로 실패하면 거절하지 않고 예외를 던져 명령을 남긴다")
+        void persistAccepted_WhenInventoryUnavailable_Rethrows() {
+            // given
+            List<OrderAcceptCommand> commands = List.of(new OrderAcceptCommand("t-lines", 1L, null,
+                    List.of(new OrderAcceptCommand.Line("SKU-1", null, 2_000L, 2)), LocalDateTime.now()));
+            given(orderRepository.findAcceptanceIdsIn(anyCollection())).willReturn(List.of());
+            given(memberService.findById(1L)).willReturn(Optional.of(validMember));
+            given(inventoryService.reserve(anyMap())).willThrow(new InventoryHandler(InventoryErrorStatus.INVENTORY_UNAVAILABLE));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.persistAccepted(commands))
+                    .isInstanceOf(InventoryHandler.class)
+                    .hasMessage(InventoryErrorStatus.INVENTORY_UNAVAILABLE.getCode());
+            verify(orderRepository, never()).saveAll(anyList());
+        }
+    }
+
     @Nested
     @DisplayName("handlePaymentApproved")
     class HandlePaymentApprovedTest {
@@ -796,4 +1152,11 @@ class OrderServiceImplTest {
             assertThat(capturedEvent.getOrderId()).isEqualTo(orderId);
             assertThat(capturedEvent.getPaidAmount()).isEqualTo(createdOrder.getTotalAmount());
         }
+
+    private static List<OrderSummary> summaries(List<Order> orders) {
+        return orders.stream()
+                .map(order -> new OrderSummary(order.getId(), order.getMemberId(), order.getTotalAmount(),
+                        order.getStatus(), order.getCreatedAt(), order.getUpdatedAt()))
+                .toList();
+    }
 }
@@ -0,0 +1,69 @@
+package com.ipia.order.order.stream;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.event.OrderCreatedEvent;
+import com.ipia.order.order.event.OrderPaidEvent;
+import com.ipia.order.order.event.OrderStatusBulkChangedEvent;
+import com.ipia.order.order.repository.OrderRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderListCacheInvalidationListener 목록 캐시 무효화 전파 테스트")
+class OrderListCacheInvalidationListenerTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderStatusBroadcaster broadcaster;
+
+    @InjectMocks
+    private OrderListCacheInvalidationListener listener;
+
+    @Test
+    @DisplayName("주문 생성 이벤트는 그 회원의 무효화를 전파한다")
+    void orderCreated_BroadcastsMember() {
+        // when
+        listener.onOrderCreated(OrderCreatedEvent.of(100L, 1L, 10_000L));
+
+        // then
+        verify(broadcaster).broadcastListInvalidation(1L);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("결제 이벤트는 이벤트에 실린 회원의 무효화를 조회 없이 전파한다")
+    void orderPaid_BroadcastsOwner() {
+        // when
+        listener.onOrderPaid(OrderPaidEvent.of(100L, 1L, 10_000L));
+
+        // then
+        verify(broadcaster).broadcastListInvalidation(1L);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("회원 조회가 실패해도 예외를 전파하지 않는다")
+    void bulkChanged_LookupFails_Swallowed() {
+        // given
+        given(orderRepository.findMemberIdsByIdIn(List.of(100L, 101L))).willThrow(new IllegalStateException("db down"));
+
+        // when
+        listener.onOrderStatusBulkChanged(OrderStatusBulkChangedEvent.of(
+                List.of(100L, 101L), OrderStatus.CONFIRMED, OrderStatus.FULFILLMENT_STARTED, LocalDateTime.now()));
+
+        // then
+        verifyNoInteractions(broadcaster);
+    }
+}
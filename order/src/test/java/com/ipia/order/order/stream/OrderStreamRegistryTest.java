@@ -0,0 +1,101 @@
+package com.ipia.order.order.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ipia.order.order.config.OrderStreamProperties;
+import com.ipia.order.order.enums.OrderStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("OrderStreamRegistry 테스트")
+class OrderStreamRegistryTest {
+
+    private OrderStreamProperties properties;
+    private OrderStreamRegistry registry;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrderStreamProperties();
+        properties.setMaxEmittersPerMember(2);
+        registry = new OrderStreamRegistry(properties, new ObjectMapper().registerModule(new JavaTimeModule()));
+        meterRegistry = new SimpleMeterRegistry();
+        registry.bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("회원당 최대 구독 수를 넘으면 가장 오래된 연결을 정리한다")
+    void subscribe_EvictsOldestBeyondLimit() {
+        // when
+        registry.subscribe(1L);
+        registry.subscribe(1L);
+        registry.subscribe(1L);
+        registry.subscribe(2L);
+
+        // then
+        assertThat(registry.getSubscriberCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("order.stream.subscribers").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("상태 변경은 해당 회원의 연결에만 전달된다")
+    void deliver_OnlyToTargetMember() {
+        // given
+        SseEmitter member1 = registry.subscribe(1L);
+        registry.subscribe(2L);
+
+        // when
+        registry.deliver(OrderStatusMessage.of(10L, 1L, OrderStatus.CONFIRMED, LocalDateTime.now()));
+        registry.deliver(OrderStatusMessage.of(11L, 3L, OrderStatus.CANCELED, LocalDateTime.now()));
+
+        // then
+        assertThat(member1).isNotNull();
+        assertThat(meterRegistry.get("order.stream.delivered").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("order.stream.dropped").functionCounter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("완료된 연결로 전달하면 정리되고 dropped로 집계된다")
+    void deliver_ToCompletedEmitter_RemovesIt() {
+        // given
+        SseEmitter emitter = registry.subscribe(1L);
+        emitter.complete();
+
+        // when
+        registry.deliver(OrderStatusMessage.of(10L, 1L, OrderStatus.CONFIRMED, LocalDateTime.now()));
+
+        // then
+        assertThat(registry.getSubscriberCount()).isZero();
+        assertThat(meterRegistry.get("order.stream.dropped").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("heartbeat는 전용 스레드에서 보내고 끊어진 연결을 정리한다")
+    void heartbeat_SendsOffSchedulerThread_RemovesClosed() throws InterruptedException {
+        // given
+        registry.subscribe(1L);
+        SseEmitter closed = registry.subscribe(2L);
+        closed.complete();
+
+        // when
+        registry.heartbeat();
+
+        // then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.getSubscriberCount() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(registry.getSubscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("order.stream.dropped").functionCounter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ipia.order.order.stream;
+
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipia.order.order.service.OrderListPageCache;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisOrderStatusBroadcaster 목록 캐시 무효화 전파 테스트")
+class RedisOrderStatusBroadcasterTest {
+
+    private static final String LIST_CHANNEL = "order:list-invalidate";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private OrderStreamRegistry registry;
+
+    @Mock
+    private OrderListPageCache pageCache;
+
+    private RedisOrderStatusBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new RedisOrderStatusBroadcaster(stringRedisTemplate, new ObjectMapper(), registry, pageCache,
+                "order:status", LIST_CHANNEL);
+    }
+
+    @Test
+    @DisplayName("무효화는 이 노드에서 바로 비우고 다른 노드를 위해 회원 ID를 발행한다")
+    void broadcastListInvalidation_InvalidatesLocallyAndPublishes() {
+        // when
+        broadcaster.broadcastListInvalidation(1L);
+
+        // then
+        verify(pageCache).invalidate(1L);
+        verify(stringRedisTemplate).convertAndSend(LIST_CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("발행이 실패해도 이 노드의 항목은 비운다")
+    void broadcastListInvalidation_PublishFails_StillInvalidatesLocally() {
+        // given
+        given(stringRedisTemplate.convertAndSend(LIST_CHANNEL, "1")).willThrow(new IllegalStateException("redis down"));
+
+        // when
+        broadcaster.broadcastListInvalidation(1L);
+
+        // then
+        verify(pageCache).invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("무효화 채널 메시지를 받으면 그 회원 항목을 비우고 상태 스트림에는 전달하지 않는다")
+    void onMessage_ListInvalidation_InvalidatesMember() {
+        // when
+        broadcaster.onMessage(new DefaultMessage(
+                LIST_CHANNEL.getBytes(StandardCharsets.UTF_8), "42".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        verify(pageCache).invalidate(42L);
+        verifyNoInteractions(registry);
+    }
+}
@@ -9,6 +9,9 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -381,4 +384,17 @@ class PaymentTest {
             assertThat(payment.isRefunded()).isTrue();
         }
     }
+
+    @Test
+    @DisplayName("결제 상태 전이 행렬이 기대 규칙과 일치한다")
+    void transitionMatrixMatchesRules() {
+        Map<PaymentStatus, Set<PaymentStatus>> expected = Map.of(
+                PaymentStatus.PENDING, EnumSet.of(PaymentStatus.APPROVED),
+                PaymentStatus.APPROVED, EnumSet.of(PaymentStatus.CANCELED),
+                PaymentStatus.CANCELED, EnumSet.of(PaymentStatus.REFUNDED),
+                PaymentStatus.REFUNDED, EnumSet.noneOf(PaymentStatus.class)
+        );
+
+        assertThat(PaymentStateMachine.RULES.matrix()).isEqualTo(expected);
+    }
 }
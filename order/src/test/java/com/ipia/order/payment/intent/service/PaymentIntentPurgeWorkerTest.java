@@ -0,0 +1,129 @@
+package com.ipia.order.payment.intent.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.common.scheduling.SchedulerLeaseLock;
+import com.ipia.order.payment.config.PaymentIntentProperties;
+import com.ipia.order.payment.intent.repository.PaymentIntentRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentIntentPurgeWorker 만료 의도 정리 테스트")
+class PaymentIntentPurgeWorkerTest {
+
+    @Mock
+    private PaymentIntentRepository paymentIntentRepository;
+
+    @Mock
+    private SchedulerLeaseLock schedulerLeaseLock;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PaymentIntentProperties properties;
+    private PaymentIntentPurgeWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PaymentIntentProperties();
+        properties.setPurgeBatchSize(2);
+        properties.setPurgeMaxBatchesPerRun(3);
+        worker = new PaymentIntentPurgeWorker(paymentIntentRepository, schedulerLeaseLock, transactionTemplate, properties);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치가 이어지면 다음 배치를 이어서 지우고, 덜 찬 배치에서 멈춘다")
+    void purge_StopsAtPartialBatch() {
+        // given
+        given(schedulerLeaseLock.tryAcquire(eq(PaymentIntentPurgeWorker.LEASE_NAME), any(Duration.class))).willReturn(true);
+        given(paymentIntentRepository.findExpiredIntentIds(any(), any(Pageable.class)))
+                .willReturn(List.of("i-1", "i-2"), List.of("i-3"));
+        given(paymentIntentRepository.deleteExpiredByIntentIdIn(anyList(), any())).willReturn(2, 1);
+
+        // when
+        int purged = worker.purgeExpiredIntents();
+
+        // then
+        assertThat(purged).isEqualTo(3);
+        verify(paymentIntentRepository, times(2)).deleteExpiredByIntentIdIn(anyList(), any());
+        verify(schedulerLeaseLock).release(PaymentIntentPurgeWorker.LEASE_NAME);
+    }
+
+    @Test
+    @DisplayName("한 번 실행에서 최대 배치 수까지만 지운다")
+    void purge_BoundedByMaxBatches() {
+        // given
+        given(schedulerLeaseLock.tryAcquire(eq(PaymentIntentPurgeWorker.LEASE_NAME), any(Duration.class))).willReturn(true);
+        given(paymentIntentRepository.findExpiredIntentIds(any(), any(Pageable.class))).willReturn(List.of("a", "b"));
+        given(paymentIntentRepository.deleteExpiredByIntentIdIn(anyList(), any())).willReturn(2);
+
+        // when
+        int purged = worker.purgeExpiredIntents();
+
+        // then
+        assertThat(purged).isEqualTo(6);
+        verify(paymentIntentRepository, times(3)).findExpiredIntentIds(any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("조회한 뒤 사용된 의도가 있으면 조회 수로 다음 배치를 이어가고 실제 삭제 수만 보고한다")
+    void purge_ReportsDeletedNotRead() {
+        // given
+        given(schedulerLeaseLock.tryAcquire(eq(PaymentIntentPurgeWorker.LEASE_NAME), any(Duration.class))).willReturn(true);
+        given(paymentIntentRepository.findExpiredIntentIds(any(), any(Pageable.class)))
+                .willReturn(List.of("i-1", "i-2"), List.of("i-3"));
+        given(paymentIntentRepository.deleteExpiredByIntentIdIn(anyList(), any())).willReturn(1, 1);
+
+        // when
+        int purged = worker.purgeExpiredIntents();
+
+        // then
+        assertThat(purged).isEqualTo(2);
+        verify(paymentIntentRepository, times(2)).findExpiredIntentIds(any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대 중이면 아무것도 하지 않는다")
+    void purge_LeaseHeldElsewhere_Skips() {
+        // given
+        given(schedulerLeaseLock.tryAcquire(eq(PaymentIntentPurgeWorker.LEASE_NAME), any(Duration.class))).willReturn(false);
+
+        // when
+        int purged = worker.purgeExpiredIntents();
+
+        // then
+        assertThat(purged).isZero();
+        verifyNoInteractions(paymentIntentRepository);
+        verify(schedulerLeaseLock, never()).release(anyString());
+    }
+
+    @Test
+    @DisplayName("배치가 실패해도 임대를 반납한다")
+    void purge_Failure_ReleasesLease() {
+        // given
+        given(schedulerLeaseLock.tryAcquire(eq(PaymentIntentPurgeWorker.LEASE_NAME), any(Duration.class))).willReturn(true);
+        given(paymentIntentRepository.findExpiredIntentIds(any(), any(Pageable.class))).willThrow(new RuntimeException("db down"));
+
+        // when
+        int purged = worker.purgeExpiredIntents();
+
+        // then
+        assertThat(purged).isZero();
+        verify(schedulerLeaseLock).release(PaymentIntentPurgeWorker.LEASE_NAME);
+    }
+}
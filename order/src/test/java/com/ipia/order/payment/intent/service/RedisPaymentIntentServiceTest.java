@@ -0,0 +1,145 @@
+package com.ipia.order.payment.intent.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.ipia.order.payment.intent.service.PaymentIntentService.PaymentIntentData;
+
+/**
+ * 실제 Redis에서 저장/사용 스크립트와 TTL 동작을 검증 (Docker가 없으면 건너뛴다)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisPaymentIntentService Redis 스크립트 테스트")
+class RedisPaymentIntentServiceTest {
+
+    private static final String KEY_PREFIX = "payment:intent:";
+    private static final int CONSUMERS = 8;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private RedisPaymentIntentService paymentIntentService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+        paymentIntentService = new RedisPaymentIntentService(stringRedisTemplate, KEY_PREFIX);
+    }
+
+    @Test
+    @DisplayName("저장한 모든 필드가 조회/사용 시 그대로 복원되고 TTL이 걸린다")
+    void store_RoundTripsAllFields() {
+        // given
+        PaymentIntentData expected = new PaymentIntentData("intent-1", 42L, new BigDecimal("12500.50"),
+                "https://shop.example/success?order=42", "https://shop.example/fail", "idem-key-1");
+
+        // when
+        store(expected, 600);
+
+        // then
+        assertThat(stringRedisTemplate.getExpire(KEY_PREFIX + "intent-1", TimeUnit.SECONDS)).isBetween(1L, 600L);
+        assertThat(paymentIntentService.get("intent-1")).isEqualTo(expected);
+        assertThat(paymentIntentService.consume("intent-1")).isEqualTo(expected);
+        assertThat(stringRedisTemplate.hasKey(KEY_PREFIX + "intent-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 의도를 동시에 사용하면 한 요청만 받는다")
+    void consume_Concurrently_OnlyOneWinner() throws Exception {
+        // given
+        PaymentIntentData intent = new PaymentIntentData("intent-race", 7L, new BigDecimal("1000"),
+                "https://shop.example/success", "https://shop.example/fail", "idem-key-race");
+        store(intent, 600);
+        ExecutorService executor = Executors.newFixedThreadPool(CONSUMERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PaymentIntentData>> results = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < CONSUMERS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return paymentIntentService.consume("intent-race");
+                }));
+            }
+            start.countDown();
+
+            // then
+            List<PaymentIntentData> consumed = new ArrayList<>();
+            for (Future<PaymentIntentData> result : results) {
+                consumed.add(result.get(10, TimeUnit.SECONDS));
+            }
+            assertThat(consumed.stream().filter(Objects::nonNull).toList()).containsExactly(intent);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 조회/사용 모두 null을 반환한다")
+    void consume_AfterExpiry_ReturnsNull() throws InterruptedException {
+        // given
+        PaymentIntentData intent = new PaymentIntentData("intent-expiring", 9L, new BigDecimal("500"),
+                "https://shop.example/success", "https://shop.example/fail", "idem-key-expiring");
+        store(intent, 1);
+
+        // when
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + "intent-expiring"))
+                && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        // then
+        assertThat(paymentIntentService.get("intent-expiring")).isNull();
+        assertThat(paymentIntentService.consume("intent-expiring")).isNull();
+    }
+
+    private void store(PaymentIntentData intent, long ttlSeconds) {
+        paymentIntentService.store(intent.intentId(), intent.orderId(), intent.amount(),
+                intent.successUrl(), intent.failUrl(), intent.idempotencyKey(), ttlSeconds);
+    }
+}
@@ -0,0 +1,141 @@
+package com.ipia.order.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.ipia.order.idempotency.service.IdempotencyKeyService;
+import com.ipia.order.order.service.OrderService;
+import com.ipia.order.payment.domain.Payment;
+import com.ipia.order.payment.intent.service.PaymentIntentService;
+import com.ipia.order.payment.intent.service.PaymentIntentService.PaymentIntentData;
+import com.ipia.order.payment.repository.PaymentRepository;
+import com.ipia.order.payment.service.external.TossConfirmResponse;
+import com.ipia.order.payment.service.external.TossPaymentClient;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 승인 동시 부하 시 DB 커넥션 점유 검증
+ *
+ * Toss 승인이 응답하지 않는 동안 커넥션 풀 크기보다 많은 승인 요청을 동시에 진행시키고,
+ * 모든 요청이 Toss 대기 상태에 도달하는지와 그때의 활성 커넥션 수를 확인한다.
+ * (승인 전체가 하나의 트랜잭션이면 풀 크기만큼만 Toss에 도달하고 나머지는 커넥션 대기로 멈춘다)
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class PaymentApprovalConnectionLoadTest {
+
+    private static final int CONCURRENT_APPROVALS = 40;
+    private static final long ORDER_ID_BASE = 900_000L;
+    private static final BigDecimal AMOUNT = new BigDecimal("10000");
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoBean
+    private TossPaymentClient tossPaymentClient;
+
+    @MockitoBean
+    private PaymentIntentService paymentIntentService;
+
+    @MockitoBean
+    private OrderService orderService;
+
+    @MockitoBean
+    private IdempotencyKeyService idempotencyKeyService;
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Toss 응답 대기 중에는 커넥션을 잡지 않아 풀 크기보다 많은 승인이 동시에 진행된다")
+    void approvalsWaitingOnToss_holdNoConnections() throws Exception {
+        // given
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        int poolSize = hikari.getMaximumPoolSize();
+        assertThat(CONCURRENT_APPROVALS).isGreaterThan(poolSize);
+
+        CountDownLatch waitingOnToss = new CountDownLatch(CONCURRENT_APPROVALS);
+        CountDownLatch tossResponds = new CountDownLatch(1);
+        given(tossPaymentClient.confirm(anyString(), anyString(), any(), anyString())).willAnswer(inv -> {
+            waitingOnToss.countDown();
+            tossResponds.await(30, TimeUnit.SECONDS);
+            return new TossConfirmResponse(inv.getArgument(0), inv.getArgument(1), inv.getArgument(2));
+        });
+        given(paymentIntentService.get(anyString())).willAnswer(inv -> {
+            String intentId = inv.getArgument(0);
+            long orderId = Long.parseLong(intentId.substring("intent-".length()));
+            return new PaymentIntentData(intentId, orderId, AMOUNT, "http://success", "http://fail", "idem-" + orderId);
+        });
+        given(idempotencyKeyService.executeWithIdempotency(any(), any(), any(), any()))
+                .willAnswer(inv -> ((Supplier<?>) inv.getArgument(3)).get());
+
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENT_APPROVALS);
+        List<Future<Long>> results = new ArrayList<>();
+        long startedAt = System.nanoTime();
+
+        // when
+        for (int i = 0; i < CONCURRENT_APPROVALS; i++) {
+            long orderId = ORDER_ID_BASE + i;
+            results.add(callers.submit(() -> paymentService.approve(
+                    "intent-" + orderId, "paymentKey-" + orderId, orderId, AMOUNT, "idem-" + orderId)));
+        }
+
+        // then: 모든 승인이 Toss 대기 중일 때 활성 커넥션 수
+        try {
+            assertThat(waitingOnToss.await(20, TimeUnit.SECONDS))
+                    .as("풀 크기(%d)보다 많은 승인(%d)이 동시에 Toss 대기에 도달", poolSize, CONCURRENT_APPROVALS)
+                    .isTrue();
+            int activeWhileWaiting = hikari.getHikariPoolMXBean().getActiveConnections();
+            log.info("[Bench] Toss 대기 중 활성 커넥션: active={}, pool={}, inFlight={}",
+                    activeWhileWaiting, poolSize, CONCURRENT_APPROVALS);
+            // 스케줄 작업이 잠깐 쓰는 커넥션은 있을 수 있으나 승인 요청은 하나도 잡지 않는다
+            assertThat(activeWhileWaiting).isLessThan(poolSize);
+        } finally {
+            tossResponds.countDown();
+        }
+
+        for (Future<Long> result : results) {
+            assertThat(result.get(30, TimeUnit.SECONDS)).isNotNull();
+        }
+        callers.shutdown();
+        log.info("[Bench] 동시 승인 완료: count={}, elapsedMs={}",
+                CONCURRENT_APPROVALS, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        assertThat(paymentRepository.findAll())
+                .filteredOn(Payment::isApproved)
+                .hasSize(CONCURRENT_APPROVALS);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ipia.order.payment.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ipia.order.payment.config.PaymentAsyncProperties;
+
+@DisplayName("PaymentFinalizeExecutor 확정 작업 자리 테스트")
+class PaymentFinalizeExecutorTest {
+
+    private PaymentFinalizeExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        PaymentAsyncProperties properties = new PaymentAsyncProperties();
+        properties.setFinalizePoolSize(1);
+        properties.setFinalizeQueueCapacity(1);
+        executor = new PaymentFinalizeExecutor(properties);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 차면 자리를 주지 않고, 작업이 끝나면 다시 준다")
+    void tryAcquire_WhenQueueFull_Refuses() throws InterruptedException {
+        // given: 실행 중 1건 + 대기 1건으로 가득 채움
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2);
+        assertThat(executor.tryAcquire()).isTrue();
+        executor.execute(() -> {
+            awaitQuietly(blocker);
+            finished.countDown();
+        });
+        assertThat(executor.tryAcquire()).isTrue();
+        Thread submitter = Thread.currentThread();
+        Thread[] ranOn = new Thread[1];
+        executor.execute(() -> {
+            ranOn[0] = Thread.currentThread();
+            finished.countDown();
+        });
+
+        // when
+        boolean acquiredWhileFull = executor.tryAcquire();
+        blocker.countDown();
+
+        // then
+        assertThat(acquiredWhileFull).isFalse();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.destroy(); // 작업이 자리를 돌려줄 때까지 대기
+        assertThat(ranOn[0]).isNotSameAs(submitter);
+        assertThat(executor.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("쓰지 않은 자리는 돌려주면 다시 확보할 수 있다")
+    void release_ReturnsUnusedSlot() {
+        // given
+        assertThat(executor.tryAcquire()).isTrue();
+        assertThat(executor.tryAcquire()).isTrue();
+        assertThat(executor.tryAcquire()).isFalse();
+
+        // when
+        executor.release();
+
+        // then
+        assertThat(executor.tryAcquire()).isTrue();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
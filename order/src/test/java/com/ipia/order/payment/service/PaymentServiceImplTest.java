@@ -3,14 +3,20 @@ package com.ipia.order.payment.service;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
 import com.ipia.order.payment.domain.Payment;
@@ -25,6 +31,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.ipia.order.common.exception.payment.PaymentHandler;
 import com.ipia.order.order.service.OrderService;
@@ -53,9 +61,27 @@ class PaymentServiceImplTest {
     @Mock
     private IdempotencyKeyService idempotencyKeyService;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PaymentFinalizeExecutor paymentFinalizeExecutor;
+
     @InjectMocks
     private PaymentServiceImpl paymentService;
 
+    @BeforeEach
+    void setUpTransactionAndExecutor() {
+        // 단계별 트랜잭션과 확정 스레드는 호출 스레드에서 바로 실행
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+        lenient().when(paymentFinalizeExecutor.tryAcquire()).thenReturn(true);
+        lenient().doAnswer(inv -> {
+            ((Runnable) inv.getArgument(0)).run();
+            return null;
+        }).when(paymentFinalizeExecutor).execute(any());
+    }
+
     
 
     @Nested
@@ -96,7 +122,7 @@ class PaymentServiceImplTest {
                     "intent-ok", 1L, new BigDecimal("10000"), "http://success", "http://fail", "idem"
             );
             when(paymentIntentService.get("intent-ok")).thenReturn(intentData);
-            when(tossPaymentClient.confirm("paymentKey-ok", "1", new BigDecimal("10000")))
+            when(tossPaymentClient.confirm("paymentKey-ok", "1", new BigDecimal("10000"), "idem"))
                     .thenReturn(new TossConfirmResponse("paymentKey-ok", "1", new BigDecimal("10000")));
             when(paymentRepository.findByOrderId(1L)).thenReturn(java.util.Optional.empty());
             // PaymentTestBuilder를 사용하여 ID가 설정된 Payment 생성
@@ -107,6 +133,7 @@ class PaymentServiceImplTest {
                     .providerTxnId("paymentKey-ok")
                     .build();
             when(paymentRepository.save(any())).thenReturn(savedPayment);
+            when(paymentRepository.findById(123L)).thenReturn(Optional.of(savedPayment));
 
             // idempotencyKeyService가 실제 로직을 실행하도록 설정
             when(idempotencyKeyService.executeWithIdempotency(any(), any(), any(), any()))
@@ -126,7 +153,7 @@ class PaymentServiceImplTest {
                     throw new PaymentHandler(PaymentErrorStatus.PAYMENT_CANNOT_APPROVE);
                 }
             }).doesNotThrowAnyException();
-            verify(paymentIntentService).delete("intent-ok");
+            verify(paymentIntentService).consume("intent-ok");
             verify(orderService).handlePaymentApproved(1L);
         }
 
@@ -307,6 +334,120 @@ class PaymentServiceImplTest {
             )).isInstanceOf(PaymentHandler.class);
         }
 
+        @Test
+        @DisplayName("같은 주문의 승인 예약이 진행 중이면 Toss를 호출하지 않고 거절")
+        void reservationInProgress_shouldThrow() {
+            // given
+            PaymentIntentService.PaymentIntentData intentData = new PaymentIntentService.PaymentIntentData(
+                    "intent-busy", 1L, new BigDecimal("10000"), "http://success", "http://fail", "idem"
+            );
+            when(paymentIntentService.get("intent-busy")).thenReturn(intentData);
+            Payment pending = PaymentTestBuilder.builder()
+                    .id(7L).orderId(1L).paidAmount(new BigDecimal("10000")).providerTxnId("paymentKey-busy")
+                    .createdAt(java.time.LocalDateTime.now())
+                    .build();
+            when(paymentRepository.findByOrderId(1L)).thenReturn(Optional.of(pending));
+            when(idempotencyKeyService.executeWithIdempotency(any(), any(), any(), any()))
+                    .thenAnswer(inv -> ((java.util.function.Supplier<?>) inv.getArgument(3)).get());
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.approve(
+                    "intent-busy", "paymentKey-busy", 1L, new BigDecimal("10000"), "idem"
+            )).isInstanceOf(PaymentHandler.class)
+                    .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.PAYMENT_APPROVAL_IN_PROGRESS);
+            verify(tossPaymentClient, never()).confirm(anyString(), anyString(), any(), anyString());
+        }
+
+        @Test
+        @DisplayName("확정 실패 시 Toss 결제를 보상 취소하고 예약을 해제")
+        void finalizeFailure_shouldCompensate() {
+            // given
+            PaymentIntentService.PaymentIntentData intentData = new PaymentIntentService.PaymentIntentData(
+                    "intent-comp", 1L, new BigDecimal("10000"), "http://success", "http://fail", "idem"
+            );
+            when(paymentIntentService.get("intent-comp")).thenReturn(intentData);
+            when(paymentRepository.findByOrderId(1L)).thenReturn(Optional.empty());
+            Payment reserved = PaymentTestBuilder.builder()
+                    .id(70L).orderId(1L).paidAmount(new BigDecimal("10000")).providerTxnId("paymentKey-comp").build();
+            when(paymentRepository.save(any())).thenReturn(reserved);
+            when(paymentRepository.findById(70L)).thenReturn(Optional.of(reserved), Optional.of(
+                    PaymentTestBuilder.builder().id(70L).orderId(1L).paidAmount(new BigDecimal("10000"))
+                            .providerTxnId("paymentKey-comp").build()));
+            when(tossPaymentClient.confirm("paymentKey-comp", "1", new BigDecimal("10000"), "idem"))
+                    .thenReturn(new TossConfirmResponse("paymentKey-comp", "1", new BigDecimal("10000")));
+            org.mockito.Mockito.doThrow(new RuntimeException("order update failed"))
+                    .when(orderService).handlePaymentApproved(1L);
+            when(idempotencyKeyService.executeWithIdempotency(any(), any(), any(), any()))
+                    .thenAnswer(inv -> ((java.util.function.Supplier<?>) inv.getArgument(3)).get());
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.approve(
+                    "intent-comp", "paymentKey-comp", 1L, new BigDecimal("10000"), "idem"
+            )).isInstanceOf(RuntimeException.class);
+            verify(tossPaymentClient).cancel(eq("paymentKey-comp"), eq(new BigDecimal("10000")), anyString());
+            verify(paymentRepository).delete(any(Payment.class));
+            verify(paymentIntentService, never()).consume(anyString());
+        }
+
+        @Test
+        @DisplayName("보상 취소도 실패하면 예약을 지우지 않고 대사 필요로 전환")
+        void compensationFailure_shouldRequireReconciliation() {
+            // given
+            PaymentIntentService.PaymentIntentData intentData = new PaymentIntentService.PaymentIntentData(
+                    "intent-recon", 1L, new BigDecimal("10000"), "http://success", "http://fail", "idem"
+            );
+            when(paymentIntentService.get("intent-recon")).thenReturn(intentData);
+            when(paymentRepository.findByOrderId(1L)).thenReturn(Optional.empty());
+            Payment reserved = PaymentTestBuilder.builder()
+                    .id(80L).orderId(1L).paidAmount(new BigDecimal("10000")).providerTxnId("paymentKey-recon").build();
+            when(paymentRepository.save(any())).thenReturn(reserved);
+            Payment rolledBack = PaymentTestBuilder.builder()
+                    .id(80L).orderId(1L).paidAmount(new BigDecimal("10000")).providerTxnId("paymentKey-recon").build();
+            when(paymentRepository.findById(80L)).thenReturn(Optional.of(reserved), Optional.of(rolledBack));
+            when(tossPaymentClient.confirm("paymentKey-recon", "1", new BigDecimal("10000"), "idem"))
+                    .thenReturn(new TossConfirmResponse("paymentKey-recon", "1", new BigDecimal("10000")));
+            org.mockito.Mockito.doThrow(new RuntimeException("order update failed"))
+                    .when(orderService).handlePaymentApproved(1L);
+            when(tossPaymentClient.cancel(eq("paymentKey-recon"), any(), anyString()))
+                    .thenThrow(new PaymentHandler(PaymentErrorStatus.TOSS_NETWORK_ERROR));
+            when(idempotencyKeyService.executeWithIdempotency(any(), any(), any(), any()))
+                    .thenAnswer(inv -> ((java.util.function.Supplier<?>) inv.getArgument(3)).get());
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.approve(
+                    "intent-recon", "paymentKey-recon", 1L, new BigDecimal("10000"), "idem"
+            )).isInstanceOf(RuntimeException.class);
+            Assertions.assertThat(rolledBack.getStatus()).isEqualTo(PaymentStatus.RECONCILIATION_REQUIRED);
+            verify(paymentRepository, never()).delete(any(Payment.class));
+        }
+
+        @Test
+        @DisplayName("오래된 승인 예약은 지우지 않고 대사 필요로 전환한 뒤 Toss 호출 없이 거절")
+        void staleReservation_shouldRequireReconciliation() {
+            // given
+            PaymentIntentService.PaymentIntentData intentData = new PaymentIntentService.PaymentIntentData(
+                    "intent-stale", 1L, new BigDecimal("10000"), "http://success", "http://fail", "idem"
+            );
+            when(paymentIntentService.get("intent-stale")).thenReturn(intentData);
+            Payment stale = PaymentTestBuilder.builder()
+                    .id(9L).orderId(1L).paidAmount(new BigDecimal("10000")).providerTxnId("paymentKey-stale")
+                    .createdAt(java.time.LocalDateTime.now().minusMinutes(30))
+                    .build();
+            when(paymentRepository.findByOrderId(1L)).thenReturn(Optional.of(stale));
+            when(idempotencyKeyService.executeWithIdempotency(any(), any(), any(), any()))
+                    .thenAnswer(inv -> ((java.util.function.Supplier<?>) inv.getArgument(3)).get());
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.approve(
+                    "intent-stale", "paymentKey-stale", 1L, new BigDecimal("10000"), "idem"
+            )).isInstanceOf(PaymentHandler.class)
+                    .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.PAYMENT_RECONCILIATION_REQUIRED);
+            Assertions.assertThat(stale.getStatus()).isEqualTo(PaymentStatus.RECONCILIATION_REQUIRED);
+            verify(paymentRepository).save(stale);
+            verify(paymentRepository, never()).delete(any(Payment.class));
+            verify(tossPaymentClient, never()).confirm(anyString(), anyString(), any(), anyString());
+        }
+
         @Test
         @DisplayName("승인 불가능한 상태에서 승인 시도 예외")
         void invalidState_shouldThrow() {
@@ -335,9 +476,13 @@ class PaymentServiceImplTest {
             );
             when(paymentIntentService.get("intent-4xx")).thenReturn(intentData);
             when(paymentRepository.findByOrderId(1L)).thenReturn(Optional.empty());
+            Payment reserved = PaymentTestBuilder.builder()
+                    .id(40L).orderId(1L).paidAmount(new BigDecimal("10000")).providerTxnId("paymentKey-4xx").build();
+            when(paymentRepository.save(any())).thenReturn(reserved);
+            when(paymentRepository.findById(40L)).thenReturn(Optional.of(reserved));
             
             // TossPaymentClient에서 PaymentHandler 예외 발생하도록 설정
-            when(tossPaymentClient.confirm("paymentKey-4xx", "1", new BigDecimal("10000")))
+            when(tossPaymentClient.confirm("paymentKey-4xx", "1", new BigDecimal("10000"), "idem"))
                     .thenThrow(new PaymentHandler(PaymentErrorStatus.TOSS_API_ERROR));
             
             // idempotencyKeyService가 실제 로직을 실행하도록 설정
@@ -351,6 +496,8 @@ class PaymentServiceImplTest {
             assertThatThrownBy(() -> paymentService.approve(
                     "intent-4xx", "paymentKey-4xx", 1L, new BigDecimal("10000"), "idem"
             )).isInstanceOf(PaymentHandler.class);
+            // Toss 실패 시 승인 예약(PENDING) 해제
+            verify(paymentRepository).delete(reserved);
         }
 
         @Test
@@ -362,9 +509,11 @@ class PaymentServiceImplTest {
             );
             when(paymentIntentService.get("intent-5xx")).thenReturn(intentData);
             when(paymentRepository.findByOrderId(1L)).thenReturn(Optional.empty());
+            when(paymentRepository.save(any())).thenReturn(PaymentTestBuilder.builder()
+                    .id(50L).orderId(1L).paidAmount(new BigDecimal("10000")).providerTxnId("paymentKey-5xx").build());
             
             // TossPaymentClient에서 PaymentHandler 예외 발생하도록 설정
-            when(tossPaymentClient.confirm("paymentKey-5xx", "1", new BigDecimal("10000")))
+            when(tossPaymentClient.confirm("paymentKey-5xx", "1", new BigDecimal("10000"), "idem"))
                     .thenThrow(new PaymentHandler(PaymentErrorStatus.TOSS_NETWORK_ERROR));
             
             // idempotencyKeyService가 실제 로직을 실행하도록 설정
@@ -393,11 +542,12 @@ class PaymentServiceImplTest {
             );
             when(paymentIntentService.get("intent-idem")).thenReturn(intentData);
             when(paymentRepository.findByOrderId(1L)).thenReturn(Optional.empty());
-            when(tossPaymentClient.confirm("paymentKey-idem", "1", new BigDecimal("10000")))
+            when(tossPaymentClient.confirm("paymentKey-idem", "1", new BigDecimal("10000"), "idem"))
                     .thenReturn(new TossConfirmResponse("paymentKey-idem", "1", new BigDecimal("10000")));
             Payment saved = PaymentTestBuilder.builder()
                     .id(999L).orderId(1L).paidAmount(new BigDecimal("10000")).providerTxnId("paymentKey-idem").build();
             when(paymentRepository.save(any())).thenReturn(saved);
+            when(paymentRepository.findById(999L)).thenReturn(Optional.of(saved));
 
             final Long[] cached = new Long[1];
             when(idempotencyKeyService.executeWithIdempotency(eq("POST /payments/approve"), eq("idem"), eq(Long.class), any()))
@@ -416,9 +566,10 @@ class PaymentServiceImplTest {
             // then
             Assertions.assertThat(second).isEqualTo(first);
             // 멱등성 처리로 인해 실제 로직은 한 번만 실행됨
-            verify(tossPaymentClient, times(1)).confirm("paymentKey-idem", "1", new BigDecimal("10000"));
-            verify(paymentRepository, times(1)).save(any());
-            verify(paymentIntentService, times(1)).delete("intent-idem");
+            verify(tossPaymentClient, times(1)).confirm("paymentKey-idem", "1", new BigDecimal("10000"), "idem");
+            // 승인 예약(PENDING) 저장 + 확정 저장
+            verify(paymentRepository, times(2)).save(any());
+            verify(paymentIntentService, times(1)).consume("intent-idem");
             verify(orderService, times(1)).handlePaymentApproved(1L);
         }
     }
@@ -529,9 +680,11 @@ class PaymentServiceImplTest {
             );
             when(paymentIntentService.get("intent-timeout")).thenReturn(intentData);
             when(paymentRepository.findByOrderId(1L)).thenReturn(Optional.empty());
+            when(paymentRepository.save(any())).thenReturn(PaymentTestBuilder.builder()
+                    .id(60L).orderId(1L).paidAmount(new BigDecimal("10000")).providerTxnId("paymentKey-timeout").build());
             
             // TossPaymentClient에서 예외 발생하도록 설정 (네트워크 오류 시뮬레이션)
-            when(tossPaymentClient.confirm("paymentKey-timeout", "1", new BigDecimal("10000")))
+            when(tossPaymentClient.confirm("paymentKey-timeout", "1", new BigDecimal("10000"), "idem"))
                     .thenThrow(new RuntimeException("Network timeout"));
             
             // idempotencyKeyService가 실제 로직을 실행하도록 설정
@@ -546,6 +699,103 @@ class PaymentServiceImplTest {
                     "intent-timeout", "paymentKey-timeout", 1L, new BigDecimal("10000"), "idem"
             )).isInstanceOf(RuntimeException.class);
         }
+
+        @Test
+        @DisplayName("비동기 승인: 확정 작업이 밀려 있으면 예약/Toss 호출 없이 거절")
+        void approveAsync_finalizeBusy_shouldRejectBeforeToss() {
+            // given
+            when(idempotencyKeyService.findByIdempotencyKey("POST /payments/approve", "idem-busy")).thenReturn(Optional.empty());
+            when(paymentFinalizeExecutor.tryAcquire()).thenReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.approveAsync(
+                    "intent-busy", "paymentKey-busy", 1L, new BigDecimal("10000"), "idem-busy"))
+                    .isInstanceOf(PaymentHandler.class)
+                    .hasMessage(PaymentErrorStatus.PAYMENT_FINALIZE_BUSY.getCode());
+            verify(paymentRepository, never()).save(any());
+            verify(tossPaymentClient, never()).confirmAsync(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("비동기 승인: 예약이 실패하면 확보한 확정 작업 자리를 돌려준다")
+        void approveAsync_reservationFailure_shouldReleaseSlot() {
+            // given
+            when(idempotencyKeyService.findByIdempotencyKey("POST /payments/approve", "idem-fail")).thenReturn(Optional.empty());
+            when(paymentIntentService.get("intent-missing")).thenReturn(null);
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.approveAsync(
+                    "intent-missing", "paymentKey-fail", 1L, new BigDecimal("10000"), "idem-fail"))
+                    .isInstanceOf(PaymentHandler.class);
+            verify(paymentFinalizeExecutor).release();
+            verify(tossPaymentClient, never()).confirmAsync(any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("approveAsync")
+    class ApproveAsyncTests {
+
+        @BeforeEach
+        void setUp() {
+            PaymentIntentService.PaymentIntentData intentData = new PaymentIntentService.PaymentIntentData(
+                    "intent-async", 1L, new BigDecimal("10000"), "http://success", "http://fail", "idem-async"
+            );
+            when(idempotencyKeyService.findByIdempotencyKey("POST /payments/approve", "idem-async")).thenReturn(Optional.empty());
+            when(paymentIntentService.get("intent-async")).thenReturn(intentData);
+            when(paymentRepository.findByOrderId(1L)).thenReturn(Optional.empty());
+        }
+
+        @Test
+        @DisplayName("Toss 응답 전에는 완료되지 않고, 응답 후 확정 스레드에서 저장한다")
+        void approveAsync_completesAfterTossResponse() {
+            // given
+            CompletableFuture<TossConfirmResponse> toss = new CompletableFuture<>();
+            when(tossPaymentClient.confirmAsync("paymentKey-async", "1", new BigDecimal("10000"), "idem-async")).thenReturn(toss);
+            when(idempotencyKeyService.executeWithIdempotency(eq("POST /payments/approve"), eq("idem-async"), eq(Long.class), any()))
+                    .thenAnswer(inv -> ((java.util.function.Supplier<?>) inv.getArgument(3)).get());
+            Payment saved = PaymentTestBuilder.builder()
+                    .id(555L).orderId(1L).paidAmount(new BigDecimal("10000")).providerTxnId("paymentKey-async").build();
+            when(paymentRepository.save(any())).thenReturn(saved);
+            when(paymentRepository.findById(555L)).thenReturn(Optional.of(saved));
+
+            // when
+            CompletableFuture<Long> result = paymentService.approveAsync(
+                    "intent-async", "paymentKey-async", 1L, new BigDecimal("10000"), "idem-async");
+
+            // then: 외부 응답 대기 중 (예약만 저장됨)
+            Assertions.assertThat(result).isNotDone();
+            verify(paymentRepository, times(1)).save(any());
+
+            toss.complete(new TossConfirmResponse("paymentKey-async", "1", new BigDecimal("10000")));
+
+            Assertions.assertThat(result.join()).isEqualTo(555L);
+            verify(paymentIntentService).consume("intent-async");
+            verify(orderService).handlePaymentApproved(1L);
+        }
+
+        @Test
+        @DisplayName("Toss 실패는 예약을 해제하고 PaymentHandler로 완료된다")
+        void approveAsync_tossFailure_completesExceptionally() {
+            // given
+            Payment reserved = PaymentTestBuilder.builder()
+                    .id(556L).orderId(1L).paidAmount(new BigDecimal("10000")).providerTxnId("paymentKey-async").build();
+            when(paymentRepository.save(any())).thenReturn(reserved);
+            when(paymentRepository.findById(556L)).thenReturn(Optional.of(reserved));
+            when(tossPaymentClient.confirmAsync("paymentKey-async", "1", new BigDecimal("10000"), "idem-async"))
+                    .thenReturn(CompletableFuture.failedFuture(new PaymentHandler(PaymentErrorStatus.TOSS_API_ERROR)));
+
+            // when
+            CompletableFuture<Long> result = paymentService.approveAsync(
+                    "intent-async", "paymentKey-async", 1L, new BigDecimal("10000"), "idem-async");
+
+            // then
+            assertThatThrownBy(result::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(PaymentHandler.class);
+            verify(paymentRepository).delete(reserved);
+            verify(orderService, never()).handlePaymentApproved(anyLong());
+        }
     }
 }
 
@@ -0,0 +1,254 @@
+package com.ipia.order.payment.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipia.order.common.exception.order.OrderHandler;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.common.exception.payment.PaymentHandler;
+import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
+import com.ipia.order.order.service.OrderService;
+import com.ipia.order.payment.config.PaymentWebhookProperties;
+import com.ipia.order.payment.domain.Payment;
+import com.ipia.order.payment.enums.PaymentStatus;
+import com.ipia.order.payment.enums.PaymentWebhookOutcome;
+import com.ipia.order.payment.repository.PaymentRepository;
+import com.ipia.order.payment.service.external.TossPaymentClient;
+import com.ipia.order.payment.webhook.InMemoryPaymentWebhookQueue;
+import com.ipia.order.payment.webhook.PaymentWebhookEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentWebhookServiceImpl 결제 웹훅 테스트")
+class PaymentWebhookServiceImplTest {
+
+    private static final String SECRET = "test-webhook-secret";
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private TossPaymentClient tossPaymentClient;
+
+    private InMemoryPaymentWebhookQueue queue;
+    private PaymentWebhookServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        queue = new InMemoryPaymentWebhookQueue();
+        PaymentWebhookProperties properties = new PaymentWebhookProperties();
+        properties.setEnabled(true);
+        properties.setSecret(SECRET);
+        service = new PaymentWebhookServiceImpl(queue, paymentRepository, orderService, tossPaymentClient,
+                new ObjectMapper(), properties);
+    }
+
+    @Test
+    @DisplayName("서명이 맞으면 결제 상태 변경 이벤트를 적재하고, 같은 전송 ID는 한 번만 적재한다")
+    void receive_ValidSignature_EnqueuesOnce() {
+        // given
+        String payload = statusChanged("pk-1", "DONE", 10000);
+        String time = OffsetDateTime.now().toString();
+        String signature = "v1:" + sign(payload, time);
+
+        // when
+        boolean first = service.receive(payload, signature, time, "tx-1");
+        boolean second = service.receive(payload, signature, time, "tx-1");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(queue.claim(10)).singleElement()
+                .hasFieldOrPropertyWithValue("providerTxnId", "pk-1")
+                .hasFieldOrPropertyWithValue("status", "DONE");
+    }
+
+    @Test
+    @DisplayName("서명이 틀리거나 전송 시각이 허용 차이를 벗어나면 거절한다")
+    void receive_InvalidOrStaleSignature_Rejected() {
+        // given
+        String payload = statusChanged("pk-1", "DONE", 10000);
+        String staleTime = OffsetDateTime.now().minusMinutes(10).toString();
+
+        // when & then
+        assertThatThrownBy(() -> service.receive(payload, "v1:AAAA", OffsetDateTime.now().toString(), "tx-1"))
+                .isInstanceOf(PaymentHandler.class)
+                .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.TOSS_WEBHOOK_SIGNATURE_INVALID);
+        assertThatThrownBy(() -> service.receive(payload, "v1:" + sign(payload, staleTime), staleTime, "tx-2"))
+                .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.TOSS_WEBHOOK_SIGNATURE_INVALID);
+        assertThat(queue.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("헤더의 여러 서명 중 하나만 맞아도 통과한다")
+    void verifySignature_AnyOfMultipleSignatures() {
+        OffsetDateTime now = OffsetDateTime.now();
+        String time = now.toString();
+        String payload = "{}";
+
+        assertThat(PaymentWebhookServiceImpl.verifySignature(SECRET, payload, "v1:AAAA, v1:" + sign(payload, time),
+                time, Duration.ofMinutes(5), now)).isTrue();
+        assertThat(PaymentWebhookServiceImpl.verifySignature("", payload, "v1:" + sign(payload, time),
+                time, Duration.ofMinutes(5), now)).isFalse();
+    }
+
+    @Test
+    @DisplayName("승인 대기 결제에 DONE이 오면 승인하고 주문에 반영한다")
+    void apply_Done_ApprovesPendingPayment() {
+        // given
+        Payment payment = Payment.create(1L, new BigDecimal("10000"), "pk-1");
+        given(paymentRepository.findByProviderTxnId("pk-1")).willReturn(Optional.of(payment));
+
+        // when
+        List<PaymentWebhookOutcome> outcomes = service.apply(List.of(event("e-1", "pk-1", "DONE", null)));
+
+        // then
+        assertThat(outcomes).containsExactly(PaymentWebhookOutcome.APPLIED);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+        verify(orderService).handlePaymentApproved(1L);
+    }
+
+    @Test
+    @DisplayName("예약 직후의 DONE은 승인 요청이 확정하도록 보류하고 뒤 이벤트는 처리하지 않는다")
+    void apply_DoneWithinGrace_Deferred() {
+        // given
+        Payment payment = Payment.create(1L, new BigDecimal("10000"), "pk-1");
+        ReflectionTestUtils.setField(payment, "createdAt", LocalDateTime.now());
+        given(paymentRepository.findByProviderTxnId("pk-1")).willReturn(Optional.of(payment));
+
+        // when
+        List<PaymentWebhookOutcome> outcomes = service.apply(List.of(
+                event("e-1", "pk-1", "DONE", null), event("e-2", "pk-1", "CANCELED", "10000")));
+
+        // then
+        assertThat(outcomes).containsExactly(PaymentWebhookOutcome.DEFERRED);
+        assertThat(payment.isPending()).isTrue();
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    @DisplayName("같은 거래의 DONE과 CANCELED를 순서대로 반영하고, 이미 반영된 상태의 재전송은 건너뛴다")
+    void apply_DoneThenCanceled_AppliesInOrderAndIgnoresReplay() {
+        // given
+        Payment payment = Payment.create(1L, new BigDecimal("10000"), "pk-1");
+        given(paymentRepository.findByProviderTxnId("pk-1")).willReturn(Optional.of(payment));
+
+        // when
+        List<PaymentWebhookOutcome> outcomes = service.apply(List.of(
+                event("e-1", "pk-1", "DONE", null),
+                event("e-2", "pk-1", "CANCELED", "10000"),
+                event("e-3", "pk-1", "DONE", null)));
+
+        // then
+        assertThat(outcomes).containsExactly(
+                PaymentWebhookOutcome.APPLIED, PaymentWebhookOutcome.APPLIED, PaymentWebhookOutcome.IGNORED);
+        assertThat(payment.isCanceled()).isTrue();
+        assertThat(payment.getCanceledAmount()).isEqualByComparingTo("10000");
+        verify(orderService).handlePaymentApproved(1L);
+        verify(orderService).handlePaymentCanceled(1L);
+    }
+
+    @Test
+    @DisplayName("승인된 결제의 부분 취소는 전액 취소로 반영하지 않고 수동 확인 대상으로 남긴다")
+    void apply_PartialCanceled_ReviewRequired() {
+        // given
+        Payment payment = Payment.create(1L, new BigDecimal("10000"), "pk-1");
+        payment.approve(new BigDecimal("10000"));
+        given(paymentRepository.findByProviderTxnId("pk-1")).willReturn(Optional.of(payment));
+
+        // when
+        List<PaymentWebhookOutcome> outcomes = service.apply(List.of(event("e-1", "pk-1", "PARTIAL_CANCELED", "3000")));
+
+        // then
+        assertThat(outcomes).containsExactly(PaymentWebhookOutcome.REVIEW_REQUIRED);
+        assertThat(payment.isApproved()).isTrue();
+        assertThat(payment.getCanceledAmount()).isEqualByComparingTo("0");
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    @DisplayName("주문이 이미 취소되어 확정할 수 없는 DONE은 Toss 결제를 보상 취소하고 승인 예약을 지운다")
+    void compensate_DoneForCanceledOrder_CancelsAtToss() {
+        // given
+        Payment payment = Payment.create(1L, new BigDecimal("10000"), "pk-1");
+        given(paymentRepository.findByProviderTxnId("pk-1")).willReturn(Optional.of(payment));
+        willThrow(new OrderHandler(OrderErrorStatus.INVALID_ORDER_STATE)).given(orderService).handlePaymentApproved(1L);
+        PaymentWebhookEvent done = event("e-1", "pk-1", "DONE", null);
+        assertThatThrownBy(() -> service.apply(List.of(done)))
+                .hasFieldOrPropertyWithValue("status", OrderErrorStatus.INVALID_ORDER_STATE);
+        // 실제로는 트랜잭션이 롤백되어 승인 대기로 남는다
+        Payment rolledBack = Payment.create(1L, new BigDecimal("10000"), "pk-1");
+        given(paymentRepository.findByProviderTxnId("pk-1")).willReturn(Optional.of(rolledBack));
+
+        // when
+        boolean compensated = service.compensate(done);
+
+        // then
+        assertThat(compensated).isTrue();
+        verify(tossPaymentClient).cancel(eq("pk-1"), argThat(amount -> amount.compareTo(new BigDecimal("10000")) == 0), anyString());
+        verify(paymentRepository).delete(rolledBack);
+    }
+
+    @Test
+    @DisplayName("승인 대기 결제의 DONE이 아니면 보상하지 않는다")
+    void compensate_NotPendingDone_Skipped() {
+        // given
+        Payment payment = Payment.create(1L, new BigDecimal("10000"), "pk-1");
+        payment.approve(new BigDecimal("10000"));
+        given(paymentRepository.findByProviderTxnId("pk-1")).willReturn(Optional.of(payment));
+
+        // when & then
+        assertThat(service.compensate(event("e-1", "pk-1", "DONE", null))).isFalse();
+        assertThat(service.compensate(event("e-2", "pk-1", "CANCELED", "10000"))).isFalse();
+        verifyNoInteractions(tossPaymentClient);
+    }
+
+    @Test
+    @DisplayName("일치하는 결제가 없으면 UNMATCHED")
+    void apply_UnknownPayment_Unmatched() {
+        // given
+        given(paymentRepository.findByProviderTxnId("pk-x")).willReturn(Optional.empty());
+
+        // when
+        List<PaymentWebhookOutcome> outcomes = service.apply(List.of(event("e-1", "pk-x", "DONE", null)));
+
+        // then
+        assertThat(outcomes).containsExactly(PaymentWebhookOutcome.UNMATCHED);
+        verifyNoInteractions(orderService);
+    }
+
+    private static String statusChanged(String paymentKey, String status, long totalAmount) {
+        return "{\"eventType\":\"PAYMENT_STATUS_CHANGED\",\"createdAt\":\"2025-01-01T00:00:00.000000\","
+                + "\"data\":{\"paymentKey\":\"" + paymentKey + "\",\"orderId\":\"order-1\",\"status\":\"" + status
+                + "\",\"totalAmount\":" + totalAmount + ",\"cancels\":null}}";
+    }
+
+    private static String sign(String payload, String transmissionTime) {
+        return Base64.getEncoder().encodeToString(PaymentWebhookServiceImpl.sign(SECRET, payload + ":" + transmissionTime));
+    }
+
+    private static PaymentWebhookEvent event(String eventId, String providerTxnId, String status, String cancelAmount) {
+        LocalDateTime now = LocalDateTime.now();
+        return new PaymentWebhookEvent(eventId, providerTxnId, "order-1", status, null,
+                cancelAmount == null ? null : new BigDecimal(cancelAmount), now, now);
+    }
+}
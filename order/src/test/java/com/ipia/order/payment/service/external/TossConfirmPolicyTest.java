@@ -0,0 +1,142 @@
+package com.ipia.order.payment.service.external;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.ipia.order.common.exception.payment.PaymentHandler;
+import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
+import com.ipia.order.payment.config.TossResilienceProperties;
+
+import reactor.core.publisher.Mono;
+
+@DisplayName("TossConfirmPolicy 승인 재시도/헤징 테스트")
+class TossConfirmPolicyTest {
+
+    private TossResilienceProperties properties;
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        properties = new TossResilienceProperties();
+        properties.setRetryMinBackoff(Duration.ofMillis(1));
+        properties.setRetryMaxBackoff(Duration.ofMillis(5));
+        properties.setHedgeMinDelay(Duration.ofMillis(20));
+        properties.setHedgeMaxDelay(Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("재시도 대상 오류는 백오프 후 다시 보낸다")
+    void retryableError_Retried() {
+        TossConfirmPolicy policy = new TossConfirmPolicy(properties);
+        Mono<String> attempt = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.error(httpError(503)) : Mono.just("ok"));
+
+        assertThat(policy.apply(attempt).block(Duration.ofSeconds(5))).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(policy.retryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("4xx와 서킷 거절은 재시도하지 않고, 재시도를 다 써도 원래 오류를 돌려준다")
+    void nonRetryableAndExhausted_OriginalError() {
+        TossConfirmPolicy policy = new TossConfirmPolicy(properties);
+
+        Mono<String> badRequest = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(httpError(400));
+        });
+        assertThatThrownBy(() -> policy.apply(badRequest).block(Duration.ofSeconds(5)))
+                .isInstanceOf(WebClientResponseException.class);
+        assertThat(attempts.getAndSet(0)).isEqualTo(1);
+
+        Mono<String> circuitOpen = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new PaymentHandler(PaymentErrorStatus.TOSS_CIRCUIT_OPEN));
+        });
+        assertThatThrownBy(() -> policy.apply(circuitOpen).block(Duration.ofSeconds(5)))
+                .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.TOSS_CIRCUIT_OPEN);
+        assertThat(attempts.getAndSet(0)).isEqualTo(1);
+
+        Mono<String> unavailable = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(httpError(503));
+        });
+        assertThatThrownBy(() -> policy.apply(unavailable).block(Duration.ofSeconds(5)))
+                .isInstanceOf(WebClientResponseException.class);
+        assertThat(attempts.get()).isEqualTo(1 + properties.getRetryMaxAttempts());
+    }
+
+    @Test
+    @DisplayName("첫 요청이 헤징 대기 시간을 넘기면 두 번째 요청을 보내고 먼저 온 응답을 쓴다")
+    void slowPrimary_HedgeWins() {
+        properties.setHedgeEnabled(true);
+        TossConfirmPolicy policy = new TossConfirmPolicy(properties);
+        Mono<String> attempt = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.<String>never() : Mono.just("hedge"));
+
+        assertThat(policy.apply(attempt).block(Duration.ofSeconds(5))).isEqualTo("hedge");
+        assertThat(policy.hedgeCount()).isEqualTo(1);
+        assertThat(policy.hedgeWinCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("헤징 대기 시간 전에 끝난 요청은 헤징하지 않는다")
+    void fastPrimary_NoHedge() throws Exception {
+        properties.setHedgeEnabled(true);
+        TossConfirmPolicy policy = new TossConfirmPolicy(properties);
+        Mono<String> attempt = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.just("ok");
+        });
+
+        assertThat(policy.apply(attempt).block(Duration.ofSeconds(5))).isEqualTo("ok");
+        Thread.sleep(100);
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(policy.hedgeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("헤징 예산을 다 쓰면 더 이상 헤징하지 않는다")
+    void hedgeBudgetExhausted_NoMoreHedges() {
+        properties.setHedgeEnabled(true);
+        properties.setHedgeBudgetRatio(0);
+        TossConfirmPolicy policy = new TossConfirmPolicy(properties);
+        Mono<String> slow = Mono.delay(Duration.ofMillis(80)).thenReturn("ok");
+
+        // 처음 쌓여 있는 예산(10회)만큼만 헤징
+        for (int i = 0; i < 12; i++) {
+            policy.apply(slow).block(Duration.ofSeconds(5));
+        }
+
+        assertThat(policy.hedgeCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("헤징 대기 시간은 표본이 부족하면 상한, 쌓이면 백분위를 하한/상한 안에서 쓴다")
+    void hedgeDelay_AdaptsToPercentile() {
+        properties.setHedgeMinSamples(32);
+        properties.setHedgeMaxDelay(Duration.ofSeconds(3));
+        TossConfirmPolicy policy = new TossConfirmPolicy(properties);
+        assertThat(policy.hedgeDelay()).isEqualTo(Duration.ofSeconds(3));
+
+        for (int i = 0; i < 32; i++) {
+            policy.apply(Mono.just("ok")).block();
+        }
+
+        // 즉시 끝나는 요청뿐이므로 하한
+        assertThat(policy.hedgeDelay()).isEqualTo(properties.getHedgeMinDelay());
+    }
+
+    private static WebClientResponseException httpError(int status) {
+        return WebClientResponseException.create(status, "error", HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,195 @@
+package com.ipia.order.payment.service.external;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ipia.order.common.exception.payment.PaymentHandler;
+import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
+import com.ipia.order.payment.config.TossPaymentConfig;
+import com.ipia.order.payment.config.TossProperties;
+import com.ipia.order.payment.config.TossResilienceProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import reactor.netty.resources.ConnectionProvider;
+
+@DisplayName("TossPaymentClientImpl 전용 커넥션 풀/타임아웃/서킷 테스트")
+class TossPaymentClientImplTest {
+
+    private static final String CONFIRM_BODY = "{\"paymentKey\":\"pk-1\",\"orderId\":\"1\",\"totalAmount\":10000}";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ConnectionProvider connectionProvider;
+    private volatile long responseDelayMillis;
+    private volatile int responseStatus = 200;
+    private volatile int failFirstRequests;
+    private volatile String lastIdempotencyKey;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/payments/confirm", this::respondConfirm);
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("전용 풀로 Toss 승인 응답을 받아 변환한다 (동기/비동기)")
+    void confirm_ParsesResponse() {
+        // given
+        TossPaymentClientImpl client = client(Duration.ofSeconds(5));
+
+        // when
+        TossConfirmResponse sync = client.confirm("pk-1", "1", new BigDecimal("10000"), "idem-1");
+        TossConfirmResponse async = client.confirmAsync("pk-1", "1", new BigDecimal("10000"), "idem-1").join();
+
+        // then
+        assertThat(sync.approvedAmount()).isEqualByComparingTo("10000");
+        assertThat(async.paymentKey()).isEqualTo("pk-1");
+    }
+
+    @Test
+    @DisplayName("응답 제한 시간을 넘기면 끝까지 기다리지 않고 네트워크 오류로 실패한다")
+    void confirm_SlowProvider_FailsAtResponseTimeout() {
+        // given
+        responseDelayMillis = 3_000;
+        TossPaymentClientImpl client = client(Duration.ofMillis(300));
+        long startedAt = System.nanoTime();
+
+        // when & then
+        assertThatThrownBy(() -> client.confirm("pk-1", "1", new BigDecimal("10000"), "idem-1"))
+                .isInstanceOf(PaymentHandler.class)
+                .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.TOSS_NETWORK_ERROR);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(2_000));
+    }
+
+    @Test
+    @DisplayName("5xx가 기준 이상 이어지면 서킷이 열려 Toss를 호출하지 않고 즉시 거절한다")
+    void confirm_ProviderFailing_OpensCircuit() {
+        // given
+        responseStatus = 503;
+        TossResilienceProperties resilience = noRetry();
+        resilience.setWindowSize(4);
+        resilience.setMinimumCalls(4);
+        TossPaymentClientImpl client = client(Duration.ofSeconds(5), resilience);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.confirm("pk-1", "1", new BigDecimal("10000"), "idem-1"))
+                    .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.TOSS_API_ERROR);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> client.confirm("pk-1", "1", new BigDecimal("10000"), "idem-1"))
+                .isInstanceOf(PaymentHandler.class)
+                .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.TOSS_CIRCUIT_OPEN);
+        assertThat(requests.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 요청 문제이므로 서킷을 열지 않는다")
+    void confirm_ClientErrors_KeepCircuitClosed() {
+        // given
+        responseStatus = 400;
+        TossResilienceProperties resilience = new TossResilienceProperties();
+        resilience.setWindowSize(4);
+        resilience.setMinimumCalls(4);
+        TossPaymentClientImpl client = client(Duration.ofSeconds(5), resilience);
+
+        // when: 4xx는 재시도도 하지 않는다
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> client.confirm("pk-1", "1", new BigDecimal("10000"), "idem-1"))
+                    .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.TOSS_API_ERROR);
+        }
+
+        // then
+        assertThat(requests.get()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("일시적인 5xx는 같은 Toss 멱등 키로 재시도해 성공한다")
+    void confirm_TransientFailure_RetriedWithSameIdempotencyKey() {
+        // given
+        failFirstRequests = 1;
+        TossResilienceProperties resilience = new TossResilienceProperties();
+        resilience.setRetryMinBackoff(Duration.ofMillis(10));
+        TossPaymentClientImpl client = client(Duration.ofSeconds(5), resilience);
+
+        // when
+        TossConfirmResponse response = client.confirm("pk-1", "1", new BigDecimal("10000"), "idem-1");
+
+        // then
+        assertThat(response.paymentKey()).isEqualTo("pk-1");
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(lastIdempotencyKey).isEqualTo(TossPaymentClientImpl.tossIdempotencyKey("idem-1"));
+    }
+
+    private TossPaymentClientImpl client(Duration responseTimeout) {
+        return client(responseTimeout, noRetry());
+    }
+
+    private static TossResilienceProperties noRetry() {
+        TossResilienceProperties resilience = new TossResilienceProperties();
+        resilience.setRetryMaxAttempts(0);
+        return resilience;
+    }
+
+    private TossPaymentClientImpl client(Duration responseTimeout, TossResilienceProperties resilience) {
+        TossProperties properties = new TossProperties();
+        properties.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+        properties.setSecretKey("test_sk");
+        properties.setEnableRealCall(true);
+        properties.setResponseTimeout(responseTimeout);
+        properties.setMaxConnections(2);
+
+        TossPaymentConfig config = new TossPaymentConfig();
+        connectionProvider = config.tossConnectionProvider(properties);
+        return new TossPaymentClientImpl(
+                config.buildTossWebClient(config.webClientBuilder(), properties, connectionProvider, properties.getBaseUrl()), properties,
+                new TossCallGuard(resilience), new TossConfirmPolicy(resilience));
+    }
+
+    private void respondConfirm(HttpExchange exchange) throws IOException {
+        int request = requests.incrementAndGet();
+        lastIdempotencyKey = exchange.getRequestHeaders().getFirst(TossPaymentClientImpl.IDEMPOTENCY_KEY_HEADER);
+        try {
+            if (responseDelayMillis > 0) {
+                Thread.sleep(responseDelayMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = CONFIRM_BODY.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(request <= failFirstRequests ? 503 : responseStatus, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        } catch (IOException ignored) {
+            // 클라이언트가 제한 시간으로 먼저 끊은 경우
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.ipia.order.payment.service.external;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ipia.order.common.exception.payment.PaymentHandler;
+import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
+import com.ipia.order.payment.config.TossPaymentConfig;
+import com.ipia.order.payment.config.TossProperties;
+import com.ipia.order.payment.config.TossResilienceProperties;
+import com.ipia.order.payment.config.TossSimulatorProperties;
+import com.ipia.order.payment.config.TossSimulatorProperties.LatencyDistribution;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.resources.ConnectionProvider;
+
+@Slf4j
+@DisplayName("TossSimulator Toss API 시뮬레이터 테스트")
+class TossSimulatorTest {
+
+    private TossSimulatorProperties simulatorProperties;
+    private TossSimulator simulator;
+    private ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() {
+        simulatorProperties = new TossSimulatorProperties();
+        simulatorProperties.setLatencyDistribution(LatencyDistribution.FIXED);
+        simulatorProperties.setLatencyMedian(Duration.ofMillis(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (simulator != null) {
+            simulator.close();
+        }
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("승인/취소 요청에 Toss 형식으로 응답한다")
+    void confirmAndCancel_Succeed() {
+        // given
+        TossPaymentClientImpl client = client();
+
+        // when
+        TossConfirmResponse confirm = client.confirm("pk-1", "1", new BigDecimal("10000"), "idem-1");
+        TossCancelResponse cancel = client.cancel("pk-1", new BigDecimal("3000"), "고객 요청");
+
+        // then
+        assertThat(confirm.paymentKey()).isEqualTo("pk-1");
+        assertThat(confirm.approvedAmount()).isEqualByComparingTo("10000");
+        assertThat(cancel.cancelAmount()).isEqualByComparingTo("3000");
+        assertThat(simulator.succeededCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("설정한 지연만큼 늦게 응답한다")
+    void fixedLatency_Delayed() {
+        // given
+        simulatorProperties.setLatencyMedian(Duration.ofMillis(200));
+        TossPaymentClientImpl client = client();
+        long startedAt = System.nanoTime();
+
+        // when
+        client.confirm("pk-1", "1", new BigDecimal("10000"), "idem-1");
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("오류 비율이 1이면 모든 요청이 5xx로 실패한다")
+    void errorRate_Fails() {
+        // given
+        simulatorProperties.setErrorRate(1.0);
+        TossPaymentClientImpl client = client();
+
+        // when & then
+        assertThatThrownBy(() -> client.confirm("pk-1", "1", new BigDecimal("10000"), "idem-1"))
+                .isInstanceOf(PaymentHandler.class)
+                .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.TOSS_API_ERROR);
+        assertThat(simulator.failedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("초당 처리 상한을 넘으면 429로 거절한다")
+    void rateLimit_Rejects() {
+        // given
+        simulatorProperties.setRateLimitPerSecond(2);
+        TossPaymentClientImpl client = client();
+        client.confirm("pk-1", "1", new BigDecimal("10000"), "idem-1");
+        client.confirm("pk-2", "2", new BigDecimal("10000"), "idem-2");
+
+        // when & then
+        assertThatThrownBy(() -> client.confirm("pk-3", "3", new BigDecimal("10000"), "idem-3"))
+                .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.TOSS_API_ERROR);
+        assertThat(simulator.rateLimitedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키의 승인은 처음 응답을 다시 돌려준다")
+    void sameIdempotencyKey_Replayed() {
+        // given
+        TossPaymentClientImpl client = client();
+
+        // when
+        client.confirm("pk-1", "1", new BigDecimal("10000"), "idem-1");
+        client.confirm("pk-1", "1", new BigDecimal("10000"), "idem-1");
+
+        // then
+        assertThat(simulator.replayedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그 정규 분포 지연은 설정한 중앙값/p99에 가깝다")
+    void logNormalLatency_MatchesConfiguredPercentiles() {
+        // given
+        simulatorProperties.setLatencyDistribution(LatencyDistribution.LOG_NORMAL);
+        simulatorProperties.setLatencyMin(Duration.ofMillis(10));
+        simulatorProperties.setLatencyMedian(Duration.ofMillis(60));
+        simulatorProperties.setLatencyP99(Duration.ofMillis(500));
+        simulatorProperties.setLatencyMax(Duration.ofSeconds(10));
+        simulator = TossSimulator.start(simulatorProperties);
+
+        // when
+        long[] samples = new long[50_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = simulator.sampleLatencyNanos();
+        }
+        Arrays.sort(samples);
+
+        // then
+        assertThat(TimeUnit.NANOSECONDS.toMillis(samples[samples.length / 2])).isBetween(50L, 70L);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(samples[(int) (samples.length * 0.99)])).isBetween(400L, 600L);
+        assertThat(samples[0]).isGreaterThanOrEqualTo(Duration.ofMillis(10).toNanos());
+    }
+
+    @Test
+    @DisplayName("[Bench] 긴 꼬리 지연에서 비동기 승인 처리량")
+    void asyncConfirmThroughput_LongTailLatency() {
+        // given
+        int count = 500;
+        simulatorProperties.setLatencyDistribution(LatencyDistribution.LOG_NORMAL);
+        simulatorProperties.setLatencyMin(Duration.ofMillis(10));
+        simulatorProperties.setLatencyMedian(Duration.ofMillis(40));
+        simulatorProperties.setLatencyP99(Duration.ofMillis(400));
+        TossPaymentClientImpl client = client();
+        List<CompletableFuture<Long>> latencies = new ArrayList<>(count);
+        long startedAt = System.nanoTime();
+
+        // when
+        for (int i = 0; i < count; i++) {
+            long requestedAt = System.nanoTime();
+            latencies.add(client.confirmAsync("pk-" + i, String.valueOf(i), new BigDecimal("10000"), "idem-" + i)
+                    .thenApply(response -> System.nanoTime() - requestedAt));
+        }
+        long[] sorted = latencies.stream().mapToLong(CompletableFuture::join).sorted().toArray();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        log.info("[Bench] 시뮬레이터 비동기 승인: count={}, elapsedMs={}, throughput/s={}, p50Ms={}, p99Ms={}",
+                count, elapsedMs, count * 1000 / Math.max(1, elapsedMs),
+                TimeUnit.NANOSECONDS.toMillis(sorted[count / 2]),
+                TimeUnit.NANOSECONDS.toMillis(sorted[(int) (count * 0.99)]));
+        assertThat(simulator.succeededCount()).isEqualTo(count);
+    }
+
+    private TossPaymentClientImpl client() {
+        simulator = TossSimulator.start(simulatorProperties);
+
+        TossProperties properties = new TossProperties();
+        properties.setSecretKey("test_sk");
+        properties.setEnableRealCall(true);
+        properties.setMaxConnections(500);
+        TossResilienceProperties resilience = new TossResilienceProperties();
+        resilience.setRetryMaxAttempts(0);
+        resilience.setMaxConcurrentCalls(500);
+
+        TossPaymentConfig config = new TossPaymentConfig();
+        connectionProvider = config.tossConnectionProvider(properties);
+        return new TossPaymentClientImpl(
+                config.buildTossWebClient(config.webClientBuilder(), properties, connectionProvider, simulator.baseUrl()),
+                properties, new TossCallGuard(resilience), new TossConfirmPolicy(resilience));
+    }
+}
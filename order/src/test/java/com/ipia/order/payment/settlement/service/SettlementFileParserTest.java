@@ -0,0 +1,177 @@
+package com.ipia.order.payment.settlement.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ipia.order.common.exception.payment.PaymentHandler;
+import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@DisplayName("SettlementFileParser 정산 파일 파서 테스트")
+class SettlementFileParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("CSV 헤더로 열 위치를 찾고 따옴표 안의 쉼표는 구분자로 보지 않는다")
+    void csv_ParsesByHeader() throws IOException {
+        // given
+        Path file = write("settle.csv",
+                "\uFEFFmemo,payment_key,status,totalAmount\r\n"
+                        + "\"a, b\",pk-1,DONE,10000\r\n"
+                        + "\n"
+                        + "x,pk-2,CANCELED,2500.50\n");
+        Collector collector = new Collector();
+
+        // when
+        SettlementFileParser.Result result = new SettlementFileParser(1 << 20).parse(file, collector);
+
+        // then
+        assertThat(result.records()).isEqualTo(2);
+        assertThat(collector.records).extracting(SettlementRecord::providerTxnId).containsExactly("pk-1", "pk-2");
+        assertThat(collector.records.get(1).amount()).isEqualByComparingTo("2500.50");
+        assertThat(collector.records.get(1).status()).isEqualTo("CANCELED");
+        assertThat(collector.records.get(1).lineNumber()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("JSONL에서 필요한 키만 읽고 중첩 값은 건너뛴다")
+    void jsonl_ParsesFlatObjects() throws IOException {
+        // given
+        Path file = write("settle.jsonl",
+                "{\"paymentKey\":\"pk-1\",\"meta\":{\"a\":[1,\"}\"]},\"amount\":10000,\"status\":\"DONE\"}\n"
+                        + "{ \"providerTxnId\" : \"pk-2\" , \"amount\" : \"3000\" , \"status\" : null }\n");
+        Collector collector = new Collector();
+
+        // when
+        new SettlementFileParser(1 << 20).parse(file, collector);
+
+        // then
+        assertThat(collector.records).extracting(SettlementRecord::providerTxnId).containsExactly("pk-1", "pk-2");
+        assertThat(collector.records.get(0).amount()).isEqualByComparingTo("10000");
+        assertThat(collector.records.get(1).status()).isNull();
+    }
+
+    @Test
+    @DisplayName("거래 ID나 금액이 없거나 금액 형식이 틀린 행은 잘못된 행으로 알린다")
+    void malformedLines_Reported() throws IOException {
+        // given
+        Path file = write("settle.jsonl",
+                "{\"paymentKey\":\"pk-1\",\"amount\":\"1,000\"}\n"
+                        + "{\"amount\":1000}\n"
+                        + "not json\n"
+                        + "{\"paymentKey\":\"pk-2\",\"amount\":1000}\n");
+        Collector collector = new Collector();
+
+        // when
+        SettlementFileParser.Result result = new SettlementFileParser(1 << 20).parse(file, collector);
+
+        // then
+        assertThat(result.records()).isEqualTo(1);
+        assertThat(result.malformed()).isEqualTo(3);
+        assertThat(collector.malformedLines).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("매핑 구간 경계에 걸친 행도 빠짐없이 읽는다")
+    void windowBoundary_NoLineLost() throws IOException {
+        // given
+        StringBuilder content = new StringBuilder("providerTxnId,amount,status\n");
+        for (int i = 0; i < 1_000; i++) {
+            content.append("pk-").append(i).append(',').append(i + 1).append(",DONE\n");
+        }
+        Path file = write("settle.csv", content.toString());
+        Collector collector = new Collector();
+
+        // when
+        new SettlementFileParser(64).parse(file, collector);
+
+        // then
+        assertThat(collector.records).hasSize(1_000);
+        assertThat(collector.records.get(999).providerTxnId()).isEqualTo("pk-999");
+        assertThat(collector.records.get(999).amount()).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 거래 ID 열이 없거나 지원하지 않는 확장자면 형식 오류")
+    void invalidFile_Rejected() throws IOException {
+        // given
+        Path noIdColumn = write("settle.csv", "amount,status\n1000,DONE\n");
+        Path unknownExtension = write("settle.txt", "providerTxnId,amount\npk-1,1000\n");
+
+        // when & then
+        assertThatThrownBy(() -> new SettlementFileParser(1 << 20).parse(noIdColumn, new Collector()))
+                .isInstanceOf(PaymentHandler.class)
+                .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.INVALID_SETTLEMENT_FILE);
+        assertThatThrownBy(() -> new SettlementFileParser(1 << 20).parse(unknownExtension, new Collector()))
+                .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.INVALID_SETTLEMENT_FILE);
+    }
+
+    @Test
+    @DisplayName("[Bench] 100만 행 CSV 파싱")
+    void parseMillionRows() throws IOException {
+        // given
+        int rows = 1_000_000;
+        Path file = tempDir.resolve("bench.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("providerTxnId,amount,status\n");
+            for (int i = 0; i < rows; i++) {
+                writer.write("tgen_20250101" + i + "," + (1000 + i % 50_000) + ".00,DONE\n");
+            }
+        }
+        long[] count = new long[1];
+        SettlementFileParser.Handler handler = new SettlementFileParser.Handler() {
+            @Override
+            public void onRecord(SettlementRecord record) {
+                count[0]++;
+            }
+
+            @Override
+            public void onMalformed(long lineNumber) {
+            }
+        };
+        long startedAt = System.nanoTime();
+
+        // when
+        new SettlementFileParser(8 << 20).parse(file, handler);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        log.info("[Bench] 정산 파일 파싱: rows={}, bytes={}, elapsedMs={}", rows, Files.size(file), elapsedMs);
+        assertThat(count[0]).isEqualTo(rows);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    private static final class Collector implements SettlementFileParser.Handler {
+
+        private final List<SettlementRecord> records = new ArrayList<>();
+        private final List<Long> malformedLines = new ArrayList<>();
+
+        @Override
+        public void onRecord(SettlementRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void onMalformed(long lineNumber) {
+            malformedLines.add(lineNumber);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.ipia.order.payment.settlement.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import com.ipia.order.common.exception.payment.PaymentHandler;
+import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
+import com.ipia.order.payment.config.PaymentSettlementProperties;
+import com.ipia.order.payment.enums.PaymentStatus;
+import com.ipia.order.payment.enums.SettlementMismatchType;
+import com.ipia.order.payment.repository.PaymentRepository;
+import com.ipia.order.payment.settlement.repository.PaymentSettlementSource;
+import com.ipia.order.web.dto.response.payment.SettlementReconcileResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementReconcileServiceImpl 정산 대사 테스트")
+class SettlementReconcileServiceImplTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private Path inbox;
+    private SettlementReconcileServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        inbox = Files.createDirectories(tempDir.resolve("inbox"));
+        PaymentSettlementProperties properties = new PaymentSettlementProperties();
+        properties.setInboxDir(inbox.toString());
+        properties.setReportDir(tempDir.resolve("reports").toString());
+        properties.setLookupBatchSize(2);
+        service = new SettlementReconcileServiceImpl(paymentRepository, properties);
+    }
+
+    @Test
+    @DisplayName("금액/상태 불일치와 결제 누락을 찾아 보고서 파일에 남긴다")
+    void reconcile_ReportsMismatches() throws IOException {
+        // given
+        Files.writeString(inbox.resolve("settle.csv"), "providerTxnId,amount,status\n"
+                + "pk-1,10000,DONE\n"
+                + "pk-2,5000,DONE\n"
+                + "pk-3,7000,CANCELED\n"
+                + "pk-4,1000,DONE\n", StandardCharsets.UTF_8);
+        given(paymentRepository.findSettlementSources(anyCollection())).willReturn(
+                List.of(source(1L, "pk-1", "10000", PaymentStatus.APPROVED), source(2L, "pk-2", "4000", PaymentStatus.APPROVED)),
+                List.of(source(3L, "pk-3", "7000", PaymentStatus.APPROVED)));
+
+        // when
+        SettlementReconcileResponse response = service.reconcile("settle.csv", null);
+
+        // then
+        assertThat(response.getRecords()).isEqualTo(4);
+        assertThat(response.getMatched()).isEqualTo(1);
+        assertThat(response.getAmountMismatches()).isEqualTo(1);
+        assertThat(response.getStatusMismatches()).isEqualTo(1);
+        assertThat(response.getMissingPayments()).isEqualTo(1);
+        assertThat(response.getSamples()).extracting(SettlementReconcileResponse.Mismatch::getType)
+                .containsExactly(SettlementMismatchType.AMOUNT, SettlementMismatchType.STATUS, SettlementMismatchType.MISSING_PAYMENT);
+        assertThat(Files.readAllLines(Path.of(response.getReportFile()))).hasSize(4)
+                .contains("AMOUNT,3,pk-2,5000,4000,DONE,APPROVED");
+        verify(paymentRepository, times(2)).findSettlementSources(anyCollection());
+    }
+
+    @Test
+    @DisplayName("정산일을 주면 그날 승인됐지만 파일에 없는 결제를 찾는다")
+    void reconcile_WithSettlementDate_FindsMissingSettlements() throws IOException {
+        // given
+        Files.writeString(inbox.resolve("settle.jsonl"),
+                "{\"paymentKey\":\"pk-1\",\"amount\":10000,\"status\":\"DONE\"}\n", StandardCharsets.UTF_8);
+        given(paymentRepository.findSettlementSources(anyCollection()))
+                .willReturn(List.of(source(1L, "pk-1", "10000", PaymentStatus.APPROVED)));
+        given(paymentRepository.findApprovedSettlementSources(anyLong(), any(), any(), any(Pageable.class)))
+                .willReturn(List.of(source(1L, "pk-1", "10000", PaymentStatus.APPROVED),
+                        source(5L, "pk-5", "3000", PaymentStatus.CANCELED)));
+
+        // when
+        SettlementReconcileResponse response = service.reconcile("settle.jsonl", LocalDate.of(2025, 1, 1));
+
+        // then
+        assertThat(response.getMatched()).isEqualTo(1);
+        assertThat(response.getMissingSettlements()).isEqualTo(1);
+        assertThat(response.getSamples()).singleElement()
+                .hasFieldOrPropertyWithValue("type", SettlementMismatchType.MISSING_SETTLEMENT)
+                .hasFieldOrPropertyWithValue("providerTxnId", "pk-5");
+    }
+
+    @Test
+    @DisplayName("inbox 밖을 가리키는 파일 이름은 찾을 수 없는 파일로 거절한다")
+    void reconcile_OutsideInbox_NotFound() throws IOException {
+        // given
+        Files.writeString(tempDir.resolve("secret.csv"), "providerTxnId,amount\npk-1,1\n", StandardCharsets.UTF_8);
+
+        // when & then
+        assertThatThrownBy(() -> service.reconcile("../secret.csv", null))
+                .isInstanceOf(PaymentHandler.class)
+                .hasFieldOrPropertyWithValue("status", PaymentErrorStatus.SETTLEMENT_FILE_NOT_FOUND);
+        verifyNoInteractions(paymentRepository);
+    }
+
+    @Test
+    @DisplayName("정산 상태는 결제 상태와 Toss 상태 이름으로 대응한다")
+    void statusMatches_MapsTossStatuses() {
+        assertThat(SettlementReconcileServiceImpl.statusMatches("DONE", PaymentStatus.APPROVED)).isTrue();
+        assertThat(SettlementReconcileServiceImpl.statusMatches("PARTIAL_CANCELED", PaymentStatus.REFUNDED)).isTrue();
+        assertThat(SettlementReconcileServiceImpl.statusMatches("CANCELED", PaymentStatus.APPROVED)).isFalse();
+        assertThat(SettlementReconcileServiceImpl.statusMatches("UNKNOWN", PaymentStatus.APPROVED)).isFalse();
+        assertThat(SettlementReconcileServiceImpl.statusMatches(null, PaymentStatus.PENDING)).isTrue();
+    }
+
+    private static PaymentSettlementSource source(Long id, String providerTxnId, String amount, PaymentStatus status) {
+        return new PaymentSettlementSource(id, providerTxnId, new BigDecimal(amount), status);
+    }
+}
@@ -0,0 +1,169 @@
+package com.ipia.order.payment.webhook;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ipia.order.common.exception.order.OrderHandler;
+import com.ipia.order.common.exception.order.status.OrderErrorStatus;
+import com.ipia.order.common.exception.payment.PaymentHandler;
+import com.ipia.order.common.exception.payment.status.PaymentErrorStatus;
+import com.ipia.order.payment.config.PaymentWebhookProperties;
+import com.ipia.order.payment.enums.PaymentWebhookOutcome;
+import com.ipia.order.payment.service.PaymentWebhookService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentWebhookWorker 웹훅 반영 테스트")
+class PaymentWebhookWorkerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private PaymentWebhookService paymentWebhookService;
+
+    private InMemoryPaymentWebhookQueue queue;
+    private PaymentWebhookWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        queue = new InMemoryPaymentWebhookQueue();
+        worker = new PaymentWebhookWorker(queue, paymentWebhookService, new PaymentWebhookProperties());
+    }
+
+    @Test
+    @DisplayName("거래별로 묶어 발생 순서대로 반영하고 처리한 이벤트를 ack한다")
+    void drain_GroupsByTransactionInOccurrenceOrder() {
+        // given
+        queue.enqueue(event("e-2", "pk-1", "CANCELED", 2));
+        queue.enqueue(event("e-3", "pk-2", "DONE", 1));
+        queue.enqueue(event("e-1", "pk-1", "DONE", 1));
+        List<List<String>> applied = new ArrayList<>();
+        given(paymentWebhookService.apply(anyList())).willAnswer(invocation -> {
+            List<PaymentWebhookEvent> group = invocation.getArgument(0);
+            applied.add(group.stream().map(PaymentWebhookEvent::eventId).toList());
+            return group.stream().map(e -> PaymentWebhookOutcome.APPLIED).toList();
+        });
+
+        // when
+        int processed = worker.drain();
+
+        // then
+        assertThat(processed).isEqualTo(3);
+        assertThat(applied).containsExactly(List.of("e-1", "e-2"), List.of("e-3"));
+        assertThat(queue.recoverStale(Duration.ZERO)).isZero();
+    }
+
+    @Test
+    @DisplayName("보류된 이벤트와 그 뒤 이벤트는 ack하지 않아 가시성 제한 시간 뒤 다시 처리된다")
+    void drain_Deferred_LeftForRecovery() {
+        // given
+        queue.enqueue(event("e-1", "pk-1", "DONE", 1));
+        queue.enqueue(event("e-2", "pk-1", "CANCELED", 2));
+        given(paymentWebhookService.apply(anyList())).willReturn(List.of(PaymentWebhookOutcome.DEFERRED));
+
+        // when
+        int processed = worker.drain();
+
+        // then
+        assertThat(processed).isZero();
+        assertThat(queue.recoverStale(Duration.ZERO)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보류된 승인이 처리 중이면 뒤에 온 취소는 다음 배치에서 꺼내지 않고, 복구 후 승인 뒤에 이어 반영한다")
+    void drain_DeferredThenCanceled_HeldUntilRecovered() {
+        // given
+        queue.enqueue(event("e-1", "pk-1", "DONE", 1));
+        List<List<String>> applied = new ArrayList<>();
+        given(paymentWebhookService.apply(anyList())).willAnswer(invocation -> {
+            List<PaymentWebhookEvent> group = invocation.getArgument(0);
+            applied.add(group.stream().map(PaymentWebhookEvent::eventId).toList());
+            if (applied.size() == 1) {
+                return List.of(PaymentWebhookOutcome.DEFERRED);
+            }
+            return group.stream().map(e -> PaymentWebhookOutcome.APPLIED).toList();
+        });
+        assertThat(worker.drain()).isZero();
+        queue.enqueue(event("e-2", "pk-1", "CANCELED", 2));
+
+        // when
+        int heldBack = worker.drain();
+        int recovered = queue.recoverStale(Duration.ZERO);
+        int processed = worker.drain();
+
+        // then
+        assertThat(heldBack).isZero();
+        assertThat(recovered).isEqualTo(1);
+        assertThat(processed).isEqualTo(2);
+        assertThat(applied).containsExactly(List.of("e-1"), List.of("e-1", "e-2"));
+        assertThat(queue.pendingCount()).isZero();
+        assertThat(queue.recoverStale(Duration.ZERO)).isZero();
+    }
+
+    @Test
+    @DisplayName("묶음 반영이 실패하면 이벤트별로 재시도해 규칙 위반은 건너뛰고, 그 밖의 실패부터는 남긴다")
+    void drain_WhenGroupFails_RetriesPerEvent() {
+        // given
+        PaymentWebhookEvent rejected = event("e-1", "pk-1", "DONE", 1);
+        PaymentWebhookEvent ok = event("e-2", "pk-1", "CANCELED", 2);
+        PaymentWebhookEvent broken = event("e-3", "pk-1", "CANCELED", 3);
+        PaymentWebhookEvent after = event("e-4", "pk-1", "DONE", 4);
+        List.of(rejected, ok, broken, after).forEach(queue::enqueue);
+        given(paymentWebhookService.apply(anyList())).willAnswer(invocation -> {
+            List<PaymentWebhookEvent> group = invocation.getArgument(0);
+            if (group.size() > 1) {
+                throw new IllegalStateException("batch failed");
+            }
+            return switch (group.get(0).eventId()) {
+                case "e-1" -> throw new PaymentHandler(PaymentErrorStatus.PAYMENT_AMOUNT_MISMATCH);
+                case "e-3" -> throw new IllegalStateException("db down");
+                default -> List.of(PaymentWebhookOutcome.APPLIED);
+            };
+        });
+
+        // when
+        int processed = worker.drain();
+
+        // then
+        assertThat(processed).isEqualTo(2);
+        verify(paymentWebhookService, never()).apply(List.of(after));
+        assertThat(queue.recoverStale(Duration.ZERO)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("주문을 확정할 수 없는 승인은 보상 취소하고 ack하며, 보상 취소가 실패하면 ack하지 않는다")
+    void drain_UnconfirmableApproval_Compensated() {
+        // given
+        PaymentWebhookEvent compensated = event("e-1", "pk-1", "DONE", 1);
+        PaymentWebhookEvent tossDown = event("e-2", "pk-2", "DONE", 1);
+        queue.enqueue(compensated);
+        queue.enqueue(tossDown);
+        given(paymentWebhookService.apply(anyList())).willThrow(new OrderHandler(OrderErrorStatus.INVALID_ORDER_STATE));
+        given(paymentWebhookService.compensate(compensated)).willReturn(true);
+        given(paymentWebhookService.compensate(tossDown)).willThrow(new IllegalStateException("toss down"));
+
+        // when
+        int processed = worker.drain();
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        assertThat(queue.recoverStale(Duration.ZERO)).isEqualTo(1);
+        assertThat(queue.claim(10)).singleElement().isEqualTo(tossDown);
+    }
+
+    private static PaymentWebhookEvent event(String eventId, String providerTxnId, String status, int minute) {
+        LocalDateTime occurredAt = BASE.plusMinutes(minute);
+        return new PaymentWebhookEvent(eventId, providerTxnId, "order-1", status, null, null, occurredAt, occurredAt);
+    }
+}
@@ -0,0 +1,190 @@
+package com.ipia.order.report.analytics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.payment.enums.PaymentStatus;
+
+@DisplayName("OrderColumnStore 컬럼 스캔 집계 테스트")
+class OrderColumnStoreTest {
+
+    /** 5개 청크에 걸치도록 청크 크기보다 크게 */
+    private static final int ROWS = 300_000;
+    private static final int MEMBERS = 100;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private ForkJoinPool pool;
+    private OrderColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        store = new OrderColumnStore(1);
+        // 주문 ID 1..ROWS, 3건 중 1건 CONFIRMED + 결제 승인, 분 단위로 흩어진 생성 시각
+        for (long id = 1; id <= ROWS; id++) {
+            store.putOrder(id, memberOf(id), amountOf(id), BASE_TIME.plusMinutes(id), statusOf(id));
+            if (statusOf(id) == OrderStatus.CONFIRMED) {
+                store.updatePaymentStatus(id, PaymentStatus.APPROVED);
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("상태별 그룹은 전체 행을 병렬 스캔해 건수/합계/최소/최대를 정확히 집계한다")
+    void scan_GroupByStatus() {
+        // when
+        GroupTable table = store.scan(query(AnalyticsGroupBy.STATUS, Set.of(), Set.of(), true), pool);
+
+        // then
+        long expectedCount = 0;
+        long expectedSum = 0;
+        for (long id = 1; id <= ROWS; id++) {
+            if (statusOf(id) == OrderStatus.CONFIRMED) {
+                expectedCount++;
+                expectedSum += amountOf(id);
+            }
+        }
+        Map<OrderStatus, GroupTable.Group> groups = byStatus(table);
+        assertThat(table.scannedRows).isEqualTo(ROWS);
+        assertThat(table.matchedRows).isEqualTo(ROWS);
+        assertThat(groups).containsOnlyKeys(OrderStatus.CREATED, OrderStatus.CONFIRMED);
+        assertThat(groups.get(OrderStatus.CONFIRMED).count()).isEqualTo(expectedCount);
+        assertThat(groups.get(OrderStatus.CONFIRMED).sum()).isEqualTo(expectedSum);
+        assertThat(groups.get(OrderStatus.CONFIRMED).min()).isEqualTo(1_000);
+        assertThat(groups.get(OrderStatus.CONFIRMED).max()).isEqualTo(100_900);
+    }
+
+    @Test
+    @DisplayName("백분위는 히스토그램 근사로 실제 값과 2% 이내로 계산된다")
+    void scan_PercentilesWithinError() {
+        // when
+        GroupTable table = store.scan(query(AnalyticsGroupBy.NONE, Set.of(), Set.of(), true), pool);
+
+        // then: 금액은 1,000 ~ 100,900 균등 분포
+        GroupTable.Group all = table.groups().get(0);
+        long p50 = all.histogram().percentile(50, all.min(), all.max());
+        long p99 = all.histogram().percentile(99, all.min(), all.max());
+        assertThat(p50).isCloseTo(50_900L, withinPercentage(2));
+        assertThat(p99).isCloseTo(99_900L, withinPercentage(2));
+    }
+
+    @Test
+    @DisplayName("상태/결제/생성일/금액/회원 조건을 함께 걸면 모두 만족하는 행만 집계한다")
+    void scan_CombinedFilters() {
+        // given
+        LocalDateTime from = BASE_TIME.plusMinutes(1_000);
+        LocalDateTime to = BASE_TIME.plusMinutes(200_000);
+        AnalyticsQuery query = AnalyticsQuery.of(AnalyticsGroupBy.NONE,
+                EnumSet.of(OrderStatus.CONFIRMED), EnumSet.of(PaymentStatus.APPROVED),
+                from, to, 20_000L, 60_000L, 7L, false, 10);
+
+        // when
+        GroupTable table = store.scan(query, pool);
+
+        // then
+        long expectedCount = 0;
+        long expectedSum = 0;
+        for (long id = 1_000; id < 200_000; id++) {
+            long amount = amountOf(id);
+            if (statusOf(id) == OrderStatus.CONFIRMED && memberOf(id) == 7 && amount >= 20_000 && amount <= 60_000) {
+                expectedCount++;
+                expectedSum += amount;
+            }
+        }
+        assertThat(expectedCount).isPositive();
+        assertThat(table.matchedRows).isEqualTo(expectedCount);
+        assertThat(table.groups().get(0).sum()).isEqualTo(expectedSum);
+    }
+
+    @Test
+    @DisplayName("회원/일자 그룹은 키별로 나뉘어 집계된다")
+    void scan_GroupByMemberAndDay() {
+        // when
+        GroupTable byMember = store.scan(query(AnalyticsGroupBy.MEMBER, Set.of(), Set.of(), false), pool);
+        GroupTable byDay = store.scan(query(AnalyticsGroupBy.DAY, Set.of(), Set.of(), false), pool);
+
+        // then
+        assertThat(byMember.size()).isEqualTo(MEMBERS);
+        assertThat(byMember.groups()).extracting(GroupTable.Group::count).containsOnly((long) ROWS / MEMBERS);
+        // 30만 분 = 208.3일 → 209개 일자
+        assertThat(byDay.size()).isEqualTo(209);
+        assertThat(byDay.groups().stream().mapToLong(GroupTable.Group::count).sum()).isEqualTo(ROWS);
+    }
+
+    @Test
+    @DisplayName("상태/결제 상태 갱신과 새 주문은 다음 스캔에 반영되고 없는 주문 갱신은 무시된다")
+    void updates_AreVisibleToNextScan() {
+        // given
+        store.updateStatus(1, OrderStatus.CANCELED);
+        store.updatePaymentStatus(3, PaymentStatus.REFUNDED);
+        store.putOrder(ROWS + 10, 1, 500, BASE_TIME, OrderStatus.CREATED);
+
+        // when
+        boolean missing = store.updateStatus(ROWS + 5, OrderStatus.CANCELED);
+        GroupTable byStatus = store.scan(query(AnalyticsGroupBy.STATUS, Set.of(), Set.of(), false), pool);
+        GroupTable refunded = store.scan(
+                query(AnalyticsGroupBy.PAYMENT_STATUS, Set.of(), EnumSet.of(PaymentStatus.REFUNDED), false), pool);
+
+        // then
+        assertThat(missing).isFalse();
+        assertThat(store.liveRows()).isEqualTo(ROWS + 1);
+        assertThat(byStatus.scannedRows).isEqualTo(ROWS + 1);
+        assertThat(byStatus(byStatus).get(OrderStatus.CANCELED).count()).isEqualTo(1);
+        assertThat(refunded.matchedRows).isEqualTo(1);
+        assertThat(OrderColumnStore.paymentStatusOf(refunded.groups().get(0).key())).isEqualTo(PaymentStatus.REFUNDED);
+    }
+
+    @Test
+    @DisplayName("기준 ID보다 작은 주문은 담지 않는다")
+    void putOrder_BelowBaseId_Rejected() {
+        // given
+        OrderColumnStore shifted = new OrderColumnStore(100);
+
+        // when & then
+        assertThat(shifted.putOrder(99, 1, 1_000, BASE_TIME, OrderStatus.CREATED)).isFalse();
+        assertThat(shifted.putOrder(100, 1, 1_000, BASE_TIME, OrderStatus.CREATED)).isTrue();
+        assertThat(shifted.liveRows()).isEqualTo(1);
+    }
+
+    private static AnalyticsQuery query(AnalyticsGroupBy groupBy, Set<OrderStatus> statuses,
+                                        Set<PaymentStatus> paymentStatuses, boolean percentiles) {
+        return AnalyticsQuery.of(groupBy, statuses, paymentStatuses, null, null, null, null, null, percentiles, 1_000);
+    }
+
+    private static Map<OrderStatus, GroupTable.Group> byStatus(GroupTable table) {
+        List<GroupTable.Group> groups = table.groups();
+        return groups.stream().collect(Collectors.toMap(
+                group -> OrderColumnStore.orderStatusOf(group.key()), Function.identity()));
+    }
+
+    private static long memberOf(long id) {
+        return id % MEMBERS + 1;
+    }
+
+    private static long amountOf(long id) {
+        return (id * 7 % 1_000) * 100 + 1_000;
+    }
+
+    private static OrderStatus statusOf(long id) {
+        return id % 3 == 0 ? OrderStatus.CONFIRMED : OrderStatus.CREATED;
+    }
+}
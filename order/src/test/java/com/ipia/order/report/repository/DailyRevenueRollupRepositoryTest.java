@@ -0,0 +1,42 @@
+package com.ipia.order.report.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.ipia.order.report.domain.DailyRevenueRollup;
+
+/**
+ * dev/prod와 같은 일반 H2 모드(MySQL 호환 모드 아님)에서 집계 누적 검증
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:revenue-rollup-regular;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("DailyRevenueRollupRepository 집계 누적 테스트")
+class DailyRevenueRollupRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private DailyRevenueRollupRepository rollupRepository;
+
+    @Test
+    @DisplayName("키별 행이 없으면 생성하고, 있으면 건수와 금액을 더한다")
+    void accumulate_InsertsThenAdds() {
+        // when
+        rollupRepository.accumulate(DAY, "PAYMENT_APPROVED", "USER", 2, new BigDecimal("30000"));
+        rollupRepository.accumulate(DAY, "PAYMENT_APPROVED", "USER", 1, new BigDecimal("5000"));
+        rollupRepository.accumulate(DAY, "PAYMENT_APPROVED", "ADMIN", 1, new BigDecimal("1000"));
+
+        // then
+        assertThat(rollupRepository.findRange(DAY, DAY))
+                .extracting(r -> r.getId().getMemberTier(), DailyRevenueRollup::getEventCount, r -> r.getAmount().longValue())
+                .containsExactly(tuple("ADMIN", 1L, 1000L), tuple("USER", 3L, 35000L));
+    }
+}
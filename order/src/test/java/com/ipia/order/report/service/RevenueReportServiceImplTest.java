@@ -0,0 +1,145 @@
+package com.ipia.order.report.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.common.exception.report.ReportHandler;
+import com.ipia.order.common.exception.report.status.ReportErrorStatus;
+import com.ipia.order.member.enums.MemberRole;
+import com.ipia.order.report.config.RevenueRollupProperties;
+import com.ipia.order.report.domain.DailyRevenueRollup;
+import com.ipia.order.report.enums.RevenueMetric;
+import com.ipia.order.report.repository.CanceledOrderRollupSource;
+import com.ipia.order.report.repository.DailyRevenueRollupRepository;
+import com.ipia.order.report.repository.PaymentRollupSource;
+import com.ipia.order.web.dto.response.report.DailyRevenueResponse;
+import com.ipia.order.web.dto.response.report.RevenueBackfillResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RevenueReportService 일별 매출 집계 테스트")
+class RevenueReportServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 10);
+
+    @Mock
+    private DailyRevenueRollupRepository rollupRepository;
+
+    @Mock
+    private RevenueRollupWriteBehind writeBehind;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private RevenueReportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        RevenueRollupProperties properties = new RevenueRollupProperties();
+        properties.setBackfillChunkSize(2);
+        properties.setMaxRangeDays(31);
+        service = new RevenueReportServiceImpl(rollupRepository, writeBehind, transactionTemplate, properties);
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("재집계는 원천을 구간 단위로 읽어 키별로 합산한 뒤 기간의 집계 행을 교체한다")
+    void backfill_AggregatesChunksAndReplacesRange() {
+        // given: 결제 3건(2건씩 두 구간), 취소 주문 1건
+        LocalDateTime morning = DAY.atTime(9, 0);
+        given(rollupRepository.findPaymentSources(eq(0L), any(), any(), any(Pageable.class))).willReturn(List.of(
+                payment(1L, "10000", morning, null, MemberRole.USER),
+                payment(2L, "20000", morning.plusHours(1), morning.plusHours(2), MemberRole.USER)));
+        given(rollupRepository.findPaymentSources(eq(2L), any(), any(), any(Pageable.class))).willReturn(List.of(
+                payment(3L, "5000", morning.plusDays(1), null, null)));
+        given(rollupRepository.findCanceledOrderSources(eq(0L), any(), any(), any(Pageable.class))).willReturn(List.of(
+                new CanceledOrderRollupSource(7L, 20000L, morning.plusHours(2), MemberRole.USER)));
+
+        // when
+        RevenueBackfillResponse response = service.backfill(DAY, DAY.plusDays(1));
+
+        // then
+        assertThat(response.getScannedPayments()).isEqualTo(3);
+        assertThat(response.getScannedCanceledOrders()).isEqualTo(1);
+        assertThat(response.getRollupRows()).isEqualTo(6);
+        InOrder replace = inOrder(writeBehind, rollupRepository);
+        replace.verify(writeBehind).drainRange(DAY, DAY.plusDays(1));
+        replace.verify(rollupRepository).deleteRange(DAY, DAY.plusDays(1));
+        verify(rollupRepository).accumulate(DAY, "PAYMENT_APPROVED", "USER", 2, new BigDecimal("30000"));
+        verify(rollupRepository).accumulate(DAY, "ORDER_PAID", "USER", 2, new BigDecimal("30000"));
+        verify(rollupRepository).accumulate(DAY, "PAYMENT_CANCELED", "USER", 1, new BigDecimal("20000"));
+        verify(rollupRepository).accumulate(DAY, "ORDER_CANCELED", "USER", 1, new BigDecimal("20000"));
+        verify(rollupRepository).accumulate(DAY.plusDays(1), "PAYMENT_APPROVED", "UNKNOWN", 1, new BigDecimal("5000"));
+    }
+
+    @Test
+    @DisplayName("오늘을 포함한 기간은 재집계하지 않는다")
+    void backfill_RejectsOpenDay() {
+        // when & then
+        assertThatThrownBy(() -> service.backfill(LocalDate.now().minusDays(1), LocalDate.now()))
+                .isInstanceOf(ReportHandler.class)
+                .hasMessage(ReportErrorStatus.BACKFILL_RANGE_NOT_CLOSED.getCode());
+        verifyNoInteractions(rollupRepository, writeBehind);
+    }
+
+    @Test
+    @DisplayName("조회는 집계 행으로 일별 요약(순매출은 취소/환불 차감)을 만들고 회원 등급으로 거른다")
+    void getDailyRevenue_SummarizesDaysAndFiltersTier() {
+        // given
+        given(rollupRepository.findRange(DAY, DAY)).willReturn(List.of(
+                DailyRevenueRollup.of(DAY, RevenueMetric.ORDER_PAID, "USER", 3, new BigDecimal("30000")),
+                DailyRevenueRollup.of(DAY, RevenueMetric.PAYMENT_APPROVED, "USER", 3, new BigDecimal("30000")),
+                DailyRevenueRollup.of(DAY, RevenueMetric.PAYMENT_CANCELED, "USER", 1, new BigDecimal("10000")),
+                DailyRevenueRollup.of(DAY, RevenueMetric.PAYMENT_REFUNDED, "USER", 1, new BigDecimal("5000")),
+                DailyRevenueRollup.of(DAY, RevenueMetric.PAYMENT_APPROVED, "SELLER", 1, new BigDecimal("99000"))));
+
+        // when
+        DailyRevenueResponse response = service.getDailyRevenue(DAY, DAY, "user");
+
+        // then
+        assertThat(response.getRows()).hasSize(4);
+        assertThat(response.getDays()).singleElement().satisfies(day -> {
+            assertThat(day.getPaidOrders()).isEqualTo(3);
+            assertThat(day.getApprovedAmount()).isEqualByComparingTo("30000");
+            assertThat(day.getCanceledAmount()).isEqualByComparingTo("10000");
+            assertThat(day.getRefundedAmount()).isEqualByComparingTo("5000");
+            assertThat(day.getNetRevenue()).isEqualByComparingTo("15000");
+        });
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦거나 기간이 최대 일수를 넘으면 예외")
+    void getDailyRevenue_InvalidRange_Throws() {
+        // when & then
+        assertThatThrownBy(() -> service.getDailyRevenue(DAY, DAY.minusDays(1), null))
+                .isInstanceOf(ReportHandler.class)
+                .hasMessage(ReportErrorStatus.INVALID_REPORT_RANGE.getCode());
+        assertThatThrownBy(() -> service.getDailyRevenue(DAY, DAY.plusDays(31), null))
+                .isInstanceOf(ReportHandler.class)
+                .hasMessage(ReportErrorStatus.REPORT_RANGE_TOO_LONG.getCode());
+    }
+
+    private static PaymentRollupSource payment(Long id, String amount, LocalDateTime approvedAt,
+                                               LocalDateTime canceledAt, MemberRole role) {
+        BigDecimal paid = new BigDecimal(amount);
+        return new PaymentRollupSource(id, paid, canceledAt == null ? BigDecimal.ZERO : paid, BigDecimal.ZERO,
+                approvedAt, canceledAt, null, paid.longValue(), role);
+    }
+}
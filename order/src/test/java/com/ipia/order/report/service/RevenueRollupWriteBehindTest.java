@@ -0,0 +1,71 @@
+package com.ipia.order.report.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ipia.order.member.enums.MemberRole;
+import com.ipia.order.report.config.RevenueRollupProperties;
+import com.ipia.order.report.enums.RevenueMetric;
+import com.ipia.order.report.repository.DailyRevenueRollupRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RevenueRollupWriteBehind 증분 지연 반영 테스트")
+class RevenueRollupWriteBehindTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 10);
+
+    @Mock
+    private DailyRevenueRollupRepository rollupRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private RevenueRollupWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        writeBehind = new RevenueRollupWriteBehind(rollupRepository, transactionTemplate, new RevenueRollupProperties());
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("재집계 전 비우기는 반영하지 못한 기간 증분만 버리고 기간 밖 증분은 다음 주기에 반영한다")
+    void drainRange_DiscardsUnflushedDeltasInRange() {
+        // given: 비우는 동안 DB 장애로 반영 실패
+        writeBehind.record(DAY, RevenueMetric.PAYMENT_APPROVED, MemberRole.USER, new BigDecimal("10000"));
+        writeBehind.record(DAY.plusDays(1), RevenueMetric.PAYMENT_APPROVED, MemberRole.USER, new BigDecimal("5000"));
+        AtomicBoolean dbDown = new AtomicBoolean(true);
+        given(rollupRepository.accumulate(any(), anyString(), anyString(), anyLong(), any())).willAnswer(invocation -> {
+            if (dbDown.get()) {
+                throw new IllegalStateException("db down");
+            }
+            return 1;
+        });
+        int discarded = writeBehind.drainRange(DAY, DAY);
+        dbDown.set(false);
+        clearInvocations(rollupRepository);
+
+        // when
+        int flushed = writeBehind.flush();
+
+        // then
+        assertThat(discarded).isEqualTo(1);
+        assertThat(flushed).isEqualTo(1);
+        verify(rollupRepository).accumulate(DAY.plusDays(1), "PAYMENT_APPROVED", "USER", 1, new BigDecimal("5000"));
+        verifyNoMoreInteractions(rollupRepository);
+    }
+}
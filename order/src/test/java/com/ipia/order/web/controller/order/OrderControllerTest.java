@@ -6,6 +6,9 @@ import com.ipia.order.common.exception.order.status.OrderErrorStatus;
 import com.ipia.order.common.util.JwtUtil;
 import com.ipia.order.order.domain.Order;
 import com.ipia.order.order.enums.OrderStatus;
+import com.ipia.order.order.config.OrderReadConfig;
+import com.ipia.order.order.service.OrderListPageCache;
+import com.ipia.order.order.service.OrderReadCoalescer;
 import com.ipia.order.order.service.OrderService;
 import com.ipia.order.web.dto.request.order.CancelOrderRequest;
 import com.ipia.order.web.dto.request.order.CreateOrderRequest;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -36,6 +40,7 @@ import java.util.Optional;
  * OrderController MockMvc 테스트
  */
 @WebMvcTest(value = OrderController.class, excludeAutoConfiguration = SecurityAutoConfiguration.class)
+@Import({OrderReadConfig.class, OrderReadCoalescer.class})
 class OrderControllerTest {
 
     @Autowired
@@ -50,6 +55,9 @@ class OrderControllerTest {
     @MockitoBean
     private OrderService orderService;
 
+    @MockitoBean
+    private OrderListPageCache orderListPageCache;
+
     @BeforeEach
     void setUp() {
         // 인증 주입: @AuthenticationPrincipal(expression = "memberId") Long memberId 용
@@ -89,9 +97,9 @@ class OrderControllerTest {
                 .totalPages(1)
                 .build();
         
-        Mockito.when(orderService.listOrders(Mockito.eq(1L), Mockito.isNull(), Mockito.eq(0), Mockito.eq(10)))
+        Mockito.when(orderService.searchOrders(Mockito.argThat(c -> c != null && Long.valueOf(1L).equals(c.getMemberId()) && c.getStatuses().isEmpty()), Mockito.eq(0), Mockito.eq(10)))
                 .thenReturn(listResponse1);
-        Mockito.when(orderService.listOrders(Mockito.isNull(), Mockito.eq("PENDING"), Mockito.eq(0), Mockito.eq(10)))
+        Mockito.when(orderService.searchOrders(Mockito.argThat(c -> c != null && c.getStatuses().contains(OrderStatus.CONFIRMED)), Mockito.eq(0), Mockito.eq(10)))
                 .thenReturn(listResponse2);
 
         // 주문 취소 Mock
@@ -182,7 +190,7 @@ class OrderControllerTest {
     @DisplayName("주문 목록 조회 API 테스트 - 성공 (상태 필터)")
     void listOrders_Success_WithStatus() throws Exception {
         // Given
-        String status = "PENDING";
+        String status = "CONFIRMED";
 
         // When & Then
         mockMvc.perform(get("/api/orders")
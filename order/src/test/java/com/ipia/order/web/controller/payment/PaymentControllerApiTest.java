@@ -4,11 +4,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 
 import com.ipia.order.common.util.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
@@ -16,14 +19,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import com.ipia.order.payment.config.PaymentAsyncConfig;
 import com.ipia.order.payment.service.PaymentService;
+import com.ipia.order.payment.service.PaymentWebhookService;
 
 @WebMvcTest(value = PaymentController.class, excludeAutoConfiguration = SecurityAutoConfiguration.class)
+@Import(PaymentAsyncConfig.class)
 class PaymentControllerApiTest {
 
     @Autowired
@@ -35,6 +43,9 @@ class PaymentControllerApiTest {
     @MockitoBean
     private PaymentService paymentService;
 
+    @MockitoBean
+    private PaymentWebhookService paymentWebhookService;
+
     @Test
     @DisplayName("의도 생성 API: 성공시 intentId 반환")
     void createIntent_success() throws Exception {
@@ -69,18 +80,22 @@ class PaymentControllerApiTest {
                 "\"orderId\":1," +
                 "\"amount\":10000" +
                 "}";
-        when(paymentService.approve(eq("intent_123"), eq("pay_abc"), eq(1L), eq(new BigDecimal("10000")), any()))
-                .thenReturn(10L);
+        when(paymentService.approveAsync(eq("intent_123"), eq("pay_abc"), eq(1L), eq(new BigDecimal("10000")), any()))
+                .thenReturn(CompletableFuture.completedFuture(10L));
 
         // when/then
-        mockMvc.perform(post("/api/payments/confirm")
+        MvcResult asyncResult = mockMvc.perform(post("/api/payments/confirm")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(reqJson)
                         .header("Idempotency-Key", "idem-2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.paymentId").value(10));
 
-        verify(paymentService).approve("intent_123", "pay_abc", 1L, new BigDecimal("10000"), "idem-2");
+        verify(paymentService).approveAsync("intent_123", "pay_abc", 1L, new BigDecimal("10000"), "idem-2");
     }
 
     @Test
@@ -124,6 +139,24 @@ class PaymentControllerApiTest {
 
         verify(paymentService).verify("intent_123", "pay_abc", 1L, new BigDecimal("10000"), "idem-3");
     }
-}
 
+    @Test
+    @DisplayName("웹훅 수신 API: 본문 원문과 서명 헤더를 그대로 넘기고 200 반환")
+    void webhook_success() throws Exception {
+        // given
+        var payload = "{\"eventType\":\"PAYMENT_STATUS_CHANGED\",\"data\":{\"paymentKey\":\"pay_abc\",\"status\":\"DONE\"}}";
+        when(paymentWebhookService.receive(payload, "v1:sig", "2025-01-01T00:00:00+09:00", "tx-1")).thenReturn(true);
 
+        // when/then
+        mockMvc.perform(post("/api/payments/webhook")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload)
+                        .header("tosspayments-webhook-signature", "v1:sig")
+                        .header("tosspayments-webhook-transmission-time", "2025-01-01T00:00:00+09:00")
+                        .header("tosspayments-webhook-transmission-id", "tx-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true));
+
+        verify(paymentWebhookService).receive(payload, "v1:sig", "2025-01-01T00:00:00+09:00", "tx-1");
+    }
+}